@@ -0,0 +1,75 @@
+package com.sprint.mission.discodeit;
+
+import com.sprint.mission.discodeit.dto.data.BinaryContentDto;
+import com.sprint.mission.discodeit.dto.data.MessageDto;
+import com.sprint.mission.discodeit.dto.data.UserDto;
+import com.sprint.mission.discodeit.entity.BinaryContent;
+import com.sprint.mission.discodeit.entity.Channel;
+import com.sprint.mission.discodeit.entity.ChannelType;
+import com.sprint.mission.discodeit.entity.Message;
+import com.sprint.mission.discodeit.entity.User;
+import com.sprint.mission.discodeit.entity.base.BaseEntity;
+import java.lang.reflect.Field;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * 벤치마크용 엔티티와 DTO. 엔티티는 영속화하지 않으므로 id, createdAt 을 직접 채운다.
+ */
+public final class BenchmarkFixtures {
+
+  private static final Field ID = field("id");
+  private static final Field CREATED_AT = field("createdAt");
+
+  private BenchmarkFixtures() {
+  }
+
+  public static User user(int index) {
+    BinaryContent profile = persisted(new BinaryContent("profile" + index + ".png", 1024L,
+        "image/png"));
+    return persisted(new User("user" + index, "user" + index + "@example.com", "password",
+        profile));
+  }
+
+  public static Channel publicChannel(int index) {
+    return persisted(new Channel(ChannelType.PUBLIC, "channel" + index, "description"));
+  }
+
+  public static Message message(Channel channel, User author, int attachmentCount) {
+    List<BinaryContent> attachments = new ArrayList<>(attachmentCount);
+    for (int i = 0; i < attachmentCount; i++) {
+      attachments.add(persisted(new BinaryContent("file" + i + ".txt", 2048L, "text/plain")));
+    }
+    return persisted(new Message("benchmark message content", channel, author, attachments));
+  }
+
+  public static List<MessageDto> messageDtos(int count) {
+    UUID channelId = UUID.randomUUID();
+    UserDto author = new UserDto(UUID.randomUUID(), "author", "author@example.com",
+        new BinaryContentDto(UUID.randomUUID(), "profile.png", 1024L, "image/png", null), true);
+    Instant now = Instant.now();
+    List<MessageDto> messages = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      messages.add(new MessageDto(UUID.randomUUID(), now.minusSeconds(i), null,
+          "benchmark message content " + i, channelId, author,
+          List.of(new BinaryContentDto(UUID.randomUUID(), "file.txt", 2048L, "text/plain",
+              null))));
+    }
+    return messages;
+  }
+
+  private static <T extends BaseEntity> T persisted(T entity) {
+    ReflectionUtils.setField(ID, entity, UUID.randomUUID());
+    ReflectionUtils.setField(CREATED_AT, entity, Instant.now());
+    return entity;
+  }
+
+  private static Field field(String name) {
+    Field field = ReflectionUtils.findField(BaseEntity.class, name);
+    ReflectionUtils.makeAccessible(field);
+    return field;
+  }
+}
@@ -0,0 +1,47 @@
+package com.sprint.mission.discodeit.entity;
+
+import com.sprint.mission.discodeit.BenchmarkFixtures;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 사용자 목록 조회마다 사용자 수만큼 호출되는 {@link UserStatus#isOnline()} 의 처리량.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UserStatusBenchmark {
+
+  private UserStatus online;
+  private UserStatus offline;
+
+  @Setup
+  public void setUp() {
+    online = new UserStatus(BenchmarkFixtures.user(0), Instant.now());
+    offline = new UserStatus(BenchmarkFixtures.user(1), Instant.now().minus(Duration.ofHours(1)));
+  }
+
+  @Benchmark
+  public Boolean online() {
+    return online.isOnline();
+  }
+
+  @Benchmark
+  public Boolean offline() {
+    return offline.isOnline();
+  }
+}
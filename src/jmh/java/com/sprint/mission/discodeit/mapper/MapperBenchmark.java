@@ -0,0 +1,114 @@
+package com.sprint.mission.discodeit.mapper;
+
+import com.sprint.mission.discodeit.BenchmarkFixtures;
+import com.sprint.mission.discodeit.dto.data.ChannelDto;
+import com.sprint.mission.discodeit.dto.data.MessageDto;
+import com.sprint.mission.discodeit.dto.response.PageResponse;
+import com.sprint.mission.discodeit.entity.Channel;
+import com.sprint.mission.discodeit.entity.Message;
+import com.sprint.mission.discodeit.entity.User;
+import com.sprint.mission.discodeit.presence.PresenceIndex;
+import com.sprint.mission.discodeit.repository.ReadStatusRepository;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * MapStruct 매퍼의 DTO 변환 처리량. 생성된 구현체를 실제와 같이 스프링 빈으로 묶고, DB 를 거치는 경로(비공개 채널 참여자 조회)는 제외한다.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MapperBenchmark {
+
+  private static final int CHANNEL_COUNT = 50;
+  private static final int PAGE_SIZE = 50;
+
+  private AnnotationConfigApplicationContext context;
+  private MessageMapper messageMapper;
+  private ChannelMapper channelMapper;
+  private PageResponseMapper pageResponseMapper;
+
+  private Message message;
+  private List<Channel> channels;
+  private Slice<MessageDto> slice;
+
+  @Setup
+  public void setUp() {
+    PresenceIndex presenceIndex = new PresenceIndex(new JdbcTemplate(), Duration.ofSeconds(10));
+    context = new AnnotationConfigApplicationContext();
+    context.registerBean(PresenceIndex.class, () -> presenceIndex);
+    context.registerBean(ReadStatusRepository.class, MapperBenchmark::unusedReadStatusRepository);
+    context.register(MessageMapperImpl.class, UserMapperImpl.class,
+        BinaryContentMapperImpl.class, ChannelMapperImpl.class, PageResponseMapperImpl.class);
+    context.refresh();
+
+    messageMapper = context.getBean(MessageMapper.class);
+    channelMapper = context.getBean(ChannelMapper.class);
+    pageResponseMapper = context.getBean(PageResponseMapper.class);
+
+    User author = BenchmarkFixtures.user(0);
+    presenceIndex.touch(author.getId(), Instant.now());
+    message = BenchmarkFixtures.message(BenchmarkFixtures.publicChannel(0), author, 2);
+    channels = IntStream.range(0, CHANNEL_COUNT)
+        .mapToObj(BenchmarkFixtures::publicChannel)
+        .toList();
+    slice = new SliceImpl<>(BenchmarkFixtures.messageDtos(PAGE_SIZE),
+        PageRequest.ofSize(PAGE_SIZE), true);
+  }
+
+  @TearDown
+  public void tearDown() {
+    context.close();
+  }
+
+  @Benchmark
+  public MessageDto messageToDto() {
+    return messageMapper.toDto(message);
+  }
+
+  @Benchmark
+  public List<ChannelDto> publicChannelsToDtos() {
+    return channelMapper.toDtos(channels);
+  }
+
+  @Benchmark
+  public PageResponse<MessageDto> pageResponseFromSlice() {
+    return pageResponseMapper.fromSlice(slice, "cursor");
+  }
+
+  // 공개 채널만 변환하므로 호출되지 않는다
+  private static ReadStatusRepository unusedReadStatusRepository() {
+    return (ReadStatusRepository) Proxy.newProxyInstance(
+        ReadStatusRepository.class.getClassLoader(),
+        new Class<?>[]{ReadStatusRepository.class},
+        (proxy, method, args) -> switch (method.getName()) {
+          case "toString" -> "ReadStatusRepository(unused)";
+          case "hashCode" -> System.identityHashCode(proxy);
+          case "equals" -> proxy == args[0];
+          default -> throw new UnsupportedOperationException(method.getName());
+        });
+  }
+}
@@ -0,0 +1,158 @@
+package com.sprint.mission.discodeit.service.basic;
+
+import com.sprint.mission.discodeit.DiscodeitApplication;
+import com.sprint.mission.discodeit.dto.data.MessageDto;
+import com.sprint.mission.discodeit.dto.data.MessagePageDirection;
+import com.sprint.mission.discodeit.dto.request.PublicChannelCreateRequest;
+import com.sprint.mission.discodeit.dto.request.UserCreateRequest;
+import com.sprint.mission.discodeit.dto.response.PageResponse;
+import com.sprint.mission.discodeit.mapper.MessageMapper;
+import com.sprint.mission.discodeit.repository.MessageQueryRepository;
+import com.sprint.mission.discodeit.repository.MessageRepository;
+import com.sprint.mission.discodeit.service.ChannelService;
+import com.sprint.mission.discodeit.service.MessageService;
+import com.sprint.mission.discodeit.service.UserService;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * test 프로필(H2 메모리 DB)로 애플리케이션을 띄우고 메시지를 채운 뒤 {@link BasicMessageService#findAllByChannelId} 의 첫
+ * 페이지와 채널 중간의 커서 페이지 처리량을 잰다. SQL 로그가 측정을 가리지 않도록 로그 수준을 낮춘다.
+ * <p>
+ * 같은 id 목록을 DTO 로 채우는 두 경로도 비교한다. 목록 조회가 쓰는 projection(MessageQueryRepository)과, 엔티티가 필요할 때 쓰는
+ * fetch join 조회 + MessageMapper 이다.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MessageServiceBenchmark {
+
+  private static final int INSERT_BATCH_SIZE = 1_000;
+
+  @Param({"10000"})
+  private int messageCount;
+
+  @Param({"50", "200"})
+  private int pageSize;
+
+  private ConfigurableApplicationContext context;
+  private MessageService messageService;
+  private MessageRepository messageRepository;
+  private MessageQueryRepository messageQueryRepository;
+  private MessageMapper messageMapper;
+  private TransactionTemplate readOnlyTransaction;
+  private UUID channelId;
+  private String middleCursor;
+  private List<UUID> latestIds;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    context = new SpringApplicationBuilder(DiscodeitApplication.class)
+        .profiles("test")
+        .properties(
+            "server.port=0",
+            "spring.jpa.show-sql=false",
+            "logging.level.org.hibernate.SQL=WARN",
+            "logging.level.org.hibernate.orm.jdbc.bind=WARN",
+            "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+            "logging.level.com.sprint.mission.discodeit=WARN")
+        .run();
+    messageService = context.getBean(MessageService.class);
+    messageRepository = context.getBean(MessageRepository.class);
+    messageQueryRepository = context.getBean(MessageQueryRepository.class);
+    messageMapper = context.getBean(MessageMapper.class);
+    readOnlyTransaction = new TransactionTemplate(
+        context.getBean(PlatformTransactionManager.class));
+    readOnlyTransaction.setReadOnly(true);
+
+    UUID authorId = context.getBean(UserService.class)
+        .create(new UserCreateRequest("bench", "bench@example.com", "password"), Optional.empty())
+        .id();
+    channelId = context.getBean(ChannelService.class)
+        .create(new PublicChannelCreateRequest("bench", "benchmark channel"))
+        .id();
+    seedMessages(context.getBean(JdbcTemplate.class), authorId);
+
+    // 첫 페이지부터 커서를 따라가 채널 중간 지점의 커서를 얻는다
+    String cursor = null;
+    for (int read = 0; read < messageCount / 2; read += pageSize) {
+      cursor = (String) messageService.findAllByChannelId(channelId, cursor,
+          MessagePageDirection.BEFORE, pageSize).nextCursor();
+    }
+    middleCursor = cursor;
+    latestIds = messageRepository.findLatestIdsByChannelId(channelId, Limit.of(pageSize));
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    context.close();
+  }
+
+  @Benchmark
+  public PageResponse<MessageDto> latestPage() {
+    return messageService.findAllByChannelId(channelId, null, MessagePageDirection.BEFORE,
+        pageSize);
+  }
+
+  @Benchmark
+  public PageResponse<MessageDto> middlePage() {
+    return messageService.findAllByChannelId(channelId, middleCursor,
+        MessagePageDirection.BEFORE, pageSize);
+  }
+
+  @Benchmark
+  public List<MessageDto> hydrateWithProjection() {
+    return messageQueryRepository.findAllByIdIn(latestIds);
+  }
+
+  @Benchmark
+  public List<MessageDto> hydrateWithEntities() {
+    return readOnlyTransaction.execute(status ->
+        messageRepository.findAllByIdInWithAuthorAndAttachments(latestIds).stream()
+            .map(messageMapper::toDto)
+            .toList());
+  }
+
+  private void seedMessages(JdbcTemplate jdbcTemplate, UUID authorId) {
+    Instant now = Instant.now();
+    List<Object[]> rows = new ArrayList<>(INSERT_BATCH_SIZE);
+    for (int i = 0; i < messageCount; i++) {
+      rows.add(new Object[]{UUID.randomUUID(), Timestamp.from(now.minusSeconds(i)),
+          "benchmark message " + i, channelId, authorId});
+      if (rows.size() == INSERT_BATCH_SIZE || i == messageCount - 1) {
+        jdbcTemplate.batchUpdate("""
+            INSERT INTO messages (id, created_at, content, channel_id, author_id)
+            VALUES (?, ?, ?, ?, ?)
+            """, rows);
+        rows.clear();
+      }
+    }
+  }
+}
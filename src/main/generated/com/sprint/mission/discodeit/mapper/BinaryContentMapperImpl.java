@@ -24,13 +24,14 @@ public class BinaryContentMapperImpl implements BinaryContentMapper {
         String fileName = null;
         Long size = null;
         String contentType = null;
+        String url = null;
 
         id = binaryContent.getId();
         fileName = binaryContent.getFileName();
         size = binaryContent.getSize();
         contentType = binaryContent.getContentType();
 
-        BinaryContentDto binaryContentDto = new BinaryContentDto( id, fileName, size, contentType );
+        BinaryContentDto binaryContentDto = new BinaryContentDto( id, fileName, size, contentType, url );
 
         return binaryContentDto;
     }
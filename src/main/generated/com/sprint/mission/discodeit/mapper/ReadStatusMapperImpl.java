@@ -33,7 +33,10 @@ public class ReadStatusMapperImpl implements ReadStatusMapper {
         id = readStatus.getId();
         lastReadAt = readStatus.getLastReadAt();
 
-        ReadStatusDto readStatusDto = new ReadStatusDto( id, userId, channelId, lastReadAt );
+        int unreadCount = 0;
+        boolean hasMention = false;
+
+        ReadStatusDto readStatusDto = new ReadStatusDto( id, userId, channelId, lastReadAt, unreadCount, hasMention );
 
         return readStatusDto;
     }
@@ -14,7 +14,7 @@ import org.springframework.stereotype.Component;
     comments = "version: 1.6.3, compiler: javac, environment: Java 17.0.14 (JetBrains s.r.o.)"
 )
 @Component
-public class UserMapperImpl implements UserMapper {
+public class UserMapperImpl extends UserMapper {
 
     @Autowired
     private BinaryContentMapper binaryContentMapper;
@@ -35,7 +35,7 @@ public class UserMapperImpl implements UserMapper {
         email = user.getEmail();
         profile = binaryContentMapper.toDto( user.getProfile() );
 
-        Boolean online = user.getStatus().isOnline();
+        Boolean online = presenceIndex.isOnline(user.getId());
 
         UserDto userDto = new UserDto( id, username, email, profile, online );
 
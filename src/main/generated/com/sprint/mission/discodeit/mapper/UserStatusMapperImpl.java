@@ -14,7 +14,7 @@ import org.springframework.stereotype.Component;
     comments = "version: 1.6.3, compiler: javac, environment: Java 17.0.14 (JetBrains s.r.o.)"
 )
 @Component
-public class UserStatusMapperImpl implements UserStatusMapper {
+public class UserStatusMapperImpl extends UserStatusMapper {
 
     @Override
     public UserStatusDto toDto(UserStatus userStatus) {
@@ -24,11 +24,11 @@ public class UserStatusMapperImpl implements UserStatusMapper {
 
         UUID userId = null;
         UUID id = null;
-        Instant lastActiveAt = null;
 
         userId = userStatusUserId( userStatus );
         id = userStatus.getId();
-        lastActiveAt = userStatus.getLastActiveAt();
+
+        Instant lastActiveAt = heartbeatBuffer.lastActiveAt(userStatus.getUser().getId(), userStatus.getLastActiveAt());
 
         UserStatusDto userStatusDto = new UserStatusDto( id, userId, lastActiveAt );
 
@@ -0,0 +1,62 @@
+package com.sprint.mission.discodeit.cache;
+
+import com.sprint.mission.discodeit.dto.data.BinaryContentDto;
+import com.sprint.mission.discodeit.event.CacheInvalidationEvent;
+import com.sprint.mission.discodeit.event.RealtimeEvent;
+import com.sprint.mission.discodeit.event.bus.RealtimeEventListener;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 파일 메타데이터(BinaryContentDto) 캐시. 메타데이터는 만들어진 뒤 바뀌지 않으므로 삭제될 때만 CacheInvalidationEvent 로 제거한다.
+ * presigned URL 은 만료가 있어 여기에 담지 않고(url 은 항상 null) 조회 측에서 붙인다.
+ */
+@Component
+public class BinaryContentDtoCache implements RealtimeEventListener {
+
+  static final String CACHE_NAME = CacheInvalidationEvent.BINARY_CONTENTS;
+
+  private final TwoTierCache<BinaryContentDto> cache;
+
+  public BinaryContentDtoCache(
+      ObjectProvider<SharedCacheTier> sharedCacheTier,
+      MeterRegistry meterRegistry,
+      @Value("${discodeit.cache.binary-contents.maximum-size:50000}") long maximumSize,
+      @Value("${discodeit.cache.binary-contents.expire-after-write:1h}") Duration expireAfterWrite
+  ) {
+    this.cache = new TwoTierCache<>(CACHE_NAME, BinaryContentDto.class, maximumSize,
+        expireAfterWrite, sharedCacheTier.getIfAvailable(), meterRegistry);
+  }
+
+  /**
+   * 파일이 없으면 null 을 반환한다.
+   */
+  public BinaryContentDto get(UUID binaryContentId, Function<UUID, BinaryContentDto> loader) {
+    return cache.get(binaryContentId, loader);
+  }
+
+  public Map<UUID, BinaryContentDto> getAll(Collection<UUID> binaryContentIds,
+      Function<Set<UUID>, Map<UUID, BinaryContentDto>> loader) {
+    return cache.getAll(binaryContentIds, loader);
+  }
+
+  public void evictAll(Collection<UUID> binaryContentIds) {
+    cache.evictAll(binaryContentIds);
+  }
+
+  @Override
+  public void onEvent(RealtimeEvent event) {
+    if (event instanceof CacheInvalidationEvent invalidation
+        && CACHE_NAME.equals(invalidation.cacheName())) {
+      evictAll(invalidation.keys());
+    }
+  }
+}
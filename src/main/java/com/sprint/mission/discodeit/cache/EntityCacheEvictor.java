@@ -0,0 +1,48 @@
+package com.sprint.mission.discodeit.cache;
+
+import com.sprint.mission.discodeit.entity.BinaryContent;
+import com.sprint.mission.discodeit.entity.Channel;
+import com.sprint.mission.discodeit.event.CacheInvalidationEvent;
+import com.sprint.mission.discodeit.event.MessageEvent;
+import com.sprint.mission.discodeit.event.MessageEventType;
+import com.sprint.mission.discodeit.event.RealtimeEvent;
+import com.sprint.mission.discodeit.event.bus.RealtimeEventListener;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Hibernate 2차 캐시는 노드마다 따로 있으므로, 다른 노드에서 바뀐 채널과 삭제된 파일 메타데이터를 ChannelEventBus 이벤트로 받아 이 노드의
+ * 캐시에서도 제거한다. 메시지 작성/삭제는 channels.last_message_at 을 바꾸므로 해당 채널을 제거한다.
+ * <p>
+ * DTO 캐시가 다시 읽을 때 오래된 엔티티를 보지 않도록 다른 구독자보다 먼저 실행한다.
+ */
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@Component
+public class EntityCacheEvictor implements RealtimeEventListener {
+
+  private final Cache cache;
+
+  public EntityCacheEvictor(EntityManagerFactory entityManagerFactory) {
+    this.cache = entityManagerFactory.getCache();
+  }
+
+  @Override
+  public void onEvent(RealtimeEvent event) {
+    if (event instanceof MessageEvent messageEvent
+        && messageEvent.type() != MessageEventType.UPDATED) {
+      cache.evict(Channel.class, messageEvent.channelId());
+    } else if (event instanceof CacheInvalidationEvent invalidation) {
+      Class<?> entityType = switch (invalidation.cacheName()) {
+        case CacheInvalidationEvent.CHANNELS -> Channel.class;
+        case CacheInvalidationEvent.BINARY_CONTENTS -> BinaryContent.class;
+        default -> null;
+      };
+      if (entityType != null) {
+        invalidation.keys().forEach(key -> cache.evict(entityType, key));
+      }
+    }
+  }
+}
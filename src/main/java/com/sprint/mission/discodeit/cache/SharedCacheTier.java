@@ -0,0 +1,28 @@
+package com.sprint.mission.discodeit.cache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 노드 로컬 캐시 뒤에 두는 공유 캐시(Redis 등) SPI. 빈이 등록되어 있을 때만 사용되며, 없으면 로컬 캐시 한 단계로 동작한다.
+ * <p>
+ * 공유 캐시 장애가 조회를 막지 않도록 구현에서 던진 예외는 호출 측에서 DB 조회로 대체한다.
+ */
+public interface SharedCacheTier {
+
+  /**
+   * 없으면 null 을 반환한다.
+   */
+  <V> V get(String cacheName, UUID key, Class<V> type);
+
+  /**
+   * 있는 항목만 담아 반환한다.
+   */
+  <V> Map<UUID, V> getAll(String cacheName, Collection<UUID> keys, Class<V> type);
+
+  void putAll(String cacheName, Map<UUID, ?> values, Duration timeToLive);
+
+  void evict(String cacheName, Collection<UUID> keys);
+}
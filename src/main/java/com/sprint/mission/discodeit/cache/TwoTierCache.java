@@ -0,0 +1,149 @@
+package com.sprint.mission.discodeit.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 로컬 Caffeine 캐시(W-TinyLFU, 최대 크기 + 쓰기 후 만료)와 선택적인 공유 캐시를 차례로 조회하고, 둘 다 없으면 loader 로 DB 에서
+ * 읽어 두 단계에 모두 채운다. loader 가 null 을 반환하거나 결과에 없는 키는 캐시하지 않는다.
+ * <p>
+ * 로컬 캐시 적중률은 cache.gets{result=hit|miss} 와 discodeit.cache.hit.ratio, 공유 캐시 적중은 discodeit.cache.shared.gets 로
+ * 노출된다.
+ */
+@Slf4j
+class TwoTierCache<V> {
+
+  private final String name;
+  private final Class<V> type;
+  private final Duration timeToLive;
+  private final Cache<UUID, V> local;
+  private final SharedCacheTier shared;
+  private final Counter sharedHits;
+  private final Counter sharedMisses;
+
+  TwoTierCache(String name, Class<V> type, long maximumSize, Duration timeToLive,
+      SharedCacheTier shared, MeterRegistry meterRegistry) {
+    this.name = name;
+    this.type = type;
+    this.timeToLive = timeToLive;
+    this.local = Caffeine.newBuilder()
+        .maximumSize(maximumSize)
+        .expireAfterWrite(timeToLive)
+        .recordStats()
+        .build();
+    this.shared = shared;
+
+    CaffeineCacheMetrics.monitor(meterRegistry, local, name);
+    Gauge.builder("discodeit.cache.hit.ratio", local, cache -> cache.stats().hitRate())
+        .tag("cache", name)
+        .register(meterRegistry);
+    this.sharedHits = Counter.builder("discodeit.cache.shared.gets")
+        .tags("cache", name, "result", "hit")
+        .register(meterRegistry);
+    this.sharedMisses = Counter.builder("discodeit.cache.shared.gets")
+        .tags("cache", name, "result", "miss")
+        .register(meterRegistry);
+  }
+
+  V get(UUID key, Function<UUID, V> loader) {
+    return local.get(key, missing -> {
+      V value = getShared(missing);
+      if (value != null) {
+        return value;
+      }
+      value = loader.apply(missing);
+      if (value != null) {
+        putShared(Map.of(missing, value));
+      }
+      return value;
+    });
+  }
+
+  /**
+   * 여러 키를 한 번에 조회한다. 로컬 캐시에 없는 키만 모아 공유 캐시, loader 순으로 한 번씩 조회한다.
+   */
+  Map<UUID, V> getAll(Collection<UUID> keys, Function<Set<UUID>, Map<UUID, V>> loader) {
+    if (keys.isEmpty()) {
+      return Map.of();
+    }
+    return local.getAll(keys, missing -> {
+      Set<UUID> remaining = new HashSet<>(missing);
+      Map<UUID, V> values = new HashMap<>(getAllShared(remaining));
+      remaining.removeAll(values.keySet());
+      if (!remaining.isEmpty()) {
+        Map<UUID, V> loaded = loader.apply(remaining);
+        putShared(loaded);
+        values.putAll(loaded);
+      }
+      return values;
+    });
+  }
+
+  void evictAll(Collection<UUID> keys) {
+    local.invalidateAll(keys);
+    if (shared == null) {
+      return;
+    }
+    try {
+      shared.evict(name, keys);
+    } catch (RuntimeException e) {
+      log.warn("Shared cache evict failed: cache={}, keys={}, error={}", name, keys.size(),
+          e.getMessage());
+    }
+  }
+
+  private V getShared(UUID key) {
+    if (shared == null) {
+      return null;
+    }
+    try {
+      V value = shared.get(name, key, type);
+      (value != null ? sharedHits : sharedMisses).increment();
+      return value;
+    } catch (RuntimeException e) {
+      log.warn("Shared cache get failed: cache={}, error={}", name, e.getMessage());
+      return null;
+    }
+  }
+
+  private Map<UUID, V> getAllShared(Set<UUID> keys) {
+    if (shared == null) {
+      return Map.of();
+    }
+    try {
+      Map<UUID, V> values = shared.getAll(name, keys, type);
+      sharedHits.increment(values.size());
+      sharedMisses.increment(keys.size() - values.size());
+      return values;
+    } catch (RuntimeException e) {
+      log.warn("Shared cache get failed: cache={}, keys={}, error={}", name, keys.size(),
+          e.getMessage());
+      return Map.of();
+    }
+  }
+
+  private void putShared(Map<UUID, V> values) {
+    if (shared == null || values.isEmpty()) {
+      return;
+    }
+    try {
+      shared.putAll(name, values, timeToLive);
+    } catch (RuntimeException e) {
+      log.warn("Shared cache put failed: cache={}, keys={}, error={}", name, values.size(),
+          e.getMessage());
+    }
+  }
+}
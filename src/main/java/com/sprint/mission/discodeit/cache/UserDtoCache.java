@@ -0,0 +1,76 @@
+package com.sprint.mission.discodeit.cache;
+
+import com.sprint.mission.discodeit.dto.data.UserDto;
+import com.sprint.mission.discodeit.event.CacheInvalidationEvent;
+import com.sprint.mission.discodeit.event.RealtimeEvent;
+import com.sprint.mission.discodeit.event.bus.RealtimeEventListener;
+import com.sprint.mission.discodeit.presence.PresenceIndex;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자 요약(UserDto) 캐시. 메시지 목록의 작성자처럼 같은 사용자가 반복해서 매핑되는 경로에서 DB 조회를 줄인다.
+ * <p>
+ * online 은 자주 바뀌므로 캐시된 값을 쓰지 않고 꺼낼 때마다 PresenceIndex 로 채운다. 사용자 정보 변경과 삭제는 CacheInvalidationEvent
+ * 로 모든 노드에서 제거되며, 이벤트를 놓친 노드도 expire-after-write 가 지나면 다시 읽는다.
+ */
+@Component
+public class UserDtoCache implements RealtimeEventListener {
+
+  static final String CACHE_NAME = CacheInvalidationEvent.USERS;
+
+  private final TwoTierCache<UserDto> cache;
+  private final PresenceIndex presenceIndex;
+
+  public UserDtoCache(
+      PresenceIndex presenceIndex,
+      ObjectProvider<SharedCacheTier> sharedCacheTier,
+      MeterRegistry meterRegistry,
+      @Value("${discodeit.cache.users.maximum-size:10000}") long maximumSize,
+      @Value("${discodeit.cache.users.expire-after-write:10m}") Duration expireAfterWrite
+  ) {
+    this.presenceIndex = presenceIndex;
+    this.cache = new TwoTierCache<>(CACHE_NAME, UserDto.class, maximumSize, expireAfterWrite,
+        sharedCacheTier.getIfAvailable(), meterRegistry);
+  }
+
+  /**
+   * 사용자가 없으면 null 을 반환한다.
+   */
+  public UserDto get(UUID userId, Function<UUID, UserDto> loader) {
+    UserDto userDto = cache.get(userId, loader);
+    return userDto == null ? null : withPresence(userDto);
+  }
+
+  public Map<UUID, UserDto> getAll(Collection<UUID> userIds,
+      Function<Set<UUID>, Map<UUID, UserDto>> loader) {
+    return cache.getAll(userIds, loader).values().stream()
+        .map(this::withPresence)
+        .collect(Collectors.toMap(UserDto::id, Function.identity()));
+  }
+
+  public void evictAll(Collection<UUID> userIds) {
+    cache.evictAll(userIds);
+  }
+
+  @Override
+  public void onEvent(RealtimeEvent event) {
+    if (event instanceof CacheInvalidationEvent invalidation
+        && CACHE_NAME.equals(invalidation.cacheName())) {
+      evictAll(invalidation.keys());
+    }
+  }
+
+  private UserDto withPresence(UserDto userDto) {
+    return userDto.withOnline(presenceIndex.isOnline(userDto.id()));
+  }
+}
@@ -0,0 +1,27 @@
+package com.sprint.mission.discodeit.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class ChannelEventConfig {
+
+  /**
+   * SSE 전송 전용 스레드 풀. 구독자별 전송 작업은 동시에 하나만 실행되므로 큐 크기는 동시 구독자 수 정도면 충분하다. 풀이 포화되면 해당 구독자의
+   * 연결을 끊는다(ChannelEventHub).
+   */
+  @Bean(name = "channelEventExecutor")
+  public ThreadPoolTaskExecutor channelEventExecutor(
+      @Value("${discodeit.sse.sender-pool-size:4}") int poolSize,
+      @Value("${discodeit.sse.sender-queue-capacity:10000}") int queueCapacity
+  ) {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(poolSize);
+    executor.setMaxPoolSize(poolSize);
+    executor.setQueueCapacity(queueCapacity);
+    executor.setThreadNamePrefix("sse-sender-");
+    return executor;
+  }
+}
@@ -0,0 +1,53 @@
+package com.sprint.mission.discodeit.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import java.net.URI;
+import java.util.OptionalLong;
+import java.util.UUID;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Hibernate 2차 캐시(JCache)에 쓸 Caffeine CacheManager 를 만들고 application.yaml 의 영역별 크기/만료 설정으로 캐시를 미리 만든다.
+ * 설정되지 않은 영역은 missing_cache_strategy=fail 로 기동 시 실패하므로 크기 제한 없는 캐시가 생기지 않는다.
+ */
+@Slf4j
+@Configuration
+@EnableConfigurationProperties(HibernateCacheProperties.class)
+public class HibernateCacheConfig {
+
+  @Bean(destroyMethod = "close")
+  public CacheManager hibernateCacheManager(HibernateCacheProperties properties) {
+    // 같은 JVM 에 애플리케이션 컨텍스트가 여러 개 뜨더라도(테스트) 캐시를 공유하지 않도록 URI 를 구분한다
+    CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+        .getCacheManager(URI.create("discodeit-hibernate-" + UUID.randomUUID()),
+            getClass().getClassLoader());
+
+    properties.regions().forEach((name, region) -> {
+      CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+      configuration.setMaximumSize(OptionalLong.of(region.maximumSize()));
+      if (region.expireAfterWrite() != null) {
+        configuration.setExpireAfterWrite(OptionalLong.of(region.expireAfterWrite().toNanos()));
+      }
+      configuration.setStatisticsEnabled(true);
+      cacheManager.createCache(name, configuration);
+      log.debug("Hibernate cache region created: region={}, maximumSize={}, expireAfterWrite={}",
+          name, region.maximumSize(), region.expireAfterWrite());
+    });
+    return cacheManager;
+  }
+
+  @Bean
+  public HibernatePropertiesCustomizer hibernateCacheManagerCustomizer(
+      CacheManager hibernateCacheManager) {
+    return hibernateProperties -> hibernateProperties.put(ConfigSettings.CACHE_MANAGER,
+        hibernateCacheManager);
+  }
+}
@@ -0,0 +1,24 @@
+package com.sprint.mission.discodeit.config;
+
+import java.time.Duration;
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Hibernate 2차 캐시 영역별 크기와 만료 시간. 영역 이름은 엔티티와 컬렉션의 @Cache(region) 이름이다.
+ */
+@ConfigurationProperties(prefix = "discodeit.hibernate-cache")
+public record HibernateCacheProperties(
+    Map<String, Region> regions
+) {
+
+  /**
+   * expireAfterWrite 가 없으면 만료시키지 않는다.
+   */
+  public record Region(
+      long maximumSize,
+      Duration expireAfterWrite
+  ) {
+
+  }
+}
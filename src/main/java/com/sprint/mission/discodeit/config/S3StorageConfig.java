@@ -0,0 +1,93 @@
+package com.sprint.mission.discodeit.config;
+
+import java.net.URI;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.awscore.retry.AwsRetryStrategy;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.http.apache.ApacheHttpClient;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+/**
+ * S3 클라이언트와 Presigner 를 애플리케이션 전체에서 하나씩만 생성해 커넥션 풀과 TLS 세션을 재사용한다. 두 객체 모두 AutoCloseable 이므로
+ * 컨텍스트 종료 시 스프링이 close() 를 호출한다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "discodeit.storage.type", havingValue = "s3")
+public class S3StorageConfig {
+
+  private final AwsCredentialsProvider credentialsProvider;
+  private final Region region;
+  private final String endpoint;
+  private final boolean pathStyleAccess;
+
+  public S3StorageConfig(
+      @Value("${discodeit.storage.s3.access-key}") String accessKey,
+      @Value("${discodeit.storage.s3.secret-key}") String secretKey,
+      @Value("${discodeit.storage.s3.region}") String region,
+      @Value("${discodeit.storage.s3.endpoint:}") String endpoint,
+      @Value("${discodeit.storage.s3.path-style-access:false}") boolean pathStyleAccess
+  ) {
+    this.credentialsProvider = StaticCredentialsProvider.create(
+        AwsBasicCredentials.create(accessKey, secretKey));
+    this.region = Region.of(region);
+    this.endpoint = endpoint;
+    this.pathStyleAccess = pathStyleAccess;
+  }
+
+  @Bean
+  public S3Client s3Client(
+      @Value("${discodeit.storage.s3.http.max-connections:50}") int maxConnections,
+      @Value("${discodeit.storage.s3.http.connection-timeout:2s}") Duration connectionTimeout,
+      @Value("${discodeit.storage.s3.http.connection-acquisition-timeout:5s}") Duration acquisitionTimeout,
+      @Value("${discodeit.storage.s3.http.socket-timeout:30s}") Duration socketTimeout,
+      @Value("${discodeit.storage.s3.http.connection-max-idle-time:60s}") Duration maxIdleTime,
+      @Value("${discodeit.storage.s3.retry.max-attempts:3}") int maxAttempts
+  ) {
+    var builder = S3Client.builder()
+        .region(region)
+        .credentialsProvider(credentialsProvider)
+        .serviceConfiguration(S3Configuration.builder()
+            .pathStyleAccessEnabled(pathStyleAccess)
+            .build())
+        .httpClientBuilder(ApacheHttpClient.builder()
+            .maxConnections(maxConnections)
+            .connectionTimeout(connectionTimeout)
+            .connectionAcquisitionTimeout(acquisitionTimeout)
+            .socketTimeout(socketTimeout)
+            .connectionMaxIdleTime(maxIdleTime)
+            .tcpKeepAlive(true))
+        .overrideConfiguration(ClientOverrideConfiguration.builder()
+            .retryStrategy(AwsRetryStrategy.standardRetryStrategy().toBuilder()
+                .maxAttempts(maxAttempts)
+                .build())
+            .build());
+    if (!endpoint.isBlank()) {
+      builder.endpointOverride(URI.create(endpoint));
+    }
+    return builder.build();
+  }
+
+  @Bean
+  public S3Presigner s3Presigner() {
+    var builder = S3Presigner.builder()
+        .region(region)
+        .credentialsProvider(credentialsProvider)
+        .serviceConfiguration(S3Configuration.builder()
+            .pathStyleAccessEnabled(pathStyleAccess)
+            .build());
+    if (!endpoint.isBlank()) {
+      builder.endpointOverride(URI.create(endpoint));
+    }
+    return builder.build();
+  }
+}
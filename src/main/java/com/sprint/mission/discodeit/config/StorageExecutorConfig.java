@@ -0,0 +1,45 @@
+package com.sprint.mission.discodeit.config;
+
+import java.util.Map;
+import java.util.concurrent.ThreadPoolExecutor;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class StorageExecutorConfig {
+
+  /**
+   * 첨부파일 업로드 전용 스레드 풀. 큐가 가득 차면 호출 스레드가 직접 업로드해 자연스럽게 부하를 조절한다.
+   */
+  @Bean(name = "binaryContentUploadExecutor")
+  public ThreadPoolTaskExecutor binaryContentUploadExecutor(
+      @Value("${discodeit.storage.upload.pool-size:8}") int poolSize,
+      @Value("${discodeit.storage.upload.queue-capacity:64}") int queueCapacity
+  ) {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(poolSize);
+    executor.setMaxPoolSize(poolSize);
+    executor.setQueueCapacity(queueCapacity);
+    executor.setThreadNamePrefix("binary-upload-");
+    executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+    executor.setWaitForTasksToCompleteOnShutdown(true);
+    // 요청 스레드의 MDC(requestId 등)를 업로드 스레드 로그에도 남긴다
+    executor.setTaskDecorator(task -> {
+      Map<String, String> context = MDC.getCopyOfContextMap();
+      return () -> {
+        if (context != null) {
+          MDC.setContextMap(context);
+        }
+        try {
+          task.run();
+        } finally {
+          MDC.clear();
+        }
+      };
+    });
+    return executor;
+  }
+}
@@ -0,0 +1,69 @@
+package com.sprint.mission.discodeit.config;
+
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
+import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
+import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
+import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
+
+/**
+ * STOMP over WebSocket 게이트웨이 설정.
+ * <ul>
+ *   <li>클라이언트 전송: /app/** → {@code ChannelGatewayController}</li>
+ *   <li>채널 구독: /topic/channels/{channelId} (ChannelFrameBatcher 가 모아서 보낸다)</li>
+ *   <li>개인 오류 응답: /user/queue/errors</li>
+ * </ul>
+ * 느린 구독자는 전송 시간/버퍼 한도를 넘으면 세션이 닫혀 다른 구독자 전송을 막지 않는다.
+ */
+@Configuration
+@EnableWebSocketMessageBroker
+public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
+
+  private final String[] allowedOriginPatterns;
+  private final Duration sendTimeLimit;
+  private final DataSize sendBufferSizeLimit;
+  private final int outboundPoolSize;
+
+  public WebSocketConfig(
+      @Value("${discodeit.websocket.allowed-origin-patterns:*}") String[] allowedOriginPatterns,
+      @Value("${discodeit.websocket.send-time-limit:10s}") Duration sendTimeLimit,
+      @Value("${discodeit.websocket.send-buffer-size-limit:512KB}") DataSize sendBufferSizeLimit,
+      @Value("${discodeit.websocket.outbound-pool-size:8}") int outboundPoolSize
+  ) {
+    this.allowedOriginPatterns = allowedOriginPatterns;
+    this.sendTimeLimit = sendTimeLimit;
+    this.sendBufferSizeLimit = sendBufferSizeLimit;
+    this.outboundPoolSize = outboundPoolSize;
+  }
+
+  @Override
+  public void registerStompEndpoints(StompEndpointRegistry registry) {
+    registry.addEndpoint("/ws")
+        .setAllowedOriginPatterns(allowedOriginPatterns);
+  }
+
+  @Override
+  public void configureMessageBroker(MessageBrokerRegistry registry) {
+    registry.enableSimpleBroker("/topic", "/queue");
+    registry.setApplicationDestinationPrefixes("/app");
+  }
+
+  @Override
+  public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+    registration
+        .setSendTimeLimit((int) sendTimeLimit.toMillis())
+        .setSendBufferSizeLimit((int) sendBufferSizeLimit.toBytes());
+  }
+
+  @Override
+  public void configureClientOutboundChannel(ChannelRegistration registration) {
+    registration.taskExecutor()
+        .corePoolSize(outboundPoolSize)
+        .maxPoolSize(outboundPoolSize);
+  }
+}
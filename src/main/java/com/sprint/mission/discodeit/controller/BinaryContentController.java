@@ -8,11 +8,13 @@ import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -53,13 +55,14 @@ public class BinaryContentController implements BinaryContentApi {
 
   @GetMapping(path = "{binaryContentId}/download")
   public ResponseEntity<?> download(
-      @PathVariable("binaryContentId") UUID binaryContentId) {
+      @PathVariable("binaryContentId") UUID binaryContentId,
+      @RequestHeader HttpHeaders requestHeaders) {
     log.info("Starting binary content download: binaryContentId={}", binaryContentId);
 
     BinaryContentDto binaryContentDto = binaryContentService.find(binaryContentId);
 
     log.info("Processing binary content download: filename={}, size={}",
         binaryContentDto.fileName(), binaryContentDto.size());
-    return binaryContentStorage.download(binaryContentDto);
+    return binaryContentStorage.download(binaryContentDto, requestHeaders);
   }
 }
@@ -2,16 +2,19 @@ package com.sprint.mission.discodeit.controller;
 
 import com.sprint.mission.discodeit.controller.api.ChannelApi;
 import com.sprint.mission.discodeit.dto.data.ChannelDto;
+import com.sprint.mission.discodeit.dto.data.ChannelPresenceDto;
 import com.sprint.mission.discodeit.dto.request.PrivateChannelCreateRequest;
 import com.sprint.mission.discodeit.dto.request.PublicChannelCreateRequest;
 import com.sprint.mission.discodeit.dto.request.PublicChannelUpdateRequest;
 import com.sprint.mission.discodeit.service.ChannelService;
+import com.sprint.mission.discodeit.sse.ChannelEventHub;
 import jakarta.validation.Valid;
 import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -19,9 +22,11 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -30,6 +35,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class ChannelController implements ChannelApi {
 
   private final ChannelService channelService;
+  private final ChannelEventHub channelEventHub;
 
   @PostMapping(path = "public")
   public ResponseEntity<ChannelDto> create(@Valid @RequestBody PublicChannelCreateRequest request) {
@@ -88,6 +94,31 @@ public class ChannelController implements ChannelApi {
         .build();
   }
 
+  @GetMapping(path = "{channelId}/presence")
+  public ResponseEntity<ChannelPresenceDto> findPresence(
+      @PathVariable("channelId") UUID channelId) {
+    log.debug("Starting channel presence lookup: channelId={}", channelId);
+
+    ChannelPresenceDto presence = channelService.findPresence(channelId);
+
+    log.debug("Completed channel presence lookup: channelId={}, online={}", channelId,
+        presence.onlineCount());
+    return ResponseEntity
+        .status(HttpStatus.OK)
+        .body(presence);
+  }
+
+  @GetMapping(path = "{channelId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  public SseEmitter subscribe(@PathVariable("channelId") UUID channelId,
+      @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+    log.info("Starting channel event subscription: channelId={}, lastEventId={}", channelId,
+        lastEventId);
+
+    // 존재하지 않는 채널이면 404
+    channelService.find(channelId);
+    return channelEventHub.subscribe(channelId, lastEventId);
+  }
+
   @GetMapping
   public ResponseEntity<List<ChannelDto>> findAll(@RequestParam("userId") UUID userId) {
 
@@ -2,23 +2,20 @@ package com.sprint.mission.discodeit.controller;
 
 import com.sprint.mission.discodeit.controller.api.MessageApi;
 import com.sprint.mission.discodeit.dto.data.MessageDto;
+import com.sprint.mission.discodeit.dto.data.MessagePageDirection;
+import com.sprint.mission.discodeit.dto.data.MessageSearchHitDto;
 import com.sprint.mission.discodeit.dto.request.BinaryContentCreateRequest;
 import com.sprint.mission.discodeit.dto.request.MessageCreateRequest;
 import com.sprint.mission.discodeit.dto.request.MessageUpdateRequest;
 import com.sprint.mission.discodeit.dto.response.PageResponse;
 import com.sprint.mission.discodeit.service.MessageService;
 import jakarta.validation.Valid;
-import java.io.IOException;
-import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort.Direction;
-import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -55,19 +52,15 @@ public class MessageController implements MessageApi {
     List<BinaryContentCreateRequest> attachmentRequests = Optional.ofNullable(attachments)
         .map(files -> files.stream()
             .map(file -> {
-              try {
-                log.debug("processing content: filename={}, size={}, contentType={}",
-                    file.getOriginalFilename(), file.getContentType(), file.getBytes());
-                return new BinaryContentCreateRequest(
-                    file.getOriginalFilename(),
-                    file.getContentType(),
-                    file.getBytes()
-                );
-              } catch (IOException e) {
-                log.error("Error occurred while processing content: filename={}, error={}",
-                    file.getOriginalFilename(), e.getMessage(), e);
-                throw new RuntimeException(e);
-              }
+              log.debug("processing content: filename={}, size={}, contentType={}",
+                  file.getOriginalFilename(), file.getSize(), file.getContentType());
+              // 내용을 읽지 않고 MultipartFile 을 그대로 넘겨 저장소까지 스트리밍한다
+              return new BinaryContentCreateRequest(
+                  file.getOriginalFilename(),
+                  file.getContentType(),
+                  file.getSize(),
+                  file
+              );
             })
             .toList())
         .orElse(new ArrayList<>());
@@ -106,22 +99,37 @@ public class MessageController implements MessageApi {
   @GetMapping
   public ResponseEntity<PageResponse<MessageDto>> findAllByChannelId(
       @RequestParam("channelId") UUID channelId,
-      @RequestParam(value = "cursor", required = false) Instant cursor,
-      @PageableDefault(
-          size = 50,
-          page = 0,
-          sort = "createdAt",
-          direction = Direction.DESC
-      ) Pageable pageable) {
+      @RequestParam(value = "cursor", required = false) String cursor,
+      @RequestParam(value = "direction", defaultValue = "BEFORE") MessagePageDirection direction,
+      @RequestParam(value = "size", defaultValue = "50") int size) {
 
-    log.debug("Finding all messages: channelId={}, cursor={}, pageSize={}", channelId, cursor,
-        pageable.getPageSize());
+    log.debug("Finding all messages: channelId={}, cursor={}, direction={}, pageSize={}",
+        channelId, cursor, direction, size);
     PageResponse<MessageDto> messages = messageService.findAllByChannelId(channelId, cursor,
-        pageable);
+        direction, size);
     log.debug("Found messages successfully: channelId={}, resultSize={}, hasNext={}",
         channelId, messages.content().size(), messages.hasNext());
     return ResponseEntity
         .status(HttpStatus.OK)
         .body(messages);
   }
+
+  @GetMapping(path = "search")
+  public ResponseEntity<PageResponse<MessageSearchHitDto>> search(
+      @RequestParam("q") String query,
+      @RequestParam("userId") UUID userId,
+      @RequestParam(value = "channelId", required = false) UUID channelId,
+      @RequestParam(value = "cursor", required = false) String cursor,
+      @RequestParam(value = "size", defaultValue = "20") int size) {
+
+    log.debug("Searching messages: userId={}, channelId={}, cursor={}, pageSize={}", userId,
+        channelId, cursor, size);
+    PageResponse<MessageSearchHitDto> hits = messageService.search(userId, query, channelId,
+        cursor, size);
+    log.debug("Searched messages successfully: userId={}, resultSize={}, hasNext={}", userId,
+        hits.content().size(), hits.hasNext());
+    return ResponseEntity
+        .status(HttpStatus.OK)
+        .body(hits);
+  }
 }
@@ -2,6 +2,7 @@ package com.sprint.mission.discodeit.controller;
 
 import com.sprint.mission.discodeit.controller.api.ReadStatusApi;
 import com.sprint.mission.discodeit.dto.data.ReadStatusDto;
+import com.sprint.mission.discodeit.dto.request.ReadStatusBulkUpdateRequest;
 import com.sprint.mission.discodeit.dto.request.ReadStatusCreateRequest;
 import com.sprint.mission.discodeit.dto.request.ReadStatusUpdateRequest;
 import com.sprint.mission.discodeit.service.ReadStatusService;
@@ -54,6 +55,30 @@ public class ReadStatusController implements ReadStatusApi {
         .body(updatedReadStatus);
   }
 
+  @PatchMapping
+  public ResponseEntity<List<ReadStatusDto>> updateAll(
+      @Valid @RequestBody ReadStatusBulkUpdateRequest request) {
+    log.info("Starting read status bulk update: userId={}, readPoints={}", request.userId(),
+        request.readPoints().size());
+    List<ReadStatusDto> readStatuses = readStatusService.updateAll(request);
+
+    log.info("Completed read status bulk update: userId={}", request.userId());
+    return ResponseEntity
+        .status(HttpStatus.OK)
+        .body(readStatuses);
+  }
+
+  @PatchMapping(path = "all")
+  public ResponseEntity<List<ReadStatusDto>> updateAllToNow(@RequestParam("userId") UUID userId) {
+    log.info("Starting mark all as read: userId={}", userId);
+    List<ReadStatusDto> readStatuses = readStatusService.updateAllToNow(userId);
+
+    log.info("Completed mark all as read: userId={}", userId);
+    return ResponseEntity
+        .status(HttpStatus.OK)
+        .body(readStatuses);
+  }
+
   @GetMapping
   public ResponseEntity<List<ReadStatusDto>> findAllByUserId(@RequestParam("userId") UUID userId) {
 
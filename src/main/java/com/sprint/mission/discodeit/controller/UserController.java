@@ -10,7 +10,6 @@ import com.sprint.mission.discodeit.dto.request.UserUpdateRequest;
 import com.sprint.mission.discodeit.service.UserService;
 import com.sprint.mission.discodeit.service.UserStatusService;
 import jakarta.validation.Valid;
-import java.io.IOException;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -135,20 +134,16 @@ public class UserController implements UserApi {
       log.debug("Empty profile!");
       return Optional.empty();
     } else {
-      try {
-        BinaryContentCreateRequest binaryContentCreateRequest = new BinaryContentCreateRequest(
-            profileFile.getOriginalFilename(),
-            profileFile.getContentType(),
-            profileFile.getBytes()
-        );
-        log.debug("Profile request resolved successfully: filename={}",
-            binaryContentCreateRequest.fileName());
-        return Optional.of(binaryContentCreateRequest);
-      } catch (IOException e) {
-        log.error("Error resolving profile request: filename={}, error={}",
-            profileFile.getOriginalFilename(), e.getMessage(), e);
-        throw new RuntimeException(e);
-      }
+      // 내용을 읽지 않고 MultipartFile 을 그대로 넘겨 저장소까지 스트리밍한다
+      BinaryContentCreateRequest binaryContentCreateRequest = new BinaryContentCreateRequest(
+          profileFile.getOriginalFilename(),
+          profileFile.getContentType(),
+          profileFile.getSize(),
+          profileFile
+      );
+      log.debug("Profile request resolved successfully: filename={}",
+          binaryContentCreateRequest.fileName());
+      return Optional.of(binaryContentCreateRequest);
     }
   }
 }
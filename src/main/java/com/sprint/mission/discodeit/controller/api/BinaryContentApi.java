@@ -13,6 +13,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import java.util.List;
 import java.util.UUID;
 import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 
 @Tag(name = "BinaryContent", description = "첨부 파일 API")
@@ -49,9 +50,12 @@ public interface BinaryContentApi {
       @ApiResponse(
           responseCode = "200", description = "파일 다운로드 성공",
           content = @Content(schema = @Schema(implementation = Resource.class))
-      )
+      ),
+      @ApiResponse(responseCode = "206", description = "Range 요청에 대한 부분 응답"),
+      @ApiResponse(responseCode = "304", description = "ETag 가 일치해 변경 없음")
   })
   ResponseEntity<?> download(
-      @Parameter(description = "다운로드할 파일 ID") UUID binaryContentId
+      @Parameter(description = "다운로드할 파일 ID") UUID binaryContentId,
+      @Parameter(hidden = true) HttpHeaders requestHeaders
   );
 } 
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.sprint.mission.discodeit.controller.api;
 
 import com.sprint.mission.discodeit.dto.data.ChannelDto;
+import com.sprint.mission.discodeit.dto.data.ChannelPresenceDto;
 import com.sprint.mission.discodeit.dto.request.PrivateChannelCreateRequest;
 import com.sprint.mission.discodeit.dto.request.PublicChannelCreateRequest;
 import com.sprint.mission.discodeit.dto.request.PublicChannelUpdateRequest;
@@ -16,6 +17,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import java.util.List;
 import java.util.UUID;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @Tag(name = "Channel", description = "Channel API")
 public interface ChannelApi {
@@ -76,6 +78,43 @@ public interface ChannelApi {
       @Parameter(description = "삭제할 Channel ID") UUID channelId
   );
 
+  @Operation(summary = "Channel 접속 중인 참여자 조회")
+  @ApiResponses(value = {
+      @ApiResponse(
+          responseCode = "200", description = "접속 중인 참여자 수와 ID 목록 조회 성공",
+          content = @Content(schema = @Schema(implementation = ChannelPresenceDto.class))
+      ),
+      @ApiResponse(
+          responseCode = "404", description = "Channel을 찾을 수 없음",
+          content = @Content(examples = @ExampleObject(value = "Channel with id {channelId} not found"))
+      )
+  })
+  ResponseEntity<ChannelPresenceDto> findPresence(
+      @Parameter(description = "조회할 Channel ID") UUID channelId
+  );
+
+  @Operation(summary = "Channel 메시지 이벤트 구독 (SSE)",
+      description = "message.created / message.updated / message.deleted 이벤트를 전송한다. 재연결 시 Last-Event-ID "
+          + "헤더로 마지막으로 받은 메시지 이후부터 이어 받으며, 놓친 메시지가 너무 많으면 reset 이벤트를 보낸다.")
+  @ApiResponses(value = {
+      @ApiResponse(
+          responseCode = "200", description = "이벤트 스트림 연결 성공",
+          content = @Content(mediaType = "text/event-stream")
+      ),
+      @ApiResponse(
+          responseCode = "404", description = "Channel을 찾을 수 없음",
+          content = @Content(examples = @ExampleObject(value = "Channel with id {channelId} not found"))
+      ),
+      @ApiResponse(
+          responseCode = "400", description = "잘못된 Last-Event-ID",
+          content = @Content(examples = @ExampleObject(value = "Message cursor {cursor} is invalid"))
+      )
+  })
+  SseEmitter subscribe(
+      @Parameter(description = "구독할 Channel ID") UUID channelId,
+      @Parameter(description = "마지막으로 받은 이벤트 ID") String lastEventId
+  );
+
   @Operation(summary = "User가 참여 중인 Channel 목록 조회")
   @ApiResponses(value = {
       @ApiResponse(
@@ -1,6 +1,8 @@
 package com.sprint.mission.discodeit.controller.api;
 
 import com.sprint.mission.discodeit.dto.data.MessageDto;
+import com.sprint.mission.discodeit.dto.data.MessagePageDirection;
+import com.sprint.mission.discodeit.dto.data.MessageSearchHitDto;
 import com.sprint.mission.discodeit.dto.request.MessageCreateRequest;
 import com.sprint.mission.discodeit.dto.request.MessageUpdateRequest;
 import com.sprint.mission.discodeit.dto.response.PageResponse;
@@ -12,10 +14,8 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
-import org.springframework.data.domain.Pageable;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.multipart.MultipartFile;
@@ -80,11 +80,37 @@ public interface MessageApi {
       @ApiResponse(
           responseCode = "200", description = "Message 목록 조회 성공",
           content = @Content(schema = @Schema(implementation = PageResponse.class))
+      ),
+      @ApiResponse(
+          responseCode = "400", description = "잘못된 커서",
+          content = @Content(examples = @ExampleObject(value = "Message cursor {cursor} is invalid"))
       )
   })
   ResponseEntity<PageResponse<MessageDto>> findAllByChannelId(
       @Parameter(description = "조회할 Channel ID") UUID channelId,
-      @Parameter(description = "페이징 커서 정보") Instant cursor,
-      @Parameter(description = "페이징 정보", example = "{\"size\": 50, \"sort\": \"createdAt,desc\"}") Pageable pageable
+      @Parameter(description = "페이징 커서 정보 (이전 응답의 nextCursor)") String cursor,
+      @Parameter(description = "커서 기준 조회 방향 (BEFORE: 이전 메시지, AFTER: 이후 메시지)") MessagePageDirection direction,
+      @Parameter(description = "페이지 크기 (최대 200)", example = "50") int size
+  );
+
+  @Operation(summary = "Message 본문 검색",
+      description = "공개 Channel 과 사용자가 참여한 비공개 Channel 의 Message 를 관련도순으로 검색한다. "
+          + "highlight 는 HTML 이스케이프된 발췌이며 일치한 단어를 <mark> 로 감싼다.")
+  @ApiResponses(value = {
+      @ApiResponse(
+          responseCode = "200", description = "Message 검색 성공",
+          content = @Content(schema = @Schema(implementation = PageResponse.class))
+      ),
+      @ApiResponse(
+          responseCode = "400", description = "잘못된 검색어 또는 커서",
+          content = @Content(examples = @ExampleObject(value = "Message search query {q} is invalid"))
+      )
+  })
+  ResponseEntity<PageResponse<MessageSearchHitDto>> search(
+      @Parameter(description = "검색어 (웹 검색 문법: \"구문\", or, -제외, 최대 200자)") String query,
+      @Parameter(description = "검색하는 User ID") UUID userId,
+      @Parameter(description = "검색할 Channel ID (없으면 볼 수 있는 전체 Channel)") UUID channelId,
+      @Parameter(description = "페이징 커서 정보 (이전 응답의 nextCursor)") String cursor,
+      @Parameter(description = "페이지 크기 (최대 50)", example = "20") int size
   );
-} 
\ No newline at end of file
+}
@@ -1,6 +1,7 @@
 package com.sprint.mission.discodeit.controller.api;
 
 import com.sprint.mission.discodeit.dto.data.ReadStatusDto;
+import com.sprint.mission.discodeit.dto.request.ReadStatusBulkUpdateRequest;
 import com.sprint.mission.discodeit.dto.request.ReadStatusCreateRequest;
 import com.sprint.mission.discodeit.dto.request.ReadStatusUpdateRequest;
 import io.swagger.v3.oas.annotations.Operation;
@@ -54,10 +55,42 @@ public interface ReadStatusApi {
       @Parameter(description = "수정할 읽음 상태 정보") ReadStatusUpdateRequest request
   );
 
+  @Operation(summary = "여러 Channel 의 Message 읽음 상태 일괄 수정",
+      description = "읽음 위치는 앞으로만 이동하며, 이미 더 나중까지 읽은 Channel 이나 참여하지 않은 비공개 Channel 은 건너뜀")
+  @ApiResponses(value = {
+      @ApiResponse(
+          responseCode = "200", description = "일괄 수정 후 User의 Message 읽음 상태 목록",
+          content = @Content(array = @ArraySchema(schema = @Schema(implementation = ReadStatusDto.class)))
+      ),
+      @ApiResponse(
+          responseCode = "404", description = "User를 찾을 수 없음",
+          content = @Content(examples = @ExampleObject(value = "User with id {userId} not found"))
+      )
+  })
+  ResponseEntity<List<ReadStatusDto>> updateAll(
+      @Parameter(description = "Channel 별 읽음 위치 목록") ReadStatusBulkUpdateRequest request
+  );
+
+  @Operation(summary = "모든 Channel 을 현재 시각까지 읽음 처리",
+      description = "공개 Channel 과 참여 중인 비공개 Channel 이 대상")
+  @ApiResponses(value = {
+      @ApiResponse(
+          responseCode = "200", description = "읽음 처리 후 User의 Message 읽음 상태 목록",
+          content = @Content(array = @ArraySchema(schema = @Schema(implementation = ReadStatusDto.class)))
+      ),
+      @ApiResponse(
+          responseCode = "404", description = "User를 찾을 수 없음",
+          content = @Content(examples = @ExampleObject(value = "User with id {userId} not found"))
+      )
+  })
+  ResponseEntity<List<ReadStatusDto>> updateAllToNow(
+      @Parameter(description = "읽음 처리할 User ID") UUID userId
+  );
+
   @Operation(summary = "User의 Message 읽음 상태 목록 조회")
   @ApiResponses(value = {
       @ApiResponse(
-          responseCode = "200", description = "Message 읽음 상태 목록 조회 성공",
+          responseCode = "200", description = "Message 읽음 상태 목록 조회 성공 (채널별 안 읽은 메시지 수 unreadCount(최대 100, 100이면 99+), 멘션 여부 hasMention 포함)",
           content = @Content(array = @ArraySchema(schema = @Schema(implementation = ReadStatusDto.class)))
       )
   })
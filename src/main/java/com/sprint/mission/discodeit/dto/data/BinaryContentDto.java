@@ -1,12 +1,19 @@
 package com.sprint.mission.discodeit.dto.data;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import java.util.UUID;
 
 public record BinaryContentDto(
     UUID id,
     String fileName,
     Long size,
-    String contentType
+    String contentType,
+    // 저장소가 직접 접근 가능한 URL 을 제공하는 경우(S3 presigned URL)에만 채워진다
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    String url
 ) {
 
+  public BinaryContentDto withUrl(String url) {
+    return new BinaryContentDto(id, fileName, size, contentType, url);
+  }
 }
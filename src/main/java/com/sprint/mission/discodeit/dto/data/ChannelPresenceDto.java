@@ -0,0 +1,12 @@
+package com.sprint.mission.discodeit.dto.data;
+
+import java.util.List;
+import java.util.UUID;
+
+public record ChannelPresenceDto(
+    UUID channelId,
+    int onlineCount,
+    List<UUID> onlineUserIds
+) {
+
+}
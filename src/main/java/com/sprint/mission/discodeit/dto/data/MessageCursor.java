@@ -0,0 +1,68 @@
+package com.sprint.mission.discodeit.dto.data;
+
+import com.sprint.mission.discodeit.exception.message.MessageExceptions;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * 메시지 목록의 keyset 커서. 같은 시각에 작성된 메시지도 순서가 정해지도록 (createdAt, id) 쌍을 기준으로 하며, 클라이언트에는 불투명한
+ * 문자열 토큰으로만 노출한다.
+ */
+public record MessageCursor(
+    Instant createdAt,
+    UUID id
+) {
+
+  // 커서 시각은 DB(timestamptz)와 검색 색인(epoch nanos long) 모두에서 표현할 수 있는 범위만 받는다
+  public static final Instant MIN_CREATED_AT = Instant.EPOCH;
+  public static final Instant MAX_CREATED_AT = Instant.ofEpochSecond(0, Long.MAX_VALUE);
+
+  private static final String DELIMITER = ":";
+
+  public static MessageCursor from(MessageDto message) {
+    return new MessageCursor(message.createdAt(), message.id());
+  }
+
+  public static MessageCursor decode(String token) {
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+      String[] parts = raw.split(DELIMITER);
+      if (parts.length != 3) {
+        throw MessageExceptions.invalidCursor(token);
+      }
+      Instant createdAt = Instant.ofEpochSecond(Long.parseLong(parts[0]),
+          Long.parseLong(parts[1]));
+      if (!isWithinRange(createdAt)) {
+        throw MessageExceptions.invalidCursor(token);
+      }
+      return new MessageCursor(createdAt, UUID.fromString(parts[2]));
+    } catch (IllegalArgumentException | DateTimeException | ArithmeticException e) {
+      // 범위를 벗어난 시각(조작된 토큰)도 잘못된 커서로 응답한다
+      throw MessageExceptions.invalidCursor(token);
+    }
+  }
+
+  static boolean isWithinRange(Instant createdAt) {
+    return !createdAt.isBefore(MIN_CREATED_AT) && !createdAt.isAfter(MAX_CREATED_AT);
+  }
+
+  /**
+   * 목록 정렬 기준(createdAt, id)에서 other 보다 뒤에 오는지 여부. id 는 PostgreSQL uuid 정렬과 같도록 문자열로 비교한다.
+   */
+  public boolean isAfter(MessageCursor other) {
+    int compared = createdAt.compareTo(other.createdAt);
+    if (compared != 0) {
+      return compared > 0;
+    }
+    return id.toString().compareTo(other.id.toString()) > 0;
+  }
+
+  public String encode() {
+    String raw = createdAt.getEpochSecond() + DELIMITER + createdAt.getNano() + DELIMITER + id;
+    return Base64.getUrlEncoder().withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+}
@@ -0,0 +1,6 @@
+package com.sprint.mission.discodeit.dto.data;
+
+public enum MessagePageDirection {
+  BEFORE, // 커서보다 이전(오래된) 메시지
+  AFTER,  // 커서보다 이후(최신) 메시지
+}
@@ -0,0 +1,48 @@
+package com.sprint.mission.discodeit.dto.data;
+
+import com.sprint.mission.discodeit.exception.message.MessageExceptions;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * 메시지 검색 결과의 keyset 커서. 검색 결과는 (rank, createdAt, id) 내림차순으로 정렬되므로 세 값을 모두 담는다. rank 는 PostgreSQL
+ * real 값을 그대로 되돌려 줘야 같은 순위의 경계가 어긋나지 않으므로 float 비트 값으로 인코딩한다.
+ */
+public record MessageSearchCursor(
+    float rank,
+    Instant createdAt,
+    UUID id
+) {
+
+  private static final String DELIMITER = ":";
+
+  public static MessageSearchCursor decode(String token) {
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+      String[] parts = raw.split(DELIMITER);
+      if (parts.length != 4) {
+        throw MessageExceptions.invalidCursor(token);
+      }
+      float rank = Float.intBitsToFloat(Integer.parseInt(parts[0]));
+      Instant createdAt = Instant.ofEpochSecond(Long.parseLong(parts[1]),
+          Long.parseLong(parts[2]));
+      if (!MessageCursor.isWithinRange(createdAt)) {
+        throw MessageExceptions.invalidCursor(token);
+      }
+      return new MessageSearchCursor(rank, createdAt, UUID.fromString(parts[3]));
+    } catch (IllegalArgumentException | DateTimeException | ArithmeticException e) {
+      // 범위를 벗어난 시각(조작된 토큰)도 잘못된 커서로 응답한다
+      throw MessageExceptions.invalidCursor(token);
+    }
+  }
+
+  public String encode() {
+    String raw = Float.floatToIntBits(rank) + DELIMITER + createdAt.getEpochSecond() + DELIMITER
+        + createdAt.getNano() + DELIMITER + id;
+    return Base64.getUrlEncoder().withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+}
@@ -0,0 +1,12 @@
+package com.sprint.mission.discodeit.dto.data;
+
+/**
+ * 메시지 검색 결과 한 건. highlight 는 HTML 이스케이프된 본문 발췌이며 일치한 단어만 &lt;mark&gt; 로 감싼다.
+ */
+public record MessageSearchHitDto(
+    MessageDto message,
+    String highlight,
+    float rank
+) {
+
+}
@@ -3,11 +3,18 @@ package com.sprint.mission.discodeit.dto.data;
 import java.time.Instant;
 import java.util.UUID;
 
+/**
+ * unreadCount 는 {@link #UNREAD_COUNT_CAP} 에서 잘린 값으로, cap 과 같으면 클라이언트는 "99+" 로 표시한다. unreadCount,
+ * hasMention 은 사용자별 목록 조회에서만 채워진다.
+ */
 public record ReadStatusDto(
     UUID id,
     UUID userId,
     UUID channelId,
-    Instant lastReadAt
+    Instant lastReadAt,
+    int unreadCount,
+    boolean hasMention
 ) {
 
+  public static final int UNREAD_COUNT_CAP = 100;
 }
@@ -10,4 +10,7 @@ public record UserDto(
     Boolean online
 ) {
 
+  public UserDto withOnline(Boolean online) {
+    return new UserDto(id, username, email, profile, online);
+  }
 }
@@ -2,7 +2,14 @@ package com.sprint.mission.discodeit.dto.request;
 
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.InputStreamSource;
 
+/**
+ * 파일 내용은 바이트 배열 대신 {@link InputStreamSource} 로 전달해 저장소까지 스트리밍한다. 업로드 파일(MultipartFile)을 그대로 넘기면
+ * 파일 크기와 관계없이 힙에 내용 전체가 올라가지 않는다.
+ */
 public record BinaryContentCreateRequest(
     @NotBlank(message = "File name is required")
     String fileName,
@@ -10,8 +17,14 @@ public record BinaryContentCreateRequest(
     @NotBlank(message = "Content type is required")
     String contentType,
 
+    @PositiveOrZero(message = "File size must not be negative")
+    long size,
+
     @NotNull(message = "File content is required")
-    byte[] bytes
+    InputStreamSource content
 ) {
 
+  public BinaryContentCreateRequest(String fileName, String contentType, byte[] bytes) {
+    this(fileName, contentType, bytes.length, new ByteArrayResource(bytes));
+  }
 }
@@ -0,0 +1,15 @@
+package com.sprint.mission.discodeit.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+import java.time.Instant;
+import java.util.UUID;
+
+public record ReadPointRequest(
+    @NotNull(message = "Channel ID is required")
+    UUID channelId,
+
+    @NotNull(message = "Last read time is required")
+    Instant lastReadAt
+) {
+
+}
@@ -0,0 +1,19 @@
+package com.sprint.mission.discodeit.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import java.util.UUID;
+
+public record ReadStatusBulkUpdateRequest(
+    @NotNull(message = "User ID is required")
+    UUID userId,
+
+    @NotEmpty(message = "At least one read point is required")
+    @Size(max = 1000, message = "Read points must be at most 1000")
+    List<@Valid @NotNull ReadPointRequest> readPoints
+) {
+
+}
@@ -0,0 +1,11 @@
+package com.sprint.mission.discodeit.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+import java.util.UUID;
+
+public record TypingRequest(
+    @NotNull(message = "User ID is required")
+    UUID userId
+) {
+
+}
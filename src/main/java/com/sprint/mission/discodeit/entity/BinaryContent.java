@@ -7,9 +7,13 @@ import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
+// 메타데이터는 저장된 뒤 바뀌지 않는다 (삭제만 가능)
 @Entity
 @Table(name = "binary_contents")
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = "binary-contents")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class BinaryContent extends BaseEntity {
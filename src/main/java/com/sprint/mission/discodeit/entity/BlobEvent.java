@@ -0,0 +1,40 @@
+package com.sprint.mission.discodeit.entity;
+
+import com.sprint.mission.discodeit.entity.base.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Table;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 저장소(BinaryContentStorage)에 반영해야 할 작업. 메타데이터 변경과 같은 트랜잭션에서 기록되고, BlobEventProcessor 가 비동기로 처리한
+ * 뒤 삭제한다.
+ */
+@Entity
+@Table(name = "blob_events")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BlobEvent extends BaseEntity {
+
+  @Column(columnDefinition = "uuid", nullable = false)
+  private UUID binaryContentId;
+  @Enumerated(EnumType.STRING)
+  @Column(length = 10, nullable = false)
+  private BlobEventType type;
+  @Column(nullable = false)
+  private int attempts;
+
+  public BlobEvent(UUID binaryContentId, BlobEventType type) {
+    this.binaryContentId = binaryContentId;
+    this.type = type;
+  }
+
+  public void increaseAttempts() {
+    this.attempts++;
+  }
+}
@@ -0,0 +1,5 @@
+package com.sprint.mission.discodeit.entity;
+
+public enum BlobEventType {
+  DELETE,
+}
@@ -6,12 +6,16 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.Table;
+import java.time.Instant;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
 @Table(name = "channels")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "channels")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Channel extends BaseUpdatableEntity {
@@ -23,6 +27,9 @@ public class Channel extends BaseUpdatableEntity {
   private String name;
   @Column(length = 500)
   private String description;
+  // 메시지 작성/삭제 시 ChannelRepository의 조건부 UPDATE로만 갱신되는 비정규화 컬럼
+  @Column(columnDefinition = "timestamp with time zone")
+  private Instant lastMessageAt;
 
   public Channel(ChannelType type, String name, String description) {
     this.type = type;
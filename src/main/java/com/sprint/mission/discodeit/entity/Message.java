@@ -16,6 +16,8 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
 @Table(name = "messages")
@@ -31,6 +33,8 @@ public class Message extends BaseUpdatableEntity {
   @ManyToOne(fetch = FetchType.LAZY)
   @JoinColumn(name = "author_id", columnDefinition = "uuid")
   private User author;
+  // 첨부파일 id 목록만 캐시되고, 첨부파일 자체는 BinaryContent 캐시에서 읽는다
+  @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "message-attachments")
   @BatchSize(size = 100)
   @OneToMany(fetch = FetchType.LAZY, orphanRemoval = true, cascade = CascadeType.ALL)
   @JoinTable(
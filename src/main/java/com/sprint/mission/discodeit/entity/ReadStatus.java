@@ -32,6 +32,11 @@ public class ReadStatus extends BaseUpdatableEntity {
   private Channel channel;
   @Column(columnDefinition = "timestamp with time zone", nullable = false)
   private Instant lastReadAt;
+  // 안 읽은 메시지 카운터는 JDBC 로만 갱신한다 (UnreadCounterBuffer, ReadStatusQueryRepository)
+  @Column(columnDefinition = "integer default 0", nullable = false, insertable = false, updatable = false)
+  private int unreadCount;
+  @Column(columnDefinition = "boolean default false", nullable = false, insertable = false, updatable = false)
+  private boolean hasMention;
 
   public ReadStatus(User user, Channel channel, Instant lastReadAt) {
     this.user = user;
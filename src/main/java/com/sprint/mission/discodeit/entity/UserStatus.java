@@ -39,8 +39,13 @@ public class UserStatus extends BaseUpdatableEntity {
   }
 
   public Boolean isOnline() {
+    return isOnline(lastActiveAt);
+  }
+
+  // 엔티티를 거치지 않는 조회 경로(JDBC 프로젝션 등)에서도 같은 기준을 쓰기 위한 메서드
+  public static boolean isOnline(Instant lastActiveAt) {
     Instant instantFiveMinutesAgo = Instant.now().minus(Duration.ofMinutes(5));
-    return lastActiveAt.isAfter(instantFiveMinutesAgo);
+    return lastActiveAt != null && lastActiveAt.isAfter(instantFiveMinutesAgo);
   }
 
   protected void setUser(User user) {
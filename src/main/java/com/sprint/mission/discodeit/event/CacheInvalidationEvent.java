@@ -0,0 +1,35 @@
+package com.sprint.mission.discodeit.event;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * 캐시 무효화. 변경한 노드뿐 아니라 다른 노드의 로컬 캐시(DTO 캐시, Hibernate 2차 캐시)에서도 항목이 제거되도록 ChannelEventBus 로
+ * 전달된다.
+ */
+public record CacheInvalidationEvent(
+    String cacheName,
+    List<UUID> keys
+) implements RealtimeEvent {
+
+  public static final String USERS = "users";
+  public static final String BINARY_CONTENTS = "binaryContents";
+  public static final String CHANNELS = "channels";
+
+  public static CacheInvalidationEvent users(UUID userId) {
+    return new CacheInvalidationEvent(USERS, List.of(userId));
+  }
+
+  public static CacheInvalidationEvent channels(UUID channelId) {
+    return new CacheInvalidationEvent(CHANNELS, List.of(channelId));
+  }
+
+  public static CacheInvalidationEvent binaryContents(Collection<UUID> binaryContentIds) {
+    return new CacheInvalidationEvent(BINARY_CONTENTS, binaryContentIds.stream()
+        .filter(Objects::nonNull)
+        .distinct()
+        .toList());
+  }
+}
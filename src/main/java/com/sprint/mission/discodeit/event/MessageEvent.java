@@ -0,0 +1,34 @@
+package com.sprint.mission.discodeit.event;
+
+import com.sprint.mission.discodeit.dto.data.MessageDto;
+import java.util.UUID;
+
+/**
+ * 메시지 변경 이벤트. 서비스가 트랜잭션 안에서 발행하고, 구독 측은 커밋 이후에만 전달받는다. 삭제 이벤트에는 message 가 없다.
+ */
+public record MessageEvent(
+    MessageEventType type,
+    UUID channelId,
+    UUID messageId,
+    MessageDto message
+) implements RealtimeEvent {
+
+  public static MessageEvent created(MessageDto message) {
+    return new MessageEvent(MessageEventType.CREATED, message.channelId(), message.id(), message);
+  }
+
+  public static MessageEvent updated(MessageDto message) {
+    return new MessageEvent(MessageEventType.UPDATED, message.channelId(), message.id(), message);
+  }
+
+  public static MessageEvent deleted(UUID channelId, UUID messageId) {
+    return new MessageEvent(MessageEventType.DELETED, channelId, messageId, null);
+  }
+
+  /**
+   * 본문을 뺀 이벤트. 노드 간 전달 크기 제한을 넘을 때 보내고, 받는 쪽이 messageId 로 다시 조회한다.
+   */
+  public MessageEvent withoutMessage() {
+    return new MessageEvent(type, channelId, messageId, null);
+  }
+}
@@ -0,0 +1,7 @@
+package com.sprint.mission.discodeit.event;
+
+public enum MessageEventType {
+  CREATED,
+  UPDATED,
+  DELETED,
+}
@@ -0,0 +1,15 @@
+package com.sprint.mission.discodeit.event;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * 사용자의 온라인 전환. 다른 노드의 PresenceIndex 가 user_statuses 재적재를 기다리지 않고 접속 상태를 반영하는 데 쓰인다. heartbeat 마다
+ * 보내지 않고 {@link com.sprint.mission.discodeit.presence.UserStatusHeartbeatBuffer} 가 flush 마다 모아 보낸다.
+ */
+public record PresenceEvent(
+    UUID userId,
+    Instant lastActiveAt
+) implements RealtimeEvent {
+
+}
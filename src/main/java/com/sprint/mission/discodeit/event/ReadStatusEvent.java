@@ -0,0 +1,21 @@
+package com.sprint.mission.discodeit.event;
+
+import com.sprint.mission.discodeit.dto.data.ReadStatusDto;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * 읽음 위치 변경 이벤트. 같은 사용자의 다른 기기/탭이 읽음 표시를 맞추는 데 쓰인다.
+ */
+public record ReadStatusEvent(
+    UUID readStatusId,
+    UUID userId,
+    UUID channelId,
+    Instant lastReadAt
+) implements RealtimeEvent {
+
+  public static ReadStatusEvent from(ReadStatusDto readStatus) {
+    return new ReadStatusEvent(readStatus.id(), readStatus.userId(), readStatus.channelId(),
+        readStatus.lastReadAt());
+  }
+}
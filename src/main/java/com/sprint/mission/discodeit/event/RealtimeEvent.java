@@ -0,0 +1,22 @@
+package com.sprint.mission.discodeit.event;
+
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+
+/**
+ * 노드 사이에 전달되는 실시간 이벤트. 서비스는 ApplicationEventPublisher 로 발행하고, 커밋 이후
+ * {@link com.sprint.mission.discodeit.event.bus.ChannelEventBus} 를 거쳐 모든 노드의 구독자에게 전달된다. kind 는 노드 간 JSON
+ * 직렬화에 쓰인다.
+ */
+@JsonTypeInfo(use = JsonTypeInfo.Id.NAME, property = "kind")
+@JsonSubTypes({
+    @JsonSubTypes.Type(value = MessageEvent.class, name = "message"),
+    @JsonSubTypes.Type(value = ReadStatusEvent.class, name = "read-status"),
+    @JsonSubTypes.Type(value = TypingEvent.class, name = "typing"),
+    @JsonSubTypes.Type(value = PresenceEvent.class, name = "presence"),
+    @JsonSubTypes.Type(value = CacheInvalidationEvent.class, name = "cache-invalidation")
+})
+public sealed interface RealtimeEvent
+    permits MessageEvent, ReadStatusEvent, TypingEvent, PresenceEvent, CacheInvalidationEvent {
+
+}
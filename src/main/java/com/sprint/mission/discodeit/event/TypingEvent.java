@@ -0,0 +1,13 @@
+package com.sprint.mission.discodeit.event;
+
+import java.util.UUID;
+
+/**
+ * 입력 중 표시. 저장하지 않고 채널 구독자에게만 전달한다.
+ */
+public record TypingEvent(
+    UUID channelId,
+    UUID userId
+) implements RealtimeEvent {
+
+}
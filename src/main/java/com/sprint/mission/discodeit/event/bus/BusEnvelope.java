@@ -0,0 +1,13 @@
+package com.sprint.mission.discodeit.event.bus;
+
+import com.sprint.mission.discodeit.event.RealtimeEvent;
+
+/**
+ * 노드 간 전달 단위. origin 은 발행 노드 식별자로, 자신이 보낸 알림을 다시 처리하지 않는 데 쓰인다.
+ */
+record BusEnvelope(
+    String origin,
+    RealtimeEvent event
+) {
+
+}
@@ -0,0 +1,17 @@
+package com.sprint.mission.discodeit.event.bus;
+
+import com.sprint.mission.discodeit.event.RealtimeEvent;
+
+/**
+ * 실시간 이벤트를 모든 노드(자신 포함)의 {@link RealtimeEventListener} 에 전달하는 SPI. discodeit.realtime.bus.type 으로 구현을
+ * 고른다.
+ * <ul>
+ *   <li>local: 같은 JVM 안에서만 전달한다. 단일 노드/테스트용</li>
+ *   <li>postgres: PostgreSQL LISTEN/NOTIFY 로 다른 노드에 전달한다. 별도 인프라가 필요 없다</li>
+ * </ul>
+ * 전달은 최대 한 번(at-most-once)이다. 놓친 메시지는 SSE 재연결(Last-Event-ID)이나 목록 재조회로 따라잡는다.
+ */
+public interface ChannelEventBus {
+
+  void publish(RealtimeEvent event);
+}
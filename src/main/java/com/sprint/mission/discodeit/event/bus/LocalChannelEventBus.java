@@ -0,0 +1,22 @@
+package com.sprint.mission.discodeit.event.bus;
+
+import com.sprint.mission.discodeit.event.RealtimeEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 같은 JVM 안의 구독자에게만 전달하는 구현. 발행 스레드에서 바로 전달한다.
+ */
+@RequiredArgsConstructor
+@Component
+@ConditionalOnProperty(name = "discodeit.realtime.bus.type", havingValue = "local", matchIfMissing = true)
+public class LocalChannelEventBus implements ChannelEventBus {
+
+  private final RealtimeEventDispatcher dispatcher;
+
+  @Override
+  public void publish(RealtimeEvent event) {
+    dispatcher.dispatch(event);
+  }
+}
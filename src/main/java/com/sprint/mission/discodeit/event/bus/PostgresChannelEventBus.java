@@ -0,0 +1,197 @@
+package com.sprint.mission.discodeit.event.bus;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sprint.mission.discodeit.event.MessageEvent;
+import com.sprint.mission.discodeit.event.MessageEventType;
+import com.sprint.mission.discodeit.event.RealtimeEvent;
+import com.sprint.mission.discodeit.exception.message.MessageException;
+import com.sprint.mission.discodeit.service.MessageService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * PostgreSQL LISTEN/NOTIFY 로 노드 간에 이벤트를 전달하는 구현.
+ * <ul>
+ *   <li>발행 노드의 구독자에게는 바로 전달하고, 다른 노드에는 pg_notify 로 알린다. 자신이 보낸 알림은 origin 으로 걸러낸다.</li>
+ *   <li>NOTIFY payload 는 8000 바이트로 제한되므로 이를 넘는 메시지 이벤트는 본문을 빼고 보내며, 받는 노드가 messageId 로 다시
+ *   조회한다.</li>
+ *   <li>LISTEN 은 커넥션 풀과 별도의 전용 커넥션에서 받고, 끊기면 reconnect-delay 후 다시 연결한다. 끊긴 동안의 알림은 유실된다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "discodeit.realtime.bus.type", havingValue = "postgres")
+public class PostgresChannelEventBus implements ChannelEventBus {
+
+  // pg_notify payload 제한(8000 bytes)에서 여유를 둔 값
+  static final int MAX_PAYLOAD_BYTES = 7900;
+
+  private static final Pattern CHANNEL_NAME = Pattern.compile("[a-z_][a-z0-9_]{0,62}");
+  private static final int POLL_TIMEOUT_MILLIS = 500;
+
+  private final String nodeId = UUID.randomUUID().toString();
+
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate notifyTransaction;
+  private final DataSourceProperties dataSourceProperties;
+  private final ObjectMapper objectMapper;
+  private final RealtimeEventDispatcher dispatcher;
+  private final MessageService messageService;
+  private final String channel;
+  private final Duration reconnectDelay;
+
+  private volatile boolean running;
+  private Thread listenerThread;
+
+  public PostgresChannelEventBus(
+      JdbcTemplate jdbcTemplate,
+      PlatformTransactionManager transactionManager,
+      DataSourceProperties dataSourceProperties,
+      ObjectMapper objectMapper,
+      RealtimeEventDispatcher dispatcher,
+      MessageService messageService,
+      @Value("${discodeit.realtime.bus.postgres.channel:discodeit_realtime_events}") String channel,
+      @Value("${discodeit.realtime.bus.postgres.reconnect-delay:5s}") Duration reconnectDelay
+  ) {
+    if (!CHANNEL_NAME.matcher(channel).matches()) {
+      throw new IllegalArgumentException("Invalid LISTEN channel name: " + channel);
+    }
+    this.jdbcTemplate = jdbcTemplate;
+    // 커밋 이후(AFTER_COMMIT) 호출되면 기존 트랜잭션의 커넥션에 묶여 NOTIFY 가 커밋되지 않으므로 항상 새 트랜잭션에서 보낸다
+    this.notifyTransaction = new TransactionTemplate(transactionManager);
+    this.notifyTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    this.dataSourceProperties = dataSourceProperties;
+    this.objectMapper = objectMapper;
+    this.dispatcher = dispatcher;
+    this.messageService = messageService;
+    this.channel = channel;
+    this.reconnectDelay = reconnectDelay;
+  }
+
+  @PostConstruct
+  public void start() {
+    running = true;
+    listenerThread = new Thread(this::listen, "realtime-bus-listener");
+    listenerThread.setDaemon(true);
+    listenerThread.start();
+    log.info("Postgres channel event bus started: channel={}, nodeId={}", channel, nodeId);
+  }
+
+  @PreDestroy
+  public void stop() throws InterruptedException {
+    running = false;
+    if (listenerThread != null) {
+      listenerThread.interrupt();
+      listenerThread.join(reconnectDelay.toMillis());
+    }
+  }
+
+  @Override
+  public void publish(RealtimeEvent event) {
+    dispatcher.dispatch(event);
+
+    try {
+      String payload = serialize(event);
+      notifyTransaction.executeWithoutResult(status -> jdbcTemplate.query(
+          "SELECT pg_notify(?, ?)", rs -> null, channel, payload));
+    } catch (RuntimeException | JsonProcessingException e) {
+      log.warn("Realtime event notify failed: event={}, error={}",
+          event.getClass().getSimpleName(), e.getMessage(), e);
+    }
+  }
+
+  String serialize(RealtimeEvent event) throws JsonProcessingException {
+    String payload = objectMapper.writeValueAsString(new BusEnvelope(nodeId, event));
+    if (payload.getBytes(StandardCharsets.UTF_8).length > MAX_PAYLOAD_BYTES
+        && event instanceof MessageEvent messageEvent) {
+      payload = objectMapper.writeValueAsString(
+          new BusEnvelope(nodeId, messageEvent.withoutMessage()));
+    }
+    return payload;
+  }
+
+  void receive(String payload) {
+    BusEnvelope envelope;
+    try {
+      envelope = objectMapper.readValue(payload, BusEnvelope.class);
+    } catch (JsonProcessingException e) {
+      log.warn("Realtime event ignored: malformed payload - error={}", e.getMessage());
+      return;
+    }
+    if (nodeId.equals(envelope.origin())) {
+      return;
+    }
+
+    RealtimeEvent event = envelope.event();
+    if (event instanceof MessageEvent messageEvent && messageEvent.message() == null
+        && messageEvent.type() != MessageEventType.DELETED) {
+      try {
+        event = new MessageEvent(messageEvent.type(), messageEvent.channelId(),
+            messageEvent.messageId(), messageService.find(messageEvent.messageId()));
+      } catch (MessageException e) {
+        // 다시 조회하기 전에 삭제된 메시지는 삭제 이벤트가 뒤따르므로 건너뛴다
+        log.debug("Realtime event skipped: message not found - messageId={}",
+            messageEvent.messageId());
+        return;
+      }
+    }
+    dispatcher.dispatch(event);
+  }
+
+  private void listen() {
+    while (running) {
+      try (Connection connection = DriverManager.getConnection(
+          dataSourceProperties.determineUrl(),
+          dataSourceProperties.determineUsername(),
+          dataSourceProperties.determinePassword())) {
+        try (Statement statement = connection.createStatement()) {
+          statement.execute("LISTEN " + channel);
+        }
+        PGConnection pgConnection = connection.unwrap(PGConnection.class);
+        log.debug("Listening for realtime events: channel={}", channel);
+
+        while (running) {
+          PGNotification[] notifications = pgConnection.getNotifications(POLL_TIMEOUT_MILLIS);
+          if (notifications == null) {
+            continue;
+          }
+          for (PGNotification notification : notifications) {
+            receive(notification.getParameter());
+          }
+        }
+      } catch (SQLException e) {
+        if (!running) {
+          return;
+        }
+        log.warn("Realtime event listener disconnected: channel={}, error={}", channel,
+            e.getMessage());
+        try {
+          Thread.sleep(reconnectDelay.toMillis());
+        } catch (InterruptedException interrupted) {
+          Thread.currentThread().interrupt();
+          return;
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,30 @@
+package com.sprint.mission.discodeit.event.bus;
+
+import com.sprint.mission.discodeit.event.RealtimeEvent;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이 노드의 모든 {@link RealtimeEventListener} 에 이벤트를 전달한다. 한 구독자의 오류가 다른 구독자 전달을 막지 않는다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class RealtimeEventDispatcher {
+
+  private final List<RealtimeEventListener> listeners;
+
+  public void dispatch(RealtimeEvent event) {
+    for (RealtimeEventListener listener : listeners) {
+      try {
+        listener.onEvent(event);
+      } catch (RuntimeException e) {
+        log.warn("Realtime event dispatch failed: listener={}, event={}, error={}",
+            listener.getClass().getSimpleName(), event.getClass().getSimpleName(),
+            e.getMessage(), e);
+      }
+    }
+  }
+}
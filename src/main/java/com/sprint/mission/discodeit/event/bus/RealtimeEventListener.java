@@ -0,0 +1,11 @@
+package com.sprint.mission.discodeit.event.bus;
+
+import com.sprint.mission.discodeit.event.RealtimeEvent;
+
+/**
+ * {@link ChannelEventBus} 로 전달된 이벤트를 받는 노드 로컬 구독자(SSE 허브, WebSocket fan-out, 접속 상태 인덱스).
+ */
+public interface RealtimeEventListener {
+
+  void onEvent(RealtimeEvent event);
+}
@@ -0,0 +1,23 @@
+package com.sprint.mission.discodeit.event.bus;
+
+import com.sprint.mission.discodeit.event.RealtimeEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 서비스가 발행한 실시간 이벤트를 커밋 이후 {@link ChannelEventBus} 로 넘긴다. 입력 중 표시나 heartbeat 처럼 트랜잭션 밖에서 발행된
+ * 이벤트는 바로 넘긴다.
+ */
+@RequiredArgsConstructor
+@Component
+public class RealtimeEventRelay {
+
+  private final ChannelEventBus channelEventBus;
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void on(RealtimeEvent event) {
+    channelEventBus.publish(event);
+  }
+}
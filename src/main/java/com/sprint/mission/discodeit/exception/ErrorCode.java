@@ -18,6 +18,8 @@ public enum ErrorCode {
 
   //message
   MESSAGE_NOT_FOUND("Message not found"),
+  INVALID_MESSAGE_CURSOR("Invalid message cursor"),
+  INVALID_MESSAGE_SEARCH_QUERY("Invalid message search query"),
   //binarycontent
   BINARY_CONTENT_NOT_FOUND("Binary content not found"),
   BINARY_CONTENT_STORAGE_ERROR("Error storing binary content"),
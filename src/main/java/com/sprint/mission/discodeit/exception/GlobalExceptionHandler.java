@@ -113,8 +113,8 @@ public class GlobalExceptionHandler {
         .body(errorResponse);
   }
 
-  //errorcode 별 http 상태코드 매핑
-  private HttpStatus getStatus(ErrorCode errorCode) {
+  //errorcode 별 http 상태코드 매핑 (WebSocket 오류 응답에서도 사용)
+  public static HttpStatus getStatus(ErrorCode errorCode) {
 
     return switch (errorCode) {
       case USER_NOT_FOUND, CHANNEL_NOT_FOUND, MESSAGE_NOT_FOUND,
@@ -124,7 +124,9 @@ public class GlobalExceptionHandler {
       case DUPLICATE_USER, READ_STATUS_ALREADY_EXISTS, USER_STATUS_ALREADY_EXISTS ->
           HttpStatus.CONFLICT;
 
-      case INVALID_PASSWORD, VALIDATION_ERROR, PRIVATE_CHANNEL_UPDATE -> HttpStatus.BAD_REQUEST;
+      case INVALID_PASSWORD, VALIDATION_ERROR, PRIVATE_CHANNEL_UPDATE, INVALID_MESSAGE_CURSOR,
+           INVALID_MESSAGE_SEARCH_QUERY ->
+          HttpStatus.BAD_REQUEST;
 
       case BINARY_CONTENT_STORAGE_ERROR, INTERNAL_SERVER_ERROR -> HttpStatus.INTERNAL_SERVER_ERROR;
 
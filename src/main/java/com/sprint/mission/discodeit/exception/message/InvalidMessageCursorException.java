@@ -0,0 +1,12 @@
+package com.sprint.mission.discodeit.exception.message;
+
+import com.sprint.mission.discodeit.exception.ErrorCode;
+
+class InvalidMessageCursorException extends MessageException {
+
+  InvalidMessageCursorException(String cursor) {
+    super(ErrorCode.INVALID_MESSAGE_CURSOR,
+        "Message cursor " + cursor + " is invalid",
+        createDetails("cursor", cursor));
+  }
+}
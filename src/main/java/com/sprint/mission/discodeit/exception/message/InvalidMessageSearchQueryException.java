@@ -0,0 +1,12 @@
+package com.sprint.mission.discodeit.exception.message;
+
+import com.sprint.mission.discodeit.exception.ErrorCode;
+
+class InvalidMessageSearchQueryException extends MessageException {
+
+  InvalidMessageSearchQueryException(String query) {
+    super(ErrorCode.INVALID_MESSAGE_SEARCH_QUERY,
+        "Message search query " + query + " is invalid",
+        createDetails("query", query));
+  }
+}
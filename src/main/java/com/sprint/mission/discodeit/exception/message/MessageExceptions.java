@@ -10,4 +10,12 @@ public final class MessageExceptions {
   public static MessageException notFound(UUID messageId) {
     return new MessageNotFoundException(messageId);
   }
+
+  public static MessageException invalidCursor(String cursor) {
+    return new InvalidMessageCursorException(cursor);
+  }
+
+  public static MessageException invalidSearchQuery(String query) {
+    return new InvalidMessageSearchQueryException(query);
+  }
 }
@@ -3,9 +3,11 @@ package com.sprint.mission.discodeit.mapper;
 import com.sprint.mission.discodeit.dto.data.BinaryContentDto;
 import com.sprint.mission.discodeit.entity.BinaryContent;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 
 @Mapper(componentModel = "spring")
 public interface BinaryContentMapper {
 
+  @Mapping(target = "url", ignore = true)
   BinaryContentDto toDto(BinaryContent binaryContent);
 }
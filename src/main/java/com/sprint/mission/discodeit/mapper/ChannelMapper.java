@@ -5,11 +5,14 @@ import com.sprint.mission.discodeit.dto.data.UserDto;
 import com.sprint.mission.discodeit.entity.Channel;
 import com.sprint.mission.discodeit.entity.ChannelType;
 import com.sprint.mission.discodeit.entity.ReadStatus;
-import com.sprint.mission.discodeit.repository.MessageRepository;
 import com.sprint.mission.discodeit.repository.ReadStatusRepository;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -17,8 +20,6 @@ import org.springframework.beans.factory.annotation.Autowired;
 @Mapper(componentModel = "spring", uses = {UserMapper.class})
 public abstract class ChannelMapper {
 
-  @Autowired
-  private MessageRepository messageRepository;
   @Autowired
   private ReadStatusRepository readStatusRepository;
   @Autowired
@@ -28,9 +29,41 @@ public abstract class ChannelMapper {
   @Mapping(target = "lastMessageAt", expression = "java(resolveLastMessageAt(channel))")
   abstract public ChannelDto toDto(Channel channel);
 
+  /**
+   * 여러 채널을 한 번에 변환한다. 채널 수와 관계없이 비공개 채널 참여자 조회 1회만 수행한다.
+   */
+  public List<ChannelDto> toDtos(List<Channel> channels) {
+    if (channels.isEmpty()) {
+      return new ArrayList<>();
+    }
+
+    List<UUID> privateChannelIds = channels.stream()
+        .filter(channel -> channel.getType().equals(ChannelType.PRIVATE))
+        .map(Channel::getId)
+        .toList();
+    Map<UUID, List<UserDto>> participantsByChannelId = privateChannelIds.isEmpty()
+        ? Map.of()
+        : readStatusRepository.findAllByChannelIdInWithUser(privateChannelIds)
+            .stream()
+            .collect(Collectors.groupingBy(
+                readStatus -> readStatus.getChannel().getId(),
+                Collectors.mapping(readStatus -> userMapper.toDto(readStatus.getUser()),
+                    Collectors.toList())));
+
+    return channels.stream()
+        .map(channel -> new ChannelDto(
+            channel.getId(),
+            channel.getType(),
+            channel.getName(),
+            channel.getDescription(),
+            participantsByChannelId.getOrDefault(channel.getId(), new ArrayList<>()),
+            resolveLastMessageAt(channel)
+        ))
+        .toList();
+  }
+
   protected Instant resolveLastMessageAt(Channel channel) {
-    return messageRepository.findLastMessageAtByChannelId(
-            channel.getId())
+    return Optional.ofNullable(channel.getLastMessageAt())
         .orElse(Instant.MIN);
   }
 
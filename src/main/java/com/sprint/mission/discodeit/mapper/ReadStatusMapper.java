@@ -10,5 +10,7 @@ public interface ReadStatusMapper {
 
   @Mapping(target = "userId", source = "user.id")
   @Mapping(target = "channelId", source = "channel.id")
+  @Mapping(target = "unreadCount", ignore = true)
+  @Mapping(target = "hasMention", ignore = true)
   ReadStatusDto toDto(ReadStatus readStatus);
 }
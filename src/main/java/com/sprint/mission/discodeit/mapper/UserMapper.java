@@ -2,12 +2,18 @@ package com.sprint.mission.discodeit.mapper;
 
 import com.sprint.mission.discodeit.dto.data.UserDto;
 import com.sprint.mission.discodeit.entity.User;
+import com.sprint.mission.discodeit.presence.PresenceIndex;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
+import org.springframework.beans.factory.annotation.Autowired;
 
 @Mapper(componentModel = "spring", uses = {BinaryContentMapper.class, UserStatusMapper.class})
-public interface UserMapper {
+public abstract class UserMapper {
 
-  @Mapping(target = "online", expression = "java(user.getStatus().isOnline())")
-  UserDto toDto(User user);
+  // online 은 UserStatus 를 거치지 않고 접속 상태 인덱스에서 읽는다
+  @Autowired
+  protected PresenceIndex presenceIndex;
+
+  @Mapping(target = "online", expression = "java(presenceIndex.isOnline(user.getId()))")
+  public abstract UserDto toDto(User user);
 }
@@ -2,12 +2,19 @@ package com.sprint.mission.discodeit.mapper;
 
 import com.sprint.mission.discodeit.dto.data.UserStatusDto;
 import com.sprint.mission.discodeit.entity.UserStatus;
+import com.sprint.mission.discodeit.presence.UserStatusHeartbeatBuffer;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
+import org.springframework.beans.factory.annotation.Autowired;
 
 @Mapper(componentModel = "spring")
-public interface UserStatusMapper {
+public abstract class UserStatusMapper {
+
+  @Autowired
+  protected UserStatusHeartbeatBuffer heartbeatBuffer;
 
   @Mapping(target = "userId", source = "user.id")
-  UserStatusDto toDto(UserStatus userStatus);
+  @Mapping(target = "lastActiveAt",
+      expression = "java(heartbeatBuffer.lastActiveAt(userStatus.getUser().getId(), userStatus.getLastActiveAt()))")
+  public abstract UserStatusDto toDto(UserStatus userStatus);
 }
@@ -0,0 +1,182 @@
+package com.sprint.mission.discodeit.presence;
+
+import com.sprint.mission.discodeit.event.PresenceEvent;
+import com.sprint.mission.discodeit.event.RealtimeEvent;
+import com.sprint.mission.discodeit.event.bus.RealtimeEventListener;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 노드 로컬 접속 상태 인덱스. 최근 online-window 안에 활동한 사용자만 lastSeen 맵에 두고, 마지막 활동 시각별로 버킷에 나눠 담은 타임 휠로
+ * 만료된 사용자를 버킷 단위로 제거한다. isOnline 은 맵 조회 한 번과 tick 마다 갱신되는 기준 시각 비교로 끝나므로 사용자마다
+ * Instant.now() 를 호출하지 않는다.
+ * <p>
+ * 값은 heartbeat({@link #touch}, 다른 노드의 heartbeat 는 ChannelEventBus 의 PresenceEvent)와 주기적인 user_statuses
+ * 재적재로 채워진다. 판정 정밀도는 bucket-width 이다.
+ */
+@Slf4j
+@Component
+public class PresenceIndex implements RealtimeEventListener {
+
+  // UserStatus.isOnline 과 같은 기준
+  static final Duration ONLINE_WINDOW = Duration.ofMinutes(5);
+
+  private static final String LOAD_SQL = """
+      SELECT user_id, last_active_at
+      FROM user_statuses
+      WHERE last_active_at > ?
+      """;
+
+  private final JdbcTemplate jdbcTemplate;
+  private final long bucketMillis;
+  private final List<Set<UUID>> wheel;
+  private final Map<UUID, Long> lastSeen = new ConcurrentHashMap<>();
+
+  private volatile long cutoffMillis;
+  private long lastExpiredTick;
+
+  public PresenceIndex(
+      JdbcTemplate jdbcTemplate,
+      @Value("${discodeit.presence.bucket-width:10s}") Duration bucketWidth
+  ) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.bucketMillis = bucketWidth.toMillis();
+    // window 를 덮는 버킷 + 현재 채워지는 버킷 + 비우는 중인 버킷
+    int bucketCount = (int) (ONLINE_WINDOW.toMillis() / bucketMillis) + 2;
+    this.wheel = new ArrayList<>(bucketCount);
+    for (int i = 0; i < bucketCount; i++) {
+      wheel.add(ConcurrentHashMap.newKeySet());
+    }
+
+    long now = System.currentTimeMillis();
+    this.cutoffMillis = now - ONLINE_WINDOW.toMillis();
+    this.lastExpiredTick = tickOf(cutoffMillis);
+  }
+
+  /**
+   * 사용자의 활동을 기록한다. 이미 만료된 시각이거나 더 최근 기록이 있으면 무시된다.
+   */
+  public void touch(UUID userId, Instant lastActiveAt) {
+    long millis = lastActiveAt.toEpochMilli();
+    if (millis <= cutoffMillis) {
+      return;
+    }
+    long merged = lastSeen.merge(userId, millis, Math::max);
+    if (merged == millis) {
+      wheel.get(slotOf(tickOf(millis))).add(userId);
+    }
+  }
+
+  @Override
+  public void onEvent(RealtimeEvent event) {
+    if (event instanceof PresenceEvent presenceEvent) {
+      touch(presenceEvent.userId(), presenceEvent.lastActiveAt());
+    }
+  }
+
+  public boolean isOnline(UUID userId) {
+    Long seen = lastSeen.get(userId);
+    return seen != null && seen > cutoffMillis;
+  }
+
+  /**
+   * 접속 중인 사용자 수. 만료 처리가 tick 단위로 일어나므로 최대 bucket-width 만큼 늦게 줄어들 수 있다.
+   */
+  public int onlineCount() {
+    return lastSeen.size();
+  }
+
+  /**
+   * 전달된 사용자 중 접속 중인 사용자만 순서를 유지해 반환한다.
+   */
+  public List<UUID> filterOnline(Collection<UUID> userIds) {
+    return userIds.stream()
+        .filter(this::isOnline)
+        .toList();
+  }
+
+  public void forget(UUID userId) {
+    lastSeen.remove(userId);
+  }
+
+  /**
+   * 기준 시각을 옮기고, window 밖으로 밀려난 버킷의 사용자를 제거한다.
+   */
+  @Scheduled(fixedRateString = "${discodeit.presence.tick-interval-ms:10000}")
+  public synchronized void advance() {
+    advance(System.currentTimeMillis());
+  }
+
+  synchronized void advance(long nowMillis) {
+    long cutoff = nowMillis - ONLINE_WINDOW.toMillis();
+    cutoffMillis = cutoff;
+
+    long expiredTick = tickOf(cutoff) - 1;
+    // tick 이 밀렸더라도 버킷 수보다 많이 돌 필요는 없다
+    long from = Math.max(lastExpiredTick + 1, expiredTick - wheel.size() + 1);
+    int evicted = 0;
+    List<UUID> survivors = new ArrayList<>();
+    for (long tick = from; tick <= expiredTick; tick++) {
+      Set<UUID> bucket = wheel.get(slotOf(tick));
+      for (UUID userId : bucket) {
+        bucket.remove(userId);
+        if (lastSeen.computeIfPresent(userId, (id, seen) -> seen <= cutoff ? null : seen) == null) {
+          evicted++;
+        } else {
+          survivors.add(userId);
+        }
+      }
+    }
+    lastExpiredTick = Math.max(lastExpiredTick, expiredTick);
+    // 더 최근에 활동한 사용자는 마지막 활동 시각의 버킷에 다시 넣어 이후에도 만료될 수 있게 한다
+    survivors.forEach(userId -> {
+      Long seen = lastSeen.get(userId);
+      if (seen != null) {
+        wheel.get(slotOf(tickOf(seen))).add(userId);
+      }
+    });
+
+    if (evicted > 0) {
+      log.debug("Presence entries expired: evicted={}, online={}", evicted, lastSeen.size());
+    }
+  }
+
+  /**
+   * user_statuses 에서 window 안의 활동 기록을 읽어 인덱스에 합친다. 기동 직후와 이후 주기적으로 실행되어 다른 노드가 반영한 heartbeat 도
+   * 따라잡는다.
+   */
+  @Scheduled(initialDelay = 0,
+      fixedDelayString = "${discodeit.presence.reload-interval-ms:30000}")
+  public int reload() {
+    Timestamp since = new Timestamp(cutoffMillis);
+    List<Object[]> rows = jdbcTemplate.query(LOAD_SQL,
+        (rs, rowNum) -> new Object[]{rs.getObject("user_id", UUID.class),
+            rs.getTimestamp("last_active_at").toInstant()},
+        since);
+    rows.forEach(row -> touch((UUID) row[0], (Instant) row[1]));
+
+    log.debug("Presence index reloaded: loaded={}, online={}", rows.size(), lastSeen.size());
+    return rows.size();
+  }
+
+  private long tickOf(long millis) {
+    return Math.floorDiv(millis, bucketMillis);
+  }
+
+  private int slotOf(long tick) {
+    return (int) Math.floorMod(tick, (long) wheel.size());
+  }
+}
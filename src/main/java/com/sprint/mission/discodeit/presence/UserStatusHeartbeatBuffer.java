@@ -0,0 +1,180 @@
+package com.sprint.mission.discodeit.presence;
+
+import com.sprint.mission.discodeit.event.PresenceEvent;
+import jakarta.annotation.PreDestroy;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자 상태 heartbeat 를 메모리에 모았다가 주기적으로 user_statuses 에 일괄 반영한다(write-behind). 맵은 ConcurrentHashMap 이라
+ * 버킷 단위로 잠기므로 서로 다른 사용자의 heartbeat 는 경합하지 않는다.
+ * <p>
+ * 아직 반영되지 않은 값이 있을 수 있으므로 lastActiveAt 은 {@link #lastActiveAt} 을 거쳐 읽어야 한다. 값은 DB 반영이 끝난 뒤에
+ * 제거하므로 flush 도중에도 최신 값이 보인다. online 여부는 heartbeat 를 함께 전달받는 {@link PresenceIndex} 가 판단한다.
+ * <p>
+ * 다른 노드에는 오프라인에서 온라인이 된 사용자만 flush 마다 모아 {@link PresenceEvent} 로 알린다. 이후 heartbeat 는 DB 반영 후 각
+ * 노드의 PresenceIndex 재적재로 전달되고, 오프라인 전환은 각 노드가 window 만료로 스스로 판단한다.
+ */
+@Slf4j
+@Component
+public class UserStatusHeartbeatBuffer {
+
+  private static final String UPDATE_SQL = """
+      UPDATE user_statuses
+      SET last_active_at = ?, updated_at = ?
+      WHERE user_id = ? AND last_active_at < ?
+      """;
+
+  // userId -> 반영 대기 중인 lastActiveAt (epoch millis)
+  private final Map<UUID, Long> pending = new ConcurrentHashMap<>();
+  // userId -> userStatusId, 반복 heartbeat 에서 상태 조회를 생략하기 위해 기억해 둔다
+  private final Map<UUID, UUID> statusIds = new ConcurrentHashMap<>();
+  // userId -> 다음 flush 에 알릴 온라인 전환 시각 (epoch millis)
+  private final Map<UUID, Long> cameOnline = new ConcurrentHashMap<>();
+
+  private final JdbcTemplate jdbcTemplate;
+  private final PresenceIndex presenceIndex;
+  private final ApplicationEventPublisher eventPublisher;
+  private final int batchSize;
+
+  public UserStatusHeartbeatBuffer(
+      JdbcTemplate jdbcTemplate,
+      PresenceIndex presenceIndex,
+      ApplicationEventPublisher eventPublisher,
+      @Value("${discodeit.presence.flush-batch-size:500}") int batchSize
+  ) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.presenceIndex = presenceIndex;
+    this.eventPublisher = eventPublisher;
+    this.batchSize = batchSize;
+  }
+
+  public Optional<UUID> findStatusId(UUID userId) {
+    return Optional.ofNullable(statusIds.get(userId));
+  }
+
+  /**
+   * heartbeat 를 기록한다. 같은 사용자의 값은 가장 최근 시각만 남는다.
+   */
+  public Instant record(UUID userId, UUID userStatusId, Instant lastActiveAt) {
+    statusIds.put(userId, userStatusId);
+    boolean wasOnline = presenceIndex.isOnline(userId);
+    presenceIndex.touch(userId, lastActiveAt);
+    if (!wasOnline && presenceIndex.isOnline(userId)) {
+      cameOnline.merge(userId, lastActiveAt.toEpochMilli(), Math::max);
+    }
+    long merged = pending.merge(userId, lastActiveAt.toEpochMilli(), Math::max);
+    return Instant.ofEpochMilli(merged);
+  }
+
+  /**
+   * DB 에 저장된 값과 반영 대기 중인 값 중 더 최근 시각을 반환한다.
+   */
+  public Instant lastActiveAt(UUID userId, Instant persistedLastActiveAt) {
+    Long buffered = pending.get(userId);
+    if (buffered == null) {
+      return persistedLastActiveAt;
+    }
+    Instant bufferedAt = Instant.ofEpochMilli(buffered);
+    if (persistedLastActiveAt == null || bufferedAt.isAfter(persistedLastActiveAt)) {
+      return bufferedAt;
+    }
+    return persistedLastActiveAt;
+  }
+
+  public void forget(UUID userId) {
+    pending.remove(userId);
+    statusIds.remove(userId);
+    cameOnline.remove(userId);
+    presenceIndex.forget(userId);
+  }
+
+  public int pendingCount() {
+    return pending.size();
+  }
+
+  /**
+   * 온라인 전환을 알린 뒤 대기 중인 heartbeat 를 batch UPDATE 로 반영하고 반영한 건수를 반환한다. 실패한 배치는 다음 주기에 다시
+   * 시도한다.
+   */
+  @Scheduled(fixedDelayString = "${discodeit.presence.flush-interval-ms:10000}")
+  public int flush() {
+    publishCameOnline();
+    if (pending.isEmpty()) {
+      return 0;
+    }
+
+    List<Map.Entry<UUID, Long>> snapshot = pending.entrySet().stream()
+        .map(Map::entry)
+        .toList();
+    int flushed = 0;
+    for (int from = 0; from < snapshot.size(); from += batchSize) {
+      List<Map.Entry<UUID, Long>> chunk = snapshot.subList(from,
+          Math.min(from + batchSize, snapshot.size()));
+      try {
+        flushed += flushChunk(chunk);
+      } catch (Exception e) {
+        log.warn("Failed to flush user status heartbeats: count={}, error={}", chunk.size(),
+            e.getMessage(), e);
+      }
+    }
+
+    log.debug("User status heartbeats flushed: count={}, remaining={}", flushed, pending.size());
+    return flushed;
+  }
+
+  // heartbeat 마다 이벤트(pg_notify 왕복)를 보내지 않도록 한 주기 동안 온라인이 된 사용자를 사용자당 한 건으로 모아 보낸다
+  private void publishCameOnline() {
+    for (UUID userId : List.copyOf(cameOnline.keySet())) {
+      Long lastActiveAt = cameOnline.remove(userId);
+      if (lastActiveAt != null) {
+        eventPublisher.publishEvent(new PresenceEvent(userId, Instant.ofEpochMilli(lastActiveAt)));
+      }
+    }
+  }
+
+  @PreDestroy
+  void flushOnShutdown() {
+    flush();
+  }
+
+  private int flushChunk(List<Map.Entry<UUID, Long>> chunk) {
+    Timestamp now = Timestamp.from(Instant.now());
+    List<Object[]> args = new ArrayList<>(chunk.size());
+    for (Map.Entry<UUID, Long> entry : chunk) {
+      Timestamp lastActiveAt = new Timestamp(entry.getValue());
+      args.add(new Object[]{lastActiveAt, now, entry.getKey(), lastActiveAt});
+    }
+
+    int[] updateCounts = jdbcTemplate.batchUpdate(UPDATE_SQL, args);
+    for (int i = 0; i < chunk.size(); i++) {
+      UUID userId = chunk.get(i).getKey();
+      // flush 도중 더 최근 heartbeat 가 들어왔다면 그 값은 남겨 둔다
+      pending.remove(userId, chunk.get(i).getValue());
+      if (updateCounts[i] == 0 && !hasStatusRow(userId)) {
+        statusIds.remove(userId);
+        presenceIndex.forget(userId);
+      }
+    }
+    return chunk.size();
+  }
+
+  // 0건 갱신은 이미 더 최근 값이 저장된 경우이거나 사용자가 삭제된 경우다
+  private boolean hasStatusRow(UUID userId) {
+    Integer count = jdbcTemplate.queryForObject(
+        "SELECT COUNT(*) FROM user_statuses WHERE user_id = ?", Integer.class, userId);
+    return count != null && count > 0;
+  }
+}
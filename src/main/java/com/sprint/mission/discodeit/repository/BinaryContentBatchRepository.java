@@ -0,0 +1,17 @@
+package com.sprint.mission.discodeit.repository;
+
+import com.sprint.mission.discodeit.dto.request.BinaryContentCreateRequest;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 미리 발급한 id 로 파일 메타데이터를 저장한다. 엔티티 id 는 저장 시점에 생성되므로(@GeneratedValue), 트랜잭션 밖에서 파일을 먼저 올린
+ * 경우에는 JPA 대신 JDBC 일괄 INSERT 로 같은 id 를 그대로 기록한다.
+ */
+public interface BinaryContentBatchRepository {
+
+  /**
+   * ids 와 requests 는 같은 순서로 짝지어져 있어야 한다.
+   */
+  void insertAll(List<UUID> ids, List<BinaryContentCreateRequest> requests);
+}
@@ -0,0 +1,40 @@
+package com.sprint.mission.discodeit.repository;
+
+import com.sprint.mission.discodeit.dto.request.BinaryContentCreateRequest;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@RequiredArgsConstructor
+class BinaryContentBatchRepositoryImpl implements BinaryContentBatchRepository {
+
+  private static final String INSERT_SQL = """
+      INSERT INTO binary_contents (id, created_at, file_name, size, content_type)
+      VALUES (?, ?, ?, ?, ?)
+      """;
+
+  private final JdbcTemplate jdbcTemplate;
+
+  @Override
+  public void insertAll(List<UUID> ids, List<BinaryContentCreateRequest> requests) {
+    if (ids.size() != requests.size()) {
+      throw new IllegalArgumentException("ids and requests must have the same size");
+    }
+    if (ids.isEmpty()) {
+      return;
+    }
+
+    Timestamp now = Timestamp.from(Instant.now());
+    List<Object[]> rows = new ArrayList<>(ids.size());
+    for (int i = 0; i < ids.size(); i++) {
+      BinaryContentCreateRequest request = requests.get(i);
+      rows.add(new Object[]{ids.get(i), now, request.fileName(), request.size(),
+          request.contentType()});
+    }
+    jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+  }
+}
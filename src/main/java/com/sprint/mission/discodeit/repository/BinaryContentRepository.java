@@ -1,9 +1,16 @@
 package com.sprint.mission.discodeit.repository;
 
 import com.sprint.mission.discodeit.entity.BinaryContent;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface BinaryContentRepository extends JpaRepository<BinaryContent, UUID> {
+public interface BinaryContentRepository extends JpaRepository<BinaryContent, UUID>,
+    BinaryContentBatchRepository {
 
+  @Query("SELECT b.id FROM BinaryContent b WHERE b.id IN :ids")
+  List<UUID> findExistingIds(@Param("ids") Collection<UUID> ids);
 }
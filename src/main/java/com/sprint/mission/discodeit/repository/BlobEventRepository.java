@@ -0,0 +1,24 @@
+package com.sprint.mission.discodeit.repository;
+
+import com.sprint.mission.discodeit.entity.BlobEvent;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+public interface BlobEventRepository extends JpaRepository<BlobEvent, UUID> {
+
+  // lock.timeout = -2 는 Hibernate 에서 SKIP LOCKED 로 변환되어 여러 인스턴스가 서로 다른 이벤트를 가져간다
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+  @Query("SELECT e FROM BlobEvent e "
+      + "WHERE e.attempts < :maxAttempts "
+      + "ORDER BY e.createdAt")
+  List<BlobEvent> findPendingForUpdate(@Param("maxAttempts") int maxAttempts, Limit limit);
+}
@@ -0,0 +1,21 @@
+package com.sprint.mission.discodeit.repository;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * channels.last_message_at 비정규화 컬럼 갱신. 메시지를 쓸 때마다 실행되므로 JPQL 벌크 UPDATE 대신 JDBC 로 갱신하고 해당 채널만 2차
+ * 캐시에서 제거한다. (JPQL 벌크 UPDATE 는 Channel 캐시 영역 전체를 비운다)
+ */
+public interface ChannelLastMessageAtRepository {
+
+  /**
+   * 더 최신 시각일 때만 갱신하므로 동시에 작성된 메시지끼리 순서가 뒤바뀌어도 값이 되돌아가지 않는다.
+   */
+  int advanceLastMessageAt(UUID channelId, Instant messageAt);
+
+  /**
+   * 삭제된 메시지가 채널의 마지막 메시지였던 경우에만 남은 메시지 기준으로 다시 계산한다.
+   */
+  int rewindLastMessageAt(UUID channelId, Instant deletedMessageAt);
+}
@@ -0,0 +1,69 @@
+package com.sprint.mission.discodeit.repository;
+
+import com.sprint.mission.discodeit.entity.Channel;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManager;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@RequiredArgsConstructor
+class ChannelLastMessageAtRepositoryImpl implements ChannelLastMessageAtRepository {
+
+  private static final String ADVANCE_SQL = """
+      UPDATE channels
+      SET last_message_at = ?
+      WHERE id = ?
+        AND (last_message_at IS NULL OR last_message_at < ?)
+      """;
+
+  private static final String REWIND_SQL = """
+      UPDATE channels
+      SET last_message_at = (SELECT MAX(created_at) FROM messages WHERE channel_id = ?)
+      WHERE id = ?
+        AND last_message_at <= ?
+      """;
+
+  private final JdbcTemplate jdbcTemplate;
+  private final EntityManager entityManager;
+
+  @Override
+  public int advanceLastMessageAt(UUID channelId, Instant messageAt) {
+    Timestamp timestamp = Timestamp.from(messageAt);
+    int updated = jdbcTemplate.update(ADVANCE_SQL, timestamp, channelId, timestamp);
+    if (updated > 0) {
+      evict(channelId);
+    }
+    return updated;
+  }
+
+  @Override
+  public int rewindLastMessageAt(UUID channelId, Instant deletedMessageAt) {
+    // 삭제한 메시지가 서브쿼리에 보이지 않도록 먼저 반영한다
+    entityManager.flush();
+    int updated = jdbcTemplate.update(REWIND_SQL, channelId, channelId,
+        Timestamp.from(deletedMessageAt));
+    if (updated > 0) {
+      evict(channelId);
+    }
+    return updated;
+  }
+
+  // 커밋 전에 다른 트랜잭션이 이전 값을 다시 캐시에 올릴 수 있으므로 커밋 이후에도 한 번 더 제거한다
+  private void evict(UUID channelId) {
+    Cache cache = entityManager.getEntityManagerFactory().getCache();
+    cache.evict(Channel.class, channelId);
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          cache.evict(Channel.class, channelId);
+        }
+      });
+    }
+  }
+}
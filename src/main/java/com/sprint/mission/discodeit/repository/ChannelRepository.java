@@ -5,8 +5,21 @@ import com.sprint.mission.discodeit.entity.ChannelType;
 import java.util.List;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface ChannelRepository extends JpaRepository<Channel, UUID> {
+public interface ChannelRepository extends JpaRepository<Channel, UUID>,
+    ChannelLastMessageAtRepository {
 
+  // 쿼리 캐시는 노드마다 따로 있어 다른 노드의 채널 추가/삭제로 무효화되지 않으므로 쓰지 않는다
   List<Channel> findAllByTypeOrIdIn(ChannelType type, List<UUID> ids);
+
+  @Query("SELECT c.id FROM Channel c")
+  List<UUID> findAllIds();
+
+  // 사용자에게 보이는 채널: 공개 채널 + 참여 중인 비공개 채널
+  @Query("SELECT c.id FROM Channel c "
+      + "WHERE c.type = com.sprint.mission.discodeit.entity.ChannelType.PUBLIC "
+      + "OR c.id IN (SELECT r.channel.id FROM ReadStatus r WHERE r.user.id = :userId)")
+  List<UUID> findVisibleIdsByUserId(@Param("userId") UUID userId);
 }
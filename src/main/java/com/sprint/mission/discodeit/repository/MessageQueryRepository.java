@@ -0,0 +1,179 @@
+package com.sprint.mission.discodeit.repository;
+
+import com.sprint.mission.discodeit.cache.BinaryContentDtoCache;
+import com.sprint.mission.discodeit.cache.UserDtoCache;
+import com.sprint.mission.discodeit.dto.data.BinaryContentDto;
+import com.sprint.mission.discodeit.dto.data.MessageDto;
+import com.sprint.mission.discodeit.dto.data.UserDto;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 메시지 목록 조회 전용 읽기 경로. 엔티티를 영속성 컨텍스트에 올리지 않고(스냅샷, 더티체킹 없음) 결과셋에서 바로
+ * {@link MessageDto} 를 만든다. 메시지 1회, 첨부파일 id 1회 조회 후 작성자와 첨부파일 메타데이터는 DTO 캐시에서 채우고, 캐시에 없는
+ * 것만 한 번에 모아 추가로 조회한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class MessageQueryRepository {
+
+  private static final String MESSAGE_SQL = """
+      SELECT id, created_at, updated_at, content, channel_id, author_id
+      FROM messages
+      WHERE id IN (:ids)
+      """;
+
+  private static final String ATTACHMENT_SQL = """
+      SELECT message_id, attachment_id
+      FROM message_attachments
+      WHERE message_id IN (:ids)
+      """;
+
+  private static final String USER_SQL = """
+      SELECT u.id, u.username, u.email,
+             p.id AS profile_id, p.file_name AS profile_file_name, p.size AS profile_size,
+             p.content_type AS profile_content_type
+      FROM users u
+      LEFT JOIN binary_contents p ON p.id = u.profile_id
+      WHERE u.id IN (:ids)
+      """;
+
+  private static final String BINARY_CONTENT_SQL = """
+      SELECT id, file_name, size, content_type
+      FROM binary_contents
+      WHERE id IN (:ids)
+      """;
+
+  private final JdbcClient jdbcClient;
+  private final UserDtoCache userDtoCache;
+  private final BinaryContentDtoCache binaryContentDtoCache;
+
+  /**
+   * id 목록의 메시지를 DTO 로 조회한다. 결과는 전달된 id 순서를 따르며, 그 사이 삭제된 메시지는 제외된다.
+   */
+  public List<MessageDto> findAllByIdIn(List<UUID> messageIds) {
+    if (messageIds.isEmpty()) {
+      return List.of();
+    }
+
+    List<MessageRow> rows = jdbcClient.sql(MESSAGE_SQL)
+        .param("ids", messageIds)
+        .query((rs, rowNum) -> new MessageRow(
+            rs.getObject("id", UUID.class),
+            toInstant(rs.getTimestamp("created_at")),
+            toInstant(rs.getTimestamp("updated_at")),
+            rs.getString("content"),
+            rs.getObject("channel_id", UUID.class),
+            rs.getObject("author_id", UUID.class)))
+        .list();
+
+    Map<UUID, List<UUID>> attachmentIdsByMessageId = jdbcClient.sql(ATTACHMENT_SQL)
+        .param("ids", messageIds)
+        .query((rs, rowNum) -> Map.entry(
+            rs.getObject("message_id", UUID.class),
+            rs.getObject("attachment_id", UUID.class)))
+        .list()
+        .stream()
+        .collect(Collectors.groupingBy(Map.Entry::getKey,
+            Collectors.mapping(Map.Entry::getValue, Collectors.toList())));
+
+    Set<UUID> authorIds = rows.stream()
+        .map(MessageRow::authorId)
+        .filter(Objects::nonNull)
+        .collect(Collectors.toSet());
+    Map<UUID, UserDto> authorsById = userDtoCache.getAll(authorIds, this::findUsersByIdIn);
+
+    Set<UUID> attachmentIds = attachmentIdsByMessageId.values().stream()
+        .flatMap(List::stream)
+        .collect(Collectors.toSet());
+    Map<UUID, BinaryContentDto> attachmentsById = binaryContentDtoCache.getAll(attachmentIds,
+        this::findBinaryContentsByIdIn);
+
+    Map<UUID, MessageDto> messagesById = rows.stream()
+        .map(row -> new MessageDto(
+            row.id(),
+            row.createdAt(),
+            row.updatedAt(),
+            row.content(),
+            row.channelId(),
+            row.authorId() == null ? null : authorsById.get(row.authorId()),
+            attachmentIdsByMessageId.getOrDefault(row.id(), List.of()).stream()
+                .map(attachmentsById::get)
+                .filter(Objects::nonNull)
+                .toList()))
+        .collect(Collectors.toMap(MessageDto::id, Function.identity()));
+
+    return messageIds.stream()
+        .map(messagesById::get)
+        .filter(Objects::nonNull)
+        .toList();
+  }
+
+  private Map<UUID, UserDto> findUsersByIdIn(Set<UUID> userIds) {
+    return jdbcClient.sql(USER_SQL)
+        .param("ids", userIds)
+        .query((rs, rowNum) -> toUserDto(rs))
+        .list()
+        .stream()
+        .collect(Collectors.toMap(UserDto::id, Function.identity()));
+  }
+
+  private Map<UUID, BinaryContentDto> findBinaryContentsByIdIn(Set<UUID> binaryContentIds) {
+    return jdbcClient.sql(BINARY_CONTENT_SQL)
+        .param("ids", binaryContentIds)
+        .query((rs, rowNum) -> new BinaryContentDto(
+            rs.getObject("id", UUID.class),
+            rs.getString("file_name"),
+            rs.getLong("size"),
+            rs.getString("content_type"),
+            null))
+        .list()
+        .stream()
+        .collect(Collectors.toMap(BinaryContentDto::id, Function.identity()));
+  }
+
+  // online 은 UserDtoCache 가 꺼낼 때 채운다
+  private UserDto toUserDto(ResultSet rs) throws SQLException {
+    UUID profileId = rs.getObject("profile_id", UUID.class);
+    BinaryContentDto profile = profileId == null ? null : new BinaryContentDto(
+        profileId,
+        rs.getString("profile_file_name"),
+        rs.getLong("profile_size"),
+        rs.getString("profile_content_type"),
+        null);
+    return new UserDto(
+        rs.getObject("id", UUID.class),
+        rs.getString("username"),
+        rs.getString("email"),
+        profile,
+        null
+    );
+  }
+
+  private static Instant toInstant(Timestamp timestamp) {
+    return timestamp == null ? null : timestamp.toInstant();
+  }
+
+  private record MessageRow(
+      UUID id,
+      Instant createdAt,
+      Instant updatedAt,
+      String content,
+      UUID channelId,
+      UUID authorId
+  ) {
+
+  }
+}
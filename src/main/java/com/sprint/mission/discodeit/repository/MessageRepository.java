@@ -2,25 +2,52 @@ package com.sprint.mission.discodeit.repository;
 
 import com.sprint.mission.discodeit.entity.Message;
 import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 public interface MessageRepository extends JpaRepository<Message, UUID> {
 
-  @Query("SELECT m FROM Message m "
-      + "LEFT JOIN FETCH m.author a "
-      + "JOIN FETCH a.status "
-      + "LEFT JOIN FETCH a.profile "
-      + "WHERE m.channel.id=:channelId AND m.createdAt < :createdAt")
-  Slice<Message> findAllByChannelIdWithAuthor(@Param("channelId") UUID channelId,
+  // 1단계: (createdAt, id) keyset 으로 idx_messages_channel_id_created_at_id 를 그대로 탐색해 id 만 조회한다.
+  // OFFSET 은 쓰지 않으며, 컬렉션 fetch join 이 없으므로 LIMIT 이 DB 에서 그대로 적용된다.
+  @Query("SELECT m.id FROM Message m "
+      + "WHERE m.channel.id = :channelId "
+      + "ORDER BY m.createdAt DESC, m.id DESC")
+  List<UUID> findLatestIdsByChannelId(@Param("channelId") UUID channelId, Limit limit);
+
+  @Query("SELECT m.id FROM Message m "
+      + "WHERE m.channel.id = :channelId "
+      + "AND (m.createdAt < :createdAt OR (m.createdAt = :createdAt AND m.id < :id)) "
+      + "ORDER BY m.createdAt DESC, m.id DESC")
+  List<UUID> findIdsBeforeByChannelId(@Param("channelId") UUID channelId,
       @Param("createdAt") Instant createdAt,
-      Pageable pageable);
+      @Param("id") UUID id,
+      Limit limit);
 
+  @Query("SELECT m.id FROM Message m "
+      + "WHERE m.channel.id = :channelId "
+      + "AND (m.createdAt > :createdAt OR (m.createdAt = :createdAt AND m.id > :id)) "
+      + "ORDER BY m.createdAt ASC, m.id ASC")
+  List<UUID> findIdsAfterByChannelId(@Param("channelId") UUID channelId,
+      @Param("createdAt") Instant createdAt,
+      @Param("id") UUID id,
+      Limit limit);
+
+  // 벤치마크 전용: 애플리케이션 코드는 호출하지 않는다. 메시지 목록의 2단계 조회는 MessageQueryRepository.findAllByIdIn 이
+  // 담당하고, 이 조회는 엔티티 하이드레이션 경로와 비교하는 MessageServiceBenchmark(hydrateWithEntities)에서만 쓴다.
+  // 조회된 id 의 메시지, 작성자, 첨부파일을 한 번에 로딩하며 순서는 보장하지 않는다.
+  @Query("SELECT DISTINCT m FROM Message m "
+      + "LEFT JOIN FETCH m.author a "
+      + "LEFT JOIN FETCH a.status "
+      + "LEFT JOIN FETCH a.profile "
+      + "LEFT JOIN FETCH m.attachments "
+      + "WHERE m.id IN :ids")
+  List<Message> findAllByIdInWithAuthorAndAttachments(@Param("ids") Collection<UUID> ids);
 
   @Query("SELECT m.createdAt "
       + "FROM Message m "
@@ -28,5 +55,8 @@ public interface MessageRepository extends JpaRepository<Message, UUID> {
       + "ORDER BY m.createdAt DESC LIMIT 1")
   Optional<Instant> findLastMessageAtByChannelId(@Param("channelId") UUID channelId);
 
+  @Query("SELECT a.id FROM Message m JOIN m.attachments a WHERE m.channel.id = :channelId")
+  List<UUID> findAttachmentIdsByChannelId(@Param("channelId") UUID channelId);
+
   int deleteAllByChannelId(UUID channelId);
 }
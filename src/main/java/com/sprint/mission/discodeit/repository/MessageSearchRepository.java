@@ -0,0 +1,106 @@
+package com.sprint.mission.discodeit.repository;
+
+import com.sprint.mission.discodeit.dto.data.MessageSearchCursor;
+import com.sprint.mission.discodeit.search.MessageSearchHit;
+import com.sprint.mission.discodeit.search.MessageSearchIndex;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Repository;
+import org.springframework.web.util.HtmlUtils;
+
+/**
+ * {@link MessageSearchIndex} 의 PostgreSQL 구현. messages.content_tsv(생성 컬럼) 의 GIN 인덱스로 일치하는 메시지를 찾고, ts_rank 내림차순 (동점이면
+ * 최신순)으로 keyset 페이징한다. PostgreSQL 전용 쿼리이다.
+ * <p>
+ * 검색 범위는 사용자가 볼 수 있는 채널(공개 채널과 읽음 상태가 있는 비공개 채널)로 제한한다. ts_headline 은 본문을 다시 파싱하므로
+ * 순위를 매긴 뒤 페이지에 포함된 행에 대해서만 계산한다.
+ */
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "discodeit.search.type", havingValue = "postgres", matchIfMissing = true)
+public class MessageSearchRepository implements MessageSearchIndex {
+
+  private static final String CHANNEL_CONDITION = "AND m.channel_id = :channelId";
+  private static final String CURSOR_CONDITION = """
+      (rank, created_at, id) < (CAST(:cursorRank AS real), CAST(:cursorCreatedAt AS timestamptz),
+                                CAST(:cursorId AS uuid))
+      """;
+
+  private static final String SEARCH_SQL = """
+      WITH tsq AS (SELECT websearch_to_tsquery('simple', :query) AS q),
+      visible_channels AS (
+          SELECT c.id FROM channels c WHERE c.type = 'PUBLIC'
+          UNION
+          SELECT r.channel_id FROM read_statuses r WHERE r.user_id = :userId
+      ),
+      ranked AS (
+          SELECT m.id, m.created_at, m.content, ts_rank(m.content_tsv, tsq.q) AS rank
+          FROM messages m
+          CROSS JOIN tsq
+          WHERE m.content_tsv @@ tsq.q
+            AND m.channel_id IN (SELECT id FROM visible_channels)
+            %s
+      )
+      SELECT p.id, p.rank, p.created_at,
+             ts_headline('simple', p.content, tsq.q, :headlineOptions) AS highlight
+      FROM (SELECT *
+            FROM ranked
+            WHERE %s
+            ORDER BY rank DESC, created_at DESC, id DESC
+            LIMIT :limit) p
+      CROSS JOIN tsq
+      ORDER BY p.rank DESC, p.created_at DESC, p.id DESC
+      """;
+
+  // 본문을 HTML 이스케이프한 뒤 <mark> 로 바꾸기 위해 본문에 나올 일이 없는 제어 문자로 일치 구간을 표시한다
+  private static final String MARK_START = "\u0002";
+  private static final String MARK_END = "\u0003";
+  private static final String HEADLINE_OPTIONS = "StartSel=" + MARK_START + ", StopSel=" + MARK_END
+      + ", MaxWords=35, MinWords=15, MaxFragments=2";
+
+  private final JdbcClient jdbcClient;
+
+  @Override
+  public List<MessageSearchHit> search(UUID userId, String query, UUID channelId,
+      MessageSearchCursor cursor, int limit) {
+    String sql = SEARCH_SQL.formatted(
+        channelId == null ? "" : CHANNEL_CONDITION,
+        cursor == null ? "TRUE" : CURSOR_CONDITION);
+
+    JdbcClient.StatementSpec statement = jdbcClient.sql(sql)
+        .param("query", query)
+        .param("userId", userId)
+        .param("headlineOptions", HEADLINE_OPTIONS)
+        .param("limit", limit);
+    if (channelId != null) {
+      statement = statement.param("channelId", channelId);
+    }
+    if (cursor != null) {
+      statement = statement
+          .param("cursorRank", cursor.rank())
+          .param("cursorCreatedAt", Timestamp.from(cursor.createdAt()))
+          .param("cursorId", cursor.id());
+    }
+
+    return statement
+        .query((rs, rowNum) -> new MessageSearchHit(
+            rs.getObject("id", UUID.class),
+            rs.getFloat("rank"),
+            rs.getTimestamp("created_at").toInstant(),
+            toHighlight(rs.getString("highlight"))))
+        .list();
+  }
+
+  private static String toHighlight(String headline) {
+    if (headline == null) {
+      return null;
+    }
+    return HtmlUtils.htmlEscape(headline)
+        .replace(MARK_START, "<mark>")
+        .replace(MARK_END, "</mark>");
+  }
+}
@@ -0,0 +1,208 @@
+package com.sprint.mission.discodeit.repository;
+
+import com.sprint.mission.discodeit.dto.data.ReadStatusDto;
+import com.sprint.mission.discodeit.unread.MentionSql;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 읽음 상태의 안 읽은 메시지 카운터(unread_count, has_mention) 조회와 갱신.
+ * <p>
+ * 카운터는 메시지 생성 시 UnreadCounterBuffer 가 증가시키므로 조회는 사용자의 읽음 상태 행만 읽고 메시지를 스캔하지 않는다. 재계산은
+ * last_read_at 이후 다른 사용자가 작성한 메시지 수와 그 중 @username 멘션({@link MentionSql})이 있는 메시지가 있는지를 기준으로
+ * 한다.
+ * <p>
+ * 여러 채널 읽음 처리({@link #upsertLastReadAt})는 PostgreSQL 전용(ON CONFLICT) 쿼리이다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReadStatusQueryRepository {
+
+  private static final String FIND_BY_USER_ID_SQL = """
+      SELECT id, user_id, channel_id, last_read_at, LEAST(unread_count, :cap) AS unread_count,
+             has_mention
+      FROM read_statuses
+      WHERE user_id = :userId
+      """;
+
+  private static final String FIND_BY_ID_SQL = """
+      SELECT id, user_id, channel_id, last_read_at, LEAST(unread_count, :cap) AS unread_count,
+             has_mention
+      FROM read_statuses
+      WHERE id = :readStatusId
+      """;
+
+  private static final String RESET_SQL = """
+      UPDATE read_statuses
+      SET unread_count = 0, has_mention = FALSE
+      WHERE id = :readStatusId
+      """;
+
+  private static final String UNREAD_COUNT_EXPRESSION = """
+      (SELECT COUNT(*)
+       FROM messages m
+       WHERE m.channel_id = r.channel_id
+         AND m.created_at > r.last_read_at
+         AND m.author_id IS DISTINCT FROM r.user_id)
+      """;
+
+  private static final String HAS_MENTION_EXPRESSION = """
+      EXISTS (SELECT 1
+              FROM messages m
+              JOIN users u ON u.id = r.user_id
+              WHERE m.channel_id = r.channel_id
+                AND m.created_at > r.last_read_at
+                AND m.author_id IS DISTINCT FROM r.user_id
+                AND %s)
+      """.formatted(MentionSql.matches("m.content", "u.username"));
+
+  private static final String RECOUNT_SQL =
+      "UPDATE read_statuses r SET unread_count = " + UNREAD_COUNT_EXPRESSION
+          + ", has_mention = " + HAS_MENTION_EXPRESSION
+          + " WHERE r.id = :readStatusId";
+
+  // 값이 다른 행만 고치므로 반환값이 그대로 어긋났던 카운터 수가 된다
+  private static final String REBUILD_SQL =
+      "UPDATE read_statuses r SET unread_count = " + UNREAD_COUNT_EXPRESSION
+          + ", has_mention = " + HAS_MENTION_EXPRESSION
+          + " WHERE r.channel_id = :channelId"
+          + " AND (r.unread_count <> " + UNREAD_COUNT_EXPRESSION
+          + " OR r.has_mention <> " + HAS_MENTION_EXPRESSION + ")";
+
+  // 읽음 위치는 앞으로만 움직인다. 공개 채널은 읽음 상태가 없으면 만들고, 비공개 채널은 이미 참여한 경우에만 갱신한다.
+  // 채널의 마지막 메시지까지 읽었으면 카운터를 0으로, 중간까지만 읽었으면 새 읽음 위치 이후 메시지로 다시 센다.
+  private static final String UPSERT_LAST_READ_AT_SQL = """
+      INSERT INTO read_statuses (id, created_at, updated_at, user_id, channel_id, last_read_at,
+                                 unread_count, has_mention)
+      SELECT CAST(? AS uuid), CAST(? AS timestamptz), CAST(? AS timestamptz), u.id, c.id,
+             p.last_read_at,
+             CASE WHEN c.last_message_at IS NULL OR p.last_read_at >= c.last_message_at THEN 0
+                  ELSE (SELECT COUNT(*)
+                        FROM messages m
+                        WHERE m.channel_id = c.id
+                          AND m.created_at > p.last_read_at
+                          AND m.author_id IS DISTINCT FROM u.id) END,
+             CASE WHEN c.last_message_at IS NULL OR p.last_read_at >= c.last_message_at THEN FALSE
+                  ELSE EXISTS (SELECT 1
+                               FROM messages m
+                               WHERE m.channel_id = c.id
+                                 AND m.created_at > p.last_read_at
+                                 AND m.author_id IS DISTINCT FROM u.id
+                                 AND %s) END
+      FROM (SELECT CAST(? AS uuid) AS user_id, CAST(? AS timestamptz) AS last_read_at) p
+      JOIN users u ON u.id = p.user_id
+      JOIN channels c ON c.id = CAST(? AS uuid)
+      WHERE c.type = 'PUBLIC'
+         OR EXISTS (SELECT 1 FROM read_statuses r WHERE r.channel_id = c.id AND r.user_id = u.id)
+      ON CONFLICT (user_id, channel_id) DO UPDATE
+      SET last_read_at = excluded.last_read_at,
+          updated_at = excluded.updated_at,
+          unread_count = excluded.unread_count,
+          has_mention = excluded.has_mention
+      WHERE read_statuses.last_read_at < excluded.last_read_at
+      """.formatted(MentionSql.matches("m.content", "u.username"));
+
+  private final JdbcClient jdbcClient;
+  private final JdbcTemplate jdbcTemplate;
+
+  public List<ReadStatusDto> findAllWithUnreadByUserId(UUID userId) {
+    return jdbcClient.sql(FIND_BY_USER_ID_SQL)
+        .param("userId", userId)
+        .param("cap", ReadStatusDto.UNREAD_COUNT_CAP)
+        .query((rs, rowNum) -> toDto(rs))
+        .list();
+  }
+
+  /**
+   * 읽음 상태 하나를 카운터와 함께 조회한다. 엔티티에는 카운터가 매핑되어 있지 않으므로 카운터를 고친 뒤 응답은 이 조회로 만든다.
+   */
+  public Optional<ReadStatusDto> findWithUnreadById(UUID readStatusId) {
+    return jdbcClient.sql(FIND_BY_ID_SQL)
+        .param("readStatusId", readStatusId)
+        .param("cap", ReadStatusDto.UNREAD_COUNT_CAP)
+        .query((rs, rowNum) -> toDto(rs))
+        .optional();
+  }
+
+  /**
+   * 사용자의 여러 채널 읽음 위치를 한 번의 배치로 반영하고, 실제로 반영된 채널 ID 를 반환한다. 이미 더 나중까지 읽은 채널, 존재하지
+   * 않거나 참여하지 않은 비공개 채널은 건너뛰며 반환값에도 포함하지 않는다.
+   */
+  public Set<UUID> upsertLastReadAt(UUID userId, Map<UUID, Instant> lastReadAtByChannelId) {
+    if (lastReadAtByChannelId.isEmpty()) {
+      return Set.of();
+    }
+    Timestamp now = Timestamp.from(Instant.now());
+    List<Map.Entry<UUID, Instant>> readPoints = new ArrayList<>(lastReadAtByChannelId.entrySet());
+    int[][] updateCounts = jdbcTemplate.batchUpdate(UPSERT_LAST_READ_AT_SQL, readPoints,
+        readPoints.size(),
+        (ps, readPoint) -> {
+          ps.setObject(1, UUID.randomUUID());
+          ps.setTimestamp(2, now);
+          ps.setTimestamp(3, now);
+          ps.setObject(4, userId);
+          ps.setTimestamp(5, Timestamp.from(readPoint.getValue()));
+          ps.setObject(6, readPoint.getKey());
+        });
+
+    // 건너뛴 행은 0, 드라이버가 건수를 알려주지 않는 경우(SUCCESS_NO_INFO)는 반영된 것으로 본다
+    Set<UUID> writtenChannelIds = new HashSet<>();
+    int index = 0;
+    for (int[] batch : updateCounts) {
+      for (int updateCount : batch) {
+        if (updateCount != 0) {
+          writtenChannelIds.add(readPoints.get(index).getKey());
+        }
+        index++;
+      }
+    }
+    return writtenChannelIds;
+  }
+
+  public void resetUnreadCount(UUID readStatusId) {
+    jdbcClient.sql(RESET_SQL)
+        .param("readStatusId", readStatusId)
+        .update();
+  }
+
+  /**
+   * 읽음 상태 하나의 카운터를 메시지 기준으로 다시 계산한다. 과거 시점부터 읽음 상태를 만들 때 사용한다.
+   */
+  public void recountUnreadCount(UUID readStatusId) {
+    jdbcClient.sql(RECOUNT_SQL)
+        .param("readStatusId", readStatusId)
+        .update();
+  }
+
+  /**
+   * 채널의 모든 읽음 상태 카운터를 메시지 기준으로 검사해 어긋난 행만 고치고, 고친 행 수를 반환한다.
+   */
+  public int rebuildUnreadCounts(UUID channelId) {
+    return jdbcClient.sql(REBUILD_SQL)
+        .param("channelId", channelId)
+        .update();
+  }
+
+  private static ReadStatusDto toDto(ResultSet rs) throws SQLException {
+    return new ReadStatusDto(
+        rs.getObject("id", UUID.class),
+        rs.getObject("user_id", UUID.class),
+        rs.getObject("channel_id", UUID.class),
+        rs.getTimestamp("last_read_at").toInstant(),
+        rs.getInt("unread_count"),
+        rs.getBoolean("has_mention"));
+  }
+}
@@ -1,6 +1,7 @@
 package com.sprint.mission.discodeit.repository;
 
 import com.sprint.mission.discodeit.entity.ReadStatus;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -18,16 +19,17 @@ public interface ReadStatusRepository extends JpaRepository<ReadStatus, UUID> {
       + "WHERE r.channel.id = :channelId")
   List<ReadStatus> findAllByChannelIdWithUser(@Param("channelId") UUID channelId);
 
+  @Query("SELECT r FROM ReadStatus r "
+      + "JOIN FETCH r.user u "
+      + "JOIN FETCH u.status "
+      + "LEFT JOIN FETCH u.profile "
+      + "WHERE r.channel.id IN :channelIds")
+  List<ReadStatus> findAllByChannelIdInWithUser(@Param("channelIds") Collection<UUID> channelIds);
+
+  @Query("SELECT r.user.id FROM ReadStatus r WHERE r.channel.id = :channelId")
+  List<UUID> findUserIdsByChannelId(@Param("channelId") UUID channelId);
+
   Boolean existsByUserIdAndChannelId(UUID userId, UUID channelId);
 
   int deleteAllByChannelId(UUID channelId);
 }
-
-
-
-
-
-
-
-
-
@@ -6,6 +6,7 @@ import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface UserRepository extends JpaRepository<User, UUID> {
 
@@ -15,6 +16,10 @@ public interface UserRepository extends JpaRepository<User, UUID> {
 
   boolean existsByUsername(String username);
 
+  @Query("SELECT u.profile.id FROM User u WHERE u.id = :userId AND u.profile IS NOT NULL")
+  Optional<UUID> findProfileIdById(@Param("userId") UUID userId);
+
+  // online 은 PresenceIndex 에서 읽지만, User.status 는 연관관계의 주인이 아니라 지연 로딩되지 않으므로 N+1 을 막기 위해 함께 가져온다
   @Query("SELECT u FROM User u "
       + "LEFT JOIN FETCH u.profile "
       + "JOIN FETCH u.status")
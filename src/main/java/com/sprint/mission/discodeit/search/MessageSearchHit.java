@@ -0,0 +1,20 @@
+package com.sprint.mission.discodeit.search;
+
+import com.sprint.mission.discodeit.dto.data.MessageSearchCursor;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * 검색 색인이 돌려주는 결과 한 건. highlight 는 HTML 이스케이프된 본문 발췌이며 일치한 단어만 &lt;mark&gt; 로 감싼다.
+ */
+public record MessageSearchHit(
+    UUID messageId,
+    float rank,
+    Instant createdAt,
+    String highlight
+) {
+
+  public MessageSearchCursor toCursor() {
+    return new MessageSearchCursor(rank, createdAt, messageId);
+  }
+}
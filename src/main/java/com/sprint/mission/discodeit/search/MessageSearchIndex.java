@@ -0,0 +1,23 @@
+package com.sprint.mission.discodeit.search;
+
+import com.sprint.mission.discodeit.dto.data.MessageSearchCursor;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 메시지 본문 전문 검색 색인. discodeit.search.type 으로 구현을 고른다.
+ * <ul>
+ *   <li>postgres: messages.content_tsv GIN 인덱스 (MessageSearchRepository)</li>
+ *   <li>lucene: 노드 안의 Lucene 색인 (H2 나 전문 검색이 없는 단일 노드 환경)</li>
+ * </ul>
+ * 결과는 rank, createdAt, id 내림차순이며, 검색 범위는 사용자가 볼 수 있는 채널(공개 채널과 읽음 상태가 있는 비공개 채널)로 제한한다.
+ */
+public interface MessageSearchIndex {
+
+  /**
+   * query 와 일치하는 메시지를 순위순으로 최대 limit 건 조회한다. cursor 가 있으면 그 다음 순위부터, channelId 가 있으면 해당 채널만
+   * 검색한다.
+   */
+  List<MessageSearchHit> search(UUID userId, String query, UUID channelId,
+      MessageSearchCursor cursor, int limit);
+}
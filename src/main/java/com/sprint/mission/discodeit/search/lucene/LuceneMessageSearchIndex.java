@@ -0,0 +1,402 @@
+package com.sprint.mission.discodeit.search.lucene;
+
+import com.sprint.mission.discodeit.dto.data.MessageDto;
+import com.sprint.mission.discodeit.dto.data.MessageSearchCursor;
+import com.sprint.mission.discodeit.event.CacheInvalidationEvent;
+import com.sprint.mission.discodeit.event.MessageEvent;
+import com.sprint.mission.discodeit.event.MessageEventType;
+import com.sprint.mission.discodeit.event.RealtimeEvent;
+import com.sprint.mission.discodeit.event.bus.RealtimeEventListener;
+import com.sprint.mission.discodeit.exception.message.MessageExceptions;
+import com.sprint.mission.discodeit.repository.ChannelRepository;
+import com.sprint.mission.discodeit.repository.MessageQueryRepository;
+import com.sprint.mission.discodeit.search.MessageSearchHit;
+import com.sprint.mission.discodeit.search.MessageSearchIndex;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.CharArraySet;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.SortedDocValuesField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queryparser.simple.SimpleQueryParser;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.FieldDoc;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchNoDocsQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TermInSetQuery;
+import org.apache.lucene.search.TopFieldDocs;
+import org.apache.lucene.search.highlight.Highlighter;
+import org.apache.lucene.search.highlight.InvalidTokenOffsetsException;
+import org.apache.lucene.search.highlight.QueryScorer;
+import org.apache.lucene.search.highlight.SimpleFragmenter;
+import org.apache.lucene.search.highlight.SimpleHTMLFormatter;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.util.BytesRef;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.HtmlUtils;
+
+/**
+ * 노드 안에 두는 Lucene 메시지 색인. H2 처럼 전문 검색 기능이 없는 DB 에서도 같은 검색 API 를 제공한다.
+ * <p>
+ * 메시지 작성/수정/삭제 이벤트를 ChannelEventBus 로 받아 색인을 바로 고치고, 검색 결과에는 refresh-interval 이 지난 뒤부터 반영된다.
+ * 디스크에는 commit-interval 마다 기록하며, 그 사이 비정상 종료로 빠진 문서는 {@link MessageSearchReindexer} 로 다시 만든다.
+ * <p>
+ * 본문은 PostgreSQL 'simple' 설정과 같이 형태소 분석 없이 단어 단위로 자른다. 순위(BM25)는 색인 전체 통계에 따라 바뀌므로 페이지를
+ * 넘기는 사이 색인이 바뀌면 경계 부근 결과가 겹치거나 빠질 수 있다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "discodeit.search.type", havingValue = "lucene")
+public class LuceneMessageSearchIndex implements MessageSearchIndex, RealtimeEventListener {
+
+  static final String ID = "id";
+  static final String CHANNEL_ID = "channelId";
+  static final String CREATED_AT = "createdAt";
+  static final String CONTENT = "content";
+
+  // 순위 내림차순, 같으면 최신순. id 까지 포함해 정렬 값이 문서마다 달라지므로 커서만으로 다음 페이지를 찾을 수 있다
+  private static final Sort SORT = new Sort(
+      SortField.FIELD_SCORE,
+      new SortField(CREATED_AT, SortField.Type.LONG, true),
+      new SortField(ID, SortField.Type.STRING, true));
+
+  private static final int MAX_FRAGMENTS = 2;
+  private static final int FRAGMENT_SIZE = 100;
+  private static final String FRAGMENT_SEPARATOR = " ... ";
+
+  private final ChannelRepository channelRepository;
+  private final MessageQueryRepository messageQueryRepository;
+  private final Analyzer analyzer = new StandardAnalyzer(CharArraySet.EMPTY_SET);
+  private final Directory directory;
+  private final IndexWriter writer;
+  private final SearcherManager searcherManager;
+  // 다시 만드는 동안 받은 변경. 그 전에 읽어 간 배치가 뒤늦게 색인되며 덮어쓰지 않도록 끝날 때 다시 적용한다 (다시 만드는 중이 아니면 null)
+  private volatile RebuildLog rebuildLog;
+
+  public LuceneMessageSearchIndex(
+      ChannelRepository channelRepository,
+      MessageQueryRepository messageQueryRepository,
+      @Value("${discodeit.search.lucene.index-path:}") String indexPath
+  ) throws IOException {
+    this.channelRepository = channelRepository;
+    this.messageQueryRepository = messageQueryRepository;
+    // 경로를 비우면 메모리에만 두고, 시작할 때마다 MessageSearchReindexer 가 다시 만든다
+    this.directory = indexPath.isBlank()
+        ? new ByteBuffersDirectory()
+        : FSDirectory.open(Path.of(indexPath));
+    this.writer = new IndexWriter(directory, new IndexWriterConfig(analyzer)
+        .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+    this.searcherManager = new SearcherManager(writer, null);
+    log.info("Lucene message search index opened: path={}, documents={}",
+        indexPath.isBlank() ? "(memory)" : indexPath, size());
+  }
+
+  @Override
+  public List<MessageSearchHit> search(UUID userId, String query, UUID channelId,
+      MessageSearchCursor cursor, int limit) {
+    Query textQuery = parse(query);
+    Query channelFilter = channelFilter(userId, channelId);
+    if (textQuery == null || channelFilter == null) {
+      return List.of();
+    }
+    Query filtered = new BooleanQuery.Builder()
+        .add(textQuery, BooleanClause.Occur.MUST)
+        .add(channelFilter, BooleanClause.Occur.FILTER)
+        .build();
+
+    try {
+      IndexSearcher searcher = searcherManager.acquire();
+      try {
+        int maxDoc = searcher.getIndexReader().maxDoc();
+        if (maxDoc == 0) {
+          return List.of();
+        }
+        TopFieldDocs topDocs = cursor == null
+            ? searcher.search(filtered, limit, SORT, true)
+            : searcher.searchAfter(toFieldDoc(cursor, maxDoc), filtered, limit, SORT, true);
+
+        Highlighter highlighter = highlighter(textQuery);
+        StoredFields storedFields = searcher.storedFields();
+        List<MessageSearchHit> hits = new ArrayList<>(topDocs.scoreDocs.length);
+        for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
+          FieldDoc fieldDoc = (FieldDoc) scoreDoc;
+          Document document = storedFields.document(fieldDoc.doc);
+          hits.add(new MessageSearchHit(
+              UUID.fromString(document.get(ID)),
+              (Float) fieldDoc.fields[0],
+              fromEpochNanos((Long) fieldDoc.fields[1]),
+              highlight(highlighter, document.get(CONTENT))));
+        }
+        return hits;
+      } finally {
+        searcherManager.release(searcher);
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  @Override
+  public void onEvent(RealtimeEvent event) {
+    try {
+      if (event instanceof MessageEvent messageEvent) {
+        apply(messageEvent);
+      } else if (event instanceof CacheInvalidationEvent invalidation
+          && CacheInvalidationEvent.CHANNELS.equals(invalidation.cacheName())) {
+        // 채널 삭제는 메시지를 한 번에 지우고 메시지별 이벤트를 보내지 않으므로 채널 단위로 지운다
+        for (UUID channelId : invalidation.keys()) {
+          if (!channelRepository.existsById(channelId)) {
+            delete(new Term(CHANNEL_ID, channelId.toString()));
+          }
+        }
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * 다시 만드는 중에는 비어 있거나 일부만 색인된 상태가 보이지 않도록 이전 검색 시점을 유지한다.
+   */
+  @Scheduled(fixedDelayString = "${discodeit.search.lucene.refresh-interval-ms:1000}")
+  public void refresh() {
+    if (rebuildLog != null) {
+      return;
+    }
+    try {
+      searcherManager.maybeRefresh();
+    } catch (IOException e) {
+      log.warn("Lucene message search index refresh failed: error={}", e.getMessage(), e);
+    }
+  }
+
+  /**
+   * 다시 만드는 중에는 commit 하지 않는다. 중간에 종료되어도 디스크에는 이전 색인이 남는다.
+   */
+  @Scheduled(fixedDelayString = "${discodeit.search.lucene.commit-interval-ms:30000}")
+  public void commit() {
+    if (rebuildLog != null) {
+      return;
+    }
+    try {
+      if (writer.hasUncommittedChanges()) {
+        writer.commit();
+      }
+    } catch (IOException e) {
+      log.warn("Lucene message search index commit failed: error={}", e.getMessage(), e);
+    }
+  }
+
+  @PreDestroy
+  public void close() throws IOException {
+    searcherManager.close();
+    // 닫을 때 남은 변경을 commit 한다
+    writer.close();
+    directory.close();
+  }
+
+  int size() {
+    return writer.getDocStats().numDocs;
+  }
+
+  /**
+   * 색인을 비우고, {@link #endRebuild()} 까지 들어오는 작성/수정/삭제를 기록한다.
+   */
+  void beginRebuild() throws IOException {
+    rebuildLog = new RebuildLog(ConcurrentHashMap.newKeySet(), ConcurrentHashMap.newKeySet());
+    writer.deleteAll();
+  }
+
+  /**
+   * 기록을 멈추고, 다시 만드는 동안 작성/수정된 메시지는 DB 에서 다시 읽어 색인한 뒤 삭제를 다시 적용한다. 다시 적용한 변경 수를
+   * 반환한다. 모든 배치를 색인한 뒤에 호출해야 하며, 이미 끝났으면 아무것도 하지 않는다.
+   */
+  int endRebuild() throws IOException {
+    RebuildLog changes = rebuildLog;
+    if (changes == null) {
+      return 0;
+    }
+    rebuildLog = null;
+    if (!changes.updatedIds().isEmpty()) {
+      // 이미 삭제된 메시지는 조회되지 않는다
+      index(messageQueryRepository.findAllByIdIn(List.copyOf(changes.updatedIds())).stream()
+          .map(message -> new IndexedMessage(message.id(), message.channelId(),
+              message.createdAt(), message.content()))
+          .toList());
+    }
+    if (!changes.deletes().isEmpty()) {
+      writer.deleteDocuments(changes.deletes().toArray(Term[]::new));
+    }
+    return changes.updatedIds().size() + changes.deletes().size();
+  }
+
+  /**
+   * 같은 id 의 문서가 있으면 바꾼다. 다시 만드는 중에 들어온 이벤트와 겹쳐도 문서가 두 번 생기지 않는다.
+   */
+  void index(List<IndexedMessage> messages) throws IOException {
+    for (IndexedMessage message : messages) {
+      writer.updateDocument(new Term(ID, message.id().toString()), toDocument(message));
+    }
+  }
+
+  private void apply(MessageEvent event) throws IOException {
+    if (event.type() == MessageEventType.DELETED) {
+      delete(new Term(ID, event.messageId().toString()));
+      return;
+    }
+    // 노드 간 전달 크기 제한으로 본문이 빠진 이벤트는 다시 조회한다
+    MessageDto message = event.message() != null
+        ? event.message()
+        : messageQueryRepository.findAllByIdIn(List.of(event.messageId())).stream()
+            .findFirst()
+            .orElse(null);
+    if (message != null) {
+      RebuildLog changes = rebuildLog;
+      if (changes != null) {
+        changes.updatedIds().add(message.id());
+      }
+      index(List.of(new IndexedMessage(message.id(), message.channelId(), message.createdAt(),
+          message.content())));
+    }
+  }
+
+  private void delete(Term term) throws IOException {
+    RebuildLog changes = rebuildLog;
+    if (changes != null) {
+      changes.deletes().add(term);
+    }
+    writer.deleteDocuments(term);
+  }
+
+  private Query parse(String query) {
+    // PostgreSQL websearch_to_tsquery 와 같이 단어는 모두 포함(AND), "구문", -제외, | (또는) 를 지원한다
+    SimpleQueryParser parser = new SimpleQueryParser(analyzer, CONTENT);
+    parser.setDefaultOperator(BooleanClause.Occur.MUST);
+    Query parsed = parser.parse(query);
+    return parsed == null || parsed instanceof MatchNoDocsQuery ? null : parsed;
+  }
+
+  private Query channelFilter(UUID userId, UUID channelId) {
+    List<UUID> visibleChannelIds = channelRepository.findVisibleIdsByUserId(userId);
+    List<UUID> channelIds = channelId == null
+        ? visibleChannelIds
+        : visibleChannelIds.stream().filter(channelId::equals).toList();
+    if (channelIds.isEmpty()) {
+      return null;
+    }
+    return new TermInSetQuery(CHANNEL_ID, channelIds.stream()
+        .map(id -> new BytesRef(id.toString()))
+        .toList());
+  }
+
+  private Highlighter highlighter(Query textQuery) {
+    Highlighter highlighter = new Highlighter(
+        new SimpleHTMLFormatter("<mark>", "</mark>"),
+        HtmlUtils::htmlEscape,
+        new QueryScorer(textQuery, CONTENT));
+    highlighter.setTextFragmenter(new SimpleFragmenter(FRAGMENT_SIZE));
+    return highlighter;
+  }
+
+  private String highlight(Highlighter highlighter, String content) throws IOException {
+    if (content == null) {
+      return null;
+    }
+    try {
+      String[] fragments = highlighter.getBestFragments(analyzer, CONTENT, content,
+          MAX_FRAGMENTS);
+      if (fragments.length > 0) {
+        return String.join(FRAGMENT_SEPARATOR, fragments);
+      }
+    } catch (InvalidTokenOffsetsException e) {
+      log.debug("Message highlight failed: error={}", e.getMessage());
+    }
+    return HtmlUtils.htmlEscape(content.substring(0, Math.min(content.length(), FRAGMENT_SIZE)));
+  }
+
+  /**
+   * 커서 문서 자신은 정렬 값이 모두 같고 doc 이 maxDoc - 1 이하이므로 다음 페이지에서 제외된다. epoch nanos 로 표현할 수 없는 시각의
+   * 커서는 잘못된 커서로 응답한다.
+   */
+  private static FieldDoc toFieldDoc(MessageSearchCursor cursor, int maxDoc) {
+    long createdAt;
+    try {
+      createdAt = toEpochNanos(cursor.createdAt());
+    } catch (ArithmeticException e) {
+      throw MessageExceptions.invalidCursor(cursor.encode());
+    }
+    return new FieldDoc(maxDoc - 1, cursor.rank(), new Object[]{
+        cursor.rank(),
+        createdAt,
+        new BytesRef(cursor.id().toString())
+    });
+  }
+
+  private static Document toDocument(IndexedMessage message) {
+    String id = message.id().toString();
+    Document document = new Document();
+    document.add(new StringField(ID, id, Field.Store.YES));
+    document.add(new SortedDocValuesField(ID, new BytesRef(id)));
+    document.add(new StringField(CHANNEL_ID, message.channelId().toString(), Field.Store.NO));
+    document.add(new NumericDocValuesField(CREATED_AT, toEpochNanos(message.createdAt())));
+    if (message.content() != null) {
+      document.add(new TextField(CONTENT, message.content(), Field.Store.YES));
+    }
+    return document;
+  }
+
+  private static long toEpochNanos(Instant instant) {
+    return Math.addExact(Math.multiplyExact(instant.getEpochSecond(), 1_000_000_000L),
+        instant.getNano());
+  }
+
+  private static Instant fromEpochNanos(long epochNanos) {
+    return Instant.ofEpochSecond(Math.floorDiv(epochNanos, 1_000_000_000L),
+        Math.floorMod(epochNanos, 1_000_000_000L));
+  }
+
+  private record RebuildLog(
+      Set<UUID> updatedIds,
+      Set<Term> deletes
+  ) {
+
+  }
+
+  record IndexedMessage(
+      UUID id,
+      UUID channelId,
+      Instant createdAt,
+      String content
+  ) {
+
+  }
+}
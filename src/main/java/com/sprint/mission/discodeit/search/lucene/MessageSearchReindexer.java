@@ -0,0 +1,151 @@
+package com.sprint.mission.discodeit.search.lucene;
+
+import com.sprint.mission.discodeit.search.lucene.LuceneMessageSearchIndex.IndexedMessage;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * messages 테이블 전체로 Lucene 색인을 다시 만든다. 한 스레드가 id 순 keyset 으로 batch-size 만큼씩 읽어 넘기면 작업 스레드들이 문서를
+ * 만들어 색인한다. 작업 큐가 가득 차면 읽는 스레드가 직접 색인해 읽기가 색인보다 앞서 나가지 않게 한다. 그 사이 수정/삭제된 메시지는
+ * 이미 읽어 간 배치가 덮어쓸 수 있으므로, 모든 배치를 색인한 뒤 commit 전에 그동안의 변경을 다시 적용한다. 다시 만드는 동안 검색은
+ * 이전 색인 시점을 그대로 본다.
+ * <p>
+ * 색인이 비어 있거나(처음 실행, 메모리 색인) rebuild-on-startup 이 켜져 있으면 시작할 때 실행한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "discodeit.search.type", havingValue = "lucene")
+public class MessageSearchReindexer {
+
+  private static final String FIRST_BATCH_SQL = """
+      SELECT id, channel_id, created_at, content
+      FROM messages
+      ORDER BY id
+      LIMIT :batchSize
+      """;
+
+  private static final String NEXT_BATCH_SQL = """
+      SELECT id, channel_id, created_at, content
+      FROM messages
+      WHERE id > :lastId
+      ORDER BY id
+      LIMIT :batchSize
+      """;
+
+  private final LuceneMessageSearchIndex index;
+  private final JdbcClient jdbcClient;
+  private final int threads;
+  private final int batchSize;
+  private final boolean rebuildOnStartup;
+
+  public MessageSearchReindexer(
+      LuceneMessageSearchIndex index,
+      JdbcClient jdbcClient,
+      @Value("${discodeit.search.lucene.reindex.threads:4}") int threads,
+      @Value("${discodeit.search.lucene.reindex.batch-size:1000}") int batchSize,
+      @Value("${discodeit.search.lucene.rebuild-on-startup:false}") boolean rebuildOnStartup
+  ) {
+    this.index = index;
+    this.jdbcClient = jdbcClient;
+    this.threads = threads;
+    this.batchSize = batchSize;
+    this.rebuildOnStartup = rebuildOnStartup;
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void reindexOnStartup() {
+    if (rebuildOnStartup || index.size() == 0) {
+      reindex();
+    }
+  }
+
+  /**
+   * 색인을 비우고 모든 메시지를 다시 색인한 뒤, 색인한 메시지 수를 반환한다.
+   */
+  public int reindex() {
+    long started = System.nanoTime();
+    ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 0L,
+        TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(threads),
+        new CustomizableThreadFactory("search-reindex-"),
+        new ThreadPoolExecutor.CallerRunsPolicy());
+    List<Future<?>> futures = new ArrayList<>();
+    int count = 0;
+    int replayed = 0;
+    try {
+      index.beginRebuild();
+      List<IndexedMessage> batch = readBatch(null);
+      while (!batch.isEmpty()) {
+        List<IndexedMessage> messages = batch;
+        futures.add(executor.submit(() -> {
+          index.index(messages);
+          return null;
+        }));
+        count += batch.size();
+        batch = batch.size() < batchSize
+            ? List.of()
+            : readBatch(batch.get(batch.size() - 1).id());
+      }
+      for (Future<?> future : futures) {
+        future.get();
+      }
+      replayed = index.endRebuild();
+      index.commit();
+      index.refresh();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    } catch (ExecutionException e) {
+      throw new IllegalStateException("Message search reindex failed", e.getCause());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Message search reindex interrupted", e);
+    } finally {
+      executor.shutdownNow();
+      endRebuildQuietly();
+    }
+
+    log.info(
+        "Message search index rebuilt: messages={}, replayed={}, threads={}, elapsed={}ms",
+        count, replayed, threads,
+        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+    return count;
+  }
+
+  // 실패했을 때 삭제 기록이 계속 쌓이지 않도록 멈춘다 (성공했으면 이미 멈춰 있다)
+  private void endRebuildQuietly() {
+    try {
+      index.endRebuild();
+    } catch (IOException e) {
+      log.warn("Message search reindex cleanup failed: error={}", e.getMessage(), e);
+    }
+  }
+
+  private List<IndexedMessage> readBatch(UUID lastId) {
+    JdbcClient.StatementSpec statement = lastId == null
+        ? jdbcClient.sql(FIRST_BATCH_SQL)
+        : jdbcClient.sql(NEXT_BATCH_SQL).param("lastId", lastId);
+    return statement
+        .param("batchSize", batchSize)
+        .query((rs, rowNum) -> new IndexedMessage(
+            rs.getObject("id", UUID.class),
+            rs.getObject("channel_id", UUID.class),
+            rs.getTimestamp("created_at").toInstant(),
+            rs.getString("content")))
+        .list();
+  }
+}
@@ -1,6 +1,7 @@
 package com.sprint.mission.discodeit.service;
 
 import com.sprint.mission.discodeit.dto.data.ChannelDto;
+import com.sprint.mission.discodeit.dto.data.ChannelPresenceDto;
 import com.sprint.mission.discodeit.dto.request.PrivateChannelCreateRequest;
 import com.sprint.mission.discodeit.dto.request.PublicChannelCreateRequest;
 import com.sprint.mission.discodeit.dto.request.PublicChannelUpdateRequest;
@@ -17,6 +18,8 @@ public interface ChannelService {
 
   List<ChannelDto> findAllByUserId(UUID userId);
 
+  ChannelPresenceDto findPresence(UUID channelId);
+
   ChannelDto update(UUID channelId, PublicChannelUpdateRequest request);
 
   void delete(UUID channelId);
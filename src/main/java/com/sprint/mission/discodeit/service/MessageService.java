@@ -1,14 +1,14 @@
 package com.sprint.mission.discodeit.service;
 
 import com.sprint.mission.discodeit.dto.data.MessageDto;
+import com.sprint.mission.discodeit.dto.data.MessagePageDirection;
+import com.sprint.mission.discodeit.dto.data.MessageSearchHitDto;
 import com.sprint.mission.discodeit.dto.request.BinaryContentCreateRequest;
 import com.sprint.mission.discodeit.dto.request.MessageCreateRequest;
 import com.sprint.mission.discodeit.dto.request.MessageUpdateRequest;
 import com.sprint.mission.discodeit.dto.response.PageResponse;
-import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
-import org.springframework.data.domain.Pageable;
 
 public interface MessageService {
 
@@ -17,7 +17,11 @@ public interface MessageService {
 
   MessageDto find(UUID messageId);
 
-  PageResponse<MessageDto> findAllByChannelId(UUID channelId, Instant createdAt, Pageable pageable);
+  PageResponse<MessageDto> findAllByChannelId(UUID channelId, String cursor,
+      MessagePageDirection direction, int size);
+
+  PageResponse<MessageSearchHitDto> search(UUID userId, String query, UUID channelId,
+      String cursor, int size);
 
   MessageDto update(UUID messageId, MessageUpdateRequest request);
 
@@ -1,6 +1,7 @@
 package com.sprint.mission.discodeit.service;
 
 import com.sprint.mission.discodeit.dto.data.ReadStatusDto;
+import com.sprint.mission.discodeit.dto.request.ReadStatusBulkUpdateRequest;
 import com.sprint.mission.discodeit.dto.request.ReadStatusCreateRequest;
 import com.sprint.mission.discodeit.dto.request.ReadStatusUpdateRequest;
 import java.util.List;
@@ -16,5 +17,9 @@ public interface ReadStatusService {
 
   ReadStatusDto update(UUID readStatusId, ReadStatusUpdateRequest request);
 
+  List<ReadStatusDto> updateAll(ReadStatusBulkUpdateRequest request);
+
+  List<ReadStatusDto> updateAllToNow(UUID userId);
+
   void delete(UUID readStatusId);
 }
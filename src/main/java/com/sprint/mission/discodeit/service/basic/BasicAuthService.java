@@ -7,6 +7,7 @@ import com.sprint.mission.discodeit.exception.user.UserExceptions;
 import com.sprint.mission.discodeit.mapper.UserMapper;
 import com.sprint.mission.discodeit.repository.UserRepository;
 import com.sprint.mission.discodeit.service.AuthService;
+import com.sprint.mission.discodeit.storage.BinaryContentUrlResolver;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -19,6 +20,7 @@ public class BasicAuthService implements AuthService {
 
   private final UserRepository userRepository;
   private final UserMapper userMapper;
+  private final BinaryContentUrlResolver binaryContentUrlResolver;
 
   @Transactional(readOnly = true)
   @Override
@@ -41,7 +43,7 @@ public class BasicAuthService implements AuthService {
       }
 
       log.info("Login successful: userId={}, username={}", user.getId(), username);
-      return userMapper.toDto(user);
+      return binaryContentUrlResolver.withUrl(userMapper.toDto(user));
     } catch (Exception e) {
       log.error("Error occurred during login process: username={}, error={}", username,
           e.getMessage(), e);
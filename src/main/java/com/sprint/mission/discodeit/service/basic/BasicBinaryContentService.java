@@ -1,5 +1,6 @@
 package com.sprint.mission.discodeit.service.basic;
 
+import com.sprint.mission.discodeit.cache.BinaryContentDtoCache;
 import com.sprint.mission.discodeit.dto.data.BinaryContentDto;
 import com.sprint.mission.discodeit.dto.request.BinaryContentCreateRequest;
 import com.sprint.mission.discodeit.entity.BinaryContent;
@@ -8,8 +9,14 @@ import com.sprint.mission.discodeit.mapper.BinaryContentMapper;
 import com.sprint.mission.discodeit.repository.BinaryContentRepository;
 import com.sprint.mission.discodeit.service.BinaryContentService;
 import com.sprint.mission.discodeit.storage.BinaryContentStorage;
+import com.sprint.mission.discodeit.storage.BinaryContentUrlResolver;
+import com.sprint.mission.discodeit.storage.outbox.BlobEventOutbox;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -23,28 +30,31 @@ public class BasicBinaryContentService implements BinaryContentService {
   private final BinaryContentRepository binaryContentRepository;
   private final BinaryContentMapper binaryContentMapper;
   private final BinaryContentStorage binaryContentStorage;
+  private final BinaryContentUrlResolver binaryContentUrlResolver;
+  private final BlobEventOutbox blobEventOutbox;
+  private final BinaryContentDtoCache binaryContentDtoCache;
 
   @Transactional
   @Override
   public BinaryContentDto create(BinaryContentCreateRequest request) {
     String fileName = request.fileName();
-    byte[] bytes = request.bytes();
+    long size = request.size();
     String contentType = request.contentType();
 
     log.info("Processing binary content creation: filename={}, contentType={}", fileName,
         contentType);
-    log.debug("Binary content size: {} bytes", bytes.length);
+    log.debug("Binary content size: {} bytes", size);
 
     BinaryContent binaryContent = new BinaryContent(
         fileName,
-        (long) bytes.length,
+        size,
         contentType
     );
     binaryContentRepository.save(binaryContent);
     log.debug("Binary content metadata saved: binaryContentId={}", binaryContent.getId())
     ;
     try {
-      binaryContentStorage.put(binaryContent.getId(), bytes);
+      binaryContentStorage.put(binaryContent.getId(), request.content(), size);
     } catch (Exception e) {
       log.error("Error occurred while saving to storage: filename={}, error={}", fileName,
           e.getMessage(), e);
@@ -60,23 +70,29 @@ public class BasicBinaryContentService implements BinaryContentService {
   public BinaryContentDto find(UUID binaryContentId) {
     log.debug("Finding binary content: binaryContentId={}", binaryContentId);
 
-    return binaryContentRepository.findById(binaryContentId)
-        .map(content -> {
-          log.debug("Binary content found: binaryContentId={}, filename={}, type={}, size={}",
-              binaryContentId, content.getFileName(), content.getContentType(), content.getSize());
-          return binaryContentMapper.toDto(content);
-        })
-        .orElseThrow(() -> {
-          log.warn("Binary content not found: binaryContentId={}", binaryContentId);
-          return BinaryContentExceptions.notFound(binaryContentId);
-        });
+    BinaryContentDto binaryContentDto = binaryContentDtoCache.get(binaryContentId,
+        id -> binaryContentRepository.findById(id)
+            .map(content -> {
+              log.debug("Binary content found: binaryContentId={}, filename={}, type={}, size={}",
+                  id, content.getFileName(), content.getContentType(), content.getSize());
+              return binaryContentMapper.toDto(content);
+            })
+            .orElse(null));
+    if (binaryContentDto == null) {
+      log.warn("Binary content not found: binaryContentId={}", binaryContentId);
+      throw BinaryContentExceptions.notFound(binaryContentId);
+    }
+    return binaryContentUrlResolver.withUrl(binaryContentDto);
   }
 
   @Override
   public List<BinaryContentDto> findAllByIdIn(List<UUID> binaryContentIds) {
     log.debug("Finding all binary contents in list: count={}", binaryContentIds.size());
 
-    List<BinaryContent> contents = binaryContentRepository.findAllById(binaryContentIds);
+    Map<UUID, BinaryContentDto> contents = binaryContentDtoCache.getAll(binaryContentIds,
+        ids -> binaryContentRepository.findAllById(ids).stream()
+            .map(binaryContentMapper::toDto)
+            .collect(Collectors.toMap(BinaryContentDto::id, Function.identity())));
 
     if (contents.size() < binaryContentIds.size()) {
       log.warn("Some binary contents are not found: requested={}, found={}",
@@ -84,8 +100,10 @@ public class BasicBinaryContentService implements BinaryContentService {
     }
 
     log.debug("Found multiple contents in list: count={}", contents.size());
-    return contents.stream()
-        .map(binaryContentMapper::toDto)
+    return binaryContentIds.stream()
+        .map(contents::get)
+        .filter(Objects::nonNull)
+        .map(binaryContentUrlResolver::withUrl)
         .toList();
   }
 
@@ -100,6 +118,7 @@ public class BasicBinaryContentService implements BinaryContentService {
       throw BinaryContentExceptions.notFound(binaryContentId);
     }
     binaryContentRepository.deleteById(binaryContentId);
+    blobEventOutbox.recordDelete(binaryContentId);
     log.info("Binary content deleted successfully: binaryContentId={} ", binaryContentId);
   }
 }
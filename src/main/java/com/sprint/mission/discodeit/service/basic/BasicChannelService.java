@@ -1,23 +1,29 @@
 package com.sprint.mission.discodeit.service.basic;
 
 import com.sprint.mission.discodeit.dto.data.ChannelDto;
+import com.sprint.mission.discodeit.dto.data.ChannelPresenceDto;
 import com.sprint.mission.discodeit.dto.request.PrivateChannelCreateRequest;
 import com.sprint.mission.discodeit.dto.request.PublicChannelCreateRequest;
 import com.sprint.mission.discodeit.dto.request.PublicChannelUpdateRequest;
 import com.sprint.mission.discodeit.entity.Channel;
 import com.sprint.mission.discodeit.entity.ChannelType;
 import com.sprint.mission.discodeit.entity.ReadStatus;
+import com.sprint.mission.discodeit.event.CacheInvalidationEvent;
 import com.sprint.mission.discodeit.exception.channel.ChannelExceptions;
 import com.sprint.mission.discodeit.mapper.ChannelMapper;
+import com.sprint.mission.discodeit.presence.PresenceIndex;
 import com.sprint.mission.discodeit.repository.ChannelRepository;
 import com.sprint.mission.discodeit.repository.MessageRepository;
 import com.sprint.mission.discodeit.repository.ReadStatusRepository;
 import com.sprint.mission.discodeit.repository.UserRepository;
 import com.sprint.mission.discodeit.service.ChannelService;
+import com.sprint.mission.discodeit.storage.BinaryContentUrlResolver;
+import com.sprint.mission.discodeit.storage.outbox.BlobEventOutbox;
 import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -32,6 +38,10 @@ public class BasicChannelService implements ChannelService {
   private final MessageRepository messageRepository;
   private final UserRepository userRepository;
   private final ChannelMapper channelMapper;
+  private final BinaryContentUrlResolver binaryContentUrlResolver;
+  private final BlobEventOutbox blobEventOutbox;
+  private final PresenceIndex presenceIndex;
+  private final ApplicationEventPublisher eventPublisher;
 
   @Transactional
   @Override
@@ -73,7 +83,7 @@ public class BasicChannelService implements ChannelService {
     log.info("Private channel created successfully: channelId={}, number of participants={}",
         channel.getId(), readStatuses.size());
 
-    return channelMapper.toDto(channel);
+    return binaryContentUrlResolver.withUrl(channelMapper.toDto(channel));
   }
 
   @Transactional(readOnly = true)
@@ -85,7 +95,7 @@ public class BasicChannelService implements ChannelService {
         .map(channel -> {
           log.debug("Channel found: channelId={}, type={}, name={}",
               channelId, channel.getType(), channel.getName());
-          return channelMapper.toDto(channel);
+          return binaryContentUrlResolver.withUrl(channelMapper.toDto(channel));
         })
         .orElseThrow(
             () -> {
@@ -108,12 +118,29 @@ public class BasicChannelService implements ChannelService {
     List<Channel> channels = channelRepository.findAllByTypeOrIdIn(ChannelType.PUBLIC,
         mySubscribedChannelIds);
 
-    log.debug("Number of found total channels(private, public channels): {}", channels);
-    return channels.stream()
-        .map(channelMapper::toDto)
+    log.debug("Number of found total channels(private, public channels): {}", channels.size());
+    return channelMapper.toDtos(channels).stream()
+        .map(binaryContentUrlResolver::withUrl)
         .toList();
   }
 
+  @Transactional(readOnly = true)
+  @Override
+  public ChannelPresenceDto findPresence(UUID channelId) {
+    log.debug("Finding channel presence: channelId={}", channelId);
+
+    if (!channelRepository.existsById(channelId)) {
+      log.warn("Channel not found: channelId={}", channelId);
+      throw ChannelExceptions.notFound(channelId);
+    }
+
+    List<UUID> onlineUserIds = presenceIndex.filterOnline(
+        readStatusRepository.findUserIdsByChannelId(channelId));
+
+    log.debug("Channel presence found: channelId={}, online={}", channelId, onlineUserIds.size());
+    return new ChannelPresenceDto(channelId, onlineUserIds.size(), onlineUserIds);
+  }
+
   @Transactional
   @Override
   public ChannelDto update(UUID channelId, PublicChannelUpdateRequest request) {
@@ -136,6 +163,7 @@ public class BasicChannelService implements ChannelService {
       }
 
       channel.update(newName, newDescription);
+      eventPublisher.publishEvent(CacheInvalidationEvent.channels(channelId));
       log.info("Channel updated successfully: channelId={}", channelId);
       return channelMapper.toDto(channel);
     } catch (Exception e) {
@@ -157,13 +185,17 @@ public class BasicChannelService implements ChannelService {
     }
 
     try {
+      // 메시지 삭제 시 첨부파일 메타데이터도 cascade 로 삭제되므로 저장소 파일 삭제를 함께 기록한다
+      List<UUID> attachmentIds = messageRepository.findAttachmentIdsByChannelId(channelId);
       int messageCount = messageRepository.deleteAllByChannelId(channelId);
+      blobEventOutbox.recordDeleteAll(attachmentIds);
       log.debug("Channel messages deleted: {}, channelId={}", messageCount, channelId);
 
       int readStatusCount = readStatusRepository.deleteAllByChannelId(channelId);
       log.debug("ReadStatus deleted: {}, channelId={}", readStatusCount, channelId);
 
       channelRepository.deleteById(channelId);
+      eventPublisher.publishEvent(CacheInvalidationEvent.channels(channelId));
 
       log.info("Channel deleted successfully: channelId={}", channelId);
     } catch (Exception e) {
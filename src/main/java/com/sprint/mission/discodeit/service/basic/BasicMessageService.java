@@ -1,6 +1,10 @@
 package com.sprint.mission.discodeit.service.basic;
 
+import com.sprint.mission.discodeit.dto.data.MessageCursor;
 import com.sprint.mission.discodeit.dto.data.MessageDto;
+import com.sprint.mission.discodeit.dto.data.MessagePageDirection;
+import com.sprint.mission.discodeit.dto.data.MessageSearchCursor;
+import com.sprint.mission.discodeit.dto.data.MessageSearchHitDto;
 import com.sprint.mission.discodeit.dto.request.BinaryContentCreateRequest;
 import com.sprint.mission.discodeit.dto.request.MessageCreateRequest;
 import com.sprint.mission.discodeit.dto.request.MessageUpdateRequest;
@@ -9,6 +13,7 @@ import com.sprint.mission.discodeit.entity.BinaryContent;
 import com.sprint.mission.discodeit.entity.Channel;
 import com.sprint.mission.discodeit.entity.Message;
 import com.sprint.mission.discodeit.entity.User;
+import com.sprint.mission.discodeit.event.MessageEvent;
 import com.sprint.mission.discodeit.exception.channel.ChannelExceptions;
 import com.sprint.mission.discodeit.exception.message.MessageExceptions;
 import com.sprint.mission.discodeit.exception.user.UserExceptions;
@@ -16,20 +21,32 @@ import com.sprint.mission.discodeit.mapper.MessageMapper;
 import com.sprint.mission.discodeit.mapper.PageResponseMapper;
 import com.sprint.mission.discodeit.repository.BinaryContentRepository;
 import com.sprint.mission.discodeit.repository.ChannelRepository;
+import com.sprint.mission.discodeit.repository.MessageQueryRepository;
 import com.sprint.mission.discodeit.repository.MessageRepository;
 import com.sprint.mission.discodeit.repository.UserRepository;
+import com.sprint.mission.discodeit.search.MessageSearchHit;
+import com.sprint.mission.discodeit.search.MessageSearchIndex;
 import com.sprint.mission.discodeit.service.MessageService;
-import com.sprint.mission.discodeit.storage.BinaryContentStorage;
-import java.time.Instant;
+import com.sprint.mission.discodeit.storage.BinaryContentUploader;
+import com.sprint.mission.discodeit.storage.BinaryContentUrlResolver;
+import com.sprint.mission.discodeit.storage.outbox.BlobEventOutbox;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Pageable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -37,15 +54,24 @@ import org.springframework.transaction.annotation.Transactional;
 public class BasicMessageService implements MessageService {
 
   private final MessageRepository messageRepository;
+  private final MessageQueryRepository messageQueryRepository;
+  private final MessageSearchIndex messageSearchIndex;
   //
   private final ChannelRepository channelRepository;
   private final UserRepository userRepository;
   private final MessageMapper messageMapper;
-  private final BinaryContentStorage binaryContentStorage;
+  private final BinaryContentUploader binaryContentUploader;
+  private final BinaryContentUrlResolver binaryContentUrlResolver;
+  private final BlobEventOutbox blobEventOutbox;
+  private final ApplicationEventPublisher eventPublisher;
   private final BinaryContentRepository binaryContentRepository;
   private final PageResponseMapper pageResponseMapper;
+  private final TransactionTemplate transactionTemplate;
+
+  private static final int MAX_PAGE_SIZE = 200;
+  private static final int MAX_SEARCH_PAGE_SIZE = 50;
+  private static final int MAX_SEARCH_QUERY_LENGTH = 200;
 
-  @Transactional
   @Override
   public MessageDto create(MessageCreateRequest messageCreateRequest,
       List<BinaryContentCreateRequest> binaryContentCreateRequests) {
@@ -55,58 +81,74 @@ public class BasicMessageService implements MessageService {
     log.info("Processing message creation: channelId={}, authorId={}, number of attachments={}",
         channelId, authorId, binaryContentCreateRequests.size());
 
+    // 파일은 트랜잭션을 열기 전에 병렬로 올려, DB 커넥션은 메타데이터와 메시지를 저장하는 동안만 점유한다
+    List<UUID> attachmentIds = binaryContentUploader.uploadAll(binaryContentCreateRequests);
+    MessageDto messageDto;
     try {
-      Channel channel = channelRepository.findById(channelId)
-          .orElseThrow(
-              () -> {
-                log.warn("Message creation failed: channel not found - channelId={}", channelId);
-                return ChannelExceptions.notFound(channelId);
-              });
-
-      User author = userRepository.findById(authorId)
-          .orElseThrow(
-              () -> {
-                log.warn("Message creation failed: user not found - userId={}", authorId);
-                return UserExceptions.notFound(authorId);
-              });
-
-      List<BinaryContent> attachments = binaryContentCreateRequests.stream()
-          .map(attachmentRequest -> {
-            String fileName = attachmentRequest.fileName();
-            String contentType = attachmentRequest.contentType();
-            byte[] bytes = attachmentRequest.bytes();
-
-            log.debug("Processing message attachment: filename={}, size={}, contentType={}",
-                fileName, bytes.length, contentType);
-
-            BinaryContent binaryContent = new BinaryContent(fileName, (long) bytes.length,
-                contentType);
-            binaryContentRepository.save(binaryContent);
-            binaryContentStorage.put(binaryContent.getId(), bytes);
-            return binaryContent;
-          })
-          .toList();
-
-      String content = messageCreateRequest.content();
-      log.debug("Message content length: {}", content.length());
-
-      Message message = new Message(
-          content,
-          channel,
-          author,
-          attachments
-      );
-
-      messageRepository.save(message);
-
-      log.info("Message created successfully: messageId={}, channelId={}", message.getId(),
-          channelId);
-      return messageMapper.toDto(message);
-    } catch (Exception e) {
+      messageDto = transactionTemplate.execute(status ->
+          saveMessage(messageCreateRequest, attachmentIds, binaryContentCreateRequests));
+    } catch (RuntimeException e) {
+      // 저장에 실패하면 올려 둔 파일을 지운다. 그 사이 프로세스가 죽어 남은 파일은 고아 파일 정리 작업이 지운다
+      binaryContentUploader.deleteAll(attachmentIds);
       log.error("Error occurred during message creation:channelId={}, authorId={}, error={}",
           channelId, authorId, e.getMessage(), e);
       throw e;
     }
+    // commit 된 뒤이므로 여기서 실패해도 파일을 지우지 않는다
+    return binaryContentUrlResolver.withUrl(messageDto);
+  }
+
+  private MessageDto saveMessage(MessageCreateRequest messageCreateRequest,
+      List<UUID> attachmentIds, List<BinaryContentCreateRequest> binaryContentCreateRequests) {
+    UUID channelId = messageCreateRequest.channelId();
+    UUID authorId = messageCreateRequest.authorId();
+
+    Channel channel = channelRepository.findById(channelId)
+        .orElseThrow(
+            () -> {
+              log.warn("Message creation failed: channel not found - channelId={}", channelId);
+              return ChannelExceptions.notFound(channelId);
+            });
+
+    User author = userRepository.findById(authorId)
+        .orElseThrow(
+            () -> {
+              log.warn("Message creation failed: user not found - userId={}", authorId);
+              return UserExceptions.notFound(authorId);
+            });
+
+    List<BinaryContent> attachments = List.of();
+    if (!attachmentIds.isEmpty()) {
+      binaryContentCreateRequests.forEach(attachmentRequest -> log.debug(
+          "Processing message attachment: filename={}, size={}, contentType={}",
+          attachmentRequest.fileName(), attachmentRequest.size(),
+          attachmentRequest.contentType()));
+      // 업로드할 때 발급한 id 를 그대로 저장하고, 요청 순서대로 다시 읽어 메시지에 연결한다
+      binaryContentRepository.insertAll(attachmentIds, binaryContentCreateRequests);
+      Map<UUID, BinaryContent> attachmentsById = binaryContentRepository
+          .findAllById(attachmentIds).stream()
+          .collect(Collectors.toMap(BinaryContent::getId, Function.identity()));
+      attachments = attachmentIds.stream().map(attachmentsById::get).toList();
+    }
+
+    String content = messageCreateRequest.content();
+    log.debug("Message content length: {}", content.length());
+
+    Message message = new Message(
+        content,
+        channel,
+        author,
+        attachments
+    );
+
+    messageRepository.save(message);
+    channelRepository.advanceLastMessageAt(channelId, message.getCreatedAt());
+
+    log.info("Message created successfully: messageId={}, channelId={}", message.getId(),
+        channelId);
+    MessageDto messageDto = messageMapper.toDto(message);
+    eventPublisher.publishEvent(MessageEvent.created(messageDto));
+    return messageDto;
   }
 
   @Transactional(readOnly = true)
@@ -117,7 +159,7 @@ public class BasicMessageService implements MessageService {
         .map(message -> {
           log.debug("Message found: messageId={}, channelId={}, authorId={}", messageId,
               message.getChannel().getId(), message.getAuthor().getId());
-          return messageMapper.toDto(message);
+          return binaryContentUrlResolver.withUrl(messageMapper.toDto(message));
         })
         .orElseThrow(
             () -> {
@@ -129,27 +171,87 @@ public class BasicMessageService implements MessageService {
 
   @Transactional(readOnly = true)
   @Override
-  public PageResponse<MessageDto> findAllByChannelId(UUID channelId, Instant createAt,
-      Pageable pageable) {
-
-    log.debug("Finding all messages: channelId={}, cursor={}, pageSize={}",
-        channelId, createAt, pageable.getPageSize());
-
-    Instant effectiveCreatedAt = Optional.ofNullable(createAt).orElse(Instant.now());
-    Slice<MessageDto> slice = messageRepository.findAllByChannelIdWithAuthor(channelId,
-            effectiveCreatedAt,
-            pageable)
-        .map(messageMapper::toDto);
-
-    Instant nextCursor = null;
-    if (!slice.getContent().isEmpty()) {
-      nextCursor = slice.getContent().get(slice.getContent().size() - 1)
-          .createdAt();
+  public PageResponse<MessageDto> findAllByChannelId(UUID channelId, String cursor,
+      MessagePageDirection direction, int size) {
+
+    int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    log.debug("Finding all messages: channelId={}, cursor={}, direction={}, pageSize={}",
+        channelId, cursor, direction, pageSize);
+
+    // 한 건을 더 조회해 다음 페이지 존재 여부를 판단한다 (count/OFFSET 쿼리 없음)
+    Limit limit = Limit.of(pageSize + 1);
+    List<UUID> messageIds;
+    if (cursor == null || cursor.isBlank()) {
+      messageIds = messageRepository.findLatestIdsByChannelId(channelId, limit);
+    } else {
+      MessageCursor decoded = MessageCursor.decode(cursor);
+      messageIds = direction == MessagePageDirection.AFTER
+          ? messageRepository.findIdsAfterByChannelId(channelId, decoded.createdAt(),
+          decoded.id(), limit)
+          : messageRepository.findIdsBeforeByChannelId(channelId, decoded.createdAt(),
+              decoded.id(), limit);
+    }
+
+    boolean hasNext = messageIds.size() > pageSize;
+    // 읽기 전용 목록은 엔티티를 거치지 않고 DTO 로 바로 조회한다
+    List<MessageDto> content = new ArrayList<>(messageQueryRepository.findAllByIdIn(
+            messageIds.subList(0, Math.min(pageSize, messageIds.size()))).stream()
+        .map(binaryContentUrlResolver::withUrl)
+        .toList());
+
+    // 진행 방향의 마지막 메시지가 다음 커서가 된다
+    String nextCursor = content.isEmpty()
+        ? null
+        : MessageCursor.from(content.get(content.size() - 1)).encode();
+
+    // 응답은 방향과 관계없이 항상 최신순으로 내려준다
+    if (cursor != null && !cursor.isBlank() && direction == MessagePageDirection.AFTER) {
+      Collections.reverse(content);
+    }
+
+    log.debug("Messages Found: {}, channelId={}, hasNext={}", content.size(), channelId, hasNext);
+
+    Slice<MessageDto> slice = new SliceImpl<>(content, PageRequest.ofSize(pageSize), hasNext);
+    return pageResponseMapper.fromSlice(slice, nextCursor);
+  }
+
+  @Transactional(readOnly = true)
+  @Override
+  public PageResponse<MessageSearchHitDto> search(UUID userId, String query, UUID channelId,
+      String cursor, int size) {
+    if (query == null || query.isBlank() || query.length() > MAX_SEARCH_QUERY_LENGTH) {
+      log.warn("Message search failed: invalid query - userId={}", userId);
+      throw MessageExceptions.invalidSearchQuery(query);
     }
+    int pageSize = Math.max(1, Math.min(size, MAX_SEARCH_PAGE_SIZE));
+    MessageSearchCursor decoded = cursor == null || cursor.isBlank()
+        ? null
+        : MessageSearchCursor.decode(cursor);
+    log.debug("Searching messages: userId={}, channelId={}, cursor={}, pageSize={}", userId,
+        channelId, cursor, pageSize);
+
+    // 한 건을 더 조회해 다음 페이지 존재 여부를 판단한다
+    List<MessageSearchHit> hits = messageSearchIndex.search(userId, query.strip(), channelId,
+        decoded, pageSize + 1);
+    boolean hasNext = hits.size() > pageSize;
+    List<MessageSearchHit> page = hits.subList(0, Math.min(pageSize, hits.size()));
 
-    log.debug("Messages Found: {}, channelId={}, hasNext={}",
-        slice.getContent().size(), channelId, slice.hasNext());
+    Map<UUID, MessageDto> messagesById = messageQueryRepository.findAllByIdIn(
+            page.stream().map(MessageSearchHit::messageId).toList()).stream()
+        .collect(Collectors.toMap(MessageDto::id, Function.identity()));
+    // 검색과 DTO 조회 사이에 삭제된 메시지는 빠지지만, 커서는 검색 결과 기준으로 이어간다
+    List<MessageSearchHitDto> content = page.stream()
+        .filter(hit -> messagesById.containsKey(hit.messageId()))
+        .map(hit -> new MessageSearchHitDto(
+            binaryContentUrlResolver.withUrl(messagesById.get(hit.messageId())), hit.highlight(),
+            hit.rank()))
+        .toList();
+    String nextCursor = page.isEmpty() ? null : page.get(page.size() - 1).toCursor().encode();
 
+    log.debug("Messages searched: {}, userId={}, hasNext={}", content.size(), userId, hasNext);
+
+    Slice<MessageSearchHitDto> slice = new SliceImpl<>(content, PageRequest.ofSize(pageSize),
+        hasNext);
     return pageResponseMapper.fromSlice(slice, nextCursor);
   }
 
@@ -167,18 +269,29 @@ public class BasicMessageService implements MessageService {
     message.update(newContent);
 
     log.info("Message updated successfully: messageId={}", messageId);
-    return messageMapper.toDto(message);
+    MessageDto messageDto = messageMapper.toDto(message);
+    eventPublisher.publishEvent(MessageEvent.updated(messageDto));
+    return binaryContentUrlResolver.withUrl(messageDto);
   }
 
   @Transactional
   @Override
   public void delete(UUID messageId) {
     log.info("Processing message deletion: messageId={}", messageId);
-    if (!messageRepository.existsById(messageId)) {
-      log.warn("Message deletion failed: message not found - messageId={}", messageId);
-      throw MessageExceptions.notFound(messageId);
-    }
-    messageRepository.deleteById(messageId);
+    Message message = messageRepository.findById(messageId)
+        .orElseThrow(
+            () -> {
+              log.warn("Message deletion failed: message not found - messageId={}", messageId);
+              return MessageExceptions.notFound(messageId);
+            });
+    UUID channelId = message.getChannel().getId();
+    List<UUID> attachmentIds = message.getAttachments().stream()
+        .map(BinaryContent::getId)
+        .toList();
+    messageRepository.delete(message);
+    blobEventOutbox.recordDeleteAll(attachmentIds);
+    channelRepository.rewindLastMessageAt(channelId, message.getCreatedAt());
+    eventPublisher.publishEvent(MessageEvent.deleted(channelId, messageId));
 
     log.info("Message deleted successfully: messageId={}", messageId);
   }
@@ -1,24 +1,32 @@
 package com.sprint.mission.discodeit.service.basic;
 
 import com.sprint.mission.discodeit.dto.data.ReadStatusDto;
+import com.sprint.mission.discodeit.dto.request.ReadPointRequest;
+import com.sprint.mission.discodeit.dto.request.ReadStatusBulkUpdateRequest;
 import com.sprint.mission.discodeit.dto.request.ReadStatusCreateRequest;
 import com.sprint.mission.discodeit.dto.request.ReadStatusUpdateRequest;
 import com.sprint.mission.discodeit.entity.Channel;
 import com.sprint.mission.discodeit.entity.ReadStatus;
 import com.sprint.mission.discodeit.entity.User;
+import com.sprint.mission.discodeit.event.ReadStatusEvent;
 import com.sprint.mission.discodeit.exception.channel.ChannelExceptions;
 import com.sprint.mission.discodeit.exception.readstatus.ReadStatusExceptions;
 import com.sprint.mission.discodeit.exception.user.UserExceptions;
 import com.sprint.mission.discodeit.mapper.ReadStatusMapper;
 import com.sprint.mission.discodeit.repository.ChannelRepository;
+import com.sprint.mission.discodeit.repository.ReadStatusQueryRepository;
 import com.sprint.mission.discodeit.repository.ReadStatusRepository;
 import com.sprint.mission.discodeit.repository.UserRepository;
 import com.sprint.mission.discodeit.service.ReadStatusService;
 import java.time.Instant;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -28,9 +36,11 @@ import org.springframework.transaction.annotation.Transactional;
 public class BasicReadStatusService implements ReadStatusService {
 
   private final ReadStatusRepository readStatusRepository;
+  private final ReadStatusQueryRepository readStatusQueryRepository;
   private final UserRepository userRepository;
   private final ChannelRepository channelRepository;
   private final ReadStatusMapper readStatusMapper;
+  private final ApplicationEventPublisher eventPublisher;
 
   @Transactional
   @Override
@@ -63,11 +73,13 @@ public class BasicReadStatusService implements ReadStatusService {
 
     Instant lastReadAt = request.lastReadAt();
     ReadStatus readStatus = new ReadStatus(user, channel, lastReadAt);
-    readStatusRepository.save(readStatus);
+    readStatusRepository.saveAndFlush(readStatus);
+    // 과거 시점부터 읽음 상태를 만들 수 있으므로 카운터를 현재 메시지 기준으로 채운다
+    readStatusQueryRepository.recountUnreadCount(readStatus.getId());
 
     log.info("ReadStatus created successfully: readStatusId={}, userId={}, channelId={}",
         readStatus.getId(), userId, channelId);
-    return readStatusMapper.toDto(readStatus);
+    return findWithUnread(readStatus.getId());
   }
 
   @Override
@@ -93,9 +105,8 @@ public class BasicReadStatusService implements ReadStatusService {
   public List<ReadStatusDto> findAllByUserId(UUID userId) {
     log.debug("Finding all readStatus: userId={}", userId);
 
-    return readStatusRepository.findAllByUserId(userId).stream()
-        .map(readStatusMapper::toDto)
-        .toList();
+    // 안 읽은 메시지 수와 멘션 여부는 메시지 작성 시 갱신되는 카운터에서 읽는다
+    return readStatusQueryRepository.findAllWithUnreadByUserId(userId);
   }
 
   @Transactional
@@ -114,9 +125,77 @@ public class BasicReadStatusService implements ReadStatusService {
             });
 
     readStatus.update(newLastReadAt);
+    // 카운터 갱신과 응답 조회는 JDBC 로 하므로 새 읽음 위치를 먼저 반영한다
+    readStatusRepository.flush();
+    Instant lastMessageAt = readStatus.getChannel().getLastMessageAt();
+    if (lastMessageAt == null || !readStatus.getLastReadAt().isBefore(lastMessageAt)) {
+      // 채널의 마지막 메시지까지 읽었으면 다시 세지 않고 0으로 맞춘다
+      readStatusQueryRepository.resetUnreadCount(readStatusId);
+    } else {
+      // 중간까지만 읽었거나 읽음 위치를 되돌렸으면 그 이후 메시지를 다시 센다
+      readStatusQueryRepository.recountUnreadCount(readStatusId);
+    }
+    ReadStatusDto readStatusDto = findWithUnread(readStatusId);
+    eventPublisher.publishEvent(ReadStatusEvent.from(readStatusDto));
 
     log.info("ReadStatus updated successfully: readStatusId={}", readStatusId);
-    return readStatusMapper.toDto(readStatus);
+    return readStatusDto;
+  }
+
+  @Transactional
+  @Override
+  public List<ReadStatusDto> updateAll(ReadStatusBulkUpdateRequest request) {
+    UUID userId = request.userId();
+
+    log.info("Processing readStatus bulk update: userId={}, readPoints={}", userId,
+        request.readPoints().size());
+
+    // 같은 채널이 여러 번 오면 가장 나중 시각만 반영한다
+    Map<UUID, Instant> lastReadAtByChannelId = new HashMap<>();
+    for (ReadPointRequest readPoint : request.readPoints()) {
+      lastReadAtByChannelId.merge(readPoint.channelId(), readPoint.lastReadAt(),
+          (a, b) -> a.isAfter(b) ? a : b);
+    }
+    return markRead(userId, lastReadAtByChannelId);
+  }
+
+  @Transactional
+  @Override
+  public List<ReadStatusDto> updateAllToNow(UUID userId) {
+    log.info("Processing readStatus mark all as read: userId={}", userId);
+
+    Instant now = Instant.now();
+    Map<UUID, Instant> lastReadAtByChannelId = new HashMap<>();
+    channelRepository.findVisibleIdsByUserId(userId)
+        .forEach(channelId -> lastReadAtByChannelId.put(channelId, now));
+    return markRead(userId, lastReadAtByChannelId);
+  }
+
+  private List<ReadStatusDto> markRead(UUID userId, Map<UUID, Instant> lastReadAtByChannelId) {
+    if (!userRepository.existsById(userId)) {
+      log.warn("ReadStatus bulk update failed: user not found - userId={}", userId);
+      throw UserExceptions.notFound(userId);
+    }
+
+    Set<UUID> updatedChannelIds =
+        readStatusQueryRepository.upsertLastReadAt(userId, lastReadAtByChannelId);
+
+    // 이미 더 나중까지 읽어 건너뛴 채널은 읽음 위치가 바뀌지 않았으므로 알리지 않는다
+    List<ReadStatusDto> readStatuses = readStatusQueryRepository.findAllWithUnreadByUserId(userId);
+    readStatuses.stream()
+        .filter(readStatus -> updatedChannelIds.contains(readStatus.channelId()))
+        .map(ReadStatusEvent::from)
+        .forEach(eventPublisher::publishEvent);
+
+    log.info("ReadStatus bulk update completed: userId={}, channels={}", userId,
+        lastReadAtByChannelId.size());
+    return readStatuses;
+  }
+
+  // 엔티티 매핑에는 카운터가 없으므로 카운터를 고친 뒤에는 행을 다시 읽어 응답과 이벤트를 만든다
+  private ReadStatusDto findWithUnread(UUID readStatusId) {
+    return readStatusQueryRepository.findWithUnreadById(readStatusId)
+        .orElseThrow(() -> ReadStatusExceptions.notFound(readStatusId));
   }
 
   @Transactional
@@ -1,5 +1,6 @@
 package com.sprint.mission.discodeit.service.basic;
 
+import com.sprint.mission.discodeit.cache.UserDtoCache;
 import com.sprint.mission.discodeit.dto.data.UserDto;
 import com.sprint.mission.discodeit.dto.request.BinaryContentCreateRequest;
 import com.sprint.mission.discodeit.dto.request.UserCreateRequest;
@@ -7,18 +8,22 @@ import com.sprint.mission.discodeit.dto.request.UserUpdateRequest;
 import com.sprint.mission.discodeit.entity.BinaryContent;
 import com.sprint.mission.discodeit.entity.User;
 import com.sprint.mission.discodeit.entity.UserStatus;
+import com.sprint.mission.discodeit.event.CacheInvalidationEvent;
 import com.sprint.mission.discodeit.exception.user.UserExceptions;
 import com.sprint.mission.discodeit.mapper.UserMapper;
 import com.sprint.mission.discodeit.repository.BinaryContentRepository;
 import com.sprint.mission.discodeit.repository.UserRepository;
 import com.sprint.mission.discodeit.service.UserService;
 import com.sprint.mission.discodeit.storage.BinaryContentStorage;
+import com.sprint.mission.discodeit.storage.BinaryContentUrlResolver;
+import com.sprint.mission.discodeit.storage.outbox.BlobEventOutbox;
 import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -31,6 +36,10 @@ public class BasicUserService implements UserService {
   private final UserMapper userMapper;
   private final BinaryContentRepository binaryContentRepository;
   private final BinaryContentStorage binaryContentStorage;
+  private final BinaryContentUrlResolver binaryContentUrlResolver;
+  private final BlobEventOutbox blobEventOutbox;
+  private final UserDtoCache userDtoCache;
+  private final ApplicationEventPublisher eventPublisher;
 
   @Transactional
   @Override
@@ -55,14 +64,13 @@ public class BasicUserService implements UserService {
         .map(profileRequest -> {
           String fileName = profileRequest.fileName();
           String contentType = profileRequest.contentType();
-          byte[] bytes = profileRequest.bytes();
+          long size = profileRequest.size();
 
           log.debug("Generating user profile: filename={}, contentType={}, size={}",
-              fileName, contentType, bytes.length);
-          BinaryContent binaryContent = new BinaryContent(fileName, (long) bytes.length,
-              contentType);
+              fileName, contentType, size);
+          BinaryContent binaryContent = new BinaryContent(fileName, size, contentType);
           binaryContentRepository.save(binaryContent);
-          binaryContentStorage.put(binaryContent.getId(), bytes);
+          binaryContentStorage.put(binaryContent.getId(), profileRequest.content(), size);
           return binaryContent;
         })
         .orElse(null);
@@ -76,22 +84,24 @@ public class BasicUserService implements UserService {
     userRepository.save(user);
 
     log.info("User created successfully: userId={}, username={}", user.getId(), username);
-    return userMapper.toDto(user);
+    return binaryContentUrlResolver.withUrl(userMapper.toDto(user));
   }
 
   @Override
   public UserDto find(UUID userId) {
     log.debug("Finding user by id: {}", userId);
 
-    return userRepository.findById(userId)
+    UserDto userDto = userDtoCache.get(userId, id -> userRepository.findById(id)
         .map(user -> {
-          log.debug("User found: userId={}, username={}", userId, user.getUsername());
+          log.debug("User found: userId={}, username={}", id, user.getUsername());
           return userMapper.toDto(user);
         })
-        .orElseThrow(() -> {
-          log.warn("User not found: userId={}", userId);
-          return UserExceptions.notFound(userId);
-        });
+        .orElse(null));
+    if (userDto == null) {
+      log.warn("User not found: userId={}", userId);
+      throw UserExceptions.notFound(userId);
+    }
+    return binaryContentUrlResolver.withUrl(userDto);
   }
 
   @Override
@@ -100,6 +110,7 @@ public class BasicUserService implements UserService {
     return userRepository.findAllWithProfileAndStatus()
         .stream()
         .map(userMapper::toDto)
+        .map(binaryContentUrlResolver::withUrl)
         .toList();
   }
 
@@ -133,23 +144,28 @@ public class BasicUserService implements UserService {
 
           String fileName = profileRequest.fileName();
           String contentType = profileRequest.contentType();
-          byte[] bytes = profileRequest.bytes();
+          long size = profileRequest.size();
 
           log.debug("Generating user new profile: filename={}, contentType={}, size={}",
-              fileName, contentType, bytes.length);
-          BinaryContent binaryContent = new BinaryContent(fileName, (long) bytes.length,
-              contentType);
+              fileName, contentType, size);
+          BinaryContent binaryContent = new BinaryContent(fileName, size, contentType);
           binaryContentRepository.save(binaryContent);
-          binaryContentStorage.put(binaryContent.getId(), bytes);
+          binaryContentStorage.put(binaryContent.getId(), profileRequest.content(), size);
           return binaryContent;
         })
         .orElse(null);
 
+    BinaryContent oldProfile = user.getProfile();
     String newPassword = userUpdateRequest.newPassword();
     user.update(newUsername, newEmail, newPassword, nullableProfile);
+    if (nullableProfile != null && oldProfile != null) {
+      // 교체된 프로필은 orphanRemoval 로 메타데이터가 삭제되므로 저장소 파일도 함께 정리한다
+      blobEventOutbox.recordDelete(oldProfile.getId());
+    }
+    eventPublisher.publishEvent(CacheInvalidationEvent.users(userId));
 
     log.info("User updated successfully: userId={}", userId);
-    return userMapper.toDto(user);
+    return binaryContentUrlResolver.withUrl(userMapper.toDto(user));
   }
 
   @Transactional
@@ -161,7 +177,9 @@ public class BasicUserService implements UserService {
       throw UserExceptions.notFound(userId);
     }
 
+    userRepository.findProfileIdById(userId).ifPresent(blobEventOutbox::recordDelete);
     userRepository.deleteById(userId);
+    eventPublisher.publishEvent(CacheInvalidationEvent.users(userId));
     log.info("User deleted successfully: userId={}", userId);
   }
 }
@@ -8,6 +8,7 @@ import com.sprint.mission.discodeit.entity.UserStatus;
 import com.sprint.mission.discodeit.exception.user.UserExceptions;
 import com.sprint.mission.discodeit.exception.userstatus.UserStatusExceptions;
 import com.sprint.mission.discodeit.mapper.UserStatusMapper;
+import com.sprint.mission.discodeit.presence.UserStatusHeartbeatBuffer;
 import com.sprint.mission.discodeit.repository.UserRepository;
 import com.sprint.mission.discodeit.repository.UserStatusRepository;
 import com.sprint.mission.discodeit.service.UserStatusService;
@@ -28,6 +29,7 @@ public class BasicUserStatusService implements UserStatusService {
   private final UserStatusRepository userStatusRepository;
   private final UserRepository userRepository;
   private final UserStatusMapper userStatusMapper;
+  private final UserStatusHeartbeatBuffer heartbeatBuffer;
 
   @Transactional
   @Override
@@ -84,7 +86,8 @@ public class BasicUserStatusService implements UserStatusService {
         .toList();
   }
 
-  @Transactional
+  // heartbeat 와 같은 값이므로 updateByUserId 처럼 버퍼를 거쳐 PresenceIndex 와 DB 에 함께 반영한다
+  @Transactional(readOnly = true)
   @Override
   public UserStatusDto update(UUID userStatusId, UserStatusUpdateRequest request) {
     Instant newLastActiveAt = request.newLastActiveAt();
@@ -99,32 +102,34 @@ public class BasicUserStatusService implements UserStatusService {
               return UserStatusExceptions.notFound(userStatusId);
             });
 
-    userStatus.update(newLastActiveAt);
+    UUID userId = userStatus.getUser().getId();
+    Instant lastActiveAt = heartbeatBuffer.record(userId, userStatusId, newLastActiveAt);
 
     log.info("User status updated successfully: statusId={}", userStatusId);
-    return userStatusMapper.toDto(userStatus);
+    return new UserStatusDto(userStatusId, userId, lastActiveAt);
   }
 
-  @Transactional
+  // 주기적인 heartbeat 요청이므로 DB 에 바로 쓰지 않고 버퍼에 기록한다. 상태 조회는 사용자별 첫 요청에서만 일어난다
   @Override
   public UserStatusDto updateByUserId(UUID userId, UserStatusUpdateRequest request) {
     Instant newLastActiveAt = request.newLastActiveAt();
 
-    log.info("Processing user status update by userId: userId={}, newLastActiveAt={}",
+    log.debug("Processing user status heartbeat: userId={}, newLastActiveAt={}",
         userId, newLastActiveAt);
 
-    UserStatus userStatus = userStatusRepository.findByUserId(userId)
-        .orElseThrow(
-            () -> {
-              log.warn("User status update failed: userId not found - userId={}", userId);
-              return UserStatusExceptions.notFoundByuserId(userId);
-            });
-    userStatus.update(newLastActiveAt);
-
-    log.info("User status updated successfully: statusId={}, userId={}",
-        userStatus.getId(), userId);
-
-    return userStatusMapper.toDto(userStatus);
+    UUID userStatusId = heartbeatBuffer.findStatusId(userId)
+        .orElseGet(() -> userStatusRepository.findByUserId(userId)
+            .map(UserStatus::getId)
+            .orElseThrow(
+                () -> {
+                  log.warn("User status update failed: userId not found - userId={}", userId);
+                  return UserStatusExceptions.notFoundByuserId(userId);
+                }));
+    // 다른 노드에는 온라인 전환만 버퍼가 flush 할 때 모아서 알린다
+    Instant lastActiveAt = heartbeatBuffer.record(userId, userStatusId, newLastActiveAt);
+
+    log.debug("User status heartbeat buffered: statusId={}, userId={}", userStatusId, userId);
+    return new UserStatusDto(userStatusId, userId, lastActiveAt);
   }
 
   @Transactional
@@ -0,0 +1,238 @@
+package com.sprint.mission.discodeit.sse;
+
+import com.sprint.mission.discodeit.dto.data.MessageCursor;
+import com.sprint.mission.discodeit.dto.data.MessageDto;
+import com.sprint.mission.discodeit.dto.data.MessagePageDirection;
+import com.sprint.mission.discodeit.dto.response.PageResponse;
+import com.sprint.mission.discodeit.event.MessageEvent;
+import com.sprint.mission.discodeit.event.MessageEventType;
+import com.sprint.mission.discodeit.event.RealtimeEvent;
+import com.sprint.mission.discodeit.event.bus.RealtimeEventListener;
+import com.sprint.mission.discodeit.service.MessageService;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 채널별 SSE 구독자에게 메시지 이벤트를 전달하는 프로세스 내 fan-out 허브.
+ * <ul>
+ *   <li>이벤트는 커밋 이후 ChannelEventBus 를 거쳐 전달되므로 다른 노드에서 생성된 메시지도 받는다.</li>
+ *   <li>구독자마다 크기가 제한된 큐를 두고, 큐가 가득 찬 느린 구독자는 연결을 끊는다. 클라이언트(EventSource)는 자동으로 재연결하며
+ *   Last-Event-ID 로 놓친 메시지를 이어 받는다.</li>
+ *   <li>생성 이벤트의 id 는 메시지 keyset 커서({@link MessageCursor})이다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class ChannelEventHub implements RealtimeEventListener {
+
+  static final String RESET_EVENT = "reset";
+
+  private final Map<UUID, Set<ChannelSubscriber>> subscribers = new ConcurrentHashMap<>();
+
+  private final MessageService messageService;
+  private final Executor executor;
+  private final Duration emitterTimeout;
+  private final int queueCapacity;
+  private final int replayLimit;
+
+  public ChannelEventHub(
+      MessageService messageService,
+      @Qualifier("channelEventExecutor") Executor executor,
+      @Value("${discodeit.sse.emitter-timeout:30m}") Duration emitterTimeout,
+      @Value("${discodeit.sse.queue-capacity:256}") int queueCapacity,
+      @Value("${discodeit.sse.replay-limit:200}") int replayLimit
+  ) {
+    this.messageService = messageService;
+    this.executor = executor;
+    this.emitterTimeout = emitterTimeout;
+    this.queueCapacity = queueCapacity;
+    this.replayLimit = replayLimit;
+  }
+
+  /**
+   * 채널을 구독한다. lastEventId 가 있으면 그 이후 메시지를 replay-limit 까지 먼저 보내고, 더 남아 있으면 reset 이벤트로 목록을 다시
+   * 조회하도록 알린다.
+   */
+  public SseEmitter subscribe(UUID channelId, String lastEventId) {
+    MessageCursor since = lastEventId == null || lastEventId.isBlank()
+        ? null
+        : MessageCursor.decode(lastEventId);
+
+    SseEmitter emitter = new SseEmitter(emitterTimeout.toMillis());
+    ChannelSubscriber subscriber = new ChannelSubscriber(channelId, emitter, queueCapacity);
+    emitter.onCompletion(() -> unsubscribe(subscriber));
+    emitter.onTimeout(() -> unsubscribe(subscriber));
+    emitter.onError(e -> unsubscribe(subscriber));
+
+    // 재전송 도중 발생한 이벤트를 놓치지 않도록 먼저 등록한다
+    subscribers.computeIfAbsent(channelId, id -> ConcurrentHashMap.newKeySet()).add(subscriber);
+    log.debug("SSE subscriber registered: channelId={}, resume={}", channelId, since != null);
+
+    MessageCursor replayedUpTo = since == null ? null : replay(subscriber, since);
+    subscriber.markReady(replayedUpTo);
+    scheduleDrain(subscriber);
+    return emitter;
+  }
+
+  @Override
+  public void onEvent(RealtimeEvent event) {
+    if (event instanceof MessageEvent messageEvent) {
+      publish(messageEvent);
+    }
+  }
+
+  public void publish(MessageEvent event) {
+    Set<ChannelSubscriber> channelSubscribers = subscribers.get(event.channelId());
+    if (channelSubscribers == null) {
+      return;
+    }
+    for (ChannelSubscriber subscriber : channelSubscribers) {
+      if (!subscriber.offer(event)) {
+        log.warn("SSE subscriber dropped: slow consumer - channelId={}", event.channelId());
+        close(subscriber);
+        continue;
+      }
+      scheduleDrain(subscriber);
+    }
+  }
+
+  public int subscriberCount(UUID channelId) {
+    Set<ChannelSubscriber> channelSubscribers = subscribers.get(channelId);
+    return channelSubscribers == null ? 0 : channelSubscribers.size();
+  }
+
+  /**
+   * 프록시가 유휴 연결을 끊지 않도록 주기적으로 주석을 보낸다. 끊어진 연결도 이때 정리된다.
+   */
+  @Scheduled(fixedRateString = "${discodeit.sse.keepalive-interval-ms:15000}")
+  public void sendKeepAlive() {
+    subscribers.values().forEach(channelSubscribers -> channelSubscribers.forEach(subscriber -> {
+      try {
+        subscriber.emitter().send(SseEmitter.event().comment("keepalive"));
+      } catch (IOException | IllegalStateException e) {
+        unsubscribe(subscriber);
+      }
+    }));
+  }
+
+  private MessageCursor replay(ChannelSubscriber subscriber, MessageCursor since) {
+    PageResponse<MessageDto> page = messageService.findAllByChannelId(subscriber.channelId(),
+        since.encode(), MessagePageDirection.AFTER, replayLimit);
+    // 페이지는 최신순이므로 오래된 것부터 보내도록 뒤집는다
+    List<MessageDto> messages = new ArrayList<>(page.content());
+    Collections.reverse(messages);
+
+    MessageCursor replayedUpTo = since;
+    for (MessageDto message : messages) {
+      if (!send(subscriber, MessageEvent.created(message))) {
+        return replayedUpTo;
+      }
+      replayedUpTo = MessageCursor.from(message);
+    }
+    if (page.hasNext()) {
+      sendReset(subscriber);
+    }
+    log.debug("SSE replay finished: channelId={}, replayed={}, hasMore={}",
+        subscriber.channelId(), messages.size(), page.hasNext());
+    return replayedUpTo;
+  }
+
+  private void scheduleDrain(ChannelSubscriber subscriber) {
+    if (!subscriber.tryStartDraining()) {
+      return;
+    }
+    try {
+      executor.execute(() -> drain(subscriber));
+    } catch (RejectedExecutionException e) {
+      subscriber.stopDraining();
+      log.warn("SSE subscriber dropped: sender pool saturated - channelId={}",
+          subscriber.channelId());
+      close(subscriber);
+    }
+  }
+
+  private void drain(ChannelSubscriber subscriber) {
+    try {
+      MessageEvent event;
+      while (!subscriber.isClosed() && (event = subscriber.poll()) != null) {
+        if (event.type() == MessageEventType.CREATED && subscriber.isDuplicate(event)) {
+          continue;
+        }
+        if (!send(subscriber, event)) {
+          return;
+        }
+      }
+    } finally {
+      subscriber.stopDraining();
+    }
+    // 전송을 마친 직후 들어온 이벤트가 있으면 다시 전송을 예약한다
+    if (subscriber.hasPending()) {
+      scheduleDrain(subscriber);
+    }
+  }
+
+  private boolean send(ChannelSubscriber subscriber, MessageEvent event) {
+    SseEmitter.SseEventBuilder builder = SseEmitter.event()
+        .name("message." + event.type().name().toLowerCase());
+    if (event.type() == MessageEventType.CREATED) {
+      builder.id(MessageCursor.from(event.message()).encode());
+    }
+    Object data = event.message() != null
+        ? event.message()
+        : Map.of("id", event.messageId(), "channelId", event.channelId());
+    builder.data(data, MediaType.APPLICATION_JSON);
+
+    try {
+      subscriber.emitter().send(builder);
+      return true;
+    } catch (IOException | IllegalStateException e) {
+      log.debug("SSE send failed: channelId={}, error={}", subscriber.channelId(),
+          e.getMessage());
+      unsubscribe(subscriber);
+      return false;
+    }
+  }
+
+  private void sendReset(ChannelSubscriber subscriber) {
+    try {
+      subscriber.emitter().send(SseEmitter.event().name(RESET_EVENT).data(""));
+    } catch (IOException | IllegalStateException e) {
+      unsubscribe(subscriber);
+    }
+  }
+
+  private void close(ChannelSubscriber subscriber) {
+    if (subscriber.close()) {
+      remove(subscriber);
+      subscriber.emitter().complete();
+    }
+  }
+
+  private void unsubscribe(ChannelSubscriber subscriber) {
+    subscriber.close();
+    remove(subscriber);
+  }
+
+  private void remove(ChannelSubscriber subscriber) {
+    subscribers.computeIfPresent(subscriber.channelId(), (id, channelSubscribers) -> {
+      channelSubscribers.remove(subscriber);
+      return channelSubscribers.isEmpty() ? null : channelSubscribers;
+    });
+  }
+}
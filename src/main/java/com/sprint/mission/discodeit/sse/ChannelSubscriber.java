@@ -0,0 +1,83 @@
+package com.sprint.mission.discodeit.sse;
+
+import com.sprint.mission.discodeit.dto.data.MessageCursor;
+import com.sprint.mission.discodeit.event.MessageEvent;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * SSE 구독자 한 명. 발행 스레드는 큐에 넣기만 하고, 실제 전송은 전송 스레드가 순서대로 처리한다.
+ */
+class ChannelSubscriber {
+
+  private final UUID channelId;
+  private final SseEmitter emitter;
+  private final BlockingQueue<MessageEvent> queue;
+  private final AtomicBoolean draining = new AtomicBoolean();
+  private final AtomicBoolean closed = new AtomicBoolean();
+
+  // 재전송이 끝나기 전까지는 큐에 쌓기만 하고 전송하지 않는다
+  private volatile boolean ready;
+  // 재전송으로 이미 보낸 마지막 메시지. 이보다 앞선 생성 이벤트는 중복이므로 건너뛴다
+  private volatile MessageCursor replayedUpTo;
+
+  ChannelSubscriber(UUID channelId, SseEmitter emitter, int queueCapacity) {
+    this.channelId = channelId;
+    this.emitter = emitter;
+    this.queue = new ArrayBlockingQueue<>(queueCapacity);
+  }
+
+  UUID channelId() {
+    return channelId;
+  }
+
+  SseEmitter emitter() {
+    return emitter;
+  }
+
+  boolean offer(MessageEvent event) {
+    return queue.offer(event);
+  }
+
+  MessageEvent poll() {
+    return queue.poll();
+  }
+
+  boolean hasPending() {
+    return !queue.isEmpty();
+  }
+
+  boolean tryStartDraining() {
+    return ready && !closed.get() && draining.compareAndSet(false, true);
+  }
+
+  void stopDraining() {
+    draining.set(false);
+  }
+
+  void markReady(MessageCursor replayedUpTo) {
+    this.replayedUpTo = replayedUpTo;
+    this.ready = true;
+  }
+
+  boolean isDuplicate(MessageEvent event) {
+    MessageCursor replayed = replayedUpTo;
+    return replayed != null
+        && event.message() != null
+        && !MessageCursor.from(event.message()).isAfter(replayed);
+  }
+
+  /**
+   * 처음 닫는 호출에서만 true 를 반환한다.
+   */
+  boolean close() {
+    return closed.compareAndSet(false, true);
+  }
+
+  boolean isClosed() {
+    return closed.get();
+  }
+}
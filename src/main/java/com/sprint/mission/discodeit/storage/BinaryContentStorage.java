@@ -1,15 +1,70 @@
 package com.sprint.mission.discodeit.storage;
 
 import com.sprint.mission.discodeit.dto.data.BinaryContentDto;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 
 public interface BinaryContentStorage {
 
-  UUID put(UUID binaryContentId, byte[] bytes);
+  /**
+   * 스트림 내용을 저장한다. 구현체는 내용 전체를 메모리에 올리지 않고 복사해야 하며, 스트림을 닫는 것은 호출자의 책임이다.
+   */
+  UUID put(UUID binaryContentId, InputStream inputStream, long size);
+
+  default UUID put(UUID binaryContentId, InputStreamSource source, long size) {
+    try (InputStream inputStream = source.getInputStream()) {
+      return put(binaryContentId, inputStream, size);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  default UUID put(UUID binaryContentId, byte[] bytes) {
+    return put(binaryContentId, new ByteArrayInputStream(bytes), bytes.length);
+  }
 
   InputStream get(UUID binaryContentId);
 
+  /**
+   * 저장된 내용을 삭제한다. 존재하지 않는 경우 아무 일도 하지 않는다.
+   */
+  void delete(UUID binaryContentId);
+
+  /**
+   * 여러 건을 한 번에 삭제한다. 일괄 삭제 API 가 있는 구현체는 재정의해 요청 수를 줄인다.
+   */
+  default void deleteAll(Collection<UUID> binaryContentIds) {
+    binaryContentIds.forEach(this::delete);
+  }
+
+  /**
+   * threshold 이전에 마지막으로 수정된 저장 항목의 id 를 순회한다. 키가 UUID 형식이 아닌 항목은 건너뛰며, 반환된 스트림은 호출자가 닫아야 한다.
+   */
+  Stream<UUID> findAllIdsModifiedBefore(Instant threshold);
+
   ResponseEntity<?> download(BinaryContentDto metaData);
+
+  /**
+   * 클라이언트가 리다이렉트 없이 바로 접근할 수 있는 URL 이 있으면 반환한다. 기본 구현은 제공하지 않는다.
+   */
+  default Optional<String> resolveUrl(BinaryContentDto metaData) {
+    return Optional.empty();
+  }
+
+  /**
+   * 요청 헤더(Range, If-Range, If-None-Match 등)를 참고해 응답을 만든다. 조건부 요청을 지원하지 않는 구현체는 헤더를 무시한다.
+   */
+  default ResponseEntity<?> download(BinaryContentDto metaData, HttpHeaders requestHeaders) {
+    return download(metaData);
+  }
 }
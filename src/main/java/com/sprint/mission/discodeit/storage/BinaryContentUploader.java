@@ -0,0 +1,84 @@
+package com.sprint.mission.discodeit.storage;
+
+import com.sprint.mission.discodeit.dto.request.BinaryContentCreateRequest;
+import java.util.Collection;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.stream.IntStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+/**
+ * 여러 첨부파일을 전용 스레드 풀에서 동시에 업로드한다. 업로드 동안 DB 커넥션을 잡지 않도록 트랜잭션 밖에서 호출하며, 파일마다 새 id 를 발급해
+ * 메타데이터는 호출자가 그 id 로 나중에 저장한다.
+ */
+@Slf4j
+@Component
+public class BinaryContentUploader {
+
+  private final BinaryContentStorage binaryContentStorage;
+  private final Executor executor;
+
+  public BinaryContentUploader(
+      BinaryContentStorage binaryContentStorage,
+      @Qualifier("binaryContentUploadExecutor") Executor executor
+  ) {
+    this.binaryContentStorage = binaryContentStorage;
+    this.executor = executor;
+  }
+
+  /**
+   * 모든 업로드가 끝날 때까지 기다린 뒤 requests 와 같은 순서의 id 목록을 반환한다. 하나라도 실패하면 이미 올라간 파일을 지우고 예외를 던진다.
+   */
+  public List<UUID> uploadAll(List<BinaryContentCreateRequest> requests) {
+    if (requests.isEmpty()) {
+      return List.of();
+    }
+
+    List<UUID> ids = requests.stream().map(request -> UUID.randomUUID()).toList();
+    Queue<UUID> uploadedIds = new ConcurrentLinkedQueue<>();
+    CompletableFuture<?>[] uploads = IntStream.range(0, requests.size())
+        .mapToObj(i -> CompletableFuture.runAsync(() -> {
+          UUID id = ids.get(i);
+          BinaryContentCreateRequest request = requests.get(i);
+          binaryContentStorage.put(id, request.content(), request.size());
+          uploadedIds.add(id);
+        }, executor))
+        .toArray(CompletableFuture[]::new);
+
+    try {
+      CompletableFuture.allOf(uploads).join();
+    } catch (CompletionException e) {
+      log.warn("Binary content upload failed: count={}, uploaded={}, error={}", requests.size(),
+          uploadedIds.size(), e.getCause().getMessage());
+      deleteAll(uploadedIds);
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+    log.debug("Uploaded binary contents concurrently: count={}", requests.size());
+    return ids;
+  }
+
+  /**
+   * 업로드한 뒤 메타데이터 저장에 실패한 파일을 지운다. 삭제 실패는 로그만 남기며, 남은 파일은 고아 파일 정리 작업이 지운다.
+   */
+  public void deleteAll(Collection<UUID> binaryContentIds) {
+    for (UUID id : binaryContentIds) {
+      try {
+        binaryContentStorage.delete(id);
+        log.info("Compensated uploaded binary content: binaryContentId={}", id);
+      } catch (Exception e) {
+        log.warn("Failed to delete orphan binary content: binaryContentId={}, error={}",
+            id, e.getMessage(), e);
+      }
+    }
+  }
+}
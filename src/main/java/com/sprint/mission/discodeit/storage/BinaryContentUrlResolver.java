@@ -0,0 +1,58 @@
+package com.sprint.mission.discodeit.storage;
+
+import com.sprint.mission.discodeit.dto.data.BinaryContentDto;
+import com.sprint.mission.discodeit.dto.data.ChannelDto;
+import com.sprint.mission.discodeit.dto.data.MessageDto;
+import com.sprint.mission.discodeit.dto.data.UserDto;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 응답 DTO 에 들어 있는 파일 메타데이터에 저장소의 직접 접근 URL 을 채운다. presigned URL 은 만료가 있으므로 DTO 캐시나 실시간 이벤트에는
+ * 담지 않고, 서비스가 응답을 반환하기 직전에만 붙인다. 저장소가 URL 을 제공하지 않으면 전달된 DTO 를 그대로 반환한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class BinaryContentUrlResolver {
+
+  private final BinaryContentStorage binaryContentStorage;
+
+  public BinaryContentDto withUrl(BinaryContentDto binaryContentDto) {
+    if (binaryContentDto == null) {
+      return null;
+    }
+    return binaryContentStorage.resolveUrl(binaryContentDto)
+        .map(binaryContentDto::withUrl)
+        .orElse(binaryContentDto);
+  }
+
+  public UserDto withUrl(UserDto userDto) {
+    if (userDto == null || userDto.profile() == null) {
+      return userDto;
+    }
+    return new UserDto(userDto.id(), userDto.username(), userDto.email(),
+        withUrl(userDto.profile()), userDto.online());
+  }
+
+  public MessageDto withUrl(MessageDto messageDto) {
+    if (messageDto == null) {
+      return null;
+    }
+    List<BinaryContentDto> attachments = messageDto.attachments() == null
+        ? null
+        : messageDto.attachments().stream().map(this::withUrl).toList();
+    return new MessageDto(messageDto.id(), messageDto.createdAt(), messageDto.updatedAt(),
+        messageDto.content(), messageDto.channelId(), withUrl(messageDto.author()), attachments);
+  }
+
+  public ChannelDto withUrl(ChannelDto channelDto) {
+    if (channelDto.participants() == null || channelDto.participants().isEmpty()) {
+      return channelDto;
+    }
+    return new ChannelDto(channelDto.id(), channelDto.type(), channelDto.name(),
+        channelDto.description(),
+        channelDto.participants().stream().map(this::withUrl).toList(),
+        channelDto.lastMessageAt());
+  }
+}
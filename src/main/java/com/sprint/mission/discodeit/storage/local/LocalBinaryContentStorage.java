@@ -5,15 +5,24 @@ import com.sprint.mission.discodeit.storage.BinaryContentStorage;
 import jakarta.annotation.PostConstruct;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
 import java.util.NoSuchElementException;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.FileSystemResource;
 import org.springframework.core.io.InputStreamResource;
 import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -43,13 +52,15 @@ public class LocalBinaryContentStorage implements BinaryContentStorage {
     }
   }
 
-  public UUID put(UUID binaryContentId, byte[] bytes) {
+  @Override
+  public UUID put(UUID binaryContentId, InputStream inputStream, long size) {
     Path filePath = resolvePath(binaryContentId);
     if (Files.exists(filePath)) {
       throw new IllegalArgumentException("File with key " + binaryContentId + " already exists");
     }
-    try (OutputStream outputStream = Files.newOutputStream(filePath)) {
-      outputStream.write(bytes);
+    try {
+      // 고정 크기 버퍼로 복사하므로 파일 크기와 관계없이 메모리 사용량이 일정하다
+      Files.copy(inputStream, filePath);
     } catch (IOException e) {
       throw new RuntimeException(e);
     }
@@ -69,21 +80,111 @@ public class LocalBinaryContentStorage implements BinaryContentStorage {
     }
   }
 
+  @Override
+  public void delete(UUID binaryContentId) {
+    try {
+      Files.deleteIfExists(resolvePath(binaryContentId));
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  @Override
+  public Stream<UUID> findAllIdsModifiedBefore(Instant threshold) {
+    try {
+      return Files.list(root)
+          .filter(Files::isRegularFile)
+          .filter(path -> lastModified(path).isBefore(threshold))
+          .map(path -> parseId(path.getFileName().toString()))
+          .flatMap(Optional::stream);
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  private Instant lastModified(Path path) {
+    try {
+      return Files.getLastModifiedTime(path).toInstant();
+    } catch (IOException e) {
+      // 순회 중 삭제된 파일은 대상에서 제외한다
+      return Instant.MAX;
+    }
+  }
+
+  private Optional<UUID> parseId(String key) {
+    try {
+      return Optional.of(UUID.fromString(key));
+    } catch (IllegalArgumentException e) {
+      return Optional.empty();
+    }
+  }
+
   private Path resolvePath(UUID key) {
     return root.resolve(key.toString());
   }
 
   @Override
   public ResponseEntity<Resource> download(BinaryContentDto metaData) {
-    InputStream inputStream = get(metaData.id());
-    Resource resource = new InputStreamResource(inputStream);
+    return download(metaData, HttpHeaders.EMPTY);
+  }
+
+  /**
+   * 파일을 {@link FileSystemResource} 로 내려보내 Spring MVC 가 Range 요청(206)을 처리하고, 가능한 경우 sendfile 방식으로 전송하게
+   * 한다. BinaryContent 는 한 번 저장되면 바뀌지 않으므로 id 를 ETag 로 사용하며, If-None-Match / If-Modified-Since 에 대한 304
+   * 응답은 Spring MVC 가 ETag, Last-Modified 헤더를 보고 처리한다.
+   */
+  @Override
+  public ResponseEntity<Resource> download(BinaryContentDto metaData, HttpHeaders requestHeaders) {
+    Path filePath = resolvePath(metaData.id());
+    if (Files.notExists(filePath)) {
+      throw new NoSuchElementException("File with key " + metaData.id() + " does not exist");
+    }
 
-    return ResponseEntity
+    String eTag = "\"" + metaData.id() + "\"";
+    Instant lastModified;
+    try {
+      lastModified = Files.getLastModifiedTime(filePath).toInstant();
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+
+    ResponseEntity.BodyBuilder response = ResponseEntity
         .status(HttpStatus.OK)
         .header(HttpHeaders.CONTENT_DISPOSITION,
             "attachment; filename=\"" + metaData.fileName() + "\"")
         .header(HttpHeaders.CONTENT_TYPE, metaData.contentType())
-        .header(HttpHeaders.CONTENT_LENGTH, String.valueOf(metaData.size()))
-        .body(resource);
+        .eTag(eTag)
+        .lastModified(lastModified)
+        .cacheControl(CacheControl.maxAge(Duration.ofDays(365)).cachePrivate().immutable());
+
+    if (!isRangeApplicable(requestHeaders.getFirst(HttpHeaders.IF_RANGE), eTag, lastModified)) {
+      // If-Range 가 일치하지 않으면 Range 를 무시하고 전체 내용을 보낸다.
+      // Spring MVC 는 InputStreamResource 에는 Range 처리를 적용하지 않는다.
+      try {
+        return response
+            .contentLength(metaData.size())
+            .body(new InputStreamResource(Files.newInputStream(filePath)));
+      } catch (IOException e) {
+        throw new RuntimeException(e);
+      }
+    }
+    return response.body(new FileSystemResource(filePath));
+  }
+
+  private boolean isRangeApplicable(String ifRange, String eTag, Instant lastModified) {
+    if (ifRange == null) {
+      return true;
+    }
+    if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+      // If-Range 는 strong 비교만 허용하므로 weak ETag 는 항상 불일치
+      return ifRange.equals(eTag);
+    }
+    try {
+      Instant ifRangeDate = ZonedDateTime.parse(ifRange, DateTimeFormatter.RFC_1123_DATE_TIME)
+          .toInstant();
+      return lastModified.truncatedTo(ChronoUnit.SECONDS).equals(ifRangeDate);
+    } catch (DateTimeParseException e) {
+      return false;
+    }
   }
 }
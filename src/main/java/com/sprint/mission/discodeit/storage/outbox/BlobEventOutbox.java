@@ -0,0 +1,50 @@
+package com.sprint.mission.discodeit.storage.outbox;
+
+import com.sprint.mission.discodeit.entity.BlobEvent;
+import com.sprint.mission.discodeit.entity.BlobEventType;
+import com.sprint.mission.discodeit.event.CacheInvalidationEvent;
+import com.sprint.mission.discodeit.repository.BlobEventRepository;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 메타데이터 삭제와 같은 트랜잭션에서 저장소 삭제 이벤트를 기록한다. 트랜잭션이 롤백되면 이벤트도 남지 않으므로 메타데이터와 저장소가 어긋나지 않는다.
+ * 파일 메타데이터 캐시도 여기서 커밋 이후 무효화되도록 함께 알린다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class BlobEventOutbox {
+
+  private final BlobEventRepository blobEventRepository;
+  private final ApplicationEventPublisher eventPublisher;
+
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void recordDelete(UUID binaryContentId) {
+    recordDeleteAll(List.of(binaryContentId));
+  }
+
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void recordDeleteAll(Collection<UUID> binaryContentIds) {
+    List<BlobEvent> events = binaryContentIds.stream()
+        .filter(Objects::nonNull)
+        .distinct()
+        .map(id -> new BlobEvent(id, BlobEventType.DELETE))
+        .toList();
+    if (events.isEmpty()) {
+      return;
+    }
+    blobEventRepository.saveAll(events);
+    eventPublisher.publishEvent(CacheInvalidationEvent.binaryContents(
+        events.stream().map(BlobEvent::getBinaryContentId).toList()));
+    log.debug("Blob delete events recorded: count={}", events.size());
+  }
+}
@@ -0,0 +1,72 @@
+package com.sprint.mission.discodeit.storage.outbox;
+
+import com.sprint.mission.discodeit.entity.BlobEvent;
+import com.sprint.mission.discodeit.repository.BlobEventRepository;
+import com.sprint.mission.discodeit.storage.BinaryContentStorage;
+import java.util.List;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * blob_events 를 주기적으로 가져와 저장소에 일괄 반영한다. 실패한 배치는 attempts 를 올려 다음 주기에 다시 시도하고, max-attempts 를 넘긴
+ * 이벤트는 남겨 두되 더 이상 가져오지 않는다(해당 파일은 BlobReconciler 가 결국 정리한다).
+ */
+@Slf4j
+@ConditionalOnProperty(name = "discodeit.storage.outbox.enabled", havingValue = "true", matchIfMissing = true)
+@Component
+public class BlobEventProcessor {
+
+  private final BlobEventRepository blobEventRepository;
+  private final BinaryContentStorage binaryContentStorage;
+  private final int batchSize;
+  private final int maxAttempts;
+
+  public BlobEventProcessor(
+      BlobEventRepository blobEventRepository,
+      BinaryContentStorage binaryContentStorage,
+      @Value("${discodeit.storage.outbox.batch-size:1000}") int batchSize,
+      @Value("${discodeit.storage.outbox.max-attempts:10}") int maxAttempts
+  ) {
+    this.blobEventRepository = blobEventRepository;
+    this.binaryContentStorage = binaryContentStorage;
+    this.batchSize = batchSize;
+    this.maxAttempts = maxAttempts;
+  }
+
+  /**
+   * 한 배치를 처리하고 처리한 이벤트 수를 반환한다.
+   */
+  @Scheduled(fixedDelayString = "${discodeit.storage.outbox.poll-interval-ms:5000}")
+  @Transactional
+  public int processPending() {
+    List<BlobEvent> events = blobEventRepository.findPendingForUpdate(maxAttempts,
+        Limit.of(batchSize));
+    if (events.isEmpty()) {
+      return 0;
+    }
+
+    List<UUID> binaryContentIds = events.stream()
+        .map(BlobEvent::getBinaryContentId)
+        .distinct()
+        .toList();
+    try {
+      binaryContentStorage.deleteAll(binaryContentIds);
+    } catch (Exception e) {
+      // 삭제는 멱등이므로 배치 전체를 다음 주기에 다시 시도한다
+      log.warn("Failed to apply blob events: count={}, error={}", events.size(), e.getMessage(),
+          e);
+      events.forEach(BlobEvent::increaseAttempts);
+      return 0;
+    }
+
+    blobEventRepository.deleteAllInBatch(events);
+    log.info("Blob events applied: count={}", events.size());
+    return events.size();
+  }
+}
@@ -0,0 +1,81 @@
+package com.sprint.mission.discodeit.storage.outbox;
+
+import com.sprint.mission.discodeit.repository.BinaryContentRepository;
+import com.sprint.mission.discodeit.storage.BinaryContentStorage;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 저장소에는 있지만 binary_contents 에 메타데이터가 없는 파일(outbox 도입 이전 삭제분, 프로세스 종료로 보상되지 못한 업로드 등)을 찾아 삭제한다.
+ * 업로드는 커밋 전에 일어나므로 grace-period 보다 최근에 수정된 파일은 건드리지 않는다.
+ */
+@Slf4j
+@ConditionalOnProperty(name = "discodeit.storage.outbox.enabled", havingValue = "true", matchIfMissing = true)
+@Component
+public class BlobReconciler {
+
+  private final BinaryContentRepository binaryContentRepository;
+  private final BinaryContentStorage binaryContentStorage;
+  private final Duration gracePeriod;
+  private final int batchSize;
+
+  public BlobReconciler(
+      BinaryContentRepository binaryContentRepository,
+      BinaryContentStorage binaryContentStorage,
+      @Value("${discodeit.storage.reconcile.grace-period:1h}") Duration gracePeriod,
+      @Value("${discodeit.storage.outbox.batch-size:1000}") int batchSize
+  ) {
+    this.binaryContentRepository = binaryContentRepository;
+    this.binaryContentStorage = binaryContentStorage;
+    this.gracePeriod = gracePeriod;
+    this.batchSize = batchSize;
+  }
+
+  /**
+   * 고아 파일을 삭제하고 삭제한 수를 반환한다.
+   */
+  @Scheduled(cron = "${discodeit.storage.reconcile.cron:0 30 4 * * *}")
+  public int reconcile() {
+    Instant threshold = Instant.now().minus(gracePeriod);
+    int deleted = 0;
+
+    try (Stream<UUID> storedIds = binaryContentStorage.findAllIdsModifiedBefore(threshold)) {
+      Iterator<UUID> iterator = storedIds.iterator();
+      List<UUID> batch = new ArrayList<>(batchSize);
+      while (iterator.hasNext()) {
+        batch.add(iterator.next());
+        if (batch.size() == batchSize || !iterator.hasNext()) {
+          deleted += deleteOrphans(batch);
+          batch.clear();
+        }
+      }
+    }
+
+    log.info("Blob reconciliation finished: deleted={}, threshold={}", deleted, threshold);
+    return deleted;
+  }
+
+  private int deleteOrphans(List<UUID> storedIds) {
+    Set<UUID> orphanIds = new HashSet<>(storedIds);
+    binaryContentRepository.findExistingIds(storedIds).forEach(orphanIds::remove);
+    if (orphanIds.isEmpty()) {
+      return 0;
+    }
+
+    binaryContentStorage.deleteAll(orphanIds);
+    log.debug("Orphan blobs deleted: count={}", orphanIds.size());
+    return orphanIds.size();
+  }
+}
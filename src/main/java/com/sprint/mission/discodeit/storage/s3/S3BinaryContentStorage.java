@@ -4,24 +4,33 @@ import com.sprint.mission.discodeit.dto.data.BinaryContentDto;
 import com.sprint.mission.discodeit.storage.BinaryContentStorage;
 import java.io.InputStream;
 import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
-import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
-import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.core.ResponseInputStream;
 import software.amazon.awssdk.core.sync.RequestBody;
-import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.Delete;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest.Builder;
 import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Error;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
 import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequest;
@@ -30,31 +39,42 @@ import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequ
 @Component
 public class S3BinaryContentStorage implements BinaryContentStorage {
 
-  private final String accessKey;
-  private final String secretKey;
-  private final String region;
+  private static final int MAX_DELETE_OBJECTS = 1000;
+
+  // 클라이언트는 S3StorageConfig 에서 생성한 싱글톤을 주입받아 요청마다 새로 만들지 않는다
+  private final S3Client s3Client;
+  private final S3Presigner s3Presigner;
+  private final S3PresignedUrlCache presignedUrlCache;
   private final String bucket;
+  private final Duration presignedUrlExpiration;
+  private final boolean inlineUrl;
 
   public S3BinaryContentStorage(
-      @Value("${discodeit.storage.s3.access-key}") String accessKey,
-      @Value("${discodeit.storage.s3.secret-key}") String secretKey,
-      @Value("${discodeit.storage.s3.region}") String region,
-      @Value("${discodeit.storage.s3.bucket}") String bucket
+      S3Client s3Client,
+      S3Presigner s3Presigner,
+      S3PresignedUrlCache presignedUrlCache,
+      @Value("${discodeit.storage.s3.bucket}") String bucket,
+      @Value("${discodeit.storage.s3.presigned-url-expiration:600}") long presignedUrlExpiration,
+      @Value("${discodeit.storage.s3.inline-url:false}") boolean inlineUrl
   ) {
-    this.accessKey = accessKey;
-    this.secretKey = secretKey;
-    this.region = region;
+    this.s3Client = s3Client;
+    this.s3Presigner = s3Presigner;
+    this.presignedUrlCache = presignedUrlCache;
     this.bucket = bucket;
+    this.presignedUrlExpiration = Duration.ofSeconds(presignedUrlExpiration);
+    this.inlineUrl = inlineUrl;
   }
 
   @Override
-  public UUID put(UUID binaryContentId, byte[] bytes) {
+  public UUID put(UUID binaryContentId, InputStream inputStream, long size) {
     PutObjectRequest putObjectRequest = PutObjectRequest.builder()
         .bucket(bucket)
         .key(binaryContentId.toString())
+        .contentLength(size)
         .build();
 
-    getS3Client().putObject(putObjectRequest, RequestBody.fromBytes(bytes));
+    // Content-Length 를 알려주면 SDK 가 내용을 버퍼링하지 않고 그대로 스트리밍한다
+    getS3Client().putObject(putObjectRequest, RequestBody.fromInputStream(inputStream, size));
     return binaryContentId;
   }
 
@@ -73,10 +93,56 @@ public class S3BinaryContentStorage implements BinaryContentStorage {
     }
   }
 
+  @Override
+  public void delete(UUID binaryContentId) {
+    DeleteObjectRequest deleteObjectRequest = DeleteObjectRequest.builder()
+        .bucket(bucket)
+        .key(binaryContentId.toString())
+        .build();
+
+    getS3Client().deleteObject(deleteObjectRequest);
+  }
+
+  @Override
+  public void deleteAll(Collection<UUID> binaryContentIds) {
+    List<ObjectIdentifier> objects = binaryContentIds.stream()
+        .map(id -> ObjectIdentifier.builder().key(id.toString()).build())
+        .toList();
+
+    // DeleteObjects 는 요청당 최대 1000개까지 지원한다
+    for (int from = 0; from < objects.size(); from += MAX_DELETE_OBJECTS) {
+      List<ObjectIdentifier> chunk = objects.subList(from,
+          Math.min(from + MAX_DELETE_OBJECTS, objects.size()));
+      DeleteObjectsRequest deleteObjectsRequest = DeleteObjectsRequest.builder()
+          .bucket(bucket)
+          .delete(Delete.builder().objects(chunk).quiet(true).build())
+          .build();
+
+      DeleteObjectsResponse response = getS3Client().deleteObjects(deleteObjectsRequest);
+      if (response.hasErrors() && !response.errors().isEmpty()) {
+        S3Error error = response.errors().get(0);
+        throw new IllegalStateException("Failed to delete " + response.errors().size()
+            + " objects from " + bucket + ": " + error.key() + " - " + error.code());
+      }
+    }
+  }
+
+  @Override
+  public Stream<UUID> findAllIdsModifiedBefore(Instant threshold) {
+    ListObjectsV2Request listObjectsRequest = ListObjectsV2Request.builder()
+        .bucket(bucket)
+        .build();
+
+    // 페이지는 스트림을 소비하는 만큼만 요청한다
+    return getS3Client().listObjectsV2Paginator(listObjectsRequest).contents().stream()
+        .filter(object -> object.lastModified().isBefore(threshold))
+        .map(object -> parseId(object.key()))
+        .flatMap(Optional::stream);
+  }
+
   @Override
   public ResponseEntity<Void> download(BinaryContentDto metaData) {
-    String presignedUrl = generatePresignedUrl(metaData.id().toString(),
-        metaData.contentType());
+    String presignedUrl = getPresignedUrl(metaData);
 
     // 리다이렉트 응답 생성
     return ResponseEntity
@@ -85,49 +151,49 @@ public class S3BinaryContentStorage implements BinaryContentStorage {
         .build();
   }
 
-  S3Client getS3Client() {
-    return S3Client.builder()
-        .region(Region.of(region))
-        .credentialsProvider(StaticCredentialsProvider.create(
-            AwsBasicCredentials.create(accessKey, secretKey)))
-        .build();
+  @Override
+  public Optional<String> resolveUrl(BinaryContentDto metaData) {
+    if (!inlineUrl) {
+      return Optional.empty();
+    }
+    return Optional.of(getPresignedUrl(metaData));
   }
 
-  String generatePresignedUrl(String key, String contentType) {
-    // presignUrlExpiration 값 환경 변수에서 가져오기
-    int presignedUrlExpiration;
+  private String getPresignedUrl(BinaryContentDto metaData) {
+    return presignedUrlCache.get(metaData.id(), metaData.contentType(),
+        () -> generatePresignedUrl(metaData.id().toString(), metaData.contentType()));
+  }
+
+  private Optional<UUID> parseId(String key) {
     try {
-      presignedUrlExpiration = Integer.parseInt(
-          System.getProperty("discodeit.storage.s3.presigned-url-expiration", "600"));
-    } catch (NumberFormatException e) {
-      presignedUrlExpiration = 600;
+      return Optional.of(UUID.fromString(key));
+    } catch (IllegalArgumentException e) {
+      return Optional.empty();
     }
+  }
 
-    AwsBasicCredentials awsBasicCredentials = AwsBasicCredentials.create(accessKey, secretKey);
-    try (S3Presigner presigner = S3Presigner.builder()
-        .region(Region.of(region))
-        .credentialsProvider(StaticCredentialsProvider.create(awsBasicCredentials))
-        .build()) {
+  S3Client getS3Client() {
+    return s3Client;
+  }
 
-      Builder requestBuilder = GetObjectRequest.builder()
-          .bucket(bucket)
-          .key(key);
+  String generatePresignedUrl(String key, String contentType) {
+    Builder requestBuilder = GetObjectRequest.builder()
+        .bucket(bucket)
+        .key(key);
 
-      if (contentType != null && !contentType.isEmpty()) {
-        requestBuilder.responseContentType(contentType);
-      }
+    if (contentType != null && !contentType.isEmpty()) {
+      requestBuilder.responseContentType(contentType);
+    }
 
-      GetObjectRequest getObjectRequest = requestBuilder.build();
+    GetObjectRequest getObjectRequest = requestBuilder.build();
 
-      GetObjectPresignRequest presignRequest = GetObjectPresignRequest.builder()
-          .signatureDuration(Duration.ofSeconds(presignedUrlExpiration))
-          .getObjectRequest(getObjectRequest)
-          .build();
+    GetObjectPresignRequest presignRequest = GetObjectPresignRequest.builder()
+        .signatureDuration(presignedUrlExpiration)
+        .getObjectRequest(getObjectRequest)
+        .build();
 
-      PresignedGetObjectRequest presignedRequest = presigner.presignGetObject(
-          presignRequest);
+    PresignedGetObjectRequest presignedRequest = s3Presigner.presignGetObject(presignRequest);
 
-      return presignedRequest.url().toString();
-    }
+    return presignedRequest.url().toString();
   }
 }
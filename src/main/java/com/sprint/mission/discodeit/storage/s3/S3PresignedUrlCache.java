@@ -0,0 +1,58 @@
+package com.sprint.mission.discodeit.storage.s3;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * binaryContentId, contentType 별 presigned URL 캐시. 항목은 URL 서명 시점부터 (만료시간 - safety-margin) 이 지나면 제거되므로 캐시에서
+ * 꺼낸 URL 은 최소 safety-margin 만큼의 유효기간이 남아 있다. 적중률은 cache.gets / cache.puts 등 Micrometer 지표로 노출된다.
+ */
+@ConditionalOnProperty(name = "discodeit.storage.type", havingValue = "s3")
+@Component
+public class S3PresignedUrlCache {
+
+  static final String CACHE_NAME = "s3PresignedUrls";
+
+  private final Cache<Key, String> cache;
+
+  public S3PresignedUrlCache(
+      @Value("${discodeit.storage.s3.presigned-url-expiration:600}") long presignedUrlExpiration,
+      @Value("${discodeit.storage.s3.presigned-url-cache.safety-margin:60s}") Duration safetyMargin,
+      @Value("${discodeit.storage.s3.presigned-url-cache.maximum-size:10000}") long maximumSize,
+      MeterRegistry meterRegistry
+  ) {
+    Duration expiration = Duration.ofSeconds(presignedUrlExpiration);
+    Duration timeToLive = expiration.minus(safetyMargin);
+    if (timeToLive.isNegative() || timeToLive.isZero()) {
+      // 만료시간이 너무 짧으면 유효기간의 절반만 캐시한다
+      timeToLive = expiration.dividedBy(2);
+    }
+
+    this.cache = Caffeine.newBuilder()
+        .maximumSize(maximumSize)
+        .expireAfterWrite(timeToLive)
+        .recordStats()
+        .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+  }
+
+  public String get(UUID binaryContentId, String contentType, Supplier<String> signer) {
+    return cache.get(new Key(binaryContentId, contentType), key -> signer.get());
+  }
+
+  public void evict(UUID binaryContentId, String contentType) {
+    cache.invalidate(new Key(binaryContentId, contentType));
+  }
+
+  private record Key(UUID binaryContentId, String contentType) {
+
+  }
+}
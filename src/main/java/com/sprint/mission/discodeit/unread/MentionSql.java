@@ -0,0 +1,31 @@
+package com.sprint.mission.discodeit.unread;
+
+import java.util.List;
+
+/**
+ * 메시지 내용에 특정 사용자의 멘션(@username)이 있는지 판단하는 SQL 조건식.
+ * <p>
+ * LIKE 는 {@code @bob} 이 {@code @bobby} 에도 일치하고 사용자명의 {@code _}, {@code %} 를 와일드카드로 해석하므로, 사용자명을
+ * 정규식 이스케이프한 뒤 뒤쪽이 단어 경계({@code \W} 또는 끝)인 경우만 멘션으로 본다. REGEXP_LIKE 는 PostgreSQL 15 이상과 H2 에서
+ * 같은 의미로 동작한다.
+ */
+public final class MentionSql {
+
+  // 백슬래시를 먼저 이스케이프해야 이후에 붙인 백슬래시가 다시 바뀌지 않는다
+  private static final List<String> REGEX_METACHARACTERS = List.of(
+      "\\", ".", "^", "$", "*", "+", "?", "(", ")", "[", "]", "{", "}", "|");
+
+  private MentionSql() {
+  }
+
+  /**
+   * {@code contentExpression} 에 {@code usernameExpression} 사용자의 멘션이 있으면 참인 조건식을 반환한다.
+   */
+  public static String matches(String contentExpression, String usernameExpression) {
+    String escaped = usernameExpression;
+    for (String metacharacter : REGEX_METACHARACTERS) {
+      escaped = "REPLACE(" + escaped + ", '" + metacharacter + "', '\\" + metacharacter + "')";
+    }
+    return "REGEXP_LIKE(" + contentExpression + ", '@' || " + escaped + " || '(\\W|$)')";
+  }
+}
@@ -0,0 +1,122 @@
+package com.sprint.mission.discodeit.unread;
+
+import com.sprint.mission.discodeit.dto.data.MessageDto;
+import com.sprint.mission.discodeit.event.MessageEvent;
+import com.sprint.mission.discodeit.event.MessageEventType;
+import jakarta.annotation.PreDestroy;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 새 메시지를 모았다가 채널 멤버(read_statuses)의 안 읽은 메시지 카운터에 JDBC 배치로 반영한다. 메시지 작성 요청은 카운터 갱신을
+ * 기다리지 않는다.
+ * <ul>
+ *   <li>작성자 본인과, 이미 그 메시지 이후까지 읽은 멤버(last_read_at)는 증가시키지 않는다.</li>
+ *   <li>멘션은 내용에 @username 이 단어 단위로 포함되어 있는지로 판단한다({@link MentionSql}).</li>
+ *   <li>반영에 실패한 배치나 삭제된 메시지로 어긋난 카운터는 {@link UnreadCounterReconciler} 가 다시 맞춘다.</li>
+ * </ul>
+ * 다른 노드에서 전달된 이벤트가 아니라 이 노드의 트랜잭션 이벤트만 받으므로 메시지마다 한 번만 반영된다.
+ */
+@Slf4j
+@Component
+public class UnreadCounterBuffer {
+
+  private static final String INCREMENT_SQL = """
+      UPDATE read_statuses
+      SET unread_count = unread_count + 1,
+          has_mention = has_mention
+              OR EXISTS (SELECT 1 FROM users u
+                         WHERE u.id = read_statuses.user_id
+                           AND %s)
+      WHERE channel_id = ?
+        AND user_id IS DISTINCT FROM ?
+        AND last_read_at < ?
+      """.formatted(MentionSql.matches("CAST(? AS VARCHAR)", "u.username"));
+
+  private final Queue<UnreadIncrement> pending = new ConcurrentLinkedQueue<>();
+
+  private final JdbcTemplate jdbcTemplate;
+  private final int batchSize;
+
+  public UnreadCounterBuffer(
+      JdbcTemplate jdbcTemplate,
+      @Value("${discodeit.unread.flush-batch-size:500}") int batchSize
+  ) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.batchSize = batchSize;
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  public void on(MessageEvent event) {
+    if (event.type() != MessageEventType.CREATED || event.message() == null) {
+      return;
+    }
+    MessageDto message = event.message();
+    pending.add(new UnreadIncrement(
+        message.channelId(),
+        message.author() == null ? null : message.author().id(),
+        message.createdAt(),
+        message.content()));
+  }
+
+  /**
+   * 대기 중인 메시지를 batch-size 단위로 반영하고, 반영한 메시지 수를 반환한다.
+   */
+  @Scheduled(fixedDelayString = "${discodeit.unread.flush-interval-ms:1000}")
+  public synchronized int flush() {
+    int flushed = 0;
+    List<UnreadIncrement> batch = new ArrayList<>(batchSize);
+    UnreadIncrement increment;
+    while ((increment = pending.poll()) != null) {
+      batch.add(increment);
+      if (batch.size() == batchSize) {
+        flushed += apply(batch);
+        batch.clear();
+      }
+    }
+    if (!batch.isEmpty()) {
+      flushed += apply(batch);
+    }
+    if (flushed > 0) {
+      log.debug("Unread counters flushed: messages={}", flushed);
+    }
+    return flushed;
+  }
+
+  public int pendingCount() {
+    return pending.size();
+  }
+
+  @PreDestroy
+  public void flushOnShutdown() {
+    flush();
+  }
+
+  private int apply(List<UnreadIncrement> batch) {
+    try {
+      jdbcTemplate.batchUpdate(INCREMENT_SQL, batch, batch.size(), (ps, increment) -> {
+        ps.setString(1, increment.content());
+        ps.setObject(2, increment.channelId());
+        ps.setObject(3, increment.authorId());
+        ps.setTimestamp(4, Timestamp.from(increment.createdAt()));
+      });
+      return batch.size();
+    } catch (DataAccessException e) {
+      // 일부 문장이 이미 반영됐을 수 있어 다시 시도하지 않는다 (중복 증가 방지)
+      log.error("Unread counter flush failed: messages={}, error={}", batch.size(),
+          e.getMessage(), e);
+      return 0;
+    }
+  }
+}
@@ -0,0 +1,44 @@
+package com.sprint.mission.discodeit.unread;
+
+import com.sprint.mission.discodeit.repository.ChannelRepository;
+import com.sprint.mission.discodeit.repository.ReadStatusQueryRepository;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 안 읽은 메시지 카운터를 read_statuses, messages 기준으로 다시 계산해 어긋난 값을 고친다. 트랜잭션이 길어지지 않도록 채널 단위로
+ * 처리한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+@ConditionalOnProperty(name = "discodeit.unread.reconcile.enabled", havingValue = "true", matchIfMissing = true)
+public class UnreadCounterReconciler {
+
+  private final ChannelRepository channelRepository;
+  private final ReadStatusQueryRepository readStatusQueryRepository;
+
+  /**
+   * 모든 채널의 카운터를 검사하고, 고친 읽음 상태 수를 반환한다.
+   */
+  @Scheduled(cron = "${discodeit.unread.reconcile.cron:0 0 5 * * *}")
+  public int reconcile() {
+    List<UUID> channelIds = channelRepository.findAllIds();
+    int corrected = 0;
+    for (UUID channelId : channelIds) {
+      corrected += readStatusQueryRepository.rebuildUnreadCounts(channelId);
+    }
+    if (corrected > 0) {
+      log.warn("Unread counters corrected: channels={}, readStatuses={}", channelIds.size(),
+          corrected);
+    } else {
+      log.info("Unread counters verified: channels={}", channelIds.size());
+    }
+    return corrected;
+  }
+}
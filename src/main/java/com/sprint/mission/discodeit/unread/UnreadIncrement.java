@@ -0,0 +1,16 @@
+package com.sprint.mission.discodeit.unread;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * 카운터에 반영할 새 메시지 하나.
+ */
+record UnreadIncrement(
+    UUID channelId,
+    UUID authorId,
+    Instant createdAt,
+    String content
+) {
+
+}
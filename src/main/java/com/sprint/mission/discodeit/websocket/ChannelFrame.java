@@ -0,0 +1,14 @@
+package com.sprint.mission.discodeit.websocket;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 채널 구독자에게 한 번에 전달되는 이벤트 묶음. events 는 발생 순서를 유지한다.
+ */
+public record ChannelFrame(
+    UUID channelId,
+    List<ChannelFrameEvent> events
+) {
+
+}
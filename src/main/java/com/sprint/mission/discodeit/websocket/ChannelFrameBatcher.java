@@ -0,0 +1,97 @@
+package com.sprint.mission.discodeit.websocket;
+
+import com.sprint.mission.discodeit.event.MessageEvent;
+import com.sprint.mission.discodeit.event.ReadStatusEvent;
+import com.sprint.mission.discodeit.event.RealtimeEvent;
+import com.sprint.mission.discodeit.event.TypingEvent;
+import com.sprint.mission.discodeit.event.bus.RealtimeEventListener;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.MessagingException;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채널 이벤트를 모아 flush 주기마다 /topic/channels/{channelId} 로 한 프레임씩 보낸다. 구독자 수만큼 반복되는 브로커 전송과 WebSocket
+ * 쓰기를 이벤트 수가 아니라 프레임 수에 비례하게 줄이는 것이 목적이다.
+ */
+@Slf4j
+@Component
+public class ChannelFrameBatcher implements RealtimeEventListener {
+
+  static final String TOPIC_PREFIX = "/topic/channels/";
+
+  private final Map<UUID, ChannelFrameBuffer> buffers = new ConcurrentHashMap<>();
+
+  private final SimpMessageSendingOperations messagingTemplate;
+  private final int maxEventsPerFrame;
+
+  public ChannelFrameBatcher(
+      SimpMessageSendingOperations messagingTemplate,
+      @Value("${discodeit.websocket.max-events-per-frame:100}") int maxEventsPerFrame
+  ) {
+    this.messagingTemplate = messagingTemplate;
+    this.maxEventsPerFrame = maxEventsPerFrame;
+  }
+
+  @Override
+  public void onEvent(RealtimeEvent event) {
+    if (event instanceof MessageEvent messageEvent) {
+      enqueue(messageEvent.channelId(), ChannelFrameEvent.of(messageEvent));
+    } else if (event instanceof ReadStatusEvent readStatusEvent) {
+      enqueue(readStatusEvent.channelId(), ChannelFrameEvent.of(readStatusEvent));
+    } else if (event instanceof TypingEvent typingEvent) {
+      typing(typingEvent.channelId(), typingEvent.userId());
+    }
+  }
+
+  public void enqueue(UUID channelId, ChannelFrameEvent event) {
+    // flush 가 빈 버퍼를 제거하는 것과 겹치지 않도록 compute 안에서 추가한다
+    buffers.compute(channelId, (id, buffer) -> {
+      ChannelFrameBuffer target = buffer == null ? new ChannelFrameBuffer() : buffer;
+      target.add(event);
+      return target;
+    });
+  }
+
+  public void typing(UUID channelId, UUID userId) {
+    buffers.compute(channelId, (id, buffer) -> {
+      ChannelFrameBuffer target = buffer == null ? new ChannelFrameBuffer() : buffer;
+      target.addTyping(userId);
+      return target;
+    });
+  }
+
+  // 긴 스케줄 작업에 밀리지 않도록 spring.task.scheduling.pool.size 로 스케줄러 스레드를 여러 개 둔다
+  @Scheduled(fixedDelayString = "${discodeit.websocket.flush-interval-ms:20}")
+  public void flush() {
+    for (Map.Entry<UUID, ChannelFrameBuffer> entry : buffers.entrySet()) {
+      UUID channelId = entry.getKey();
+      List<ChannelFrameEvent> events;
+      while (!(events = entry.getValue().drain(maxEventsPerFrame)).isEmpty()) {
+        send(channelId, events);
+      }
+      buffers.computeIfPresent(channelId, (id, buffer) -> buffer.isEmpty() ? null : buffer);
+    }
+  }
+
+  public int pendingChannelCount() {
+    return buffers.size();
+  }
+
+  private void send(UUID channelId, List<ChannelFrameEvent> events) {
+    try {
+      messagingTemplate.convertAndSend(TOPIC_PREFIX + channelId,
+          new ChannelFrame(channelId, events));
+      log.debug("WebSocket frame sent: channelId={}, events={}", channelId, events.size());
+    } catch (MessagingException e) {
+      log.warn("WebSocket frame send failed: channelId={}, events={}, error={}", channelId,
+          events.size(), e.getMessage());
+    }
+  }
+}
@@ -0,0 +1,43 @@
+package com.sprint.mission.discodeit.websocket;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 한 채널에서 다음 flush 까지 쌓인 이벤트. 같은 사용자의 입력 중 표시는 한 번만 남긴다.
+ */
+final class ChannelFrameBuffer {
+
+  private final Deque<ChannelFrameEvent> events = new ArrayDeque<>();
+  private final Set<UUID> typingUserIds = new HashSet<>();
+
+  synchronized void add(ChannelFrameEvent event) {
+    events.addLast(event);
+  }
+
+  synchronized void addTyping(UUID userId) {
+    if (typingUserIds.add(userId)) {
+      events.addLast(ChannelFrameEvent.typing(userId));
+    }
+  }
+
+  synchronized List<ChannelFrameEvent> drain(int maxEvents) {
+    List<ChannelFrameEvent> drained = new ArrayList<>(Math.min(maxEvents, events.size()));
+    while (drained.size() < maxEvents && !events.isEmpty()) {
+      drained.add(events.pollFirst());
+    }
+    if (events.isEmpty()) {
+      typingUserIds.clear();
+    }
+    return drained;
+  }
+
+  synchronized boolean isEmpty() {
+    return events.isEmpty();
+  }
+}
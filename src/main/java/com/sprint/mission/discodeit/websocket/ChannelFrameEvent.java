@@ -0,0 +1,32 @@
+package com.sprint.mission.discodeit.websocket;
+
+import com.sprint.mission.discodeit.event.MessageEvent;
+import com.sprint.mission.discodeit.event.ReadStatusEvent;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 프레임 안의 개별 이벤트. type 은 SSE 이벤트 이름과 같은 규칙(message.created 등)을 따른다.
+ */
+public record ChannelFrameEvent(
+    String type,
+    Object data
+) {
+
+  static final String TYPING = "typing";
+
+  public static ChannelFrameEvent of(MessageEvent event) {
+    Object data = event.message() != null
+        ? event.message()
+        : Map.of("id", event.messageId(), "channelId", event.channelId());
+    return new ChannelFrameEvent("message." + event.type().name().toLowerCase(), data);
+  }
+
+  public static ChannelFrameEvent of(ReadStatusEvent event) {
+    return new ChannelFrameEvent("read-status.updated", event);
+  }
+
+  public static ChannelFrameEvent typing(UUID userId) {
+    return new ChannelFrameEvent(TYPING, Map.of("userId", userId));
+  }
+}
@@ -0,0 +1,87 @@
+package com.sprint.mission.discodeit.websocket;
+
+import com.sprint.mission.discodeit.dto.request.MessageCreateRequest;
+import com.sprint.mission.discodeit.dto.request.ReadStatusUpdateRequest;
+import com.sprint.mission.discodeit.dto.request.TypingRequest;
+import com.sprint.mission.discodeit.event.TypingEvent;
+import com.sprint.mission.discodeit.exception.DiscodeitException;
+import com.sprint.mission.discodeit.exception.ErrorCode;
+import com.sprint.mission.discodeit.exception.ErrorResponse;
+import com.sprint.mission.discodeit.exception.GlobalExceptionHandler;
+import com.sprint.mission.discodeit.service.MessageService;
+import com.sprint.mission.discodeit.service.ReadStatusService;
+import jakarta.validation.Valid;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.handler.annotation.MessageExceptionHandler;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.messaging.handler.annotation.support.MethodArgumentNotValidException;
+import org.springframework.messaging.simp.annotation.SendToUser;
+import org.springframework.stereotype.Controller;
+
+/**
+ * WebSocket(STOMP) 으로 들어오는 메시지 전송, 입력 중 표시, 읽음 처리. 메시지와 읽음 처리는 REST 와 같은 서비스를 거치고, 결과는
+ * 채널 구독(/topic/channels/{channelId})으로 전달된다. 첨부파일이 있는 메시지는 기존 multipart API 를 사용한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Controller
+public class ChannelGatewayController {
+
+  private final MessageService messageService;
+  private final ReadStatusService readStatusService;
+  private final ApplicationEventPublisher eventPublisher;
+
+  @MessageMapping("/messages")
+  public void sendMessage(@Valid @Payload MessageCreateRequest request) {
+    log.debug("WebSocket message received: channelId={}, authorId={}", request.channelId(),
+        request.authorId());
+    messageService.create(request, List.of());
+  }
+
+  // 입력 중 표시는 저장하지 않고 채널 구독자에게만 전달한다
+  @MessageMapping("/channels/{channelId}/typing")
+  public void typing(@DestinationVariable UUID channelId, @Valid @Payload TypingRequest request) {
+    eventPublisher.publishEvent(new TypingEvent(channelId, request.userId()));
+  }
+
+  @MessageMapping("/read-statuses/{readStatusId}")
+  public void acknowledgeRead(@DestinationVariable UUID readStatusId,
+      @Valid @Payload ReadStatusUpdateRequest request) {
+    readStatusService.update(readStatusId, request);
+  }
+
+  @MessageExceptionHandler(DiscodeitException.class)
+  @SendToUser(destinations = "/queue/errors", broadcast = false)
+  public ErrorResponse handleDiscodeitException(DiscodeitException e) {
+    log.warn("WebSocket request failed: code={}, message={}", e.getErrorCode(), e.getMessage());
+    return ErrorResponse.from(e, GlobalExceptionHandler.getStatus(e.getErrorCode()).value());
+  }
+
+  @MessageExceptionHandler(MethodArgumentNotValidException.class)
+  @SendToUser(destinations = "/queue/errors", broadcast = false)
+  public ErrorResponse handleValidationException(MethodArgumentNotValidException e) {
+    Map<String, Object> details = new HashMap<>();
+    if (e.getBindingResult() != null) {
+      e.getBindingResult().getFieldErrors().forEach(error ->
+          details.put(error.getField(), error.getDefaultMessage()));
+    }
+    return ErrorResponse.of(
+        Instant.now(),
+        ErrorCode.VALIDATION_ERROR.name(),
+        "Validation failed",
+        details,
+        e.getClass().getSimpleName(),
+        HttpStatus.BAD_REQUEST.value()
+    );
+  }
+}
@@ -0,0 +1,10 @@
+-- Channel.lastMessageAt (비정규화 컬럼)
+ALTER TABLE channels
+    ADD COLUMN IF NOT EXISTS last_message_at timestamp with time zone;
+
+-- 기존 채널은 현재 메시지 기준으로 채워 둔다
+UPDATE channels c
+SET last_message_at = (SELECT MAX(m.created_at)
+                       FROM messages m
+                       WHERE m.channel_id = c.id)
+WHERE c.last_message_at IS NULL;
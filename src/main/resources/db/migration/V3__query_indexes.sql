@@ -0,0 +1,24 @@
+-- 조회 쿼리용 인덱스
+
+-- MessageRepository.findLatestIdsByChannelId, findIdsBeforeByChannelId, findIdsAfterByChannelId:
+-- channel_id 일치 + (created_at, id) keyset 커서 기준 정렬
+-- MessageRepository.deleteAllByChannelId, findLastMessageAtByChannelId 도 같은 인덱스를 사용한다
+CREATE INDEX IF NOT EXISTS idx_messages_channel_id_created_at_id
+    ON messages (channel_id, created_at DESC, id DESC);
+
+-- users 삭제 시 messages.author_id ON DELETE SET NULL
+CREATE INDEX IF NOT EXISTS idx_messages_author_id
+    ON messages (author_id);
+
+-- ReadStatusRepository.findAllByChannelIdWithUser, deleteAllByChannelId
+-- (findAllByUserId 는 UNIQUE (user_id, channel_id) 인덱스를 사용한다)
+CREATE INDEX IF NOT EXISTS idx_read_statuses_channel_id
+    ON read_statuses (channel_id);
+
+-- binary_contents 삭제 시 message_attachments.attachment_id ON DELETE CASCADE
+CREATE INDEX IF NOT EXISTS idx_message_attachments_attachment_id
+    ON message_attachments (attachment_id);
+
+-- binary_contents 삭제 시 users.profile_id ON DELETE SET NULL
+CREATE INDEX IF NOT EXISTS idx_users_profile_id
+    ON users (profile_id);
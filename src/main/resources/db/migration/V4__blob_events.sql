@@ -0,0 +1,13 @@
+-- BinaryContent 저장소 작업 outbox (메타데이터와 같은 트랜잭션에서 기록)
+CREATE TABLE IF NOT EXISTS blob_events
+(
+    id                uuid PRIMARY KEY,
+    created_at        timestamp with time zone NOT NULL,
+    binary_content_id uuid                     NOT NULL,
+    type              varchar(10)              NOT NULL,
+    attempts          integer                  NOT NULL DEFAULT 0
+);
+
+-- BlobEventRepository.findPendingForUpdate: 오래된 순으로 재시도 한도 미만인 이벤트 조회
+CREATE INDEX IF NOT EXISTS idx_blob_events_created_at
+    ON blob_events (created_at);
@@ -0,0 +1,3 @@
+-- PresenceIndex.reload: 최근 활동한 사용자만 범위 조회
+CREATE INDEX IF NOT EXISTS idx_user_statuses_last_active_at
+    ON user_statuses (last_active_at);
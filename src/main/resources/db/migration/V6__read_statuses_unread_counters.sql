@@ -0,0 +1,21 @@
+-- 채널별 안 읽은 메시지 카운터
+-- 메시지 생성 시 UnreadCounterBuffer 가 비동기로 증가시키고, 읽음 처리 시 0 으로 되돌린다
+ALTER TABLE read_statuses
+    ADD COLUMN IF NOT EXISTS unread_count integer NOT NULL DEFAULT 0,
+    ADD COLUMN IF NOT EXISTS has_mention  boolean NOT NULL DEFAULT false;
+
+-- 기존 읽음 상태는 현재 메시지 기준으로 채워 둔다 (UnreadCounterReconciler 와 같은 기준)
+UPDATE read_statuses r
+SET unread_count = (SELECT COUNT(*)
+                    FROM messages m
+                    WHERE m.channel_id = r.channel_id
+                      AND m.created_at > r.last_read_at
+                      AND m.author_id IS DISTINCT FROM r.user_id),
+    has_mention  = EXISTS (SELECT 1
+                           FROM messages m
+                                    JOIN users u ON u.id = r.user_id
+                           WHERE m.channel_id = r.channel_id
+                             AND m.created_at > r.last_read_at
+                             AND m.author_id IS DISTINCT FROM r.user_id
+                             -- MentionSql.matches("m.content", "u.username") 가 만드는 식과 같다
+                             AND REGEXP_LIKE(m.content, '@' || REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(u.username, '\', '\\'), '.', '\.'), '^', '\^'), '$', '\$'), '*', '\*'), '+', '\+'), '?', '\?'), '(', '\('), ')', '\)'), '[', '\['), ']', '\]'), '{', '\{'), '}', '\}'), '|', '\|') || '(\W|$)'));
@@ -0,0 +1,9 @@
+-- 메시지 본문 전문 검색 (MessageSearchRepository)
+-- 한국어는 PostgreSQL 기본 사전이 없으므로 형태소 분석 없이 공백/구두점 단위로 자르는 'simple' 설정을 사용한다
+-- 생성 컬럼 추가는 테이블을 다시 쓰므로 메시지가 많은 운영 DB 에서는 점검 시간에 적용한다
+ALTER TABLE messages
+    ADD COLUMN IF NOT EXISTS content_tsv tsvector
+        GENERATED ALWAYS AS (to_tsvector('simple', content)) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_messages_content_tsv
+    ON messages USING GIN (content_tsv);
@@ -0,0 +1,129 @@
+package com.sprint.mission.discodeit.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+import com.sprint.mission.discodeit.dto.data.UserDto;
+import com.sprint.mission.discodeit.event.CacheInvalidationEvent;
+import com.sprint.mission.discodeit.presence.PresenceIndex;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+
+@ExtendWith(MockitoExtension.class)
+class UserDtoCacheTest {
+
+  @Mock
+  private PresenceIndex presenceIndex;
+  @Mock
+  private ObjectProvider<SharedCacheTier> sharedCacheTierProvider;
+  @Mock
+  private SharedCacheTier sharedCacheTier;
+
+  private SimpleMeterRegistry meterRegistry;
+  private UUID userId;
+  private UserDto userDto;
+  private AtomicInteger loads;
+  private Function<UUID, UserDto> loader;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    userId = UUID.randomUUID();
+    userDto = new UserDto(userId, "cached", "cached@example.com", null, null);
+    loads = new AtomicInteger();
+    loader = id -> {
+      loads.incrementAndGet();
+      return userDto;
+    };
+  }
+
+  @Test
+  void get_두_번째_조회는_DB_를_거치지_않고_online_은_매번_다시_채운다() {
+    // given
+    UserDtoCache cache = createCache(null);
+    given(presenceIndex.isOnline(userId)).willReturn(false, true);
+
+    // when
+    UserDto first = cache.get(userId, loader);
+    UserDto second = cache.get(userId, loader);
+
+    // then
+    assertThat(loads).hasValue(1);
+    assertThat(first.online()).isFalse();
+    assertThat(second.online()).isTrue();
+    assertThat(meterRegistry.get("discodeit.cache.hit.ratio").tag("cache", "users").gauge()
+        .value()).isEqualTo(0.5);
+  }
+
+  @Test
+  void onEvent_무효화_이벤트를_받으면_다시_조회한다() {
+    // given
+    UserDtoCache cache = createCache(null);
+    cache.get(userId, loader);
+
+    // when
+    cache.onEvent(CacheInvalidationEvent.users(userId));
+    cache.onEvent(CacheInvalidationEvent.binaryContents(List.of(userId)));
+    cache.get(userId, loader);
+
+    // then
+    assertThat(loads).hasValue(2);
+  }
+
+  @Test
+  void getAll_로컬에_없는_키는_공유_캐시에서_먼저_찾는다() {
+    // given
+    UserDtoCache cache = createCache(sharedCacheTier);
+    UUID otherId = UUID.randomUUID();
+    UserDto other = new UserDto(otherId, "other", "other@example.com", null, null);
+    given(sharedCacheTier.getAll(eq(CacheInvalidationEvent.USERS), anyCollection(),
+        eq(UserDto.class))).willReturn(Map.of(userId, userDto));
+
+    // when
+    Map<UUID, UserDto> result = cache.getAll(List.of(userId, otherId), ids -> {
+      assertThat(ids).containsExactly(otherId);
+      return Map.of(otherId, other);
+    });
+
+    // then
+    assertThat(result).containsOnlyKeys(userId, otherId);
+    then(sharedCacheTier).should()
+        .putAll(eq(CacheInvalidationEvent.USERS), eq(Map.of(otherId, other)), any());
+  }
+
+  @Test
+  void get_공유_캐시_장애는_DB_조회로_대체한다() {
+    // given
+    UserDtoCache cache = createCache(sharedCacheTier);
+    given(sharedCacheTier.get(CacheInvalidationEvent.USERS, userId, UserDto.class))
+        .willThrow(new IllegalStateException("connection refused"));
+
+    // when
+    UserDto result = cache.get(userId, loader);
+
+    // then
+    assertThat(result.id()).isEqualTo(userId);
+    assertThat(loads).hasValue(1);
+  }
+
+  private UserDtoCache createCache(SharedCacheTier shared) {
+    given(sharedCacheTierProvider.getIfAvailable()).willReturn(shared);
+    return new UserDtoCache(presenceIndex, sharedCacheTierProvider, meterRegistry, 100,
+        Duration.ofMinutes(10));
+  }
+}
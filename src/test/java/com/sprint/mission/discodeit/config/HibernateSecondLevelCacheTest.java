@@ -0,0 +1,107 @@
+package com.sprint.mission.discodeit.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.sprint.mission.discodeit.cache.BinaryContentDtoCache;
+import com.sprint.mission.discodeit.dto.data.ChannelDto;
+import com.sprint.mission.discodeit.dto.request.PublicChannelCreateRequest;
+import com.sprint.mission.discodeit.entity.BinaryContent;
+import com.sprint.mission.discodeit.repository.BinaryContentRepository;
+import com.sprint.mission.discodeit.service.ChannelService;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Hibernate 통계로 같은 채널과 파일 메타데이터를 반복 조회할 때 2차 캐시를 사용하는지 확인한다. 각 조회가 별도 트랜잭션(세션)에서 실행되도록
+ * 테스트 트랜잭션을 쓰지 않는다.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class HibernateSecondLevelCacheTest {
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private ChannelService channelService;
+
+  @Autowired
+  private BinaryContentRepository binaryContentRepository;
+
+  @Autowired
+  private BinaryContentDtoCache binaryContentDtoCache;
+
+  @Autowired
+  private TransactionTemplate transactionTemplate;
+
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
+  private Statistics statistics;
+
+  @BeforeEach
+  void setUp() {
+    entityManagerFactory.getCache().evictAll();
+    statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    statistics.clear();
+  }
+
+  @Test
+  void 채널_반복_조회는_2차_캐시에서_읽는다() {
+    // given
+    ChannelDto channel = channelService.create(
+        new PublicChannelCreateRequest("cached-channel", null));
+    entityManagerFactory.getCache().evictAll();
+    statistics.clear();
+
+    // when
+    channelService.find(channel.id());
+    channelService.find(channel.id());
+
+    // then
+    CacheRegionStatistics region = statistics.getDomainDataRegionStatistics("channels");
+    assertThat(region.getMissCount()).isEqualTo(1);
+    assertThat(region.getPutCount()).isEqualTo(1);
+    assertThat(region.getHitCount()).isEqualTo(1);
+  }
+
+  @Test
+  void 파일_메타데이터_반복_조회는_DB_를_거치지_않는다() throws Exception {
+    // given
+    BinaryContent binaryContent = transactionTemplate.execute(status ->
+        binaryContentRepository.save(new BinaryContent("cached.png", 10L, "image/png")));
+    entityManagerFactory.getCache().evictAll();
+    statistics.clear();
+
+    // when
+    mockMvc.perform(get("/api/binaryContents/{id}", binaryContent.getId()))
+        .andExpect(status().isOk());
+    // DTO 캐시를 비워 Hibernate 조회까지 내려가게 한다
+    binaryContentDtoCache.evictAll(List.of(binaryContent.getId()));
+    long statementsBefore = statistics.getPrepareStatementCount();
+    mockMvc.perform(get("/api/binaryContents/{id}", binaryContent.getId()))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.fileName").value("cached.png"));
+
+    // then
+    CacheRegionStatistics region = statistics.getDomainDataRegionStatistics("binary-contents");
+    assertThat(region.getMissCount()).isEqualTo(1);
+    assertThat(region.getHitCount()).isEqualTo(1);
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(statementsBefore);
+  }
+}
@@ -21,6 +21,7 @@ import com.sprint.mission.discodeit.dto.request.PublicChannelUpdateRequest;
 import com.sprint.mission.discodeit.entity.ChannelType;
 import com.sprint.mission.discodeit.exception.channel.ChannelExceptions;
 import com.sprint.mission.discodeit.service.ChannelService;
+import com.sprint.mission.discodeit.sse.ChannelEventHub;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
@@ -45,6 +46,9 @@ class ChannelControllerTest {
   @MockitoBean
   private ChannelService channelService;
 
+  @MockitoBean
+  private ChannelEventHub channelEventHub;
+
   @Test
   void 공개_채널_생성_성공() throws Exception {
     // given
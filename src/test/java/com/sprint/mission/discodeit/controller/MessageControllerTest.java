@@ -15,7 +15,9 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sprint.mission.discodeit.dto.data.MessageCursor;
 import com.sprint.mission.discodeit.dto.data.MessageDto;
+import com.sprint.mission.discodeit.dto.data.MessagePageDirection;
 import com.sprint.mission.discodeit.dto.data.UserDto;
 import com.sprint.mission.discodeit.dto.request.MessageCreateRequest;
 import com.sprint.mission.discodeit.dto.request.MessageUpdateRequest;
@@ -31,7 +33,6 @@ import java.util.UUID;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
@@ -309,14 +310,14 @@ class MessageControllerTest {
 
     PageResponse<MessageDto> pageResponse = new PageResponse<>(
         messages,
-        messages.get(1).createdAt(),
+        MessageCursor.from(messages.get(1)).encode(),
         10,
         false,
         2L
     );
 
-    when(messageService.findAllByChannelId(eq(channelId), nullable(Instant.class),
-        any(Pageable.class)))
+    when(messageService.findAllByChannelId(eq(channelId), nullable(String.class),
+        eq(MessagePageDirection.BEFORE), eq(50)))
         .thenReturn(pageResponse);
     // when & then
     mockMvc.perform(get("/api/messages")
@@ -339,8 +340,8 @@ class MessageControllerTest {
     // given
     UUID channelId = UUID.randomUUID();
 
-    when(messageService.findAllByChannelId(eq(channelId), nullable(Instant.class),
-        any(Pageable.class)))
+    when(messageService.findAllByChannelId(eq(channelId), nullable(String.class),
+        eq(MessagePageDirection.BEFORE), eq(50)))
         .thenThrow(ChannelExceptions.notFound(channelId));
 
     // when & then
@@ -387,23 +388,25 @@ class MessageControllerTest {
     );
 
     // 커서
-    Instant cursor = Instant.now().minusSeconds(60);
+    String cursor = new MessageCursor(Instant.now().minusSeconds(60), UUID.randomUUID()).encode();
 
     PageResponse<MessageDto> pageResponse = new PageResponse<>(
         messages,
-        messages.get(1).createdAt(),
+        MessageCursor.from(messages.get(1)).encode(),
         10,
         false,
         2L
     );
 
-    when(messageService.findAllByChannelId(eq(channelId), eq(cursor), any(Pageable.class)))
+    when(messageService.findAllByChannelId(eq(channelId), eq(cursor),
+        eq(MessagePageDirection.BEFORE), eq(10)))
         .thenReturn(pageResponse);
 
     // when & then
     mockMvc.perform(get("/api/messages")
             .param("channelId", channelId.toString())
-            .param("cursor", cursor.toString())
+            .param("cursor", cursor)
+            .param("size", "10")
             .contentType(MediaType.APPLICATION_JSON))
         .andExpect(status().isOk())
         .andExpect(jsonPath("$.content").isArray())
@@ -416,4 +419,24 @@ class MessageControllerTest {
         .andExpect(jsonPath("$.hasNext").value(false))
         .andExpect(jsonPath("$.totalElements").value(2));
   }
-}
\ No newline at end of file
+
+  @Test
+  void 채널_메시지_조회_실패_잘못된_커서() throws Exception {
+    // given
+    UUID channelId = UUID.randomUUID();
+    String cursor = "invalid-cursor";
+
+    when(messageService.findAllByChannelId(eq(channelId), eq(cursor),
+        eq(MessagePageDirection.BEFORE), eq(50)))
+        .thenThrow(MessageExceptions.invalidCursor(cursor));
+
+    // when & then
+    mockMvc.perform(get("/api/messages")
+            .param("channelId", channelId.toString())
+            .param("cursor", cursor)
+            .contentType(MediaType.APPLICATION_JSON))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.code").value("INVALID_MESSAGE_CURSOR"))
+        .andExpect(jsonPath("$.details.cursor").value(cursor));
+  }
+}
@@ -160,7 +160,7 @@ class UserControllerTest {
     UUID userId2 = UUID.randomUUID();
 
     BinaryContentDto profile = new BinaryContentDto(
-        UUID.randomUUID(), "profile.jpg", 1024L, "image/jpeg");
+        UUID.randomUUID(), "profile.jpg", 1024L, "image/jpeg", null);
 
     List<UserDto> users = List.of(
         new UserDto(userId1, "user1", "user1@example.com", null, true),
@@ -0,0 +1,187 @@
+package com.sprint.mission.discodeit.event.bus;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sprint.mission.discodeit.DiscodeitApplication;
+import com.sprint.mission.discodeit.dto.data.ChannelDto;
+import com.sprint.mission.discodeit.dto.data.MessageDto;
+import com.sprint.mission.discodeit.dto.data.UserDto;
+import com.sprint.mission.discodeit.dto.request.MessageCreateRequest;
+import com.sprint.mission.discodeit.dto.request.PublicChannelCreateRequest;
+import com.sprint.mission.discodeit.dto.request.UserCreateRequest;
+import com.sprint.mission.discodeit.event.MessageEvent;
+import com.sprint.mission.discodeit.event.RealtimeEvent;
+import com.sprint.mission.discodeit.event.TypingEvent;
+import com.sprint.mission.discodeit.service.ChannelService;
+import com.sprint.mission.discodeit.service.MessageService;
+import com.sprint.mission.discodeit.service.UserService;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * 같은 PostgreSQL 을 쓰는 애플리케이션 컨텍스트 두 개(노드 A, B)를 한 JVM 에 띄워 LISTEN/NOTIFY 버스의 노드 간 전달과 지연 시간을
+ * 확인한다. Docker 가 없는 환경에서는 건너뛴다.
+ */
+@Slf4j
+@Testcontainers(disabledWithoutDocker = true)
+class ChannelEventBusCrossNodeTest {
+
+  private static final int EVENT_COUNT = 200;
+  private static final long TIMEOUT_MILLIS = 10_000;
+
+  @Container
+  static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:17-alpine");
+
+  private static ConfigurableApplicationContext nodeA;
+  private static ConfigurableApplicationContext nodeB;
+  private static final Probe probeA = new Probe();
+  private static final Probe probeB = new Probe();
+
+  @BeforeAll
+  static void startNodes() {
+    nodeA = startNode(probeA);
+    nodeB = startNode(probeB);
+  }
+
+  @AfterAll
+  static void stopNodes() {
+    if (nodeB != null) {
+      nodeB.close();
+    }
+    if (nodeA != null) {
+      nodeA.close();
+    }
+  }
+
+  @Test
+  void 다른_노드의_구독자에게_한_번씩_전달된다() throws InterruptedException {
+    // given
+    ChannelEventBus busA = nodeA.getBean(ChannelEventBus.class);
+    UUID channelId = UUID.randomUUID();
+    Map<UUID, Long> sentAt = new ConcurrentHashMap<>();
+
+    // when
+    for (int i = 0; i < EVENT_COUNT; i++) {
+      UUID userId = UUID.randomUUID();
+      sentAt.put(userId, System.nanoTime());
+      busA.publish(new TypingEvent(channelId, userId));
+    }
+
+    // then
+    assertThat(probeB.awaitTyping(sentAt.keySet(), TIMEOUT_MILLIS)).isTrue();
+    // 발행 노드는 자신이 보낸 알림을 다시 전달하지 않는다
+    Thread.sleep(500);
+    assertThat(probeA.typingCount(sentAt.keySet())).isEqualTo(EVENT_COUNT);
+
+    List<Long> latencies = new ArrayList<>();
+    sentAt.forEach((userId, sent) ->
+        latencies.add(TimeUnit.NANOSECONDS.toMicros(probeB.typingReceivedAt(userId) - sent)));
+    Collections.sort(latencies);
+    log.info("Cross-node bus latency(us): p50={}, p99={}, max={}",
+        latencies.get(latencies.size() / 2),
+        latencies.get(latencies.size() * 99 / 100),
+        latencies.get(latencies.size() - 1));
+  }
+
+  @Test
+  void 크기_제한을_넘는_메시지는_받는_노드에서_다시_조회한다() throws InterruptedException {
+    // given
+    UserDto author = nodeA.getBean(UserService.class).create(
+        new UserCreateRequest("busauthor", "bus@example.com", "password1234"), Optional.empty());
+    ChannelDto channel = nodeA.getBean(ChannelService.class).create(
+        new PublicChannelCreateRequest("bus-channel", null));
+    String content = "x".repeat(PostgresChannelEventBus.MAX_PAYLOAD_BYTES);
+
+    // when
+    MessageDto message = nodeA.getBean(MessageService.class).create(
+        new MessageCreateRequest(content, channel.id(), author.id()), List.of());
+
+    // then
+    MessageEvent received = probeB.awaitMessage(message.id(), TIMEOUT_MILLIS);
+    assertThat(received).isNotNull();
+    assertThat(received.message()).isNotNull();
+    assertThat(received.message().content()).isEqualTo(content);
+  }
+
+  private static ConfigurableApplicationContext startNode(Probe probe) {
+    return new SpringApplicationBuilder(DiscodeitApplication.class)
+        .properties(
+            "server.port=0",
+            "spring.datasource.url=" + postgres.getJdbcUrl(),
+            "spring.datasource.username=" + postgres.getUsername(),
+            "spring.datasource.password=" + postgres.getPassword(),
+            "spring.flyway.enabled=true",
+            "spring.jpa.hibernate.ddl-auto=validate",
+            "discodeit.storage.type=local",
+            "discodeit.storage.outbox.enabled=false",
+            "discodeit.realtime.bus.type=postgres")
+        .initializers(context -> context.getBeanFactory().registerSingleton(
+            "crossNodeProbe", probe))
+        .run();
+  }
+
+  private static final class Probe implements RealtimeEventListener {
+
+    private final Map<UUID, Long> typingReceivedAt = new ConcurrentHashMap<>();
+    private final Map<UUID, Integer> typingCounts = new ConcurrentHashMap<>();
+    private final Map<UUID, MessageEvent> messages = new ConcurrentHashMap<>();
+
+    @Override
+    public void onEvent(RealtimeEvent event) {
+      if (event instanceof TypingEvent typingEvent) {
+        typingReceivedAt.putIfAbsent(typingEvent.userId(), System.nanoTime());
+        typingCounts.merge(typingEvent.userId(), 1, Integer::sum);
+      } else if (event instanceof MessageEvent messageEvent) {
+        messages.putIfAbsent(messageEvent.messageId(), messageEvent);
+      }
+    }
+
+    boolean awaitTyping(Iterable<UUID> userIds, long timeoutMillis) throws InterruptedException {
+      long deadline = System.currentTimeMillis() + timeoutMillis;
+      for (UUID userId : userIds) {
+        while (!typingReceivedAt.containsKey(userId)) {
+          if (System.currentTimeMillis() > deadline) {
+            return false;
+          }
+          Thread.sleep(5);
+        }
+      }
+      return true;
+    }
+
+    long typingReceivedAt(UUID userId) {
+      return typingReceivedAt.get(userId);
+    }
+
+    int typingCount(Iterable<UUID> userIds) {
+      int count = 0;
+      for (UUID userId : userIds) {
+        count += typingCounts.getOrDefault(userId, 0);
+      }
+      return count;
+    }
+
+    MessageEvent awaitMessage(UUID messageId, long timeoutMillis) throws InterruptedException {
+      long deadline = System.currentTimeMillis() + timeoutMillis;
+      while (!messages.containsKey(messageId) && System.currentTimeMillis() < deadline) {
+        Thread.sleep(5);
+      }
+      return messages.get(messageId);
+    }
+  }
+}
@@ -0,0 +1,103 @@
+package com.sprint.mission.discodeit.mapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sprint.mission.discodeit.dto.data.ChannelDto;
+import com.sprint.mission.discodeit.entity.BinaryContent;
+import com.sprint.mission.discodeit.entity.Channel;
+import com.sprint.mission.discodeit.entity.ChannelType;
+import com.sprint.mission.discodeit.entity.ReadStatus;
+import com.sprint.mission.discodeit.entity.User;
+import com.sprint.mission.discodeit.entity.UserStatus;
+import com.sprint.mission.discodeit.presence.PresenceIndex;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Hibernate 통계로 채널 목록 변환에 드는 쿼리 수를 센다. 채널이 늘어나도 비공개 채널 참여자 조회 1회로 끝나야 한다.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@EnableJpaAuditing
+@ActiveProfiles("test")
+@Import({ChannelMapperImpl.class, UserMapperImpl.class, BinaryContentMapperImpl.class,
+    PresenceIndex.class})
+class ChannelMapperTest {
+
+  @Autowired
+  private ChannelMapper channelMapper;
+
+  @Autowired
+  private TestEntityManager entityManager;
+
+  private Statistics statistics;
+  private int userSequence;
+
+  @BeforeEach
+  void setUp() {
+    statistics = entityManager.getEntityManager().getEntityManagerFactory()
+        .unwrap(SessionFactory.class).getStatistics();
+  }
+
+  @Test
+  void toDtos_채널_수와_관계없이_쿼리_수가_같다() {
+    // given
+    List<Channel> fewChannels = createChannels(2);
+    List<Channel> manyChannels = createChannels(10);
+    entityManager.flush();
+    entityManager.clear();
+
+    // when
+    statistics.clear();
+    List<ChannelDto> fewDtos = channelMapper.toDtos(fewChannels);
+    long fewStatements = statistics.getPrepareStatementCount();
+    entityManager.clear();
+
+    statistics.clear();
+    List<ChannelDto> manyDtos = channelMapper.toDtos(manyChannels);
+    long manyStatements = statistics.getPrepareStatementCount();
+
+    // then
+    assertThat(fewDtos).hasSize(4);
+    assertThat(manyDtos).hasSize(20);
+    assertThat(manyDtos).filteredOn(dto -> dto.type() == ChannelType.PRIVATE)
+        .allSatisfy(dto -> assertThat(dto.participants()).hasSize(2)
+            .allSatisfy(participant -> assertThat(participant.profile()).isNotNull()));
+    assertThat(fewStatements).isEqualTo(1);
+    assertThat(manyStatements).isEqualTo(fewStatements);
+  }
+
+  // 공개 채널과, 프로필이 있는 참여자 2명을 가진 비공개 채널을 count 개씩 만든다
+  private List<Channel> createChannels(int count) {
+    List<Channel> channels = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      channels.add(entityManager.persist(
+          new Channel(ChannelType.PUBLIC, "public-" + userSequence + "-" + i, null)));
+
+      Channel privateChannel = entityManager.persist(new Channel(ChannelType.PRIVATE, null, null));
+      for (int j = 0; j < 2; j++) {
+        entityManager.persist(new ReadStatus(createUser(), privateChannel, Instant.now()));
+      }
+      channels.add(privateChannel);
+    }
+    return channels;
+  }
+
+  private User createUser() {
+    int sequence = userSequence++;
+    User user = new User("user" + sequence, "user" + sequence + "@example.com", "password",
+        new BinaryContent("profile" + sequence + ".png", 10L, "image/png"));
+    new UserStatus(user, Instant.now());
+    return entityManager.persist(user);
+  }
+}
@@ -0,0 +1,106 @@
+package com.sprint.mission.discodeit.presence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class PresenceIndexTest {
+
+  @Mock
+  private JdbcTemplate jdbcTemplate;
+
+  private PresenceIndex presenceIndex;
+
+  @BeforeEach
+  void setUp() {
+    presenceIndex = new PresenceIndex(jdbcTemplate, Duration.ofSeconds(10));
+  }
+
+  @Test
+  void touch_최근_활동한_사용자는_online() {
+    // given
+    UUID userId = UUID.randomUUID();
+
+    // when
+    presenceIndex.touch(userId, Instant.now());
+
+    // then
+    assertThat(presenceIndex.isOnline(userId)).isTrue();
+    assertThat(presenceIndex.onlineCount()).isEqualTo(1);
+  }
+
+  @Test
+  void touch_이미_만료된_시각은_무시한다() {
+    // given
+    UUID userId = UUID.randomUUID();
+
+    // when
+    presenceIndex.touch(userId, Instant.now().minus(Duration.ofMinutes(10)));
+
+    // then
+    assertThat(presenceIndex.isOnline(userId)).isFalse();
+    assertThat(presenceIndex.onlineCount()).isZero();
+  }
+
+  @Test
+  void advance_window_를_벗어난_사용자는_제거된다() {
+    // given
+    UUID userId = UUID.randomUUID();
+    Instant now = Instant.now();
+    presenceIndex.touch(userId, now);
+
+    // when
+    presenceIndex.advance(now.plus(Duration.ofMinutes(6)).toEpochMilli());
+
+    // then
+    assertThat(presenceIndex.isOnline(userId)).isFalse();
+    assertThat(presenceIndex.onlineCount()).isZero();
+  }
+
+  @Test
+  void advance_다시_활동한_사용자는_유지된다() {
+    // given
+    UUID userId = UUID.randomUUID();
+    Instant now = Instant.now();
+    presenceIndex.touch(userId, now);
+    presenceIndex.touch(userId, now.plus(Duration.ofMinutes(4)));
+
+    // when
+    presenceIndex.advance(now.plus(Duration.ofMinutes(6)).toEpochMilli());
+
+    // then
+    assertThat(presenceIndex.isOnline(userId)).isTrue();
+
+    // when: 마지막 활동 기준으로도 window 를 벗어나면 제거된다
+    presenceIndex.advance(now.plus(Duration.ofMinutes(10)).toEpochMilli());
+
+    // then
+    assertThat(presenceIndex.onlineCount()).isZero();
+  }
+
+  @Test
+  void filterOnline_접속중인_사용자만_순서대로_반환() {
+    // given
+    UUID online1 = UUID.randomUUID();
+    UUID offline = UUID.randomUUID();
+    UUID online2 = UUID.randomUUID();
+    presenceIndex.touch(online1, Instant.now());
+    presenceIndex.touch(online2, Instant.now());
+
+    // when
+    List<UUID> result = presenceIndex.filterOnline(List.of(online1, offline, online2));
+
+    // then
+    assertThat(result).containsExactly(online1, online2);
+  }
+}
@@ -0,0 +1,130 @@
+package com.sprint.mission.discodeit.presence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sprint.mission.discodeit.entity.User;
+import com.sprint.mission.discodeit.entity.UserStatus;
+import com.sprint.mission.discodeit.event.PresenceEvent;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+
+@DataJpaTest
+@EnableJpaAuditing
+@ActiveProfiles("test")
+@RecordApplicationEvents
+@Import({UserStatusHeartbeatBuffer.class, PresenceIndex.class})
+class UserStatusHeartbeatBufferTest {
+
+  @Autowired
+  private UserStatusHeartbeatBuffer heartbeatBuffer;
+
+  @Autowired
+  private PresenceIndex presenceIndex;
+
+  @Autowired
+  private TestEntityManager entityManager;
+
+  @Autowired
+  private ApplicationEvents applicationEvents;
+
+  private User user;
+  private UserStatus status;
+  private Instant persistedAt;
+
+  @BeforeEach
+  void setUp() {
+    persistedAt = Instant.now().minus(Duration.ofHours(1)).truncatedTo(ChronoUnit.MILLIS);
+    user = new User("testuser", "test@example.com", "password", null);
+    status = new UserStatus(user, persistedAt);
+    entityManager.persist(user);
+    entityManager.flush();
+  }
+
+  @Test
+  void record_반영전에도_최신값과_online_을_읽을수_있다() {
+    // given
+    Instant heartbeatAt = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+
+    // when
+    heartbeatBuffer.record(user.getId(), status.getId(), heartbeatAt);
+
+    // then
+    assertThat(heartbeatBuffer.lastActiveAt(user.getId(), persistedAt)).isEqualTo(heartbeatAt);
+    assertThat(presenceIndex.isOnline(user.getId())).isTrue();
+    assertThat(heartbeatBuffer.findStatusId(user.getId())).contains(status.getId());
+  }
+
+  @Test
+  void record_이전_시각은_무시하고_최근값만_유지한다() {
+    // given
+    Instant latest = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+
+    // when
+    heartbeatBuffer.record(user.getId(), status.getId(), latest);
+    Instant result = heartbeatBuffer.record(user.getId(), status.getId(),
+        latest.minusSeconds(30));
+
+    // then
+    assertThat(result).isEqualTo(latest);
+  }
+
+  @Test
+  void flush_대기중인_heartbeat_를_일괄_반영한다() {
+    // given
+    Instant heartbeatAt = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+    heartbeatBuffer.record(user.getId(), status.getId(), heartbeatAt);
+
+    // when
+    int flushed = heartbeatBuffer.flush();
+
+    // then
+    assertThat(flushed).isEqualTo(1);
+    assertThat(heartbeatBuffer.pendingCount()).isZero();
+    entityManager.clear();
+    UserStatus reloaded = entityManager.find(UserStatus.class, status.getId());
+    assertThat(reloaded.getLastActiveAt()).isEqualTo(heartbeatAt);
+  }
+
+  @Test
+  void flush_온라인_전환만_사용자당_한번_알린다() {
+    // given
+    Instant first = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+    heartbeatBuffer.record(user.getId(), status.getId(), first);
+    heartbeatBuffer.record(user.getId(), status.getId(), first.plusSeconds(1));
+
+    // when
+    heartbeatBuffer.flush();
+    heartbeatBuffer.record(user.getId(), status.getId(), first.plusSeconds(2));
+    heartbeatBuffer.flush();
+
+    // then
+    assertThat(applicationEvents.stream(PresenceEvent.class))
+        .containsExactly(new PresenceEvent(user.getId(), first.plusSeconds(1)));
+  }
+
+  @Test
+  void flush_삭제된_사용자의_heartbeat_는_버린다() {
+    // given
+    UUID unknownUserId = UUID.randomUUID();
+    heartbeatBuffer.record(unknownUserId, UUID.randomUUID(), Instant.now());
+
+    // when
+    heartbeatBuffer.flush();
+
+    // then
+    assertThat(heartbeatBuffer.pendingCount()).isZero();
+    assertThat(heartbeatBuffer.findStatusId(unknownUserId)).isEmpty();
+  }
+}
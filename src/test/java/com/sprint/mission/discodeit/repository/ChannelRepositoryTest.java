@@ -4,6 +4,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import com.sprint.mission.discodeit.entity.Channel;
 import com.sprint.mission.discodeit.entity.ChannelType;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
@@ -121,4 +123,26 @@ class ChannelRepositoryTest {
     assertThat(privateChannels).hasSize(1);
     assertThat(privateChannels.get(0).getId()).isEqualTo(privateChannel1.getId());
   }
-}
\ No newline at end of file
+
+  @Test
+  void advanceLastMessageAt_더_최신시각일때만_갱신() {
+    // given
+    Channel channel = new Channel(ChannelType.PUBLIC, "channel", "Channel");
+    entityManager.persist(channel);
+    entityManager.flush();
+
+    Instant latest = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+    Instant older = latest.minusSeconds(60);
+
+    // when
+    int advanced = channelRepository.advanceLastMessageAt(channel.getId(), latest);
+    int ignored = channelRepository.advanceLastMessageAt(channel.getId(), older);
+    entityManager.clear();
+
+    // then
+    assertThat(advanced).isEqualTo(1);
+    assertThat(ignored).isZero();
+    assertThat(entityManager.find(Channel.class, channel.getId()).getLastMessageAt())
+        .isEqualTo(latest);
+  }
+}
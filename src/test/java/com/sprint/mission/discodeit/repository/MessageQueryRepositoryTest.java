@@ -0,0 +1,107 @@
+package com.sprint.mission.discodeit.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sprint.mission.discodeit.cache.BinaryContentDtoCache;
+import com.sprint.mission.discodeit.cache.UserDtoCache;
+import com.sprint.mission.discodeit.dto.data.MessageDto;
+import com.sprint.mission.discodeit.entity.BinaryContent;
+import com.sprint.mission.discodeit.entity.Channel;
+import com.sprint.mission.discodeit.entity.ChannelType;
+import com.sprint.mission.discodeit.entity.Message;
+import com.sprint.mission.discodeit.entity.User;
+import com.sprint.mission.discodeit.entity.UserStatus;
+import com.sprint.mission.discodeit.presence.PresenceIndex;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.JdbcClientAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.test.context.ActiveProfiles;
+
+@DataJpaTest
+@EnableJpaAuditing
+@ActiveProfiles("test")
+@Import({MessageQueryRepository.class, PresenceIndex.class, UserDtoCache.class,
+    BinaryContentDtoCache.class, SimpleMeterRegistry.class})
+@ImportAutoConfiguration(JdbcClientAutoConfiguration.class)
+class MessageQueryRepositoryTest {
+
+  @Autowired
+  private MessageQueryRepository messageQueryRepository;
+
+  @Autowired
+  private TestEntityManager entityManager;
+
+  @Autowired
+  private PresenceIndex presenceIndex;
+
+  private User author;
+  private Channel channel;
+
+  @BeforeEach
+  void setUp() {
+    author = new User("testuser", "test@example.com", "password",
+        new BinaryContent("profile.png", 100L, "image/png"));
+    new UserStatus(author, Instant.now());
+    entityManager.persist(author);
+    presenceIndex.touch(author.getId(), Instant.now());
+
+    channel = new Channel(ChannelType.PUBLIC, "test-channel", "Test Channel");
+    entityManager.persist(channel);
+    entityManager.flush();
+  }
+
+  @Test
+  void findAllByIdIn_성공_작성자_프로필_첨부파일_포함() {
+    // given
+    List<BinaryContent> attachments = new ArrayList<>(List.of(
+        new BinaryContent("a.txt", 10L, "text/plain"),
+        new BinaryContent("b.txt", 20L, "text/plain")));
+    Message message = new Message("hello", channel, author, attachments);
+    entityManager.persist(message);
+    entityManager.flush();
+
+    // when
+    List<MessageDto> result = messageQueryRepository.findAllByIdIn(List.of(message.getId()));
+
+    // then
+    assertThat(result).hasSize(1);
+    MessageDto dto = result.get(0);
+    assertThat(dto.content()).isEqualTo("hello");
+    assertThat(dto.channelId()).isEqualTo(channel.getId());
+    assertThat(dto.author().id()).isEqualTo(author.getId());
+    assertThat(dto.author().online()).isTrue();
+    assertThat(dto.author().profile().fileName()).isEqualTo("profile.png");
+    assertThat(dto.attachments()).extracting("fileName")
+        .containsExactlyInAnyOrder("a.txt", "b.txt");
+  }
+
+  @Test
+  void findAllByIdIn_성공_요청한_id_순서_유지_없는_id는_제외() {
+    // given
+    Message first = new Message("first", channel, author, List.of());
+    Message second = new Message("second", channel, author, List.of());
+    entityManager.persist(first);
+    entityManager.persist(second);
+    entityManager.flush();
+
+    // when
+    List<MessageDto> result = messageQueryRepository.findAllByIdIn(
+        List.of(second.getId(), UUID.randomUUID(), first.getId()));
+
+    // then
+    assertThat(result).extracting(MessageDto::id)
+        .containsExactly(second.getId(), first.getId());
+    assertThat(result).allSatisfy(dto -> assertThat(dto.attachments()).isEmpty());
+  }
+}
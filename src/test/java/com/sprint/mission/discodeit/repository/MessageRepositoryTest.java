@@ -2,6 +2,7 @@ package com.sprint.mission.discodeit.repository;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.sprint.mission.discodeit.entity.BinaryContent;
 import com.sprint.mission.discodeit.entity.Channel;
 import com.sprint.mission.discodeit.entity.ChannelType;
 import com.sprint.mission.discodeit.entity.Message;
@@ -10,25 +11,34 @@ import com.sprint.mission.discodeit.entity.UserStatus;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Slice;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 import org.springframework.test.context.ActiveProfiles;
 
-@DataJpaTest
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
 @EnableJpaAuditing
 @ActiveProfiles("test")
 class MessageRepositoryTest {
 
+  private static final Comparator<Message> KEYSET_DESC = Comparator
+      .comparing(Message::getCreatedAt)
+      .thenComparing(Message::getId)
+      .reversed();
+
   @Autowired
   private MessageRepository messageRepository;
 
@@ -62,44 +72,90 @@ class MessageRepositoryTest {
   }
 
   @Test
-  void findAllByChannelIdWithAuthor_성공_페이지네이션_적용() {
-    // given
-    Instant cursorTime = Instant.now().plus(1, ChronoUnit.MINUTES); // 현재 시간보다 미래
-    Pageable pageable = PageRequest.of(0, 5, Sort.by(Sort.Direction.DESC, "createdAt"));
-
+  void findLatestIdsByChannelId_성공_최신순_제한적용() {
     // when
-    Slice<Message> result = messageRepository.findAllByChannelIdWithAuthor(
-        channel.getId(), cursorTime, pageable);
+    List<UUID> result = messageRepository.findLatestIdsByChannelId(channel.getId(), Limit.of(5));
 
     // then
-    assertThat(result.getContent()).isNotEmpty(); // 메시지가 있어야 함
-    assertThat(result.getContent().size()).isLessThanOrEqualTo(5); // 최대 5개까지
+    assertThat(result).hasSize(5);
+    assertThat(toMessages(result)).isSortedAccordingTo(KEYSET_DESC);
+  }
+
+  @Test
+  void findIdsBeforeByChannelId_성공_keyset_페이지_중복누락없음() {
+    // given, 전체를 3개씩 끊어서 끝까지 조회
+    List<UUID> collected = new ArrayList<>(
+        messageRepository.findLatestIdsByChannelId(channel.getId(), Limit.of(3)));
 
-    // 콘텐츠로 메시지 구분 (타임스탬프 대체)
-    if (result.getContent().size() >= 2) {
-      for (int i = 0; i < result.getContent().size(); i++) {
-        assertThat(result.getContent().get(i).getContent()).contains("Message ");
+    // when
+    while (true) {
+      Message last = toMessages(List.of(collected.get(collected.size() - 1))).get(0);
+      List<UUID> page = messageRepository.findIdsBeforeByChannelId(channel.getId(),
+          last.getCreatedAt(), last.getId(), Limit.of(3));
+      if (page.isEmpty()) {
+        break;
       }
+      collected.addAll(page);
     }
+
+    // then, 같은 createdAt 을 가진 메시지가 있어도 모든 메시지가 한 번씩만 조회됨
+    assertThat(collected).hasSize(10);
+    assertThat(collected).doesNotHaveDuplicates();
+    assertThat(toMessages(collected)).isSortedAccordingTo(KEYSET_DESC);
   }
 
   @Test
-  void findAllByChannelIdWithAuthor_성공_커서시간_기준조회() {
-    // 쿼리를 위한 커서 설정 (현재 시간 사용)
-    Instant cursorTime = Instant.now();
-    Pageable pageable = PageRequest.of(0, 5, Sort.by(Sort.Direction.DESC, "createdAt"));
+  void findIdsAfterByChannelId_성공_커서이후_오래된순() {
+    // given
+    List<UUID> latest = messageRepository.findLatestIdsByChannelId(channel.getId(),
+        Limit.of(10));
+    Message pivot = toMessages(List.of(latest.get(5))).get(0);
 
-    // when, 커서 시간보다 이전의 메시지만 검색
-    Slice<Message> result = messageRepository.findAllByChannelIdWithAuthor(
-        channel.getId(), cursorTime, pageable);
+    // when
+    List<UUID> result = messageRepository.findIdsAfterByChannelId(channel.getId(),
+        pivot.getCreatedAt(), pivot.getId(), Limit.of(10));
 
-    // then, 메시지가 검색되어야 함
-    assertThat(result.getContent()).isNotEmpty();
+    // then
+    assertThat(result).hasSize(5);
+    assertThat(toMessages(result)).isSortedAccordingTo(KEYSET_DESC.reversed());
+    assertThat(result).containsExactlyInAnyOrderElementsOf(latest.subList(0, 5));
+  }
 
-    // 메시지가 비어있지 않다면 모든 메시지의 createdAt은 현재 시간보다 이전이어야 함
-    for (Message message : result.getContent()) {
-      assertThat(message.getCreatedAt()).isBefore(cursorTime);
+  @Test
+  void 벤치마크용_엔티티_하이드레이션은_쿼리_2번으로_작성자와_첨부파일까지_조회() {
+    // given, 첨부파일이 있는 메시지 추가
+    for (int i = 0; i < 3; i++) {
+      List<BinaryContent> attachments = new ArrayList<>(List.of(
+          new BinaryContent("file" + i + ".png", 10L, "image/png"),
+          new BinaryContent("file" + i + ".txt", 20L, "text/plain")));
+      entityManager.persist(new Message("With attachments " + i, channel, author, attachments));
     }
+    entityManager.flush();
+    entityManager.clear();
+
+    Statistics statistics = entityManager.getEntityManager().getEntityManagerFactory()
+        .unwrap(SessionFactory.class).getStatistics();
+    statistics.clear();
+
+    // when, id 조회 + 하이드레이션 후 DTO 매핑에 필요한 연관관계를 모두 접근
+    List<UUID> ids = messageRepository.findLatestIdsByChannelId(channel.getId(), Limit.of(50));
+    List<Message> result = messageRepository.findAllByIdInWithAuthorAndAttachments(ids);
+    result.forEach(message -> {
+      message.getAuthor().getStatus().isOnline();
+      message.getAttachments().forEach(BinaryContent::getFileName);
+    });
+
+    // then
+    assertThat(result).hasSize(13);
+    assertThat(result).extracting(message -> message.getAttachments().size())
+        .containsOnly(0, 2);
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+  }
+
+  private List<Message> toMessages(List<UUID> ids) {
+    Map<UUID, Message> messagesById = messages.stream()
+        .collect(Collectors.toMap(Message::getId, Function.identity()));
+    return ids.stream().map(messagesById::get).toList();
   }
 
   @Test
@@ -134,9 +190,8 @@ class MessageRepositoryTest {
   @Test
   void deleteAllByChannelId_성공_채널_모든메시지_삭제() {
     //given
-    int initialCount = messageRepository.findAllByChannelIdWithAuthor(
-        channel.getId(), Instant.now().plus(1, ChronoUnit.MINUTES),
-        PageRequest.of(0, 100)).getContent().size();
+    int initialCount = messageRepository.findLatestIdsByChannelId(
+        channel.getId(), Limit.of(100)).size();
 
     assertThat(initialCount).isEqualTo(10); //초기 10개 메시지
 
@@ -147,10 +202,9 @@ class MessageRepositoryTest {
     assertThat(deletedCount).isEqualTo(10); //10개 메시지 삭제 되어야 함
 
     // 메시지가 실제로 삭제되었는지 확인
-    Slice<Message> remainingMessages = messageRepository.findAllByChannelIdWithAuthor(
-        channel.getId(), Instant.now().plus(1, ChronoUnit.MINUTES),
-        PageRequest.of(0, 100));
+    List<UUID> remainingMessages = messageRepository.findLatestIdsByChannelId(
+        channel.getId(), Limit.of(100));
 
-    assertThat(remainingMessages.getContent()).isEmpty(); // 남은메시지 없어야 함
+    assertThat(remainingMessages).isEmpty(); // 남은메시지 없어야 함
   }
 }
\ No newline at end of file
@@ -0,0 +1,146 @@
+package com.sprint.mission.discodeit.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sprint.mission.discodeit.search.MessageSearchHit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.JdbcClientAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * 메시지 수를 늘려 가며 전문 검색 지연 시간을 측정한다. 일치하는 메시지가 적은 단어와 많은 단어(전체의 2%)를 나눠 첫 페이지와 다음 페이지
+ * 조회 시간을 본다. 기본 test 태스크에서는 제외되며 {@code ./gradlew loadTest -Dload.search.messages=10000000} 로 실행한다.
+ */
+@Tag("load")
+@DataJpaTest(properties = {
+    "spring.flyway.enabled=true",
+    "spring.jpa.hibernate.ddl-auto=validate"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(MessageSearchRepository.class)
+@ImportAutoConfiguration(JdbcClientAutoConfiguration.class)
+@Testcontainers(disabledWithoutDocker = true)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class MessageSearchLoadTest {
+
+  private static final int MESSAGES = Integer.getInteger("load.search.messages", 1_000_000);
+  private static final int CHANNELS = Integer.getInteger("load.search.channels", 1_000);
+  private static final int ITERATIONS = Integer.getInteger("load.search.iterations", 200);
+  private static final int BATCH_SIZE = 1_000_000;
+  private static final int PAGE_SIZE = 20;
+
+  // 단어 50개를 돌려 쓰므로 각 단어는 전체 메시지의 2% 에 나온다
+  private static final String SEED_MESSAGES_SQL = """
+      WITH vocabulary AS (
+          SELECT ARRAY['deploy', 'review', 'lunch', 'meeting', 'bug', 'release', 'test', 'design',
+                       'server', 'client', 'cache', 'index', 'query', 'schema', 'backup', 'alert',
+                       'metric', 'trace', 'log', 'build', 'branch', 'merge', 'ticket', 'sprint',
+                       'demo', 'docs', 'api', 'token', 'login', 'upload', 'image', 'video',
+                       'channel', 'message', 'thread', 'mention', 'reply', 'emoji', 'profile',
+                       'status', 'online', 'offline', 'mobile', 'desktop', 'browser', 'network',
+                       'storage', 'queue', 'worker', 'batch'] AS words
+      ),
+      channel_ids AS (
+          SELECT array_agg(id) AS ids FROM channels WHERE name LIKE 'search-load-%'
+      )
+      INSERT INTO messages (id, created_at, content, channel_id, author_id)
+      SELECT gen_random_uuid(),
+             now() - g * interval '1 second',
+             v.words[1 + g % 50] || ' ' || v.words[1 + (g / 50) % 50] || ' '
+                 || v.words[1 + (g / 2500) % 50] || ' rare' || (g % 100000) || ' #' || g,
+             c.ids[1 + g % array_length(c.ids, 1)],
+             NULL
+      FROM generate_series(?, ?) g, vocabulary v, channel_ids c
+      """;
+
+  @Container
+  @ServiceConnection
+  static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:17-alpine");
+
+  @Autowired
+  private MessageSearchRepository messageSearchRepository;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Test
+  void 메시지_검색_지연_시간() {
+    // given
+    long seedStarted = System.nanoTime();
+    seed();
+    System.out.printf("[search] seeded messages=%d, channels=%d in %ds%n", MESSAGES, CHANNELS,
+        TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - seedStarted));
+    UUID userId = UUID.randomUUID();
+
+    // when & then
+    measure(userId, "rare42");
+    measure(userId, "deploy");
+    measure(userId, "deploy review");
+    measure(userId, "\"deploy review\" -lunch");
+  }
+
+  private void seed() {
+    jdbcTemplate.update("""
+        INSERT INTO channels (id, created_at, name, type)
+        SELECT gen_random_uuid(), now(), 'search-load-' || g, 'PUBLIC'
+        FROM generate_series(1, ?) g
+        """, CHANNELS);
+    for (int start = 1; start <= MESSAGES; start += BATCH_SIZE) {
+      jdbcTemplate.update(SEED_MESSAGES_SQL, start,
+          Math.min(MESSAGES, start + BATCH_SIZE - 1));
+    }
+    jdbcTemplate.execute("VACUUM ANALYZE messages");
+  }
+
+  private void measure(UUID userId, String query) {
+    // 캐시가 데워진 상태의 지연 시간을 보기 위해 한 번 먼저 실행한다
+    List<MessageSearchHit> firstPage = messageSearchRepository.search(userId, query, null, null,
+        PAGE_SIZE + 1);
+    assertThat(firstPage).isNotEmpty();
+
+    List<Long> firstPageMicros = new ArrayList<>();
+    List<Long> nextPageMicros = new ArrayList<>();
+    for (int i = 0; i < ITERATIONS; i++) {
+      long started = System.nanoTime();
+      List<MessageSearchHit> hits = messageSearchRepository.search(userId, query, null, null,
+          PAGE_SIZE + 1);
+      firstPageMicros.add(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - started));
+
+      started = System.nanoTime();
+      messageSearchRepository.search(userId, query, null,
+          hits.get(Math.min(PAGE_SIZE, hits.size()) - 1).toCursor(), PAGE_SIZE + 1);
+      nextPageMicros.add(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - started));
+    }
+
+    Integer matched = jdbcTemplate.queryForObject(
+        "SELECT COUNT(*) FROM messages WHERE content_tsv @@ websearch_to_tsquery('simple', ?)",
+        Integer.class, query);
+    System.out.printf("[search] q=%s, matched=%d, first page(us): %s, next page(us): %s%n",
+        query, matched, percentiles(firstPageMicros), percentiles(nextPageMicros));
+  }
+
+  private static String percentiles(List<Long> latencies) {
+    Collections.sort(latencies);
+    return "p50=%d, p99=%d, max=%d".formatted(
+        latencies.get(latencies.size() / 2),
+        latencies.get(latencies.size() * 99 / 100),
+        latencies.get(latencies.size() - 1));
+  }
+}
@@ -0,0 +1,182 @@
+package com.sprint.mission.discodeit.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.sprint.mission.discodeit.dto.data.MessageCursor;
+import com.sprint.mission.discodeit.dto.data.MessageSearchCursor;
+import com.sprint.mission.discodeit.entity.Channel;
+import com.sprint.mission.discodeit.entity.ChannelType;
+import com.sprint.mission.discodeit.entity.Message;
+import com.sprint.mission.discodeit.entity.ReadStatus;
+import com.sprint.mission.discodeit.entity.User;
+import com.sprint.mission.discodeit.exception.message.MessageException;
+import com.sprint.mission.discodeit.search.MessageSearchHit;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.JdbcClientAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * 전문 검색(tsvector 생성 컬럼, websearch_to_tsquery)은 H2 에서 실행할 수 없으므로 PostgreSQL 에서 확인한다. Docker 가 없는
+ * 환경에서는 건너뛴다.
+ */
+@DataJpaTest(properties = {
+    "spring.flyway.enabled=true",
+    "spring.jpa.hibernate.ddl-auto=validate"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@EnableJpaAuditing
+@Import(MessageSearchRepository.class)
+@ImportAutoConfiguration(JdbcClientAutoConfiguration.class)
+@Testcontainers(disabledWithoutDocker = true)
+class MessageSearchRepositoryTest {
+
+  @Container
+  @ServiceConnection
+  static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:17-alpine");
+
+  @Autowired
+  private MessageSearchRepository messageSearchRepository;
+
+  @Autowired
+  private TestEntityManager entityManager;
+
+  private User user;
+
+  @BeforeEach
+  void setUp() {
+    user = entityManager.persist(new User("searcher", "searcher@example.com", "password", null));
+  }
+
+  @Test
+  void search_성공_볼_수_있는_채널의_메시지만_찾는다() {
+    // given
+    Channel publicChannel = persistChannel(ChannelType.PUBLIC);
+    Channel joined = persistChannel(ChannelType.PRIVATE);
+    Channel notJoined = persistChannel(ChannelType.PRIVATE);
+    entityManager.persist(new ReadStatus(user, joined, Instant.now()));
+    Message publicMessage = persistMessage(publicChannel, "오늘 배포 완료했습니다");
+    Message joinedMessage = persistMessage(joined, "배포 일정 공유");
+    persistMessage(notJoined, "배포 비밀 채널");
+    persistMessage(publicChannel, "점심 메뉴 추천");
+    entityManager.flush();
+
+    // when
+    List<MessageSearchHit> hits = messageSearchRepository.search(user.getId(), "배포", null, null, 10);
+
+    // then
+    assertThat(hits).extracting(MessageSearchHit::messageId)
+        .containsExactlyInAnyOrder(publicMessage.getId(), joinedMessage.getId());
+  }
+
+  @Test
+  void search_성공_채널을_지정하면_해당_채널만_찾는다() {
+    // given
+    Channel channel = persistChannel(ChannelType.PUBLIC);
+    Channel other = persistChannel(ChannelType.PUBLIC);
+    Message message = persistMessage(channel, "배포 완료");
+    persistMessage(other, "배포 완료");
+    entityManager.flush();
+
+    // when
+    List<MessageSearchHit> hits = messageSearchRepository.search(user.getId(), "배포", channel.getId(),
+        null, 10);
+
+    // then
+    assertThat(hits).extracting(MessageSearchHit::messageId).containsExactly(message.getId());
+  }
+
+  @Test
+  void search_성공_관련도순으로_정렬하고_본문은_이스케이프해_강조한다() {
+    // given
+    Channel channel = persistChannel(ChannelType.PUBLIC);
+    Message once = persistMessage(channel, "\"배포\" 한 번");
+    Message twice = persistMessage(channel, "배포 배포 두 번");
+    entityManager.flush();
+
+    // when
+    List<MessageSearchHit> hits = messageSearchRepository.search(user.getId(), "배포", null, null, 10);
+
+    // then
+    assertThat(hits).extracting(MessageSearchHit::messageId)
+        .containsExactly(twice.getId(), once.getId());
+    assertThat(hits.get(1).highlight()).isEqualTo("&quot;<mark>배포</mark>&quot; 한 번");
+  }
+
+  @Test
+  void search_성공_커서로_이어서_조회하면_빠지거나_겹치는_결과가_없다() {
+    // given
+    Channel channel = persistChannel(ChannelType.PUBLIC);
+    List<UUID> expected = new ArrayList<>();
+    for (int i = 0; i < 7; i++) {
+      expected.add(persistMessage(channel, "배포 " + "작업 ".repeat(i)).getId());
+    }
+    entityManager.flush();
+
+    // when
+    List<UUID> found = new ArrayList<>();
+    List<MessageSearchHit> page = messageSearchRepository.search(user.getId(), "배포", null, null, 3);
+    while (!page.isEmpty()) {
+      page.forEach(hit -> found.add(hit.messageId()));
+      page = messageSearchRepository.search(user.getId(), "배포", null,
+          page.get(page.size() - 1).toCursor(), 3);
+    }
+
+    // then
+    assertThat(found).doesNotHaveDuplicates().containsExactlyInAnyOrderElementsOf(expected);
+  }
+
+  @Test
+  void search_성공_허용_범위_끝_시각의_커서도_DB_에서_처리한다() {
+    // given
+    Channel channel = persistChannel(ChannelType.PUBLIC);
+    Message message = persistMessage(channel, "배포 완료");
+    entityManager.flush();
+    MessageSearchCursor cursor = new MessageSearchCursor(Float.MAX_VALUE,
+        MessageCursor.MAX_CREATED_AT, UUID.randomUUID());
+
+    // when
+    List<MessageSearchHit> hits = messageSearchRepository.search(user.getId(), "배포", null,
+        MessageSearchCursor.decode(cursor.encode()), 10);
+
+    // then
+    assertThat(hits).extracting(MessageSearchHit::messageId).containsExactly(message.getId());
+  }
+
+  @Test
+  void decode_실패_DB_가_표현할_수_없는_시각의_커서는_잘못된_커서로_거부한다() {
+    // given
+    String token = Base64.getUrlEncoder().withoutPadding().encodeToString(
+        ("0:10000000000000:0:" + UUID.randomUUID()).getBytes(StandardCharsets.UTF_8));
+
+    // when, then
+    assertThatThrownBy(() -> MessageSearchCursor.decode(token))
+        .isInstanceOf(MessageException.class);
+  }
+
+  private Channel persistChannel(ChannelType type) {
+    return entityManager.persist(new Channel(type, type == ChannelType.PUBLIC ? "public" : null,
+        null));
+  }
+
+  private Message persistMessage(Channel channel, String content) {
+    return entityManager.persist(new Message(content, channel, user, List.of()));
+  }
+}
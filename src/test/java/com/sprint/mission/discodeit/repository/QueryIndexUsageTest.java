@@ -0,0 +1,79 @@
+package com.sprint.mission.discodeit.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Flyway 마이그레이션이 적용된 PostgreSQL 에서 주요 Repository 쿼리가 인덱스를 타는지 EXPLAIN 으로 확인한다. Docker 가 없는 환경에서는
+ * 건너뛴다.
+ */
+@DataJpaTest(properties = {
+    "spring.flyway.enabled=true",
+    "spring.jpa.hibernate.ddl-auto=validate"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+class QueryIndexUsageTest {
+
+  private static final String CHANNEL_ID = "'00000000-0000-0000-0000-000000000001'::uuid";
+  private static final String USER_ID = "'00000000-0000-0000-0000-000000000002'::uuid";
+  private static final String ATTACHMENT_ID = "'00000000-0000-0000-0000-000000000003'::uuid";
+
+  @Container
+  @ServiceConnection
+  static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:17-alpine");
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @BeforeEach
+  void setUp() {
+    // 테스트 테이블은 거의 비어 있어 플래너가 항상 Seq Scan 을 고르므로, 사용 가능한 인덱스가 있는지만 본다
+    jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {
+      // MessageRepository.findIdsBeforeByChannelId (keyset)
+      "SELECT * FROM messages WHERE channel_id = " + CHANNEL_ID
+          + " AND (created_at < now() OR (created_at = now() AND id < " + USER_ID + "))"
+          + " ORDER BY created_at DESC, id DESC LIMIT 51",
+      // MessageRepository.findLastMessageAtByChannelId
+      "SELECT created_at FROM messages WHERE channel_id = " + CHANNEL_ID
+          + " ORDER BY created_at DESC LIMIT 1",
+      // MessageRepository.deleteAllByChannelId
+      "DELETE FROM messages WHERE channel_id = " + CHANNEL_ID,
+      // ReadStatusQueryRepository.rebuildUnreadCounts (채널별 last_read_at 이후 메시지 범위)
+      "SELECT COUNT(*) FROM messages m WHERE m.channel_id = " + CHANNEL_ID
+          + " AND m.created_at > now()",
+      // ReadStatusRepository.findAllByUserId
+      "SELECT * FROM read_statuses WHERE user_id = " + USER_ID,
+      // ReadStatusRepository.findAllByChannelIdWithUser, deleteAllByChannelId
+      "SELECT * FROM read_statuses WHERE channel_id = " + CHANNEL_ID,
+      // MessageSearchRepository.search (GIN 전문 검색)
+      "SELECT id FROM messages WHERE content_tsv @@ websearch_to_tsquery('simple', 'deploy')",
+      // binary_contents 삭제 시 message_attachments FK
+      "SELECT * FROM message_attachments WHERE attachment_id = " + ATTACHMENT_ID
+  })
+  void 주요_쿼리는_인덱스_스캔을_사용한다(String sql) {
+    // when
+    List<String> plan = jdbcTemplate.queryForList("EXPLAIN " + sql, String.class);
+
+    // then
+    String planText = String.join("\n", plan);
+    assertThat(planText).contains("Index");
+    assertThat(planText).doesNotContain("Seq Scan");
+  }
+}
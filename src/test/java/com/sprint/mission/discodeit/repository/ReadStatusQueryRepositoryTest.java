@@ -0,0 +1,175 @@
+package com.sprint.mission.discodeit.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sprint.mission.discodeit.dto.data.ReadStatusDto;
+import com.sprint.mission.discodeit.entity.Channel;
+import com.sprint.mission.discodeit.entity.ChannelType;
+import com.sprint.mission.discodeit.entity.Message;
+import com.sprint.mission.discodeit.entity.ReadStatus;
+import com.sprint.mission.discodeit.entity.User;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.JdbcClientAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.test.context.ActiveProfiles;
+
+@DataJpaTest
+@EnableJpaAuditing
+@ActiveProfiles("test")
+@Import(ReadStatusQueryRepository.class)
+@ImportAutoConfiguration(JdbcClientAutoConfiguration.class)
+class ReadStatusQueryRepositoryTest {
+
+  @Autowired
+  private ReadStatusQueryRepository readStatusQueryRepository;
+
+  @Autowired
+  private TestEntityManager entityManager;
+
+  @Autowired
+  private JdbcClient jdbcClient;
+
+  private User user;
+  private User other;
+  private Channel channel;
+
+  @BeforeEach
+  void setUp() {
+    user = new User("reader", "reader@example.com", "password", null);
+    other = new User("writer", "writer@example.com", "password", null);
+    channel = new Channel(ChannelType.PUBLIC, "channel", null);
+    entityManager.persist(user);
+    entityManager.persist(other);
+    entityManager.persist(channel);
+  }
+
+  @Test
+  void rebuildUnreadCounts_성공_다른_사용자가_쓴_읽지_않은_메시지와_멘션을_센다() {
+    // given
+    ReadStatus readStatus = persistReadStatus(Instant.now().minusSeconds(60));
+    persistMessage(other, "hello");
+    persistMessage(other, "hi @reader");
+    persistMessage(user, "my own message");
+
+    // when
+    int corrected = readStatusQueryRepository.rebuildUnreadCounts(channel.getId());
+
+    // then
+    assertThat(corrected).isEqualTo(1);
+    ReadStatusDto result = findAll().get(readStatus.getId());
+    assertThat(result.unreadCount()).isEqualTo(2);
+    assertThat(result.hasMention()).isTrue();
+  }
+
+  @Test
+  void rebuildUnreadCounts_카운터가_맞으면_고치지_않는다() {
+    // given
+    persistReadStatus(Instant.now().plusSeconds(60));
+    persistMessage(other, "hello");
+
+    // when
+    int corrected = readStatusQueryRepository.rebuildUnreadCounts(channel.getId());
+
+    // then
+    assertThat(corrected).isZero();
+  }
+
+  @Test
+  void recountUnreadCount_사용자명이_앞부분만_같은_멘션은_세지_않는다() {
+    // given
+    ReadStatus readStatus = persistReadStatus(Instant.now().minusSeconds(60));
+    persistMessage(other, "hi @readers");
+    persistMessage(other, "100% @reader_bot");
+
+    // when
+    readStatusQueryRepository.recountUnreadCount(readStatus.getId());
+
+    // then
+    ReadStatusDto result = findAll().get(readStatus.getId());
+    assertThat(result.unreadCount()).isEqualTo(2);
+    assertThat(result.hasMention()).isFalse();
+  }
+
+  @Test
+  void resetUnreadCount_성공_카운터와_멘션을_초기화() {
+    // given
+    ReadStatus readStatus = persistReadStatus(Instant.now().minusSeconds(60));
+    persistMessage(other, "hi @reader");
+    readStatusQueryRepository.recountUnreadCount(readStatus.getId());
+
+    // when
+    readStatusQueryRepository.resetUnreadCount(readStatus.getId());
+
+    // then
+    ReadStatusDto result = findAll().get(readStatus.getId());
+    assertThat(result.unreadCount()).isZero();
+    assertThat(result.hasMention()).isFalse();
+  }
+
+  @Test
+  void findAllWithUnreadByUserId_성공_안_읽은_메시지_수는_상한에서_자른다() {
+    // given
+    ReadStatus readStatus = persistReadStatus(Instant.now().minusSeconds(60));
+    jdbcClient.sql("UPDATE read_statuses SET unread_count = :count WHERE id = :id")
+        .param("count", ReadStatusDto.UNREAD_COUNT_CAP + 5)
+        .param("id", readStatus.getId())
+        .update();
+
+    // when
+    ReadStatusDto result = findAll().get(readStatus.getId());
+
+    // then
+    assertThat(result.unreadCount()).isEqualTo(ReadStatusDto.UNREAD_COUNT_CAP);
+  }
+
+  @Test
+  void findWithUnreadById_성공_카운터를_함께_조회한다() {
+    // given
+    ReadStatus readStatus = persistReadStatus(Instant.now().minusSeconds(60));
+    persistMessage(other, "hi @reader");
+    readStatusQueryRepository.recountUnreadCount(readStatus.getId());
+
+    // when
+    Optional<ReadStatusDto> result = readStatusQueryRepository.findWithUnreadById(
+        readStatus.getId());
+
+    // then
+    assertThat(result).get().satisfies(dto -> {
+      assertThat(dto.channelId()).isEqualTo(channel.getId());
+      assertThat(dto.unreadCount()).isEqualTo(1);
+      assertThat(dto.hasMention()).isTrue();
+    });
+    assertThat(readStatusQueryRepository.findWithUnreadById(UUID.randomUUID())).isEmpty();
+  }
+
+  private Map<UUID, ReadStatusDto> findAll() {
+    return readStatusQueryRepository.findAllWithUnreadByUserId(user.getId()).stream()
+        .collect(Collectors.toMap(ReadStatusDto::id, Function.identity()));
+  }
+
+  private ReadStatus persistReadStatus(Instant lastReadAt) {
+    ReadStatus readStatus = new ReadStatus(user, channel, lastReadAt);
+    entityManager.persist(readStatus);
+    entityManager.flush();
+    return readStatus;
+  }
+
+  private void persistMessage(User author, String content) {
+    entityManager.persist(new Message(content, channel, author, new ArrayList<>()));
+    entityManager.flush();
+  }
+}
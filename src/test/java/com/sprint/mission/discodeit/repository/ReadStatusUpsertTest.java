@@ -0,0 +1,187 @@
+package com.sprint.mission.discodeit.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sprint.mission.discodeit.dto.data.ReadStatusDto;
+import com.sprint.mission.discodeit.entity.Channel;
+import com.sprint.mission.discodeit.entity.ChannelType;
+import com.sprint.mission.discodeit.entity.Message;
+import com.sprint.mission.discodeit.entity.ReadStatus;
+import com.sprint.mission.discodeit.entity.User;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.JdbcClientAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * 여러 채널 읽음 처리 upsert(ON CONFLICT)는 H2 에서 실행할 수 없으므로 PostgreSQL 에서 확인한다. Docker 가 없는 환경에서는 건너뛴다.
+ */
+@DataJpaTest(properties = {
+    "spring.flyway.enabled=true",
+    "spring.jpa.hibernate.ddl-auto=validate"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@EnableJpaAuditing
+@Import(ReadStatusQueryRepository.class)
+@ImportAutoConfiguration(JdbcClientAutoConfiguration.class)
+@Testcontainers(disabledWithoutDocker = true)
+class ReadStatusUpsertTest {
+
+  @Container
+  @ServiceConnection
+  static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:17-alpine");
+
+  @Autowired
+  private ReadStatusQueryRepository readStatusQueryRepository;
+
+  @Autowired
+  private TestEntityManager entityManager;
+
+  @Autowired
+  private JdbcClient jdbcClient;
+
+  private User user;
+  private Instant now;
+
+  @BeforeEach
+  void setUp() {
+    user = entityManager.persist(new User("reader", "reader@example.com", "password", null));
+    now = Instant.now().truncatedTo(ChronoUnit.MICROS);
+  }
+
+  @Test
+  void upsertLastReadAt_성공_읽음_위치는_앞으로만_이동한다() {
+    // given
+    Channel forward = persistChannel(ChannelType.PUBLIC);
+    Channel backward = persistChannel(ChannelType.PUBLIC);
+    persistReadStatus(forward, now.minusSeconds(60));
+    persistReadStatus(backward, now);
+
+    // when
+    Set<UUID> updated = readStatusQueryRepository.upsertLastReadAt(user.getId(), Map.of(
+        forward.getId(), now,
+        backward.getId(), now.minusSeconds(60)));
+
+    // then
+    assertThat(updated).containsExactly(forward.getId());
+    Map<UUID, Instant> lastReadAts = findLastReadAts();
+    assertThat(lastReadAts.get(forward.getId())).isEqualTo(now);
+    assertThat(lastReadAts.get(backward.getId())).isEqualTo(now);
+  }
+
+  @Test
+  void upsertLastReadAt_성공_읽음_상태가_없는_공개_채널은_새로_만든다() {
+    // given
+    Channel channel = persistChannel(ChannelType.PUBLIC);
+    entityManager.flush();
+
+    // when
+    readStatusQueryRepository.upsertLastReadAt(user.getId(), Map.of(channel.getId(), now));
+
+    // then
+    assertThat(findLastReadAts()).containsEntry(channel.getId(), now);
+  }
+
+  @Test
+  void upsertLastReadAt_참여하지_않은_비공개_채널은_건너뛴다() {
+    // given
+    Channel joined = persistChannel(ChannelType.PRIVATE);
+    Channel notJoined = persistChannel(ChannelType.PRIVATE);
+    persistReadStatus(joined, now.minusSeconds(60));
+
+    // when
+    readStatusQueryRepository.upsertLastReadAt(user.getId(), Map.of(
+        joined.getId(), now,
+        notJoined.getId(), now,
+        UUID.randomUUID(), now));
+
+    // then
+    Map<UUID, Instant> lastReadAts = findLastReadAts();
+    assertThat(lastReadAts).hasSize(1);
+    assertThat(lastReadAts.get(joined.getId())).isEqualTo(now);
+  }
+
+  @Test
+  void upsertLastReadAt_성공_중간까지만_읽으면_이후_메시지를_다시_센다() {
+    // given
+    Channel partlyRead = persistChannel(ChannelType.PUBLIC);
+    Channel fullyRead = persistChannel(ChannelType.PUBLIC);
+    User writer = entityManager.persist(new User("writer", "writer@example.com", "password", null));
+    persistReadStatus(partlyRead, now.minusSeconds(120));
+    persistReadStatus(fullyRead, now.minusSeconds(120));
+    Instant lastMessageAt = persistMessage(partlyRead, writer, "hi @reader");
+    persistMessage(fullyRead, writer, "hi @reader");
+
+    // when
+    readStatusQueryRepository.upsertLastReadAt(user.getId(), Map.of(
+        partlyRead.getId(), lastMessageAt.minusSeconds(1),
+        fullyRead.getId(), Instant.now().plusSeconds(60)));
+
+    // then
+    Map<UUID, ReadStatusDto> readStatuses = findAll();
+    assertThat(readStatuses.get(partlyRead.getId()).unreadCount()).isEqualTo(1);
+    assertThat(readStatuses.get(partlyRead.getId()).hasMention()).isTrue();
+    assertThat(readStatuses.get(fullyRead.getId()).unreadCount()).isZero();
+    assertThat(readStatuses.get(fullyRead.getId()).hasMention()).isFalse();
+  }
+
+  private Channel persistChannel(ChannelType type) {
+    return entityManager.persist(new Channel(type, type == ChannelType.PUBLIC ? "public" : null,
+        null));
+  }
+
+  private void persistReadStatus(Channel channel, Instant lastReadAt) {
+    entityManager.persistAndFlush(new ReadStatus(user, channel, lastReadAt));
+  }
+
+  private Instant persistMessage(Channel channel, User author, String content) {
+    Message message = entityManager.persistAndFlush(
+        new Message(content, channel, author, new ArrayList<>()));
+    jdbcClient.sql("""
+            UPDATE channels
+            SET last_message_at = :lastMessageAt
+            WHERE id = :channelId
+            """)
+        .param("lastMessageAt", Timestamp.from(message.getCreatedAt()))
+        .param("channelId", channel.getId())
+        .update();
+    jdbcClient.sql("""
+            UPDATE read_statuses
+            SET unread_count = unread_count + 1, has_mention = TRUE
+            WHERE channel_id = :channelId
+            """)
+        .param("channelId", channel.getId())
+        .update();
+    return message.getCreatedAt();
+  }
+
+  private Map<UUID, ReadStatusDto> findAll() {
+    return readStatusQueryRepository.findAllWithUnreadByUserId(user.getId()).stream()
+        .collect(Collectors.toMap(ReadStatusDto::channelId, Function.identity()));
+  }
+
+  private Map<UUID, Instant> findLastReadAts() {
+    return readStatusQueryRepository.findAllWithUnreadByUserId(user.getId()).stream()
+        .collect(Collectors.toMap(ReadStatusDto::channelId, ReadStatusDto::lastReadAt));
+  }
+}
@@ -0,0 +1,231 @@
+package com.sprint.mission.discodeit.search.lucene;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+
+import com.sprint.mission.discodeit.dto.data.MessageDto;
+import com.sprint.mission.discodeit.dto.data.MessageSearchCursor;
+import com.sprint.mission.discodeit.event.CacheInvalidationEvent;
+import com.sprint.mission.discodeit.event.MessageEvent;
+import com.sprint.mission.discodeit.exception.message.MessageException;
+import com.sprint.mission.discodeit.repository.ChannelRepository;
+import com.sprint.mission.discodeit.repository.MessageQueryRepository;
+import com.sprint.mission.discodeit.search.MessageSearchHit;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class LuceneMessageSearchIndexTest {
+
+  @Mock
+  private ChannelRepository channelRepository;
+  @Mock
+  private MessageQueryRepository messageQueryRepository;
+
+  private LuceneMessageSearchIndex index;
+  private UUID userId;
+  private UUID channelId;
+  private Instant now;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    index = new LuceneMessageSearchIndex(channelRepository, messageQueryRepository, "");
+    userId = UUID.randomUUID();
+    channelId = UUID.randomUUID();
+    now = Instant.now();
+    given(channelRepository.findVisibleIdsByUserId(userId)).willReturn(List.of(channelId));
+  }
+
+  @AfterEach
+  void tearDown() throws IOException {
+    index.close();
+  }
+
+  @Test
+  void search_성공_볼_수_있는_채널의_메시지만_찾는다() {
+    // given
+    MessageDto visible = publish(channelId, "오늘 배포 완료했습니다");
+    publish(UUID.randomUUID(), "배포 비밀 채널");
+    publish(channelId, "점심 메뉴 추천");
+    index.refresh();
+
+    // when
+    List<MessageSearchHit> hits = index.search(userId, "배포", null, null, 10);
+
+    // then
+    assertThat(hits).extracting(MessageSearchHit::messageId).containsExactly(visible.id());
+    assertThat(hits.get(0).highlight()).isEqualTo("오늘 <mark>배포</mark> 완료했습니다");
+    assertThat(hits.get(0).createdAt()).isEqualTo(visible.createdAt());
+  }
+
+  @Test
+  void search_성공_볼_수_없는_채널을_지정하면_빈_결과() {
+    // given
+    UUID otherChannelId = UUID.randomUUID();
+    publish(otherChannelId, "배포 완료");
+    index.refresh();
+
+    // when
+    List<MessageSearchHit> hits = index.search(userId, "배포", otherChannelId, null, 10);
+
+    // then
+    assertThat(hits).isEmpty();
+  }
+
+  @Test
+  void search_성공_본문은_이스케이프해_강조한다() {
+    // given
+    publish(channelId, "<script>배포</script>");
+    index.refresh();
+
+    // when
+    List<MessageSearchHit> hits = index.search(userId, "배포", null, null, 10);
+
+    // then
+    assertThat(hits.get(0).highlight())
+        .isEqualTo("&lt;script&gt;<mark>배포</mark>&lt;/script&gt;");
+  }
+
+  @Test
+  void onEvent_수정과_삭제_이벤트를_색인에_반영한다() {
+    // given
+    MessageDto updated = publish(channelId, "배포 예정");
+    MessageDto deleted = publish(channelId, "배포 취소");
+
+    // when
+    index.onEvent(MessageEvent.updated(new MessageDto(updated.id(), updated.createdAt(), now,
+        "롤백 예정", channelId, null, List.of())));
+    index.onEvent(MessageEvent.deleted(channelId, deleted.id()));
+    index.refresh();
+
+    // then
+    assertThat(index.search(userId, "배포", null, null, 10)).isEmpty();
+    assertThat(index.search(userId, "롤백", null, null, 10))
+        .extracting(MessageSearchHit::messageId).containsExactly(updated.id());
+  }
+
+  @Test
+  void onEvent_삭제된_채널의_메시지를_지운다() {
+    // given
+    publish(channelId, "배포 완료");
+    given(channelRepository.existsById(channelId)).willReturn(false);
+
+    // when
+    index.onEvent(CacheInvalidationEvent.channels(channelId));
+    index.refresh();
+
+    // then
+    assertThat(index.search(userId, "배포", null, null, 10)).isEmpty();
+  }
+
+  @Test
+  void endRebuild_다시_만드는_중에_삭제된_메시지는_늦게_색인돼도_지운다() throws IOException {
+    // given
+    UUID deletedId = UUID.randomUUID();
+    index.beginRebuild();
+    index.onEvent(MessageEvent.deleted(channelId, deletedId));
+    // 삭제 전에 읽어 간 배치가 뒤늦게 색인된다
+    index.index(List.of(new LuceneMessageSearchIndex.IndexedMessage(deletedId, channelId, now,
+        "배포 취소")));
+
+    // when
+    int replayed = index.endRebuild();
+    index.refresh();
+
+    // then
+    assertThat(replayed).isEqualTo(1);
+    assertThat(index.search(userId, "배포", null, null, 10)).isEmpty();
+  }
+
+  @Test
+  void endRebuild_다시_만드는_중에_수정된_메시지는_DB_의_최신_본문으로_다시_색인한다() throws IOException {
+    // given
+    MessageDto edited = new MessageDto(UUID.randomUUID(), now, now, "롤백 완료", channelId, null,
+        List.of());
+    index.beginRebuild();
+    index.onEvent(MessageEvent.updated(edited));
+    // 수정 전에 읽어 간 배치가 뒤늦게 색인된다
+    index.index(List.of(new LuceneMessageSearchIndex.IndexedMessage(edited.id(), channelId, now,
+        "배포 예정")));
+    given(messageQueryRepository.findAllByIdIn(List.of(edited.id()))).willReturn(List.of(edited));
+
+    // when
+    int replayed = index.endRebuild();
+    index.refresh();
+
+    // then
+    assertThat(replayed).isEqualTo(1);
+    assertThat(index.search(userId, "배포", null, null, 10)).isEmpty();
+    assertThat(index.search(userId, "롤백", null, null, 10))
+        .extracting(MessageSearchHit::messageId).containsExactly(edited.id());
+  }
+
+  @Test
+  void refresh_다시_만드는_중에는_이전_검색_결과를_유지한다() throws IOException {
+    // given
+    MessageDto existing = publish(channelId, "배포 완료");
+    index.refresh();
+
+    // when
+    index.beginRebuild();
+    index.refresh();
+
+    // then
+    assertThat(index.search(userId, "배포", null, null, 10))
+        .extracting(MessageSearchHit::messageId).containsExactly(existing.id());
+    index.endRebuild();
+  }
+
+  @Test
+  void search_성공_커서로_이어서_조회하면_빠지거나_겹치는_결과가_없다() {
+    // given
+    List<UUID> expected = new ArrayList<>();
+    for (int i = 0; i < 7; i++) {
+      expected.add(publish(channelId, "배포 " + "작업 ".repeat(i % 3)).id());
+    }
+    index.refresh();
+
+    // when
+    List<UUID> found = new ArrayList<>();
+    List<MessageSearchHit> page = index.search(userId, "배포", null, null, 3);
+    while (!page.isEmpty()) {
+      page.forEach(hit -> found.add(hit.messageId()));
+      page = index.search(userId, "배포", null, page.get(page.size() - 1).toCursor(), 3);
+    }
+
+    // then
+    assertThat(found).doesNotHaveDuplicates().containsExactlyInAnyOrderElementsOf(expected);
+  }
+
+  @Test
+  void search_실패_색인이_표현할_수_없는_시각의_커서() {
+    // given
+    publish(channelId, "배포 완료");
+    index.refresh();
+    MessageSearchCursor cursor = new MessageSearchCursor(1f,
+        Instant.parse("3000-01-01T00:00:00Z"), UUID.randomUUID());
+
+    // when, then
+    assertThatThrownBy(() -> index.search(userId, "배포", null, cursor, 10))
+        .isInstanceOf(MessageException.class);
+    assertThatThrownBy(() -> MessageSearchCursor.decode(cursor.encode()))
+        .isInstanceOf(MessageException.class);
+  }
+
+  private MessageDto publish(UUID channelId, String content) {
+    MessageDto message = new MessageDto(UUID.randomUUID(), now, null, content, channelId, null,
+        List.of());
+    index.onEvent(MessageEvent.created(message));
+    return message;
+  }
+}
@@ -0,0 +1,68 @@
+package com.sprint.mission.discodeit.search.lucene;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sprint.mission.discodeit.cache.BinaryContentDtoCache;
+import com.sprint.mission.discodeit.cache.UserDtoCache;
+import com.sprint.mission.discodeit.entity.Channel;
+import com.sprint.mission.discodeit.entity.ChannelType;
+import com.sprint.mission.discodeit.entity.Message;
+import com.sprint.mission.discodeit.entity.User;
+import com.sprint.mission.discodeit.presence.PresenceIndex;
+import com.sprint.mission.discodeit.repository.MessageQueryRepository;
+import com.sprint.mission.discodeit.search.MessageSearchHit;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.JdbcClientAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+@DataJpaTest
+@EnableJpaAuditing
+@ActiveProfiles("test")
+@TestPropertySource(properties = "discodeit.search.lucene.reindex.batch-size=3")
+@Import({LuceneMessageSearchIndex.class, MessageSearchReindexer.class,
+    MessageQueryRepository.class, PresenceIndex.class, UserDtoCache.class,
+    BinaryContentDtoCache.class, SimpleMeterRegistry.class})
+@ImportAutoConfiguration(JdbcClientAutoConfiguration.class)
+class MessageSearchReindexerTest {
+
+  @Autowired
+  private MessageSearchReindexer reindexer;
+
+  @Autowired
+  private LuceneMessageSearchIndex index;
+
+  @Autowired
+  private TestEntityManager entityManager;
+
+  @Test
+  void reindex_성공_모든_메시지를_여러_배치로_나눠_색인한다() {
+    // given
+    User author = entityManager.persist(
+        new User("indexer", "indexer@example.com", "password", null));
+    Channel channel = entityManager.persist(new Channel(ChannelType.PUBLIC, "public", null));
+    for (int i = 0; i < 10; i++) {
+      entityManager.persist(new Message("배포 " + i, channel, author, List.of()));
+    }
+    Message other = entityManager.persist(new Message("점심 메뉴", channel, author, List.of()));
+    entityManager.flush();
+
+    // when
+    int indexed = reindexer.reindex();
+
+    // then
+    assertThat(indexed).isEqualTo(11);
+    assertThat(index.search(UUID.randomUUID(), "배포", null, null, 20)).hasSize(10);
+    assertThat(index.search(UUID.randomUUID(), "점심", null, null, 20))
+        .extracting(MessageSearchHit::messageId).containsExactly(other.getId());
+  }
+}
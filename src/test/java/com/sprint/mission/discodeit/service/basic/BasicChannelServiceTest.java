@@ -5,9 +5,11 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 
 import com.sprint.mission.discodeit.dto.data.ChannelDto;
+import com.sprint.mission.discodeit.dto.data.ChannelPresenceDto;
 import com.sprint.mission.discodeit.dto.request.PrivateChannelCreateRequest;
 import com.sprint.mission.discodeit.dto.request.PublicChannelCreateRequest;
 import com.sprint.mission.discodeit.dto.request.PublicChannelUpdateRequest;
@@ -19,10 +21,14 @@ import com.sprint.mission.discodeit.entity.base.BaseUpdatableEntity;
 import com.sprint.mission.discodeit.exception.channel.ChannelException;
 import com.sprint.mission.discodeit.exception.channel.ChannelExceptions;
 import com.sprint.mission.discodeit.mapper.ChannelMapper;
+import com.sprint.mission.discodeit.presence.PresenceIndex;
 import com.sprint.mission.discodeit.repository.ChannelRepository;
 import com.sprint.mission.discodeit.repository.MessageRepository;
 import com.sprint.mission.discodeit.repository.ReadStatusRepository;
 import com.sprint.mission.discodeit.repository.UserRepository;
+import com.sprint.mission.discodeit.storage.BinaryContentStorage;
+import com.sprint.mission.discodeit.storage.BinaryContentUrlResolver;
+import com.sprint.mission.discodeit.storage.outbox.BlobEventOutbox;
 import java.lang.reflect.Field;
 import java.time.Instant;
 import java.util.Arrays;
@@ -33,7 +39,9 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 @ExtendWith(MockitoExtension.class)
 class BasicChannelServiceTest {
@@ -48,6 +56,16 @@ class BasicChannelServiceTest {
   private UserRepository userRepository;
   @Mock
   private ChannelMapper channelMapper;
+  @Mock
+  private BlobEventOutbox blobEventOutbox;
+  @Mock
+  private PresenceIndex presenceIndex;
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
+  @Spy
+  private BinaryContentUrlResolver binaryContentUrlResolver =
+      new BinaryContentUrlResolver(mock(BinaryContentStorage.class));
 
   @InjectMocks
   private BasicChannelService channelService;
@@ -205,9 +223,8 @@ class BasicChannelServiceTest {
     given(channelRepository.findAllByTypeOrIdIn(ChannelType.PUBLIC,
         List.of(privateChannelId))).willReturn(channels);
 
-    // 순차적으로 반환하도록 설정
-    given(channelMapper.toDto(channels.get(0))).willReturn(publicChannelDto);
-    given(channelMapper.toDto(channels.get(1))).willReturn(privateChannelDto);
+    // 채널 목록을 한 번에 변환하도록 설정
+    given(channelMapper.toDtos(channels)).willReturn(List.of(publicChannelDto, privateChannelDto));
 
     // when
     List<ChannelDto> result = channelService.findAllByUserId(userId);
@@ -215,6 +232,7 @@ class BasicChannelServiceTest {
     // then
     assertThat(result).hasSize(2);
     assertThat(result).contains(publicChannelDto, privateChannelDto);
+    then(channelMapper).should(times(1)).toDtos(channels);
   }
 
   @Test
@@ -278,7 +296,10 @@ class BasicChannelServiceTest {
   void delete_성공() {
     // given
     UUID channelId = UUID.randomUUID();
+    UUID attachmentId = UUID.randomUUID();
     given(channelRepository.existsById(channelId)).willReturn(true);
+    given(messageRepository.findAttachmentIdsByChannelId(channelId))
+        .willReturn(List.of(attachmentId));
     given(messageRepository.deleteAllByChannelId(channelId)).willReturn(5); // message 5개 삭제
     given(readStatusRepository.deleteAllByChannelId(channelId)).willReturn(3); // read status 3개 삭제
 
@@ -289,6 +310,7 @@ class BasicChannelServiceTest {
     then(messageRepository).should(times(1)).deleteAllByChannelId(channelId);
     then(readStatusRepository).should(times(1)).deleteAllByChannelId(channelId);
     then(channelRepository).should(times(1)).deleteById(channelId);
+    then(blobEventOutbox).should(times(1)).recordDeleteAll(List.of(attachmentId));
   }
 
   @Test
@@ -307,6 +329,38 @@ class BasicChannelServiceTest {
     then(channelRepository).should(times(0)).deleteById(channelId);
   }
 
+  @Test
+  void findPresence_성공_접속중인_참여자만_반환() {
+    // given
+    UUID channelId = UUID.randomUUID();
+    UUID onlineUserId = UUID.randomUUID();
+    UUID offlineUserId = UUID.randomUUID();
+    List<UUID> memberIds = List.of(onlineUserId, offlineUserId);
+    given(channelRepository.existsById(channelId)).willReturn(true);
+    given(readStatusRepository.findUserIdsByChannelId(channelId)).willReturn(memberIds);
+    given(presenceIndex.filterOnline(memberIds)).willReturn(List.of(onlineUserId));
+
+    // when
+    ChannelPresenceDto result = channelService.findPresence(channelId);
+
+    // then
+    assertThat(result.channelId()).isEqualTo(channelId);
+    assertThat(result.onlineCount()).isEqualTo(1);
+    assertThat(result.onlineUserIds()).containsExactly(onlineUserId);
+  }
+
+  @Test
+  void findPresence_실패_존재하지_않는_채널() {
+    // given
+    UUID channelId = UUID.randomUUID();
+    given(channelRepository.existsById(channelId)).willReturn(false);
+
+    // when, then
+    ChannelException channelException = ChannelExceptions.notFound(channelId);
+    assertThatThrownBy(() -> channelService.findPresence(channelId))
+        .hasSameClassAs(channelException);
+  }
+
   // ChannelDto mock 객체 생성
   private ChannelDto mockChannelDto() {
     UUID id = UUID.randomUUID();
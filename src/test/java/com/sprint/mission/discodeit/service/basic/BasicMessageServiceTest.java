@@ -3,14 +3,23 @@ package com.sprint.mission.discodeit.service.basic;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.nullable;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 
 import com.sprint.mission.discodeit.dto.data.BinaryContentDto;
+import com.sprint.mission.discodeit.dto.data.MessageCursor;
 import com.sprint.mission.discodeit.dto.data.MessageDto;
+import com.sprint.mission.discodeit.dto.data.MessagePageDirection;
+import com.sprint.mission.discodeit.dto.data.MessageSearchCursor;
+import com.sprint.mission.discodeit.dto.data.MessageSearchHitDto;
 import com.sprint.mission.discodeit.dto.data.UserDto;
 import com.sprint.mission.discodeit.dto.request.BinaryContentCreateRequest;
 import com.sprint.mission.discodeit.dto.request.MessageCreateRequest;
@@ -22,6 +31,7 @@ import com.sprint.mission.discodeit.entity.ChannelType;
 import com.sprint.mission.discodeit.entity.Message;
 import com.sprint.mission.discodeit.entity.User;
 import com.sprint.mission.discodeit.entity.base.BaseUpdatableEntity;
+import com.sprint.mission.discodeit.event.MessageEvent;
 import com.sprint.mission.discodeit.exception.channel.ChannelException;
 import com.sprint.mission.discodeit.exception.channel.ChannelExceptions;
 import com.sprint.mission.discodeit.exception.message.MessageException;
@@ -32,12 +42,20 @@ import com.sprint.mission.discodeit.mapper.MessageMapper;
 import com.sprint.mission.discodeit.mapper.PageResponseMapper;
 import com.sprint.mission.discodeit.repository.BinaryContentRepository;
 import com.sprint.mission.discodeit.repository.ChannelRepository;
+import com.sprint.mission.discodeit.repository.MessageQueryRepository;
 import com.sprint.mission.discodeit.repository.MessageRepository;
 import com.sprint.mission.discodeit.repository.UserRepository;
+import com.sprint.mission.discodeit.search.MessageSearchHit;
+import com.sprint.mission.discodeit.search.MessageSearchIndex;
 import com.sprint.mission.discodeit.storage.BinaryContentStorage;
+import com.sprint.mission.discodeit.storage.BinaryContentUploader;
+import com.sprint.mission.discodeit.storage.BinaryContentUrlResolver;
+import com.sprint.mission.discodeit.storage.outbox.BlobEventOutbox;
 import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.Arrays;
+import java.util.Base64;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -46,11 +64,16 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.SliceImpl;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @ExtendWith(MockitoExtension.class)
 class BasicMessageServiceTest {
@@ -58,17 +81,35 @@ class BasicMessageServiceTest {
   @Mock
   private MessageRepository messageRepository;
   @Mock
+  private MessageQueryRepository messageQueryRepository;
+  @Mock
+  private MessageSearchIndex messageSearchIndex;
+  @Mock
   private ChannelRepository channelRepository;
   @Mock
   private UserRepository userRepository;
   @Mock
   private MessageMapper messageMapper;
   @Mock
-  private BinaryContentStorage binaryContentStorage;
+  private BinaryContentUploader binaryContentUploader;
   @Mock
   private BinaryContentRepository binaryContentRepository;
   @Mock
   private PageResponseMapper pageResponseMapper;
+  @Mock
+  private BlobEventOutbox blobEventOutbox;
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
+  // 인라인 URL 을 제공하지 않는 저장소(기본). 필요한 테스트에서만 resolveUrl 을 지정한다
+  private final BinaryContentStorage urlStorage = mock(BinaryContentStorage.class);
+  @Spy
+  private BinaryContentUrlResolver binaryContentUrlResolver =
+      new BinaryContentUrlResolver(urlStorage);
+  // 콜백을 그대로 실행한다
+  @Spy
+  private TransactionTemplate transactionTemplate =
+      new TransactionTemplate(mock(PlatformTransactionManager.class));
 
   @InjectMocks
   private BasicMessageService messageService;
@@ -119,6 +160,9 @@ class BasicMessageServiceTest {
     then(channelRepository).should(times(1)).findById(channelId);
     then(userRepository).should(times(1)).findById(authorId);
     then(messageRepository).should(times(1)).save(any(Message.class));
+    then(channelRepository).should(times(1))
+        .advanceLastMessageAt(eq(channelId), nullable(Instant.class));
+    then(eventPublisher).should(times(1)).publishEvent(MessageEvent.created(expectedDto));
   }
 
   @Test
@@ -141,7 +185,7 @@ class BasicMessageServiceTest {
     setId(author, authorId);
 
     BinaryContent binaryContent = new BinaryContent(
-        attachmentRequest.fileName(), (long) attachmentRequest.bytes().length,
+        attachmentRequest.fileName(), attachmentRequest.size(),
         attachmentRequest.contentType());
     UUID attachmentId = UUID.randomUUID();
     setId(binaryContent, attachmentId);
@@ -157,8 +201,9 @@ class BasicMessageServiceTest {
     BinaryContentDto attachmentDto = new BinaryContentDto(
         attachmentId,
         attachmentRequest.fileName(),
-        (long) attachmentRequest.bytes().length,
-        attachmentRequest.contentType()
+        attachmentRequest.size(),
+        attachmentRequest.contentType(),
+        null
     );
 
     MessageDto expectedDto = new MessageDto(
@@ -174,11 +219,8 @@ class BasicMessageServiceTest {
     given(channelRepository.findById(channelId)).willReturn(Optional.of(channel));
     given(userRepository.findById(authorId)).willReturn(Optional.of(author));
 
-    given(binaryContentRepository.save(any(BinaryContent.class))).willAnswer(invocation -> {
-      BinaryContent savedContent = invocation.getArgument(0);
-      setId(savedContent, attachmentId);
-      return savedContent;
-    });
+    given(binaryContentUploader.uploadAll(attachmentRequests)).willReturn(List.of(attachmentId));
+    given(binaryContentRepository.findAllById(List.of(attachmentId))).willReturn(attachments);
 
     given(messageRepository.save(any(Message.class))).willReturn(savedMessage);
     given(messageMapper.toDto(any(Message.class))).willReturn(expectedDto);
@@ -190,9 +232,71 @@ class BasicMessageServiceTest {
     assertThat(result).isEqualTo(expectedDto);
     then(channelRepository).should(times(1)).findById(channelId);
     then(userRepository).should(times(1)).findById(authorId);
-    then(binaryContentRepository).should(times(1)).save(any(BinaryContent.class));
-    then(binaryContentStorage).should(times(1)).put(attachmentId, attachmentRequest.bytes());
-    then(messageRepository).should(times(1)).save(any(Message.class));
+    then(binaryContentRepository).should(times(1))
+        .insertAll(List.of(attachmentId), attachmentRequests);
+    then(messageRepository).should(times(1))
+        .save(argThat(message -> message.getAttachments().equals(attachments)));
+    then(binaryContentUploader).should(never()).deleteAll(anyList());
+  }
+
+  @Test
+  void create_실패_저장에_실패하면_업로드한_파일을_삭제한다() {
+    // given
+    UUID channelId = UUID.randomUUID();
+    UUID authorId = UUID.randomUUID();
+    MessageCreateRequest request = new MessageCreateRequest("content", channelId, authorId);
+    List<BinaryContentCreateRequest> attachmentRequests = List.of(
+        new BinaryContentCreateRequest("test.txt", "text/plain", new byte[]{1, 2, 3}));
+    List<UUID> attachmentIds = List.of(UUID.randomUUID());
+
+    given(binaryContentUploader.uploadAll(attachmentRequests)).willReturn(attachmentIds);
+    given(channelRepository.findById(channelId)).willReturn(Optional.empty());
+
+    // when, then
+    ChannelException exception = ChannelExceptions.notFound(channelId);
+    assertThatThrownBy(() -> messageService.create(request, attachmentRequests))
+        .hasSameClassAs(exception);
+
+    then(binaryContentUploader).should().deleteAll(attachmentIds);
+    then(binaryContentRepository).should(never()).insertAll(anyList(), anyList());
+    then(messageRepository).should(never()).save(any(Message.class));
+  }
+
+  @Test
+  void create_실패_저장한_뒤_URL_생성에_실패해도_파일은_지우지_않는다() {
+    // given
+    UUID channelId = UUID.randomUUID();
+    UUID authorId = UUID.randomUUID();
+    MessageCreateRequest request = new MessageCreateRequest("content", channelId, authorId);
+    List<BinaryContentCreateRequest> attachmentRequests = List.of(
+        new BinaryContentCreateRequest("test.txt", "text/plain", new byte[]{1, 2, 3}));
+    List<UUID> attachmentIds = List.of(UUID.randomUUID());
+    BinaryContent binaryContent = new BinaryContent("test.txt", 3L, "text/plain");
+    setId(binaryContent, attachmentIds.get(0));
+
+    Channel channel = new Channel(ChannelType.PUBLIC, "general", "General channel");
+    setId(channel, channelId);
+    User author = new User("testuser", "test@test.com", "password", null);
+    setId(author, authorId);
+    Message savedMessage = new Message("content", channel, author, Collections.emptyList());
+    setId(savedMessage, UUID.randomUUID());
+    MessageDto savedDto = new MessageDto(savedMessage.getId(), Instant.now(), Instant.now(),
+        "content", channelId, null, Collections.emptyList());
+
+    given(binaryContentUploader.uploadAll(attachmentRequests)).willReturn(attachmentIds);
+    given(channelRepository.findById(channelId)).willReturn(Optional.of(channel));
+    given(userRepository.findById(authorId)).willReturn(Optional.of(author));
+    given(binaryContentRepository.findAllById(attachmentIds)).willReturn(List.of(binaryContent));
+    given(messageRepository.save(any(Message.class))).willReturn(savedMessage);
+    given(messageMapper.toDto(any(Message.class))).willReturn(savedDto);
+    willThrow(new IllegalStateException("presign failed"))
+        .given(binaryContentUrlResolver).withUrl(savedDto);
+
+    // when, then
+    assertThatThrownBy(() -> messageService.create(request, attachmentRequests))
+        .isInstanceOf(IllegalStateException.class);
+    then(messageRepository).should().save(any(Message.class));
+    then(binaryContentUploader).should(never()).deleteAll(anyList());
   }
 
   @Test
@@ -309,8 +413,8 @@ class BasicMessageServiceTest {
 
     MessageDto dto1 = new MessageDto(
         UUID.randomUUID(),
-        createdAt.minusSeconds(10),
-        createdAt.minusSeconds(10),
+        createdAt,
+        createdAt,
         "Message 1",
         channelId,
         authorDto,
@@ -319,8 +423,8 @@ class BasicMessageServiceTest {
 
     MessageDto dto2 = new MessageDto(
         UUID.randomUUID(),
-        createdAt,
-        createdAt,
+        createdAt.minusSeconds(10),
+        createdAt.minusSeconds(10),
         "Message 2",
         channelId,
         authorDto,
@@ -329,39 +433,154 @@ class BasicMessageServiceTest {
 
     List<MessageDto> messageDtos = Arrays.asList(dto1, dto2);
     SliceImpl<MessageDto> slice = new SliceImpl<>(messageDtos, pageable, false);
+    String nextCursor = MessageCursor.from(dto2).encode();
 
     PageResponse<MessageDto> expectedResponse = new PageResponse<>(
         messageDtos,       // content
-        createdAt,         // nextCursor
+        nextCursor,        // nextCursor
         messageDtos.size(),// size
         false,             // hasNext
         null               // totalElements
     );
 
-    Message mockMessage1 = mock(Message.class);
-    Message mockMessage2 = mock(Message.class);
-    given(messageRepository.findAllByChannelIdWithAuthor(channelId, createdAt, pageable))
-        .willReturn(new SliceImpl<>(Arrays.asList(mockMessage1, mockMessage2), pageable, false));
-    given(messageMapper.toDto(any(Message.class))).willReturn(dto1, dto2);
-    given(pageResponseMapper.fromSlice(eq(slice), any(Instant.class))).willReturn(expectedResponse);
+    List<UUID> messageIds = List.of(dto1.id(), dto2.id());
+    given(messageRepository.findLatestIdsByChannelId(channelId, Limit.of(11)))
+        .willReturn(messageIds);
+    given(messageQueryRepository.findAllByIdIn(messageIds)).willReturn(messageDtos);
+    given(pageResponseMapper.fromSlice(eq(slice), eq(nextCursor))).willReturn(expectedResponse);
 
     // when
-    PageResponse<MessageDto> result = messageService.findAllByChannelId(channelId, createdAt,
-        pageable);
+    PageResponse<MessageDto> result = messageService.findAllByChannelId(channelId, null,
+        MessagePageDirection.BEFORE, 10);
 
     // then
     assertThat(result).isEqualTo(expectedResponse);
   }
 
   @Test
-  void findAllByChannelId_빈_결과() {
+  void findAllByChannelId_성공_AFTER_최신순으로_반환() {
     // given
     UUID channelId = UUID.randomUUID();
     Instant createdAt = Instant.now();
-    Pageable pageable = PageRequest.of(0, 10);
+    MessageCursor cursor = new MessageCursor(createdAt.minusSeconds(60), UUID.randomUUID());
+    Pageable pageable = PageRequest.of(0, 1);
+
+    MessageDto older = new MessageDto(UUID.randomUUID(), createdAt.minusSeconds(10),
+        createdAt.minusSeconds(10), "older", channelId, null, Collections.emptyList());
+
+    // 커서 이후 메시지는 오래된 순으로 조회되고, 한 건 더 조회되면 다음 페이지가 있음
+    given(messageRepository.findIdsAfterByChannelId(channelId, cursor.createdAt(),
+        cursor.id(), Limit.of(2)))
+        .willReturn(List.of(older.id(), UUID.randomUUID()));
+    given(messageQueryRepository.findAllByIdIn(List.of(older.id()))).willReturn(List.of(older));
+    given(pageResponseMapper.fromSlice(any(Slice.class), any())).willAnswer(
+        invocation -> {
+          Slice<MessageDto> slice = invocation.getArgument(0);
+          return new PageResponse<>(slice.getContent(), invocation.getArgument(1),
+              slice.getSize(), slice.hasNext(), null);
+        });
+
+    // when
+    PageResponse<MessageDto> result = messageService.findAllByChannelId(channelId,
+        cursor.encode(), MessagePageDirection.AFTER, 1);
+
+    // then
+    assertThat(result.content()).containsExactly(older);
+    assertThat(result.nextCursor()).isEqualTo(MessageCursor.from(older).encode());
+    assertThat(result.hasNext()).isTrue();
+    assertThat(result.size()).isEqualTo(pageable.getPageSize());
+  }
+
+  @Test
+  void findAllByChannelId_성공_인라인_URL_을_채운다() {
+    // given
+    UUID channelId = UUID.randomUUID();
+    BinaryContentDto profile = new BinaryContentDto(UUID.randomUUID(), "profile.png", 10L,
+        "image/png", null);
+    BinaryContentDto attachment = new BinaryContentDto(UUID.randomUUID(), "file.txt", 20L,
+        "text/plain", null);
+    UserDto author = new UserDto(UUID.randomUUID(), "testuser", "test@test.com", profile, true);
+    MessageDto message = new MessageDto(UUID.randomUUID(), Instant.now(), null, "Message",
+        channelId, author, List.of(attachment));
+
+    given(messageRepository.findLatestIdsByChannelId(channelId, Limit.of(11)))
+        .willReturn(List.of(message.id()));
+    given(messageQueryRepository.findAllByIdIn(List.of(message.id())))
+        .willReturn(List.of(message));
+    given(urlStorage.resolveUrl(any(BinaryContentDto.class))).willAnswer(invocation -> {
+      BinaryContentDto metaData = invocation.getArgument(0);
+      return Optional.of("https://cdn.example.com/" + metaData.id());
+    });
+    given(pageResponseMapper.fromSlice(any(Slice.class), any())).willAnswer(
+        invocation -> {
+          Slice<MessageDto> slice = invocation.getArgument(0);
+          return new PageResponse<>(slice.getContent(), invocation.getArgument(1),
+              slice.getSize(), slice.hasNext(), null);
+        });
+
+    // when
+    PageResponse<MessageDto> result = messageService.findAllByChannelId(channelId, null,
+        MessagePageDirection.BEFORE, 10);
+
+    // then
+    MessageDto found = result.content().get(0);
+    assertThat(found.author().profile().url())
+        .isEqualTo("https://cdn.example.com/" + profile.id());
+    assertThat(found.attachments()).extracting(BinaryContentDto::url)
+        .containsExactly("https://cdn.example.com/" + attachment.id());
+    assertThat(result.nextCursor()).isEqualTo(MessageCursor.from(message).encode());
+  }
+
+  @Test
+  void findAllByChannelId_실패_잘못된_커서() {
+    // given
+    UUID channelId = UUID.randomUUID();
+
+    // when, then
+    MessageException exception = MessageExceptions.invalidCursor("not-a-cursor");
+    assertThatThrownBy(() -> messageService.findAllByChannelId(channelId, "not-a-cursor",
+        MessagePageDirection.BEFORE, 10))
+        .hasSameClassAs(exception);
+    then(messageRepository).shouldHaveNoInteractions();
+  }
+
+  @Test
+  void findAllByChannelId_실패_시각이_범위를_벗어난_커서() {
+    // given
+    UUID channelId = UUID.randomUUID();
+    String cursor = Base64.getUrlEncoder().withoutPadding().encodeToString(
+        (Long.MAX_VALUE + ":0:" + UUID.randomUUID()).getBytes(StandardCharsets.UTF_8));
+
+    // when, then
+    MessageException exception = MessageExceptions.invalidCursor(cursor);
+    assertThatThrownBy(() -> messageService.findAllByChannelId(channelId, cursor,
+        MessagePageDirection.BEFORE, 10))
+        .hasSameClassAs(exception);
+    then(messageRepository).shouldHaveNoInteractions();
+  }
+
+  @Test
+  void findAllByChannelId_실패_DB_가_표현할_수_없는_시각의_커서() {
+    // given
+    UUID channelId = UUID.randomUUID();
+    String cursor = Base64.getUrlEncoder().withoutPadding().encodeToString(
+        ("10000000000000:0:" + UUID.randomUUID()).getBytes(StandardCharsets.UTF_8));
+
+    // when, then
+    MessageException exception = MessageExceptions.invalidCursor(cursor);
+    assertThatThrownBy(() -> messageService.findAllByChannelId(channelId, cursor,
+        MessagePageDirection.BEFORE, 10))
+        .hasSameClassAs(exception);
+    then(messageRepository).shouldHaveNoInteractions();
+  }
+
+  @Test
+  void findAllByChannelId_빈_결과() {
+    // given
+    UUID channelId = UUID.randomUUID();
+    MessageCursor cursor = new MessageCursor(Instant.now(), UUID.randomUUID());
 
     List<MessageDto> emptyList = Collections.emptyList();
-    SliceImpl<MessageDto> emptySlice = new SliceImpl<>(emptyList, pageable, false);
 
     PageResponse<MessageDto> expectedResponse = new PageResponse<>(
         emptyList,
@@ -371,21 +590,90 @@ class BasicMessageServiceTest {
         null
     );
 
-    given(messageRepository.findAllByChannelIdWithAuthor(channelId, createdAt, pageable))
-        .willReturn(new SliceImpl<>(Collections.emptyList(), pageable, false));
+    given(messageRepository.findIdsBeforeByChannelId(channelId, cursor.createdAt(),
+        cursor.id(), Limit.of(11)))
+        .willReturn(Collections.emptyList());
     given(pageResponseMapper.fromSlice(any(Slice.class), eq(null))).willReturn(expectedResponse);
 
     // when
-    PageResponse<MessageDto> result = messageService.findAllByChannelId(channelId, createdAt,
-        pageable);
+    PageResponse<MessageDto> result = messageService.findAllByChannelId(channelId,
+        cursor.encode(), MessagePageDirection.BEFORE, 10);
 
     // then
     assertThat(result).isEqualTo(expectedResponse);
-    then(messageRepository).should().findAllByChannelIdWithAuthor(channelId, createdAt, pageable);
+    then(messageRepository).should().findIdsBeforeByChannelId(channelId,
+        cursor.createdAt(), cursor.id(), Limit.of(11));
+    then(messageQueryRepository).should().findAllByIdIn(List.of());
     then(pageResponseMapper).should().fromSlice(any(Slice.class), eq(null));
   }
 
 
+  @Test
+  void search_성공_다음_페이지_커서는_검색_결과의_마지막_행이다() {
+    // given
+    UUID userId = UUID.randomUUID();
+    Instant now = Instant.now();
+    MessageSearchHit first = new MessageSearchHit(UUID.randomUUID(), 0.9f, now, "<mark>배포</mark> 완료");
+    MessageSearchHit deleted = new MessageSearchHit(UUID.randomUUID(), 0.5f, now, "<mark>배포</mark> 예정");
+    MessageSearchHit extra = new MessageSearchHit(UUID.randomUUID(), 0.1f, now, "<mark>배포</mark>");
+    MessageDto firstMessage = new MessageDto(first.messageId(), now, null, "배포 완료",
+        UUID.randomUUID(), null, List.of());
+
+    given(messageSearchIndex.search(userId, "배포", null, null, 3))
+        .willReturn(List.of(first, deleted, extra));
+    given(messageQueryRepository.findAllByIdIn(List.of(first.messageId(), deleted.messageId())))
+        .willReturn(List.of(firstMessage));
+    given(pageResponseMapper.fromSlice(any(Slice.class), any()))
+        .willAnswer(invocation -> {
+          Slice<MessageSearchHitDto> slice = invocation.getArgument(0);
+          return new PageResponse<>(slice.getContent(), invocation.getArgument(1),
+              slice.getSize(), slice.hasNext(), null);
+        });
+
+    // when
+    PageResponse<MessageSearchHitDto> result = messageService.search(userId, " 배포 ", null,
+        null, 2);
+
+    // then
+    assertThat(result.content()).containsExactly(
+        new MessageSearchHitDto(firstMessage, first.highlight(), first.rank()));
+    assertThat(result.hasNext()).isTrue();
+    assertThat(MessageSearchCursor.decode((String) result.nextCursor()))
+        .isEqualTo(deleted.toCursor());
+  }
+
+  @Test
+  void search_실패_빈_검색어() {
+    // when & then
+    MessageException exception = MessageExceptions.invalidSearchQuery(" ");
+    assertThatThrownBy(() -> messageService.search(UUID.randomUUID(), " ", null, null, 20))
+        .hasSameClassAs(exception);
+    then(messageSearchIndex).shouldHaveNoInteractions();
+  }
+
+  @Test
+  void search_실패_잘못된_커서() {
+    // when & then
+    MessageException exception = MessageExceptions.invalidCursor("not-a-cursor");
+    assertThatThrownBy(() -> messageService.search(UUID.randomUUID(), "배포", null,
+        "not-a-cursor", 20))
+        .hasSameClassAs(exception);
+    then(messageSearchIndex).shouldHaveNoInteractions();
+  }
+
+  @Test
+  void search_실패_시각이_범위를_벗어난_커서() {
+    // given
+    String cursor = Base64.getUrlEncoder().withoutPadding().encodeToString(
+        ("0:" + Long.MAX_VALUE + ":0:" + UUID.randomUUID()).getBytes(StandardCharsets.UTF_8));
+
+    // when & then
+    MessageException exception = MessageExceptions.invalidCursor(cursor);
+    assertThatThrownBy(() -> messageService.search(UUID.randomUUID(), "배포", null, cursor, 20))
+        .hasSameClassAs(exception);
+    then(messageSearchIndex).shouldHaveNoInteractions();
+  }
+
   @Test
   void update_성공() {
     // given
@@ -428,6 +716,7 @@ class BasicMessageServiceTest {
     // then
     assertThat(result).isEqualTo(expectedDto);
     assertThat(message.getContent()).isEqualTo(newContent);
+    then(eventPublisher).should(times(1)).publishEvent(MessageEvent.updated(expectedDto));
   }
 
 
@@ -449,27 +738,43 @@ class BasicMessageServiceTest {
   void delete_성공() {
     // given
     UUID messageId = UUID.randomUUID();
-    given(messageRepository.existsById(messageId)).willReturn(true);
+    UUID channelId = UUID.randomUUID();
+
+    Channel channel = new Channel(ChannelType.PUBLIC, "general", "General channel");
+    setId(channel, channelId);
+
+    User author = new User("testuser", "test@test.com", "password", null);
+    setId(author, UUID.randomUUID());
+
+    Message message = new Message("Test message", channel, author, Collections.emptyList());
+    setId(message, messageId);
+
+    given(messageRepository.findById(messageId)).willReturn(Optional.of(message));
 
     // when
     messageService.delete(messageId);
 
     // then
-    then(messageRepository).should(times(1)).deleteById(messageId);
+    then(messageRepository).should(times(1)).delete(message);
+    then(blobEventOutbox).should(times(1)).recordDeleteAll(Collections.emptyList());
+    then(channelRepository).should(times(1))
+        .rewindLastMessageAt(eq(channelId), nullable(Instant.class));
+    then(eventPublisher).should(times(1))
+        .publishEvent(MessageEvent.deleted(channelId, messageId));
   }
 
   @Test
   void delete_실패_메시지_없음() {
     // given
     UUID messageId = UUID.randomUUID();
-    given(messageRepository.existsById(messageId)).willReturn(false);
+    given(messageRepository.findById(messageId)).willReturn(Optional.empty());
 
     // when, then
     MessageException exception = MessageExceptions.notFound(messageId);
     assertThatThrownBy(() -> messageService.delete(messageId))
         .hasSameClassAs(exception);
 
-    then(messageRepository).should(times(0)).deleteById(messageId);
+    then(messageRepository).should(times(0)).delete(any(Message.class));
   }
 
   private void setId(Object entity, UUID id) {
@@ -0,0 +1,134 @@
+package com.sprint.mission.discodeit.service.basic;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import com.sprint.mission.discodeit.dto.data.ReadStatusDto;
+import com.sprint.mission.discodeit.dto.request.ReadStatusUpdateRequest;
+import com.sprint.mission.discodeit.entity.Channel;
+import com.sprint.mission.discodeit.entity.ChannelType;
+import com.sprint.mission.discodeit.entity.ReadStatus;
+import com.sprint.mission.discodeit.entity.User;
+import com.sprint.mission.discodeit.entity.base.BaseEntity;
+import com.sprint.mission.discodeit.event.ReadStatusEvent;
+import com.sprint.mission.discodeit.mapper.ReadStatusMapper;
+import com.sprint.mission.discodeit.repository.ChannelRepository;
+import com.sprint.mission.discodeit.repository.ReadStatusQueryRepository;
+import com.sprint.mission.discodeit.repository.ReadStatusRepository;
+import com.sprint.mission.discodeit.repository.UserRepository;
+import java.lang.reflect.Field;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+@ExtendWith(MockitoExtension.class)
+class BasicReadStatusServiceTest {
+
+  @Mock
+  private ReadStatusRepository readStatusRepository;
+  @Mock
+  private ReadStatusQueryRepository readStatusQueryRepository;
+  @Mock
+  private UserRepository userRepository;
+  @Mock
+  private ChannelRepository channelRepository;
+  @Mock
+  private ReadStatusMapper readStatusMapper;
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
+  @InjectMocks
+  private BasicReadStatusService readStatusService;
+
+  @Test
+  void update_성공_마지막_메시지까지_읽으면_카운터를_초기화() {
+    // given
+    Instant lastMessageAt = Instant.now();
+    ReadStatus readStatus = readStatus(lastMessageAt, lastMessageAt.minusSeconds(60));
+    UUID readStatusId = readStatus.getId();
+    given(readStatusRepository.findById(readStatusId)).willReturn(Optional.of(readStatus));
+    given(readStatusQueryRepository.findWithUnreadById(readStatusId))
+        .willReturn(Optional.of(dto(readStatus)));
+
+    // when
+    readStatusService.update(readStatusId, new ReadStatusUpdateRequest(lastMessageAt));
+
+    // then
+    then(readStatusQueryRepository).should().resetUnreadCount(readStatusId);
+    then(readStatusQueryRepository).should(never()).recountUnreadCount(any());
+  }
+
+  @Test
+  void update_성공_중간까지만_읽으면_이후_메시지를_다시_센다() {
+    // given
+    Instant lastMessageAt = Instant.now();
+    ReadStatus readStatus = readStatus(lastMessageAt, lastMessageAt.minusSeconds(60));
+    UUID readStatusId = readStatus.getId();
+    given(readStatusRepository.findById(readStatusId)).willReturn(Optional.of(readStatus));
+    given(readStatusQueryRepository.findWithUnreadById(readStatusId))
+        .willReturn(Optional.of(dto(readStatus)));
+
+    // when
+    readStatusService.update(readStatusId,
+        new ReadStatusUpdateRequest(lastMessageAt.minusSeconds(30)));
+
+    // then
+    then(readStatusRepository).should().flush();
+    then(readStatusQueryRepository).should().recountUnreadCount(readStatusId);
+    then(readStatusQueryRepository).should(never()).resetUnreadCount(any());
+  }
+
+  @Test
+  void update_성공_응답과_이벤트는_다시_센_카운터로_만든다() {
+    // given
+    Instant lastMessageAt = Instant.now();
+    Instant newLastReadAt = lastMessageAt.minusSeconds(30);
+    ReadStatus readStatus = readStatus(lastMessageAt, lastMessageAt.minusSeconds(60));
+    UUID readStatusId = readStatus.getId();
+    ReadStatusDto recounted = new ReadStatusDto(readStatusId, null, null, newLastReadAt, 3, true);
+    given(readStatusRepository.findById(readStatusId)).willReturn(Optional.of(readStatus));
+    given(readStatusQueryRepository.findWithUnreadById(readStatusId))
+        .willReturn(Optional.of(recounted));
+
+    // when
+    ReadStatusDto result = readStatusService.update(readStatusId,
+        new ReadStatusUpdateRequest(newLastReadAt));
+
+    // then
+    assertThat(result).isEqualTo(recounted);
+    then(eventPublisher).should().publishEvent(ReadStatusEvent.from(recounted));
+    then(readStatusMapper).shouldHaveNoInteractions();
+  }
+
+  private ReadStatus readStatus(Instant lastMessageAt, Instant lastReadAt) {
+    User user = new User("reader", "reader@example.com", "password", null);
+    Channel channel = new Channel(ChannelType.PUBLIC, "channel", null);
+    setField(channel, Channel.class, "lastMessageAt", lastMessageAt);
+    ReadStatus readStatus = new ReadStatus(user, channel, lastReadAt);
+    setField(readStatus, BaseEntity.class, "id", UUID.randomUUID());
+    return readStatus;
+  }
+
+  private ReadStatusDto dto(ReadStatus readStatus) {
+    return new ReadStatusDto(readStatus.getId(), null, null, readStatus.getLastReadAt(), 0, false);
+  }
+
+  private void setField(Object target, Class<?> declaringClass, String name, Object value) {
+    try {
+      Field field = declaringClass.getDeclaredField(name);
+      field.setAccessible(true);
+      field.set(target, value);
+    } catch (NoSuchFieldException | IllegalAccessException e) {
+      throw new RuntimeException("엔티티 필드 설정 중 오류 발생", e);
+    }
+  }
+}
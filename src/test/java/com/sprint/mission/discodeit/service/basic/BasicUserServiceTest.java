@@ -3,10 +3,13 @@ package com.sprint.mission.discodeit.service.basic;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 
+import com.sprint.mission.discodeit.cache.UserDtoCache;
 import com.sprint.mission.discodeit.dto.data.UserDto;
 import com.sprint.mission.discodeit.dto.request.BinaryContentCreateRequest;
 import com.sprint.mission.discodeit.dto.request.UserCreateRequest;
@@ -14,20 +17,26 @@ import com.sprint.mission.discodeit.dto.request.UserUpdateRequest;
 import com.sprint.mission.discodeit.entity.BinaryContent;
 import com.sprint.mission.discodeit.entity.User;
 import com.sprint.mission.discodeit.entity.base.BaseUpdatableEntity;
+import com.sprint.mission.discodeit.event.CacheInvalidationEvent;
 import com.sprint.mission.discodeit.exception.user.UserException;
 import com.sprint.mission.discodeit.exception.user.UserExceptions;
 import com.sprint.mission.discodeit.mapper.UserMapper;
 import com.sprint.mission.discodeit.repository.BinaryContentRepository;
 import com.sprint.mission.discodeit.repository.UserRepository;
 import com.sprint.mission.discodeit.storage.BinaryContentStorage;
+import com.sprint.mission.discodeit.storage.BinaryContentUrlResolver;
+import com.sprint.mission.discodeit.storage.outbox.BlobEventOutbox;
 import java.lang.reflect.Field;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 @ExtendWith(MockitoExtension.class)
 class BasicUserServiceTest {
@@ -40,6 +49,16 @@ class BasicUserServiceTest {
   private BinaryContentRepository binaryContentRepository;
   @Mock
   private BinaryContentStorage binaryContentStorage;
+  @Mock
+  private BlobEventOutbox blobEventOutbox;
+  @Mock
+  private UserDtoCache userDtoCache;
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
+  @Spy
+  private BinaryContentUrlResolver binaryContentUrlResolver =
+      new BinaryContentUrlResolver(mock(BinaryContentStorage.class));
 
   @InjectMocks
   private BasicUserService userService;
@@ -83,7 +102,7 @@ class BasicUserServiceTest {
     Optional<BinaryContentCreateRequest> profileRequest = Optional.of(profileContent);
 
     BinaryContent binaryContent = new BinaryContent(profileContent.fileName(),
-        (long) profileContent.bytes().length, "image/jpeg");
+        profileContent.size(), "image/jpeg");
     UUID profileId = UUID.randomUUID();
 
     User requestedUser = new User(request.username(), request.email(), request.password(),
@@ -112,7 +131,8 @@ class BasicUserServiceTest {
     //then
     assertThat(result).isEqualTo(expectedDto);
     then(binaryContentRepository).should(times(1)).save(any(BinaryContent.class));
-    then(binaryContentStorage).should(times(1)).put(profileId, profileContent.bytes());
+    then(binaryContentStorage).should(times(1)).put(profileId, profileContent.content(),
+        profileContent.size());
     then(userRepository).should(times(1)).save(any(User.class));
 
   }
@@ -155,6 +175,7 @@ class BasicUserServiceTest {
 
     given(userRepository.findById(userId)).willReturn(Optional.of(user));
     given(userMapper.toDto(user)).willReturn(expectedDto);
+    givenCacheMiss(userId);
 
     // when
     UserDto result = userService.find(userId);
@@ -169,6 +190,7 @@ class BasicUserServiceTest {
     // given
     UUID userId = UUID.randomUUID();
     given(userRepository.findById(userId)).willReturn(Optional.empty());
+    givenCacheMiss(userId);
 
     // when, then
     UserException exception = UserExceptions.notFound(userId);
@@ -199,6 +221,7 @@ class BasicUserServiceTest {
 
     //then
     assertThat(result).isEqualTo(expectedDto);
+    then(eventPublisher).should().publishEvent(CacheInvalidationEvent.users(userId));
   }
 
   @Test
@@ -215,7 +238,7 @@ class BasicUserServiceTest {
     setId(existingUser, userId);
 
     BinaryContent binaryContent = new BinaryContent(profileContent.fileName(),
-        (long) profileContent.bytes().length, profileContent.contentType());
+        profileContent.size(), profileContent.contentType());
     UUID profileId = UUID.randomUUID();
 
     UserDto expectedDto = new UserDto(userId, request.newUsername(), request.newEmail(), null,
@@ -239,7 +262,8 @@ class BasicUserServiceTest {
     // then
     assertThat(result).isEqualTo(expectedDto);
     then(binaryContentRepository).should(times(1)).save(any(BinaryContent.class));
-    then(binaryContentStorage).should(times(1)).put(profileId, profileContent.bytes());
+    then(binaryContentStorage).should(times(1)).put(profileId, profileContent.content(),
+        profileContent.size());
   }
 
   @Test
@@ -300,11 +324,15 @@ class BasicUserServiceTest {
   @Test
   void delete_성공() {
     UUID userId = UUID.randomUUID();
+    UUID profileId = UUID.randomUUID();
     given(userRepository.existsById(userId)).willReturn(true);
+    given(userRepository.findProfileIdById(userId)).willReturn(Optional.of(profileId));
 
     userService.delete(userId);
 
     then(userRepository).should(times(1)).deleteById(userId);
+    then(blobEventOutbox).should(times(1)).recordDelete(profileId);
+    then(eventPublisher).should().publishEvent(CacheInvalidationEvent.users(userId));
   }
 
   @Test
@@ -319,6 +347,14 @@ class BasicUserServiceTest {
     then(userRepository).should(times(0)).deleteById(userId);
   }
 
+  // 캐시에 없으면 loader 를 그대로 실행한다
+  private void givenCacheMiss(UUID userId) {
+    given(userDtoCache.get(eq(userId), any())).willAnswer(invocation -> {
+      Function<UUID, UserDto> loader = invocation.getArgument(1);
+      return loader.apply(userId);
+    });
+  }
+
   private void setId(Object entity, UUID id) {
     try {
       if (entity instanceof BaseUpdatableEntity) {
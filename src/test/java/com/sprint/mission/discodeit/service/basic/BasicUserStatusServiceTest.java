@@ -0,0 +1,74 @@
+package com.sprint.mission.discodeit.service.basic;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+import com.sprint.mission.discodeit.dto.data.UserStatusDto;
+import com.sprint.mission.discodeit.dto.request.UserStatusUpdateRequest;
+import com.sprint.mission.discodeit.entity.User;
+import com.sprint.mission.discodeit.entity.UserStatus;
+import com.sprint.mission.discodeit.entity.base.BaseEntity;
+import com.sprint.mission.discodeit.mapper.UserStatusMapper;
+import com.sprint.mission.discodeit.presence.UserStatusHeartbeatBuffer;
+import com.sprint.mission.discodeit.repository.UserRepository;
+import com.sprint.mission.discodeit.repository.UserStatusRepository;
+import java.lang.reflect.Field;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class BasicUserStatusServiceTest {
+
+  @Mock
+  private UserStatusRepository userStatusRepository;
+  @Mock
+  private UserRepository userRepository;
+  @Mock
+  private UserStatusMapper userStatusMapper;
+  @Mock
+  private UserStatusHeartbeatBuffer heartbeatBuffer;
+
+  @InjectMocks
+  private BasicUserStatusService userStatusService;
+
+  @Test
+  void update_성공_heartbeat_버퍼를_거쳐_접속_상태에도_반영() {
+    // given
+    Instant persistedAt = Instant.now().minusSeconds(3600);
+    Instant newLastActiveAt = Instant.now();
+    User user = new User("testuser", "test@example.com", "password", null);
+    setField(user, BaseEntity.class, "id", UUID.randomUUID());
+    UserStatus userStatus = new UserStatus(user, persistedAt);
+    UUID userStatusId = UUID.randomUUID();
+    setField(userStatus, BaseEntity.class, "id", userStatusId);
+    given(userStatusRepository.findById(userStatusId)).willReturn(Optional.of(userStatus));
+    given(heartbeatBuffer.record(user.getId(), userStatusId, newLastActiveAt))
+        .willReturn(newLastActiveAt);
+
+    // when
+    UserStatusDto result = userStatusService.update(userStatusId,
+        new UserStatusUpdateRequest(newLastActiveAt));
+
+    // then, 엔티티를 직접 바꾸지 않고 버퍼가 PresenceIndex 와 DB 반영을 맡는다
+    then(heartbeatBuffer).should().record(user.getId(), userStatusId, newLastActiveAt);
+    assertThat(userStatus.getLastActiveAt()).isEqualTo(persistedAt);
+    assertThat(result).isEqualTo(new UserStatusDto(userStatusId, user.getId(), newLastActiveAt));
+  }
+
+  private void setField(Object target, Class<?> declaringClass, String name, Object value) {
+    try {
+      Field field = declaringClass.getDeclaredField(name);
+      field.setAccessible(true);
+      field.set(target, value);
+    } catch (NoSuchFieldException | IllegalAccessException e) {
+      throw new RuntimeException("엔티티 필드 설정 중 오류 발생", e);
+    }
+  }
+}
@@ -0,0 +1,193 @@
+package com.sprint.mission.discodeit.service.basic;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import com.sprint.mission.discodeit.cache.BinaryContentDtoCache;
+import com.sprint.mission.discodeit.cache.UserDtoCache;
+import com.sprint.mission.discodeit.dto.data.MessageDto;
+import com.sprint.mission.discodeit.dto.data.MessagePageDirection;
+import com.sprint.mission.discodeit.dto.response.PageResponse;
+import com.sprint.mission.discodeit.entity.BinaryContent;
+import com.sprint.mission.discodeit.entity.Channel;
+import com.sprint.mission.discodeit.entity.ChannelType;
+import com.sprint.mission.discodeit.entity.Message;
+import com.sprint.mission.discodeit.entity.User;
+import com.sprint.mission.discodeit.entity.UserStatus;
+import com.sprint.mission.discodeit.mapper.MessageMapper;
+import com.sprint.mission.discodeit.mapper.PageResponseMapper;
+import com.sprint.mission.discodeit.presence.PresenceIndex;
+import com.sprint.mission.discodeit.repository.BinaryContentRepository;
+import com.sprint.mission.discodeit.repository.ChannelRepository;
+import com.sprint.mission.discodeit.repository.MessageQueryRepository;
+import com.sprint.mission.discodeit.repository.MessageRepository;
+import com.sprint.mission.discodeit.repository.UserRepository;
+import com.sprint.mission.discodeit.search.MessageSearchIndex;
+import com.sprint.mission.discodeit.storage.BinaryContentStorage;
+import com.sprint.mission.discodeit.storage.BinaryContentUploader;
+import com.sprint.mission.discodeit.storage.BinaryContentUrlResolver;
+import com.sprint.mission.discodeit.storage.outbox.BlobEventOutbox;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.JdbcClientAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 메시지 목록 조회(BasicMessageService.findAllByChannelId)가 실행하는 SQL 문 수를 센다. JPA(id 조회)와 JdbcClient(DTO 조회)
+ * 를 모두 세기 위해 Hibernate 통계 대신 DataSource 에서 만든 Statement 수를 센다.
+ */
+@DataJpaTest
+@EnableJpaAuditing
+@ActiveProfiles("test")
+@Import({MessageQueryRepository.class, PresenceIndex.class, UserDtoCache.class,
+    BinaryContentDtoCache.class, SimpleMeterRegistry.class,
+    MessagePageQueryCountTest.StatementCounterConfig.class})
+@ImportAutoConfiguration(JdbcClientAutoConfiguration.class)
+class MessagePageQueryCountTest {
+
+  private static final AtomicInteger STATEMENTS = new AtomicInteger();
+
+  @Autowired
+  private MessageRepository messageRepository;
+
+  @Autowired
+  private MessageQueryRepository messageQueryRepository;
+
+  @Autowired
+  private TestEntityManager entityManager;
+
+  private BasicMessageService messageService;
+  private Channel channel;
+
+  @BeforeEach
+  void setUp() {
+    messageService = new BasicMessageService(
+        messageRepository,
+        messageQueryRepository,
+        mock(MessageSearchIndex.class),
+        mock(ChannelRepository.class),
+        mock(UserRepository.class),
+        mock(MessageMapper.class),
+        mock(BinaryContentUploader.class),
+        new BinaryContentUrlResolver(mock(BinaryContentStorage.class)),
+        mock(BlobEventOutbox.class),
+        mock(ApplicationEventPublisher.class),
+        mock(BinaryContentRepository.class),
+        new PageResponseMapper() {
+        },
+        mock(TransactionTemplate.class));
+
+    channel = new Channel(ChannelType.PUBLIC, "test-channel", "Test Channel");
+    entityManager.persist(channel);
+    List<User> authors = List.of(author("alice"), author("bob"));
+    for (int i = 0; i < 12; i++) {
+      List<BinaryContent> attachments = i % 4 == 0
+          ? new ArrayList<>(List.of(
+          new BinaryContent("file" + i + ".png", 10L, "image/png"),
+          new BinaryContent("file" + i + ".txt", 20L, "text/plain")))
+          : new ArrayList<>();
+      entityManager.persist(new Message("message " + i, channel, authors.get(i % 2),
+          attachments));
+    }
+    entityManager.flush();
+    entityManager.clear();
+  }
+
+  @Test
+  void findAllByChannelId_캐시가_비어도_작성자와_첨부파일을_한번씩만_모아서_조회() {
+    // given
+    STATEMENTS.set(0);
+
+    // when
+    PageResponse<MessageDto> cold = messageService.findAllByChannelId(channel.getId(), null,
+        MessagePageDirection.BEFORE, 50);
+    int coldStatements = STATEMENTS.getAndSet(0);
+    PageResponse<MessageDto> warm = messageService.findAllByChannelId(channel.getId(), null,
+        MessagePageDirection.BEFORE, 50);
+    int warmStatements = STATEMENTS.get();
+
+    // then, 캐시가 비었을 때: id + 메시지 + 첨부파일 id + 작성자(UserDto) + 첨부파일 메타데이터(BinaryContentDto)
+    assertThat(cold.content()).hasSize(12);
+    assertThat(cold.content()).allSatisfy(message -> assertThat(message.author()).isNotNull());
+    assertThat(cold.content()).extracting(message -> message.attachments().size())
+        .containsOnly(0, 2);
+    assertThat(coldStatements).isEqualTo(5);
+
+    // then, 캐시가 찼을 때: id + 메시지 + 첨부파일 id 만 조회한다
+    assertThat(warm.content()).isEqualTo(cold.content());
+    assertThat(warmStatements).isEqualTo(3);
+  }
+
+  private User author(String username) {
+    User user = new User(username, username + "@example.com", "password",
+        new BinaryContent(username + ".png", 100L, "image/png"));
+    new UserStatus(user, Instant.now());
+    entityManager.persist(user);
+    return user;
+  }
+
+  @TestConfiguration
+  static class StatementCounterConfig {
+
+    private static final Set<String> STATEMENT_FACTORIES = Set.of(
+        "prepareStatement", "createStatement", "prepareCall");
+
+    // 애플리케이션 코드는 그대로 두고 DataSource 가 돌려주는 Connection 에서 만든 Statement 만 센다
+    @Bean
+    static BeanPostProcessor statementCountingDataSource() {
+      return new BeanPostProcessor() {
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+          if (!(bean instanceof DataSource dataSource)) {
+            return bean;
+          }
+          return Proxy.newProxyInstance(StatementCounterConfig.class.getClassLoader(),
+              new Class<?>[]{DataSource.class}, (proxy, method, args) -> {
+                Object result = invoke(dataSource, method, args);
+                return result instanceof Connection connection ? counting(connection) : result;
+              });
+        }
+      };
+    }
+
+    private static Connection counting(Connection connection) {
+      return (Connection) Proxy.newProxyInstance(StatementCounterConfig.class.getClassLoader(),
+          new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+            if (STATEMENT_FACTORIES.contains(method.getName())) {
+              STATEMENTS.incrementAndGet();
+            }
+            return invoke(connection, method, args);
+          });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+      try {
+        return method.invoke(target, args);
+      } catch (InvocationTargetException e) {
+        throw e.getTargetException();
+      }
+    }
+  }
+}
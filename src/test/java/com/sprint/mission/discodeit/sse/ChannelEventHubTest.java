@@ -0,0 +1,145 @@
+package com.sprint.mission.discodeit.sse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+import com.sprint.mission.discodeit.controller.ChannelController;
+import com.sprint.mission.discodeit.dto.data.MessageCursor;
+import com.sprint.mission.discodeit.dto.data.MessageDto;
+import com.sprint.mission.discodeit.dto.data.MessagePageDirection;
+import com.sprint.mission.discodeit.dto.response.PageResponse;
+import com.sprint.mission.discodeit.event.MessageEvent;
+import com.sprint.mission.discodeit.service.ChannelService;
+import com.sprint.mission.discodeit.service.MessageService;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+@ExtendWith(MockitoExtension.class)
+class ChannelEventHubTest {
+
+  @Mock
+  private ChannelService channelService;
+  @Mock
+  private MessageService messageService;
+
+  private UUID channelId;
+
+  @BeforeEach
+  void setUp() {
+    channelId = UUID.randomUUID();
+  }
+
+  @Test
+  void publish_구독자에게_생성_이벤트를_커서_id_와_함께_전송() throws Exception {
+    // given
+    ChannelEventHub hub = hub(Runnable::run, 16);
+    MvcResult result = subscribe(hub, null);
+    MessageDto message = message(Instant.now());
+
+    // when
+    hub.publish(MessageEvent.created(message));
+
+    // then
+    String body = result.getResponse().getContentAsString();
+    assertThat(body).contains("event:message.created");
+    assertThat(body).contains("id:" + MessageCursor.from(message).encode());
+    assertThat(body).contains(message.id().toString());
+  }
+
+  @Test
+  void publish_다른_채널의_이벤트는_전송하지_않는다() throws Exception {
+    // given
+    ChannelEventHub hub = hub(Runnable::run, 16);
+    MvcResult result = subscribe(hub, null);
+    MessageDto otherChannelMessage = new MessageDto(UUID.randomUUID(), Instant.now(),
+        Instant.now(), "hello", UUID.randomUUID(), null, List.of());
+
+    // when
+    hub.publish(MessageEvent.created(otherChannelMessage));
+
+    // then
+    assertThat(result.getResponse().getContentAsString()).doesNotContain("message.created");
+  }
+
+  @Test
+  void subscribe_LastEventID_이후_메시지를_재전송하고_중복은_건너뛴다() throws Exception {
+    // given
+    Instant base = Instant.now();
+    MessageDto seen = message(base);
+    MessageDto missed1 = message(base.plusSeconds(1));
+    MessageDto missed2 = message(base.plusSeconds(2));
+    String lastEventId = MessageCursor.from(seen).encode();
+    // 서비스는 최신순으로 반환한다
+    given(messageService.findAllByChannelId(eq(channelId), eq(lastEventId),
+        eq(MessagePageDirection.AFTER), eq(200)))
+        .willReturn(new PageResponse<>(List.of(missed2, missed1), null, 2, false, null));
+
+    ChannelEventHub hub = hub(Runnable::run, 16);
+
+    // when
+    MvcResult result = subscribe(hub, lastEventId);
+    hub.publish(MessageEvent.created(missed2));
+
+    // then
+    String body = result.getResponse().getContentAsString();
+    assertThat(body.indexOf(missed1.id().toString()))
+        .isLessThan(body.indexOf(missed2.id().toString()));
+    assertThat(body.split(missed2.id().toString(), -1)).hasSize(2);
+    assertThat(body).doesNotContain("event:" + ChannelEventHub.RESET_EVENT);
+  }
+
+  @Test
+  void publish_큐가_가득찬_느린_구독자는_연결을_끊는다() throws Exception {
+    // given: 전송 스레드가 돌지 않아 큐가 비워지지 않는 상황
+    Executor stalled = task -> {
+    };
+    ChannelEventHub hub = hub(stalled, 1);
+    subscribe(hub, null);
+
+    // when
+    hub.publish(MessageEvent.created(message(Instant.now())));
+    hub.publish(MessageEvent.created(message(Instant.now())));
+
+    // then
+    assertThat(hub.subscriberCount(channelId)).isZero();
+  }
+
+  private ChannelEventHub hub(Executor executor, int queueCapacity) {
+    return new ChannelEventHub(messageService, executor, Duration.ofMinutes(1), queueCapacity,
+        200);
+  }
+
+  private MvcResult subscribe(ChannelEventHub hub, String lastEventId) throws Exception {
+    MockMvc mockMvc = MockMvcBuilders
+        .standaloneSetup(new ChannelController(channelService, hub))
+        .build();
+    MockHttpServletRequestBuilder requestBuilder = get("/api/channels/{channelId}/events",
+        channelId);
+    if (lastEventId != null) {
+      requestBuilder.header("Last-Event-ID", lastEventId);
+    }
+    return mockMvc.perform(requestBuilder)
+        .andExpect(request().asyncStarted())
+        .andReturn();
+  }
+
+  private MessageDto message(Instant createdAt) {
+    return new MessageDto(UUID.randomUUID(), createdAt, createdAt, "hello", channelId, null,
+        List.of());
+  }
+}
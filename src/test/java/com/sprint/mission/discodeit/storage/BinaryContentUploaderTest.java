@@ -0,0 +1,119 @@
+package com.sprint.mission.discodeit.storage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+
+import com.sprint.mission.discodeit.dto.request.BinaryContentCreateRequest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.InputStreamSource;
+
+@ExtendWith(MockitoExtension.class)
+class BinaryContentUploaderTest {
+
+  @Mock
+  private BinaryContentStorage binaryContentStorage;
+
+  private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  void uploadAll_성공_업로드가_동시에_진행된다() {
+    // given
+    BinaryContentUploader uploader = new BinaryContentUploader(binaryContentStorage, executor);
+    List<BinaryContentCreateRequest> requests = List.of(request(), request(), request());
+
+    // 모든 업로드가 동시에 시작되어야만 래치가 풀린다
+    CountDownLatch started = new CountDownLatch(requests.size());
+    willAnswer(invocation -> {
+      started.countDown();
+      assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+      return null;
+    }).given(binaryContentStorage).put(any(UUID.class), any(InputStreamSource.class), anyLong());
+
+    // when
+    List<UUID> ids = uploader.uploadAll(requests);
+
+    // then
+    assertThat(ids).hasSize(requests.size()).doesNotHaveDuplicates();
+    ids.forEach(id -> then(binaryContentStorage).should()
+        .put(eq(id), any(InputStreamSource.class), anyLong()));
+  }
+
+  @Test
+  void uploadAll_실패_업로드된_파일을_삭제한다() {
+    // given
+    BinaryContentUploader uploader = new BinaryContentUploader(binaryContentStorage, Runnable::run);
+    // 두 번째 업로드만 실패시킨다
+    List<UUID> putIds = new ArrayList<>();
+    willAnswer(invocation -> {
+      putIds.add(invocation.getArgument(0));
+      if (putIds.size() == 2) {
+        throw new IllegalStateException("upload failed");
+      }
+      return null;
+    }).given(binaryContentStorage).put(any(UUID.class), any(InputStreamSource.class), anyLong());
+
+    // when
+    assertThatThrownBy(() -> uploader.uploadAll(List.of(request(), request())))
+        .isInstanceOf(IllegalStateException.class);
+
+    // then
+    then(binaryContentStorage).should().delete(putIds.get(0));
+    then(binaryContentStorage).should(never()).delete(putIds.get(1));
+  }
+
+  @Test
+  void uploadAll_성공_요청이_없으면_업로드하지_않는다() {
+    // given
+    BinaryContentUploader uploader = new BinaryContentUploader(binaryContentStorage, Runnable::run);
+
+    // when
+    List<UUID> ids = uploader.uploadAll(List.of());
+
+    // then
+    assertThat(ids).isEmpty();
+    then(binaryContentStorage).shouldHaveNoInteractions();
+  }
+
+  @Test
+  void deleteAll_삭제_실패는_무시하고_나머지를_삭제한다() {
+    // given
+    BinaryContentUploader uploader = new BinaryContentUploader(binaryContentStorage, Runnable::run);
+    UUID failed = UUID.randomUUID();
+    UUID deleted = UUID.randomUUID();
+    willThrow(new IllegalStateException("delete failed")).given(binaryContentStorage)
+        .delete(failed);
+
+    // when
+    uploader.deleteAll(List.of(failed, deleted));
+
+    // then
+    then(binaryContentStorage).should().delete(deleted);
+  }
+
+  private BinaryContentCreateRequest request() {
+    return new BinaryContentCreateRequest("test.png", "image/png", new byte[]{1, 2, 3});
+  }
+}
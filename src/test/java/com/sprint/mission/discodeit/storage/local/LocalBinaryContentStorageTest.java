@@ -0,0 +1,100 @@
+package com.sprint.mission.discodeit.storage.local;
+
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.sprint.mission.discodeit.controller.BinaryContentController;
+import com.sprint.mission.discodeit.dto.data.BinaryContentDto;
+import com.sprint.mission.discodeit.service.BinaryContentService;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+@ExtendWith(MockitoExtension.class)
+class LocalBinaryContentStorageTest {
+
+  private static final byte[] CONTENT = "0123456789abcdefghij".getBytes(StandardCharsets.UTF_8);
+
+  @TempDir
+  Path root;
+
+  @Mock
+  private BinaryContentService binaryContentService;
+
+  private MockMvc mockMvc;
+  private UUID id;
+  private String eTag;
+
+  @BeforeEach
+  void setUp() {
+    LocalBinaryContentStorage storage = new LocalBinaryContentStorage(root);
+    storage.init();
+
+    id = UUID.randomUUID();
+    eTag = "\"" + id + "\"";
+    storage.put(id, CONTENT);
+    given(binaryContentService.find(id)).willReturn(
+        new BinaryContentDto(id, "test.txt", (long) CONTENT.length, "text/plain", null));
+
+    mockMvc = MockMvcBuilders
+        .standaloneSetup(new BinaryContentController(binaryContentService, storage))
+        .build();
+  }
+
+  @Test
+  void download_성공_전체파일_ETag_포함() throws Exception {
+    mockMvc.perform(get("/api/binaryContents/{id}/download", id))
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.ETAG, eTag))
+        .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+        .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+        .andExpect(content().bytes(CONTENT));
+  }
+
+  @Test
+  void download_Range_요청시_부분응답() throws Exception {
+    mockMvc.perform(get("/api/binaryContents/{id}/download", id)
+            .header(HttpHeaders.RANGE, "bytes=5-9"))
+        .andExpect(status().isPartialContent())
+        .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 5-9/" + CONTENT.length))
+        .andExpect(content().string("56789"));
+  }
+
+  @Test
+  void download_If_None_Match_일치시_304() throws Exception {
+    mockMvc.perform(get("/api/binaryContents/{id}/download", id)
+            .header(HttpHeaders.IF_NONE_MATCH, eTag))
+        .andExpect(status().isNotModified())
+        .andExpect(content().bytes(new byte[0]));
+  }
+
+  @Test
+  void download_If_Range_불일치시_Range_무시하고_전체응답() throws Exception {
+    mockMvc.perform(get("/api/binaryContents/{id}/download", id)
+            .header(HttpHeaders.RANGE, "bytes=5-9")
+            .header(HttpHeaders.IF_RANGE, "\"" + UUID.randomUUID() + "\""))
+        .andExpect(status().isOk())
+        .andExpect(content().bytes(CONTENT));
+  }
+
+  @Test
+  void download_If_Range_일치시_부분응답() throws Exception {
+    mockMvc.perform(get("/api/binaryContents/{id}/download", id)
+            .header(HttpHeaders.RANGE, "bytes=0-4")
+            .header(HttpHeaders.IF_RANGE, eTag))
+        .andExpect(status().isPartialContent())
+        .andExpect(content().string("01234"));
+  }
+}
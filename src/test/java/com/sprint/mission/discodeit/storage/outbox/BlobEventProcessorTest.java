@@ -0,0 +1,92 @@
+package com.sprint.mission.discodeit.storage.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+import com.sprint.mission.discodeit.entity.BlobEvent;
+import com.sprint.mission.discodeit.entity.BlobEventType;
+import com.sprint.mission.discodeit.repository.BlobEventRepository;
+import com.sprint.mission.discodeit.storage.BinaryContentStorage;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+@ExtendWith(MockitoExtension.class)
+class BlobEventProcessorTest {
+
+  @Mock
+  private BlobEventRepository blobEventRepository;
+  @Mock
+  private BinaryContentStorage binaryContentStorage;
+
+  private BlobEventProcessor blobEventProcessor;
+
+  @BeforeEach
+  void setUp() {
+    blobEventProcessor = new BlobEventProcessor(blobEventRepository, binaryContentStorage, 1000,
+        10);
+  }
+
+  @Test
+  void processPending_성공_저장소에서_일괄_삭제후_이벤트_제거() {
+    // given
+    UUID id1 = UUID.randomUUID();
+    UUID id2 = UUID.randomUUID();
+    List<BlobEvent> events = List.of(
+        new BlobEvent(id1, BlobEventType.DELETE),
+        new BlobEvent(id2, BlobEventType.DELETE),
+        new BlobEvent(id1, BlobEventType.DELETE)
+    );
+    given(blobEventRepository.findPendingForUpdate(10, Limit.of(1000))).willReturn(events);
+
+    // when
+    int processed = blobEventProcessor.processPending();
+
+    // then
+    assertThat(processed).isEqualTo(3);
+    then(binaryContentStorage).should(times(1)).deleteAll(List.of(id1, id2));
+    then(blobEventRepository).should(times(1)).deleteAllInBatch(events);
+  }
+
+  @Test
+  void processPending_실패_저장소_오류시_재시도_횟수만_증가() {
+    // given
+    BlobEvent event = new BlobEvent(UUID.randomUUID(), BlobEventType.DELETE);
+    given(blobEventRepository.findPendingForUpdate(10, Limit.of(1000)))
+        .willReturn(List.of(event));
+    willThrow(new IllegalStateException("S3 unavailable"))
+        .given(binaryContentStorage).deleteAll(anyCollection());
+
+    // when
+    int processed = blobEventProcessor.processPending();
+
+    // then
+    assertThat(processed).isZero();
+    assertThat(event.getAttempts()).isEqualTo(1);
+    then(blobEventRepository).should(never()).deleteAllInBatch(any());
+  }
+
+  @Test
+  void processPending_이벤트가_없으면_저장소를_호출하지_않는다() {
+    // given
+    given(blobEventRepository.findPendingForUpdate(10, Limit.of(1000))).willReturn(List.of());
+
+    // when
+    int processed = blobEventProcessor.processPending();
+
+    // then
+    assertThat(processed).isZero();
+    then(binaryContentStorage).should(never()).deleteAll(anyCollection());
+  }
+}
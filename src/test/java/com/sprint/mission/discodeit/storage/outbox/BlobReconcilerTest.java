@@ -0,0 +1,54 @@
+package com.sprint.mission.discodeit.storage.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+import com.sprint.mission.discodeit.repository.BinaryContentRepository;
+import com.sprint.mission.discodeit.storage.BinaryContentStorage;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class BlobReconcilerTest {
+
+  @Mock
+  private BinaryContentRepository binaryContentRepository;
+  @Mock
+  private BinaryContentStorage binaryContentStorage;
+
+  @Test
+  void reconcile_메타데이터가_없는_파일만_배치_단위로_삭제() {
+    // given
+    BlobReconciler blobReconciler = new BlobReconciler(binaryContentRepository,
+        binaryContentStorage, Duration.ofHours(1), 2);
+    UUID kept = UUID.randomUUID();
+    UUID orphan1 = UUID.randomUUID();
+    UUID orphan2 = UUID.randomUUID();
+    given(binaryContentStorage.findAllIdsModifiedBefore(any(Instant.class)))
+        .willReturn(Stream.of(kept, orphan1, orphan2));
+    given(binaryContentRepository.findExistingIds(anyCollection()))
+        .willReturn(List.of(kept))
+        .willReturn(List.of());
+
+    // when
+    int deleted = blobReconciler.reconcile();
+
+    // then
+    assertThat(deleted).isEqualTo(2);
+    then(binaryContentRepository).should(times(2)).findExistingIds(anyCollection());
+    then(binaryContentStorage).should().deleteAll(Set.of(orphan1));
+    then(binaryContentStorage).should().deleteAll(Set.of(orphan2));
+  }
+}
@@ -2,30 +2,46 @@ package com.sprint.mission.discodeit.storage.s3;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.sprint.mission.discodeit.dto.data.BinaryContentDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.core.ResponseInputStream;
 import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectResponse;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 
 @ExtendWith(MockitoExtension.class)
 class S3BinaryContentStorageTest {
@@ -36,24 +52,41 @@ class S3BinaryContentStorageTest {
   @Mock
   private ResponseInputStream<GetObjectResponse> responseInputStream;
 
+  private S3Presigner s3Presigner;
+
+  private SimpleMeterRegistry meterRegistry;
+
   private S3BinaryContentStorage s3BinaryContentStorage;
 
   @BeforeEach
   void setUp() {
+    // 서명은 네트워크 호출 없이 로컬에서 계산되므로 실제 Presigner 를 사용
+    s3Presigner = S3Presigner.builder()
+        .region(Region.AP_NORTHEAST_2)
+        .credentialsProvider(StaticCredentialsProvider.create(
+            AwsBasicCredentials.create("test-access-key", "test-secret-key")))
+        .build();
+    meterRegistry = new SimpleMeterRegistry();
     s3BinaryContentStorage = spy(new S3BinaryContentStorage(
-        "test-access-key",
-        "test-secret-key",
-        "ap-northeast-2",
-        "test-bucket"
+        s3Client,
+        s3Presigner,
+        new S3PresignedUrlCache(600, Duration.ofSeconds(60), 100, meterRegistry),
+        "test-bucket",
+        600,
+        true
     ));
   }
 
+  @AfterEach
+  void tearDown() {
+    s3Presigner.close();
+  }
+
   @Test
   void put_S3로_업로드후_id_반환() {
     // Given
     UUID id = UUID.randomUUID();
     byte[] content = "Test content".getBytes();
-    doReturn(s3Client).when(s3BinaryContentStorage).getS3Client();
 
     // When
     UUID result = s3BinaryContentStorage.put(id, content);
@@ -63,12 +96,50 @@ class S3BinaryContentStorageTest {
     assertEquals(id, result);
   }
 
+  @Test
+  void put_스트림을_ContentLength와_함께_업로드() {
+    // Given
+    UUID id = UUID.randomUUID();
+    byte[] content = "Streaming content".getBytes();
+
+    // When
+    UUID result = s3BinaryContentStorage.put(id, new ByteArrayInputStream(content),
+        content.length);
+
+    // Then
+    ArgumentCaptor<PutObjectRequest> requestCaptor = ArgumentCaptor.forClass(
+        PutObjectRequest.class);
+    ArgumentCaptor<RequestBody> bodyCaptor = ArgumentCaptor.forClass(RequestBody.class);
+    verify(s3Client).putObject(requestCaptor.capture(), bodyCaptor.capture());
+    assertEquals(id.toString(), requestCaptor.getValue().key());
+    assertEquals(Long.valueOf(content.length), requestCaptor.getValue().contentLength());
+    assertEquals(Long.valueOf(content.length),
+        bodyCaptor.getValue().optionalContentLength().orElseThrow());
+    assertEquals(id, result);
+  }
+
+  @Test
+  void generatePresignedUrl_설정된_만료시간으로_서명() {
+    // Given
+    String key = UUID.randomUUID().toString();
+
+    // When
+    String first = s3BinaryContentStorage.generatePresignedUrl(key, "image/png");
+    String second = s3BinaryContentStorage.generatePresignedUrl(key, null);
+
+    // Then
+    assertTrue(first.contains("test-bucket"));
+    assertTrue(first.contains(key));
+    assertTrue(first.contains("X-Amz-Expires=600"));
+    assertTrue(first.contains("response-content-type=image%2Fpng"));
+    assertTrue(second.contains("X-Amz-Expires=600"));
+  }
+
   @Test
   void get_InputStream_반환() throws IOException {
     // Given
     UUID id = UUID.randomUUID();
     byte[] mockData = "Test data".getBytes();
-    doReturn(s3Client).when(s3BinaryContentStorage).getS3Client();
     when(s3Client.getObject(any(GetObjectRequest.class))).thenReturn(responseInputStream);
     when(responseInputStream.readAllBytes()).thenReturn(mockData);
 
@@ -87,7 +158,7 @@ class S3BinaryContentStorageTest {
     String fileName = "test.txt";
     long size = 100L;
     String contentType = "text/plain";
-    BinaryContentDto metaData = new BinaryContentDto(id, fileName, size, contentType);
+    BinaryContentDto metaData = new BinaryContentDto(id, fileName, size, contentType, null);
 
     doReturn("http://discodeit.com/test").when(s3BinaryContentStorage)
         .generatePresignedUrl(id.toString(), contentType);
@@ -101,4 +172,59 @@ class S3BinaryContentStorageTest {
         response.getHeaders().getFirst(HttpHeaders.LOCATION));
     verify(s3BinaryContentStorage).generatePresignedUrl(id.toString(), contentType);
   }
+
+  @Test
+  void download_같은_파일은_캐시된_PresignedUrl_재사용() {
+    // Given
+    UUID id = UUID.randomUUID();
+    BinaryContentDto metaData = new BinaryContentDto(id, "avatar.png", 100L, "image/png", null);
+
+    // When
+    ResponseEntity<?> first = s3BinaryContentStorage.download(metaData);
+    ResponseEntity<?> second = s3BinaryContentStorage.download(metaData);
+
+    // Then, 서명은 한 번만 수행되고 캐시 적중 지표가 기록됨
+    assertEquals(first.getHeaders().getLocation(), second.getHeaders().getLocation());
+    verify(s3BinaryContentStorage, times(1)).generatePresignedUrl(id.toString(), "image/png");
+    assertEquals(1.0, meterRegistry.get("cache.gets")
+        .tag("cache", S3PresignedUrlCache.CACHE_NAME)
+        .tag("result", "hit")
+        .functionCounter()
+        .count());
+  }
+
+  @Test
+  void resolveUrl_inline_설정시_PresignedUrl_반환() {
+    // Given
+    UUID id = UUID.randomUUID();
+    BinaryContentDto metaData = new BinaryContentDto(id, "avatar.png", 100L, "image/png", null);
+
+    // When
+    Optional<String> url = s3BinaryContentStorage.resolveUrl(metaData);
+
+    // Then
+    assertTrue(url.isPresent());
+    assertTrue(url.get().contains(id.toString()));
+  }
+
+  @Test
+  void deleteAll_1000개_단위로_나누어_DeleteObjects_요청() {
+    // Given
+    List<UUID> ids = IntStream.range(0, 2500)
+        .mapToObj(i -> UUID.randomUUID())
+        .toList();
+    when(s3Client.deleteObjects(any(DeleteObjectsRequest.class)))
+        .thenReturn(DeleteObjectsResponse.builder().build());
+
+    // When
+    s3BinaryContentStorage.deleteAll(ids);
+
+    // Then
+    ArgumentCaptor<DeleteObjectsRequest> captor = ArgumentCaptor.forClass(
+        DeleteObjectsRequest.class);
+    verify(s3Client, times(3)).deleteObjects(captor.capture());
+    assertEquals(List.of(1000, 1000, 500), captor.getAllValues().stream()
+        .map(request -> request.delete().objects().size())
+        .toList());
+  }
 }
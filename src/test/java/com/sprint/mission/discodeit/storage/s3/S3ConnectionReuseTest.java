@@ -0,0 +1,214 @@
+package com.sprint.mission.discodeit.storage.s3;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.sprint.mission.discodeit.config.S3StorageConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+/**
+ * 프로세스 안에 띄운 S3 호환 HTTP 스텁에 put/get 을 반복해, 공유 클라이언트는 TCP 연결을 재사용하고 요청마다 만드는 클라이언트(이전
+ * 방식)는 요청마다 연결을 새로 여는지 확인한다. 연결은 스텁이 받은 요청의 클라이언트 주소(포트)로 센다. 지연 시간 p99 는 비교용으로
+ * 로그에만 남긴다.
+ */
+@Slf4j
+class S3ConnectionReuseTest {
+
+  private static final int OPERATIONS = 50;
+  private static final String BUCKET = "test-bucket";
+  private static final byte[] CONTENT = "connection reuse".getBytes(StandardCharsets.UTF_8);
+
+  private final Set<InetSocketAddress> connections = ConcurrentHashMap.newKeySet();
+  private final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+
+  private HttpServer server;
+  private ExecutorService serverExecutor;
+  private S3StorageConfig config;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+    server.createContext("/", this::handle);
+    serverExecutor = Executors.newFixedThreadPool(4);
+    server.setExecutor(serverExecutor);
+    server.start();
+    config = new S3StorageConfig("test-access-key", "test-secret-key", "us-east-1",
+        "http://localhost:" + server.getAddress().getPort(), true);
+  }
+
+  @AfterEach
+  void tearDown() {
+    server.stop(0);
+    serverExecutor.shutdownNow();
+  }
+
+  @Test
+  void 공유_클라이언트는_여러_요청에_연결을_재사용한다() throws IOException {
+    // given
+    List<Long> sharedLatencies = new ArrayList<>();
+    List<Long> perRequestLatencies = new ArrayList<>();
+
+    // when: 애플리케이션과 같이 클라이언트 하나로 모든 요청을 처리
+    try (S3Client s3Client = newS3Client(); S3Presigner presigner = config.s3Presigner()) {
+      S3BinaryContentStorage storage = newStorage(s3Client, presigner);
+      for (int i = 0; i < OPERATIONS; i++) {
+        putAndGet(storage, sharedLatencies);
+      }
+    }
+    int sharedConnections = connections.size();
+
+    // when: 이전 방식처럼 요청마다 클라이언트를 만들고 닫는다
+    connections.clear();
+    for (int i = 0; i < OPERATIONS; i++) {
+      UUID id = UUID.randomUUID();
+      measure(perRequestLatencies, () -> {
+        try (S3Client s3Client = newS3Client(); S3Presigner presigner = config.s3Presigner()) {
+          return newStorage(s3Client, presigner).put(id, CONTENT);
+        }
+      });
+      measure(perRequestLatencies, () -> {
+        try (S3Client s3Client = newS3Client(); S3Presigner presigner = config.s3Presigner();
+            InputStream in = newStorage(s3Client, presigner).get(id)) {
+          return in.readAllBytes();
+        } catch (IOException e) {
+          throw new IllegalStateException(e);
+        }
+      });
+    }
+    int perRequestConnections = connections.size();
+
+    // then
+    log.info("S3 connection reuse: operations={}, sharedConnections={}, sharedP99={}ms, "
+            + "perRequestConnections={}, perRequestP99={}ms", OPERATIONS * 2, sharedConnections,
+        p99Millis(sharedLatencies), perRequestConnections, p99Millis(perRequestLatencies));
+    assertThat(sharedConnections).isLessThanOrEqualTo(2);
+    assertThat(perRequestConnections).isEqualTo(OPERATIONS * 2);
+  }
+
+  private void putAndGet(S3BinaryContentStorage storage, List<Long> latencies) throws IOException {
+    UUID id = UUID.randomUUID();
+    measure(latencies, () -> storage.put(id, CONTENT));
+    byte[] read = measure(latencies, () -> {
+      try (InputStream in = storage.get(id)) {
+        return in.readAllBytes();
+      } catch (IOException e) {
+        throw new IllegalStateException(e);
+      }
+    });
+    assertThat(read).isEqualTo(CONTENT);
+  }
+
+  private S3Client newS3Client() {
+    return config.s3Client(50, Duration.ofSeconds(2), Duration.ofSeconds(5),
+        Duration.ofSeconds(30), Duration.ofSeconds(60), 3);
+  }
+
+  private S3BinaryContentStorage newStorage(S3Client s3Client, S3Presigner presigner) {
+    return new S3BinaryContentStorage(s3Client, presigner,
+        new S3PresignedUrlCache(600, Duration.ofSeconds(60), 100, new SimpleMeterRegistry()),
+        BUCKET, 600, false);
+  }
+
+  private static <T> T measure(List<Long> latencies, Supplier<T> operation) {
+    long started = System.nanoTime();
+    T result = operation.get();
+    latencies.add(System.nanoTime() - started);
+    return result;
+  }
+
+  private static double p99Millis(List<Long> latencies) {
+    List<Long> sorted = latencies.stream().sorted().toList();
+    long p99 = sorted.get((int) Math.ceil(sorted.size() * 0.99) - 1);
+    return p99 / 1_000_000.0;
+  }
+
+  // PutObject 는 본문을 저장하고, GetObject 는 저장된 본문을 돌려준다 (path-style: /bucket/key)
+  private void handle(HttpExchange exchange) throws IOException {
+    connections.add(exchange.getRemoteAddress());
+    String key = exchange.getRequestURI().getPath();
+    byte[] body = exchange.getRequestBody().readAllBytes();
+    try (exchange) {
+      if ("PUT".equals(exchange.getRequestMethod())) {
+        byte[] content = isAwsChunked(exchange) ? decodeAwsChunked(body) : body;
+        objects.put(key, content);
+        exchange.getResponseHeaders().add("ETag", etag(content));
+        exchange.sendResponseHeaders(200, -1);
+        return;
+      }
+      byte[] content = objects.get(key);
+      if (content == null) {
+        exchange.sendResponseHeaders(404, -1);
+        return;
+      }
+      exchange.getResponseHeaders().add("ETag", etag(content));
+      exchange.getResponseHeaders().add("Content-Type", "application/octet-stream");
+      exchange.sendResponseHeaders(200, content.length);
+      try (OutputStream out = exchange.getResponseBody()) {
+        out.write(content);
+      }
+    }
+  }
+
+  private static boolean isAwsChunked(HttpExchange exchange) {
+    String encoding = exchange.getRequestHeaders().getFirst("Content-Encoding");
+    String payloadHash = exchange.getRequestHeaders().getFirst("x-amz-content-sha256");
+    return (encoding != null && encoding.contains("aws-chunked"))
+        || (payloadHash != null && payloadHash.startsWith("STREAMING-"));
+  }
+
+  // aws-chunked: "<hex 크기>[;확장]\r\n<데이터>\r\n" 반복 후 크기 0 청크와 trailer
+  private static byte[] decodeAwsChunked(byte[] body) {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    int position = 0;
+    while (true) {
+      int lineEnd = position;
+      while (body[lineEnd] != '\r' || body[lineEnd + 1] != '\n') {
+        lineEnd++;
+      }
+      String header = new String(body, position, lineEnd - position, StandardCharsets.US_ASCII);
+      int size = Integer.parseInt(header.split(";")[0].trim(), 16);
+      position = lineEnd + 2;
+      if (size == 0) {
+        return out.toByteArray();
+      }
+      out.write(body, position, size);
+      position += size + 2;
+    }
+  }
+
+  private static String etag(byte[] content) {
+    try {
+      return "\"" + HexFormat.of().formatHex(MessageDigest.getInstance("MD5").digest(content))
+          + "\"";
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
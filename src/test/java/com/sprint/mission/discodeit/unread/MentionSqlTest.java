@@ -0,0 +1,26 @@
+package com.sprint.mission.discodeit.unread;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+
+class MentionSqlTest {
+
+  @Test
+  void matches_V6_백필은_카운터와_같은_멘션_조건식을_사용한다() throws IOException {
+    // given
+    String migration = new ClassPathResource(
+        "db/migration/V6__read_statuses_unread_counters.sql")
+        .getContentAsString(StandardCharsets.UTF_8);
+
+    // when
+    String expression = MentionSql.matches("m.content", "u.username");
+
+    // then
+    assertThat(migration).contains(expression);
+    assertThat(migration).doesNotContain("LIKE '%@'");
+  }
+}
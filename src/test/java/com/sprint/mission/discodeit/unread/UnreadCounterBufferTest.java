@@ -0,0 +1,158 @@
+package com.sprint.mission.discodeit.unread;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sprint.mission.discodeit.dto.data.MessageDto;
+import com.sprint.mission.discodeit.dto.data.ReadStatusDto;
+import com.sprint.mission.discodeit.dto.data.UserDto;
+import com.sprint.mission.discodeit.entity.Channel;
+import com.sprint.mission.discodeit.entity.ChannelType;
+import com.sprint.mission.discodeit.entity.ReadStatus;
+import com.sprint.mission.discodeit.entity.User;
+import com.sprint.mission.discodeit.event.MessageEvent;
+import com.sprint.mission.discodeit.repository.ReadStatusQueryRepository;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.JdbcClientAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.test.context.ActiveProfiles;
+
+@DataJpaTest
+@EnableJpaAuditing
+@ActiveProfiles("test")
+@Import({UnreadCounterBuffer.class, ReadStatusQueryRepository.class})
+@ImportAutoConfiguration(JdbcClientAutoConfiguration.class)
+class UnreadCounterBufferTest {
+
+  @Autowired
+  private UnreadCounterBuffer unreadCounterBuffer;
+
+  @Autowired
+  private ReadStatusQueryRepository readStatusQueryRepository;
+
+  @Autowired
+  private TestEntityManager entityManager;
+
+  private User author;
+  private User reader;
+  private Channel channel;
+
+  @BeforeEach
+  void setUp() {
+    author = new User("writer", "writer@example.com", "password", null);
+    reader = new User("reader", "reader@example.com", "password", null);
+    channel = new Channel(ChannelType.PUBLIC, "channel", null);
+    entityManager.persist(author);
+    entityManager.persist(reader);
+    entityManager.persist(channel);
+  }
+
+  @Test
+  void flush_성공_작성자를_제외한_멤버의_카운터를_증가() {
+    // given
+    Instant lastReadAt = Instant.now().minusSeconds(60);
+    ReadStatus readerStatus = persistReadStatus(reader, lastReadAt);
+    ReadStatus authorStatus = persistReadStatus(author, lastReadAt);
+    unreadCounterBuffer.on(MessageEvent.created(message("hello", Instant.now())));
+    unreadCounterBuffer.on(MessageEvent.created(message("hi @reader", Instant.now())));
+
+    // when
+    int flushed = unreadCounterBuffer.flush();
+
+    // then
+    assertThat(flushed).isEqualTo(2);
+    assertThat(unreadCounterBuffer.pendingCount()).isZero();
+    ReadStatusDto readerResult = find(reader).get(readerStatus.getId());
+    assertThat(readerResult.unreadCount()).isEqualTo(2);
+    assertThat(readerResult.hasMention()).isTrue();
+    ReadStatusDto authorResult = find(author).get(authorStatus.getId());
+    assertThat(authorResult.unreadCount()).isZero();
+    assertThat(authorResult.hasMention()).isFalse();
+  }
+
+  @Test
+  void flush_이미_읽은_시점_이전_메시지는_세지_않는다() {
+    // given
+    Instant now = Instant.now();
+    ReadStatus readerStatus = persistReadStatus(reader, now);
+    unreadCounterBuffer.on(MessageEvent.created(message("hello", now.minusSeconds(1))));
+
+    // when
+    unreadCounterBuffer.flush();
+
+    // then
+    assertThat(find(reader).get(readerStatus.getId()).unreadCount()).isZero();
+  }
+
+  @Test
+  void flush_사용자명이_앞부분만_같은_멘션은_멘션으로_보지_않는다() {
+    // given
+    Instant lastReadAt = Instant.now().minusSeconds(60);
+    ReadStatus readerStatus = persistReadStatus(reader, lastReadAt);
+    User wildcard = new User("re_der", "wildcard@example.com", "password", null);
+    entityManager.persist(wildcard);
+    ReadStatus wildcardStatus = persistReadStatus(wildcard, lastReadAt);
+    unreadCounterBuffer.on(MessageEvent.created(message("hi @readers", Instant.now())));
+    unreadCounterBuffer.on(MessageEvent.created(message("hi @reader_x", Instant.now())));
+
+    // when
+    unreadCounterBuffer.flush();
+
+    // then
+    assertThat(find(reader).get(readerStatus.getId()).hasMention()).isFalse();
+    assertThat(find(wildcard).get(wildcardStatus.getId()).hasMention()).isFalse();
+  }
+
+  @Test
+  void flush_사용자명_뒤에_문장부호가_오면_멘션으로_본다() {
+    // given
+    Instant lastReadAt = Instant.now().minusSeconds(60);
+    ReadStatus readerStatus = persistReadStatus(reader, lastReadAt);
+    unreadCounterBuffer.on(MessageEvent.created(message("@reader, 확인 부탁해요", Instant.now())));
+
+    // when
+    unreadCounterBuffer.flush();
+
+    // then
+    assertThat(find(reader).get(readerStatus.getId()).hasMention()).isTrue();
+  }
+
+  @Test
+  void on_생성_이벤트가_아니면_무시() {
+    // when
+    unreadCounterBuffer.on(MessageEvent.deleted(channel.getId(), UUID.randomUUID()));
+
+    // then
+    assertThat(unreadCounterBuffer.pendingCount()).isZero();
+  }
+
+  private MessageDto message(String content, Instant createdAt) {
+    UserDto authorDto = new UserDto(author.getId(), author.getUsername(), author.getEmail(), null,
+        true);
+    return new MessageDto(UUID.randomUUID(), createdAt, createdAt, content, channel.getId(),
+        authorDto, List.of());
+  }
+
+  private ReadStatus persistReadStatus(User user, Instant lastReadAt) {
+    ReadStatus readStatus = new ReadStatus(user, channel, lastReadAt);
+    entityManager.persist(readStatus);
+    entityManager.flush();
+    return readStatus;
+  }
+
+  private Map<UUID, ReadStatusDto> find(User user) {
+    return readStatusQueryRepository.findAllWithUnreadByUserId(user.getId()).stream()
+        .collect(Collectors.toMap(ReadStatusDto::id, Function.identity()));
+  }
+}
@@ -0,0 +1,168 @@
+package com.sprint.mission.discodeit.websocket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sprint.mission.discodeit.dto.data.ChannelDto;
+import com.sprint.mission.discodeit.dto.data.UserDto;
+import com.sprint.mission.discodeit.dto.request.MessageCreateRequest;
+import com.sprint.mission.discodeit.dto.request.PublicChannelCreateRequest;
+import com.sprint.mission.discodeit.dto.request.UserCreateRequest;
+import com.sprint.mission.discodeit.service.ChannelService;
+import com.sprint.mission.discodeit.service.MessageService;
+import com.sprint.mission.discodeit.service.UserService;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+/**
+ * 한 채널을 구독하는 WebSocket 세션 수를 늘려 가며 노드 하나가 감당하는 fan-out 을 측정한다. 기본 test 태스크에서는 제외되며
+ * {@code ./gradlew loadTest -Dload.subscribers=10000 -Dload.messages=50} 로 실행한다.
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class ChannelFanOutLoadTest {
+
+  private static final int SUBSCRIBERS = Integer.getInteger("load.subscribers", 1000);
+  private static final int MESSAGES = Integer.getInteger("load.messages", 20);
+  private static final long TIMEOUT_SECONDS = Long.getLong("load.timeout-seconds", 120);
+
+  @LocalServerPort
+  private int port;
+
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  @Autowired
+  private UserService userService;
+
+  @Autowired
+  private ChannelService channelService;
+
+  @Autowired
+  private MessageService messageService;
+
+  @Autowired
+  private ChannelFrameBatcher channelFrameBatcher;
+
+  private final List<StompSession> sessions = new ArrayList<>();
+
+  @AfterEach
+  void tearDown() {
+    sessions.forEach(StompSession::disconnect);
+  }
+
+  @Test
+  void 채널_구독자_전원에게_메시지가_전달된다() throws Exception {
+    // given
+    UserDto author = userService.create(
+        new UserCreateRequest("loadtester", "load@example.com", "password1234"), Optional.empty());
+    ChannelDto channel = channelService.create(
+        new PublicChannelCreateRequest("load-channel", "fan-out load test"));
+
+    WebSocketStompClient stompClient = new WebSocketStompClient(new StandardWebSocketClient());
+    MappingJackson2MessageConverter converter = new MappingJackson2MessageConverter();
+    converter.setObjectMapper(objectMapper);
+    stompClient.setMessageConverter(converter);
+
+    CountDownLatch ready = new CountDownLatch(SUBSCRIBERS);
+    CountDownLatch delivered = new CountDownLatch(SUBSCRIBERS * MESSAGES);
+    AtomicInteger frames = new AtomicInteger();
+
+    List<CompletableFuture<StompSession>> connecting = new ArrayList<>();
+    for (int i = 0; i < SUBSCRIBERS; i++) {
+      connecting.add(stompClient.connectAsync("ws://localhost:" + port + "/ws",
+          new StompSessionHandlerAdapter() {
+          }));
+    }
+    long connectStart = System.nanoTime();
+    for (CompletableFuture<StompSession> future : connecting) {
+      StompSession session = future.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+      sessions.add(session);
+      session.subscribe("/topic/channels/" + channel.id(),
+          new FrameCounter(ready, delivered, frames));
+    }
+    long connectMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - connectStart);
+
+    // 구독 완료 응답이 없으므로 모든 세션이 입력 중 표시를 한 번 받을 때까지 기다린다
+    long warmUpDeadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+    while (!ready.await(100, TimeUnit.MILLISECONDS) && System.nanoTime() < warmUpDeadline) {
+      channelFrameBatcher.typing(channel.id(), UUID.randomUUID());
+    }
+    assertThat(ready.getCount()).isZero();
+
+    // when
+    long start = System.nanoTime();
+    for (int i = 0; i < MESSAGES; i++) {
+      messageService.create(new MessageCreateRequest("load " + i, channel.id(), author.id()),
+          List.of());
+    }
+    boolean completed = delivered.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    long elapsedMillis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+
+    // then
+    long deliveries = (long) SUBSCRIBERS * MESSAGES - delivered.getCount();
+    System.out.printf(
+        "[load] subscribers=%d, messages=%d, connect=%dms, delivered=%d in %dms "
+            + "(%d deliveries/s), frames=%d%n",
+        SUBSCRIBERS, MESSAGES, connectMillis, deliveries, elapsedMillis,
+        deliveries * 1000 / elapsedMillis, frames.get());
+    assertThat(completed).isTrue();
+  }
+
+  private static final class FrameCounter implements StompFrameHandler {
+
+    private final CountDownLatch ready;
+    private final CountDownLatch delivered;
+    private final AtomicInteger frames;
+    private boolean received;
+
+    private FrameCounter(CountDownLatch ready, CountDownLatch delivered, AtomicInteger frames) {
+      this.ready = ready;
+      this.delivered = delivered;
+      this.frames = frames;
+    }
+
+    @Override
+    public Type getPayloadType(StompHeaders headers) {
+      return Map.class;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public synchronized void handleFrame(StompHeaders headers, Object payload) {
+      if (!received) {
+        received = true;
+        ready.countDown();
+      }
+      frames.incrementAndGet();
+      List<Map<String, Object>> events = (List<Map<String, Object>>) ((Map<String, Object>) payload)
+          .get("events");
+      events.stream()
+          .filter(event -> "message.created".equals(event.get("type")))
+          .forEach(event -> delivered.countDown());
+    }
+  }
+}
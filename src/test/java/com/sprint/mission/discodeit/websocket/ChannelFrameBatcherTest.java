@@ -0,0 +1,117 @@
+package com.sprint.mission.discodeit.websocket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+import com.sprint.mission.discodeit.event.MessageEvent;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+
+@ExtendWith(MockitoExtension.class)
+class ChannelFrameBatcherTest {
+
+  @Mock
+  private SimpMessageSendingOperations messagingTemplate;
+
+  private ChannelFrameBatcher channelFrameBatcher;
+
+  @BeforeEach
+  void setUp() {
+    channelFrameBatcher = new ChannelFrameBatcher(messagingTemplate, 2);
+  }
+
+  @Test
+  void flush_성공_채널별로_이벤트를_모아_프레임으로_전송() {
+    // given
+    UUID channelId = UUID.randomUUID();
+    UUID otherChannelId = UUID.randomUUID();
+    channelFrameBatcher.onEvent(MessageEvent.deleted(channelId, UUID.randomUUID()));
+    channelFrameBatcher.onEvent(MessageEvent.deleted(channelId, UUID.randomUUID()));
+    channelFrameBatcher.onEvent(MessageEvent.deleted(otherChannelId, UUID.randomUUID()));
+
+    // when
+    channelFrameBatcher.flush();
+
+    // then
+    ArgumentCaptor<String> topics = ArgumentCaptor.forClass(String.class);
+    ArgumentCaptor<ChannelFrame> frames = ArgumentCaptor.forClass(ChannelFrame.class);
+    then(messagingTemplate).should(times(2))
+        .convertAndSend(topics.capture(), (Object) frames.capture());
+
+    // 채널마다 프레임 하나씩 전송된다
+    Map<String, ChannelFrame> framesByTopic = new HashMap<>();
+    for (int i = 0; i < topics.getAllValues().size(); i++) {
+      framesByTopic.put(topics.getAllValues().get(i), frames.getAllValues().get(i));
+    }
+    assertThat(framesByTopic).containsOnlyKeys(
+        ChannelFrameBatcher.TOPIC_PREFIX + channelId,
+        ChannelFrameBatcher.TOPIC_PREFIX + otherChannelId);
+    assertThat(framesByTopic.get(ChannelFrameBatcher.TOPIC_PREFIX + channelId).events())
+        .extracting(ChannelFrameEvent::type)
+        .containsExactly("message.deleted", "message.deleted");
+    assertThat(framesByTopic.get(ChannelFrameBatcher.TOPIC_PREFIX + otherChannelId).events())
+        .extracting(ChannelFrameEvent::type)
+        .containsExactly("message.deleted");
+    assertThat(channelFrameBatcher.pendingChannelCount()).isZero();
+  }
+
+  @Test
+  void flush_성공_프레임_최대_이벤트_수를_넘으면_나눠서_전송() {
+    // given
+    UUID channelId = UUID.randomUUID();
+    for (int i = 0; i < 5; i++) {
+      channelFrameBatcher.onEvent(MessageEvent.deleted(channelId, UUID.randomUUID()));
+    }
+
+    // when
+    channelFrameBatcher.flush();
+
+    // then
+    ArgumentCaptor<ChannelFrame> frames = ArgumentCaptor.forClass(ChannelFrame.class);
+    then(messagingTemplate).should(times(3))
+        .convertAndSend(anyString(), (Object) frames.capture());
+    assertThat(frames.getAllValues())
+        .extracting(frame -> frame.events().size())
+        .containsExactly(2, 2, 1);
+  }
+
+  @Test
+  void typing_성공_같은_사용자의_입력_중_표시는_한_번만_전송() {
+    // given
+    UUID channelId = UUID.randomUUID();
+    UUID userId = UUID.randomUUID();
+    channelFrameBatcher.typing(channelId, userId);
+    channelFrameBatcher.typing(channelId, userId);
+
+    // when
+    channelFrameBatcher.flush();
+
+    // then
+    ArgumentCaptor<ChannelFrame> frame = ArgumentCaptor.forClass(ChannelFrame.class);
+    then(messagingTemplate).should(times(1))
+        .convertAndSend(anyString(), (Object) frame.capture());
+    assertThat(frame.getValue().events())
+        .containsExactly(ChannelFrameEvent.typing(userId));
+  }
+
+  @Test
+  void flush_대기중인_이벤트가_없으면_전송하지_않음() {
+    // when
+    channelFrameBatcher.flush();
+
+    // then
+    then(messagingTemplate).should(never()).convertAndSend(anyString(), (Object) any());
+  }
+}